@@ -0,0 +1,31 @@
+package io.github.lucasstarsz.fastj.engine;
+
+/**
+ * The ways a {@link FixedTimestep} can handle more elapsed time than it is allowed to catch up on in a single frame.
+ * <p>
+ * Each frame runs at most {@link FixedTimestep#getMaxUpdatesPerFrame() a set amount of updates}. When a frame has time
+ * left over after its last update -- after a long garbage collection pause or window drag, or on a machine that cannot
+ * keep up -- the policy decides what becomes of it.
+ */
+public enum CatchUpPolicy {
+    /**
+     * Discards the time left over, so the game picks up where it left off without catching up.
+     * <p>
+     * The game skips forward in time, but never spends more than a frame's worth of updates catching up.
+     */
+    DROP,
+    /**
+     * Keeps the time left over, catching up on it over the following frames.
+     * <p>
+     * The time kept is limited to a frame's worth of updates, so a machine that cannot keep up does not fall further
+     * and further behind.
+     */
+    CARRY,
+    /**
+     * Limits each frame's elapsed time to what its updates can cover, so the game runs in slow motion while it cannot
+     * keep up.
+     * <p>
+     * Unlike {@link #DROP}, the partial update carried between frames is kept, so rendering stays smooth.
+     */
+    SLOW_DOWN
+}
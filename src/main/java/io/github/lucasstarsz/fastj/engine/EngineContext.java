@@ -0,0 +1,1034 @@
+package io.github.lucasstarsz.fastj.engine;
+
+import io.github.lucasstarsz.fastj.engine.internals.ThreadFixer;
+import io.github.lucasstarsz.fastj.engine.internals.Timer;
+import io.github.lucasstarsz.fastj.math.Maths;
+import io.github.lucasstarsz.fastj.math.Point;
+import io.github.lucasstarsz.fastj.math.RandomSource;
+import io.github.lucasstarsz.fastj.graphics.Display;
+
+import io.github.lucasstarsz.fastj.systems.behaviors.BehaviorManager;
+import io.github.lucasstarsz.fastj.systems.control.LogicManager;
+import io.github.lucasstarsz.fastj.systems.control.Scene;
+import io.github.lucasstarsz.fastj.systems.input.InputRecorder;
+import io.github.lucasstarsz.fastj.systems.input.InputReplayer;
+import io.github.lucasstarsz.fastj.systems.profiling.ProfilePhase;
+import io.github.lucasstarsz.fastj.systems.profiling.Profiler;
+import io.github.lucasstarsz.fastj.systems.profiling.events.HitchEvent;
+import io.github.lucasstarsz.fastj.systems.input.keyboard.Keyboard;
+import io.github.lucasstarsz.fastj.systems.input.mouse.Mouse;
+import io.github.lucasstarsz.fastj.systems.tags.TagManager;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A single game run by the engine -- its loop, timer, display, logic manager, and settings.
+ * <p>
+ * {@link FastJEngine} runs one context at a time through its static methods, which suits most games. Contexts can also
+ * be created directly, so many games run in the same JVM in isolation -- for instance, headless simulations on a thread
+ * pool:
+ * <pre>{@code
+ * ExecutorService pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+ * for (int i = 0; i < matchCount; i++) {
+ *     EngineContext match = new EngineContext("match " + i, new MatchManager());
+ *     match.configureSimulation(true, 0);
+ *     pool.submit(match::run);
+ * }
+ * }</pre>
+ * While a context runs, it is the {@link #current() current context} of the thread running it, and the static methods
+ * of {@code FastJEngine} -- such as {@link FastJEngine#getDisplay()} and {@link FastJEngine#closeGame()} -- act on it.
+ * Each context's scenes keep their own tags, behaviors, and input events, and each context's display keeps its own
+ * {@link Mouse} and {@link Keyboard} state. Window and input callbacks from the AWT event thread are run as the context
+ * owning the display they came from.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public class EngineContext {
+
+    private static final ThreadLocal<EngineContext> CurrentContext = new ThreadLocal<>();
+    private static final AtomicInteger RunningContexts = new AtomicInteger();
+
+    private static final String InputRecordErrorMessage = CrashMessages.theGameCrashed("an input log writing error.");
+    private static final String InputReplayErrorMessage = CrashMessages.theGameCrashed("an input log reading error.");
+
+    // engine speed variables
+    private int targetFPS;
+    private int targetUPS;
+
+    // fixed timestep
+    private FixedTimestep timestep;
+
+    // simulation
+    private boolean isSimulating;
+    private int simulationRenderInterval;
+    private volatile long simulatedTicks;
+    private volatile double simulationSpeed;
+    private long lastSpeedSampleTicks;
+
+    // randomness
+    private RandomSource randomSource;
+
+    // input recording and replay
+    private InputRecorder inputRecorder;
+    private InputReplayer inputReplayer;
+
+    // profiling
+    private final Profiler profiler;
+    private final FrameTracker frameTracker;
+    private long hitchBudget;
+
+    // FPS counting
+    private Timer timer;
+    private int[] fpsLog;
+    private int drawFrames;
+    private int totalFPS;
+    private int fpsLogIndex;
+    private ScheduledExecutorService fpsLogger;
+
+    // HW acceleration
+    private HWAccel hwAccel;
+
+    // Display/Logic
+    private Display display;
+    private LogicManager gameManager;
+
+    // Check values
+    private volatile boolean isRunning;
+    private boolean hasRun;
+
+    /**
+     * Creates a game context with the specified title and logic manager.
+     * <p>
+     * Other values are set to their respective default values, as in {@link FastJEngine#init(String, LogicManager)}.
+     *
+     * @param gameTitle   The title to be used for the {@link Display} window.
+     * @param gameManager Game Manager to be controlled by the context.
+     */
+    public EngineContext(String gameTitle, LogicManager gameManager) {
+        this(gameTitle, gameManager, FastJEngine.DefaultFPS, FastJEngine.DefaultUPS, FastJEngine.DefaultWindowResolution, FastJEngine.DefaultInternalResolution, HWAccel.DEFAULT);
+    }
+
+    /**
+     * Creates a game context with the specified title, logic manager, and other options.
+     *
+     * @param gameTitle            The title to be used for the {@link Display} window.
+     * @param gameManager          Game Manager to be controlled by the context.
+     * @param fps                  The FPS (frames per second) target for the engine to reach.
+     * @param ups                  The UPS (updates per second) target for the engine to reach.
+     * @param windowResolution     The game's window resolution.
+     * @param internalResolution   The game's internal resolution. (This is the defined size of the game's canvas. As a
+     *                             result, the content is scaled to fit the size of the {@code windowResolution}).
+     * @param hardwareAcceleration Defines the type of hardware acceleration to use for the game.
+     */
+    public EngineContext(String gameTitle, LogicManager gameManager, int fps, int ups, Point windowResolution, Point internalResolution, HWAccel hardwareAcceleration) {
+        this.gameManager = gameManager;
+        display = new Display(gameTitle, windowResolution, internalResolution);
+        timer = new Timer();
+        timestep = new FixedTimestep(FastJEngine.DefaultUPS);
+        profiler = new Profiler();
+        frameTracker = new FrameTracker(this);
+
+        fpsLog = new int[100];
+        Arrays.fill(fpsLog, -1);
+
+        configure(fps, ups, windowResolution, internalResolution, hardwareAcceleration);
+    }
+
+    /**
+     * Gets the context running on the current thread.
+     * <p>
+     * This is the context whose {@link #run()} method the thread is in, or otherwise the context of the static {@link
+     * FastJEngine} methods.
+     *
+     * @return The current context, or {@code null} if there is none.
+     */
+    public static EngineContext current() {
+        EngineContext context = CurrentContext.get();
+        return context != null ? context : FastJEngine.getContext();
+    }
+
+    /**
+     * Gets the context running on the current thread, without falling back to the context of the static {@link
+     * FastJEngine} methods.
+     * <p>
+     * Unlike {@link #current()}, this is {@code null} on threads that are not running a game -- such as loader threads,
+     * and the AWT event thread.
+     *
+     * @return The context running on the current thread, or {@code null} if there is none.
+     */
+    public static EngineContext running() {
+        return CurrentContext.get();
+    }
+
+    /**
+     * Gets the amount of contexts running in the JVM.
+     *
+     * @return The amount of running contexts.
+     */
+    public static int getRunningCount() {
+        return RunningContexts.get();
+    }
+
+    /**
+     * Configures the game's FPS (Frames Per Second), UPS (Updates Per Second), viewer resolution, internal resolution,
+     * and hardware acceleration.
+     *
+     * @param fps                  The FPS (frames per second) target for the engine to reach.
+     * @param ups                  The UPS (updates per second) target for the engine to reach.
+     * @param windowResolution     The game's window resolution.
+     * @param internalResolution   The game's internal resolution. (This is the defined size of the game's canvas. As a
+     *                             result, the content is scaled to fit the size of the {@code windowResolution}).
+     * @param hardwareAcceleration Defines the type of hardware acceleration to use for the game.
+     */
+    public void configure(int fps, int ups, Point windowResolution, Point internalResolution, HWAccel hardwareAcceleration) {
+        runningCheck();
+
+        configureViewerResolution(windowResolution);
+        configureInternalResolution(internalResolution);
+        configureHardwareAcceleration(hardwareAcceleration);
+        setTargetFPS(fps);
+        setTargetUPS(ups);
+    }
+
+    /**
+     * Configures the game's window resolution.
+     *
+     * @param windowResolution The game's window resolution.
+     */
+    public void configureViewerResolution(Point windowResolution) {
+        runningCheck();
+
+        if ((windowResolution.x | windowResolution.y) < 1) {
+            error(CrashMessages.CONFIGURATION_ERROR.errorMessage, new IllegalArgumentException("Resolution values must be at least 1."));
+        }
+
+        asCurrent(() -> display.setViewerResolution(windowResolution));
+    }
+
+    /**
+     * Configures the game's internal resolution.
+     * <p>
+     * This sets the size of the game's drawing canvas. As a result, the content displayed on the canvas will be scaled
+     * to fit the size of the {@code windowResolution}.
+     *
+     * @param internalResolution The game's internal resolution. (This is the defined size of the game's canvas. As a
+     *                           result, the content is scaled to fit the size of the {@code windowResolution}).
+     */
+    public void configureInternalResolution(Point internalResolution) {
+        runningCheck();
+
+        if ((internalResolution.x | internalResolution.y) < 1) {
+            error(CrashMessages.CONFIGURATION_ERROR.errorMessage, new IllegalArgumentException("internal resolution values must be at least 1."));
+        }
+
+        asCurrent(() -> display.setInternalResolution(internalResolution));
+    }
+
+    /**
+     * Attempts to set the hardware acceleration type of this game engine to the specified parameter.
+     * <p>
+     * If the parameter specified is not supported by the user's computer, then the hardware acceleration will be set to
+     * none, by default.
+     *
+     * @param hardwareAcceleration Defines the type of hardware acceleration to use for the game.
+     */
+    public void configureHardwareAcceleration(HWAccel hardwareAcceleration) {
+        runningCheck();
+
+        if (hardwareAcceleration.equals(HWAccel.DIRECT3D)) {
+            if (System.getProperty("os.name").startsWith("Win")) {
+                HWAccel.setHardwareAcceleration(HWAccel.DIRECT3D);
+                hwAccel = hardwareAcceleration;
+            } else {
+                FastJEngine.warning("This OS doesn't support Direct3D hardware acceleration. Configuration will be left at default.");
+                configureHardwareAcceleration(HWAccel.DEFAULT);
+            }
+        } else {
+            HWAccel.setHardwareAcceleration(hardwareAcceleration);
+            hwAccel = hardwareAcceleration;
+        }
+    }
+
+    /**
+     * Configures whether the game runs as a simulation, updating as fast as the CPU allows rather than in real time.
+     * <p>
+     * In simulation mode, the engine's timer is driven by a virtual clock which moves forward by one update interval per
+     * update, so the game sees the same passage of time it would at its target UPS. Nothing is synced to the target
+     * FPS, and the game is only rendered every {@code renderInterval} updates -- or never, with a render interval of
+     * {@code 0}, in which case the {@link Display} is never opened. The simulation runs until {@link #closeGame()} is
+     * called.
+     * <p>
+     * While it runs, {@link #getSimulationSpeed()} reports how many simulated seconds pass per real second.
+     *
+     * @param enable         Whether the game should run as a simulation.
+     * @param renderInterval The amount of updates between each rendered frame, or {@code 0} to never render.
+     */
+    public void configureSimulation(boolean enable, int renderInterval) {
+        runningCheck();
+
+        if (renderInterval < 0) {
+            error(CrashMessages.CONFIGURATION_ERROR.errorMessage, new IllegalArgumentException("The simulation render interval must be at least 0."));
+        }
+
+        isSimulating = enable;
+        simulationRenderInterval = renderInterval;
+    }
+
+    /**
+     * Gets whether the game runs as a simulation.
+     *
+     * @return Whether simulation mode is enabled.
+     */
+    public boolean isSimulating() {
+        return isSimulating;
+    }
+
+    /**
+     * Gets the amount of updates between each rendered frame in simulation mode.
+     *
+     * @return The simulation render interval, where {@code 0} means the game is never rendered.
+     */
+    public int getSimulationRenderInterval() {
+        return simulationRenderInterval;
+    }
+
+    /**
+     * Gets the amount of updates run by the current or most recent simulation.
+     *
+     * @return The simulated update count.
+     */
+    public long getSimulatedTicks() {
+        return simulatedTicks;
+    }
+
+    /**
+     * Gets how many simulated seconds passed over the last real second of the current or most recent simulation.
+     *
+     * @return The simulation speed, as a multiple of real time.
+     */
+    public double getSimulationSpeed() {
+        return simulationSpeed;
+    }
+
+    /**
+     * Gets the current time of the engine's timer, in seconds.
+     * <p>
+     * In {@link #configureSimulation(boolean, int) simulation mode}, this is the time of the virtual clock, which starts
+     * at zero and moves forward by one update interval per update. Game logic that needs to measure time should use
+     * this over {@code System.nanoTime()}, so it behaves the same way in both modes.
+     *
+     * @return The current time, in seconds.
+     */
+    public double getTime() {
+        return timer.getTime();
+    }
+
+    /**
+     * Gets the game's own random source, which the {@link Maths} random generator methods draw from on the thread
+     * running the game.
+     *
+     * @return The game's {@code RandomSource}, or {@code null} if the game uses the engine-wide random source.
+     */
+    public RandomSource getRandomSource() {
+        return randomSource;
+    }
+
+    /**
+     * Sets the game's own random source, which the {@link Maths} random generator methods draw from on the thread
+     * running the game.
+     * <p>
+     * Scenes with {@link Scene#setRandomSource(RandomSource) their own random source} draw from it instead, while they
+     * load and update.
+     *
+     * @param randomSource The game's {@code RandomSource}, or {@code null} to use the engine-wide random source.
+     */
+    public void setRandomSource(RandomSource randomSource) {
+        runningCheck();
+        this.randomSource = randomSource;
+    }
+
+    /**
+     * Gives the game its own seeded random source, so that games sharing the JVM are each reproducible on their own.
+     *
+     * @param seed The seed for the game's random source.
+     * @see #setRandomSource(RandomSource)
+     */
+    public void setRandomSeed(long seed) {
+        setRandomSource(RandomSource.seeded(seed));
+    }
+
+    /**
+     * Sets the recorder to record the game's input with, as it is processed each frame.
+     * <p>
+     * While the game runs, its random source is seeded with the recorder's seed, so that an {@link InputReplayer} can
+     * replay the session identically. The recorder is closed when the game exits.
+     *
+     * @param recorder The {@code InputRecorder} to record input with, or {@code null} to not record input.
+     */
+    public void setInputRecorder(InputRecorder recorder) {
+        runningCheck();
+        inputRecorder = recorder;
+    }
+
+    /**
+     * Gets the recorder the game's input is recorded with.
+     *
+     * @return The {@code InputRecorder}, or {@code null} if input is not recorded.
+     */
+    public InputRecorder getInputRecorder() {
+        return inputRecorder;
+    }
+
+    /**
+     * Sets the replayer to replay the game's input from, in place of the user's input.
+     * <p>
+     * This sets the target UPS to that of the recorded session. While the game runs, its random source is seeded with
+     * the recorded seed, and each frame processes the recorded events, then runs the recorded
+     * amount of updates on a virtual clock -- so the game plays out as it did when it was recorded, as fast as it can.
+     * As in {@link #configureSimulation(boolean, int) simulation mode}, frames are only rendered every {@code
+     * renderInterval} frames when simulating. The game closes once the replay ends, and the replayer is closed with
+     * it.
+     *
+     * @param replayer The {@code InputReplayer} to replay input from, or {@code null} to use the user's input.
+     */
+    public void setInputReplayer(InputReplayer replayer) {
+        runningCheck();
+        inputReplayer = replayer;
+
+        if (replayer != null) {
+            setTargetUPS(replayer.getUpdatesPerSecond());
+        }
+    }
+
+    /**
+     * Gets the replayer the game's input is replayed from.
+     *
+     * @return The {@code InputReplayer}, or {@code null} if the user's input is used.
+     */
+    public InputReplayer getInputReplayer() {
+        return inputReplayer;
+    }
+
+    /**
+     * Checks if the engine is currently running -- if it is, crash the game.
+     * <p>
+     * This method is usually for the purpose of ensuring certain methods aren't called while the game engine is
+     * running.
+     */
+    public void runningCheck() {
+        if (isRunning) {
+            error(CrashMessages.CALLED_AFTER_RUN_ERROR.errorMessage, new IllegalStateException("This method cannot be called after the game begins running."));
+        }
+    }
+
+    /**
+     * Gets the {@link Display} object associated with the game engine.
+     *
+     * @return The game engine's display instance.
+     */
+    public Display getDisplay() {
+        return display;
+    }
+
+    /**
+     * Gets the {@link LogicManager} associated with the game engine.
+     *
+     * @return The logic manager.
+     */
+    public LogicManager getLogicManager() {
+        return gameManager;
+    }
+
+    /**
+     * Gets the hardware acceleration currently enabled for the game engine.
+     *
+     * @return Returns the HWAccelType that defines what hardware acceleration, or lack thereof, is currently being used
+     * for the game engine.
+     */
+    public HWAccel getHardwareAcceleration() {
+        return hwAccel;
+    }
+
+    /**
+     * Gets the engine's current target FPS.
+     *
+     * @return The target FPS.
+     */
+    public int getTargetFPS() {
+        return targetFPS;
+    }
+
+    /**
+     * Sets the engine's target FPS.
+     *
+     * @param fps The target FPS to set to.
+     */
+    public void setTargetFPS(int fps) {
+        if (fps < 1) {
+            error(CrashMessages.CONFIGURATION_ERROR.errorMessage, new IllegalArgumentException("FPS amount must be at least 1."));
+        }
+        targetFPS = fps;
+    }
+
+    /**
+     * Gets the engine's current target UPS.
+     *
+     * @return The target UPS.
+     */
+    public int getTargetUPS() {
+        return targetUPS;
+    }
+
+    /**
+     * Sets the engine's target UPS.
+     *
+     * @param ups The target UPS to set to.
+     */
+    public void setTargetUPS(int ups) {
+        if (ups < 1) {
+            error(CrashMessages.CONFIGURATION_ERROR.errorMessage, new IllegalArgumentException("UPS amount must be at least 1."));
+        }
+        targetUPS = ups;
+        timestep.setUpdatesPerSecond(ups);
+    }
+
+    /**
+     * Gets the engine's fixed timestep, which decides how many updates run each frame.
+     * <p>
+     * Use it to set the maximum updates per frame and the {@link CatchUpPolicy} for time past them, to slow down or
+     * speed up the game with a time scale, and to get the interpolation alpha between updates for smoother rendering.
+     *
+     * @return The engine's {@code FixedTimestep}.
+     */
+    public FixedTimestep getTimestep() {
+        return timestep;
+    }
+
+    /**
+     * Gets the game's profiler, which times the phases of each frame while it is enabled.
+     * <p>
+     * The profiler is kept after the game exits, so its last report can still be read.
+     *
+     * @return The game's {@code Profiler}.
+     */
+    public Profiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Gets the longest a frame may take before it is recorded as a {@link HitchEvent hitch}.
+     * <p>
+     * Unless {@link #setHitchBudget(long) set}, the budget is twice the time of a frame at the target FPS.
+     *
+     * @return The hitch budget, in nanoseconds.
+     */
+    public long getHitchBudget() {
+        return hitchBudget > 0L ? hitchBudget : 2L * TimeUnit.SECONDS.toNanos(1L) / targetFPS;
+    }
+
+    /**
+     * Sets the longest a frame may take before it is recorded as a {@link HitchEvent hitch}.
+     * <p>
+     * Hitches are recorded through Java Flight Recorder, as {@code fastj.Hitch} events which hold the time spent in each
+     * phase of the slow frame. They are only committed for frames over the budget, so the event can be left enabled --
+     * for instance, with {@code -XX:StartFlightRecording} -- to catch hitches in production.
+     *
+     * @param nanos The hitch budget, in nanoseconds, or {@code 0} to go back to twice the time of a frame at the target
+     *              FPS.
+     */
+    public void setHitchBudget(long nanos) {
+        if (nanos < 0L) {
+            error(CrashMessages.CONFIGURATION_ERROR.errorMessage, new IllegalArgumentException("The hitch budget must be at least 0 nanoseconds."));
+        }
+        hitchBudget = nanos;
+    }
+
+    /**
+     * Gets the amount of frames started by the current or most recent run of the game.
+     *
+     * @return The frame count.
+     */
+    public long getFrameCount() {
+        return frameTracker.getFrameCount();
+    }
+
+    /**
+     * Gets the amount of fixed updates run by the current or most recent run of the game.
+     *
+     * @return The tick count.
+     */
+    public long getTickCount() {
+        return frameTracker.getTickCount();
+    }
+
+    /**
+     * Gets the value that defines whether the engine is running.
+     *
+     * @return The boolean that defines whether the engine is running.
+     */
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    /**
+     * Gets the FPS-based value of the parameter specified.
+     * <p>
+     * The types of information are as follows:
+     * <ul>
+     * 		<li>{@link FPSValue#CURRENT} - gets the last recorded FPS value.</li>
+     * 		<li>{@link FPSValue#AVERAGE} - gets the average FPS, based on the recorded FPS values.</li>
+     * 		<li>{@link FPSValue#HIGHEST} - gets the highest recorded FPS value.</li>
+     * 		<li>{@link FPSValue#LOWEST} - gets the lowest recorded FPS value.</li>
+     * 		<li>{@link FPSValue#ONE_PERCENT_LOW} - gets the average FPS of the lowest 1% of all recorded FPS values.</li>
+     * </ul>
+     *
+     * @param dataType {@link FPSValue} parameter that specifies the information being requested.
+     * @return Double value, based on the information requested.
+     */
+    public double getFPSData(FPSValue dataType) {
+        int[] validFPSValues = Arrays.copyOfRange(fpsLog, 0, Math.min(fpsLog.length, fpsLogIndex));
+
+        switch (dataType) {
+            case CURRENT:
+                return (fpsLog[fpsLogIndex % 100] != -1) ? fpsLog[fpsLogIndex % 100] : 0;
+            case AVERAGE:
+                return (double) totalFPS / (double) fpsLogIndex;
+            case HIGHEST:
+                return Arrays.stream(validFPSValues).reduce(Integer::max).orElse(-1);
+            case LOWEST:
+                return Arrays.stream(validFPSValues).reduce(Integer::min).orElse(-1);
+            case ONE_PERCENT_LOW:
+                return Arrays.stream(validFPSValues).sorted()
+                        .limit(Math.max(1L, (long) (validFPSValues.length * 0.01)))
+                        .average().orElse(-1d);
+            default:
+                throw new IllegalStateException("Unexpected value: " + dataType);
+        }
+    }
+
+    /**
+     * Runs the game on the calling thread, returning once it closes.
+     * <p>
+     * While the game runs, this context is the thread's {@link #current() current context}, and the {@link Maths}
+     * random generator methods draw from the game's random source on the thread.
+     * <p>
+     * A context can only be run once -- its display, logic manager, and timers are released when its game closes. To
+     * run a game again, create a new context for it.
+     */
+    public void run() {
+        if (hasRun) {
+            error(CrashMessages.CALLED_AFTER_RUN_ERROR.errorMessage, new IllegalStateException("This context has already run its game. Create a new EngineContext to run the game again."));
+        }
+        hasRun = true;
+
+        if (inputReplayer != null) {
+            randomSource = RandomSource.seeded(inputReplayer.getSeed());
+        } else if (inputRecorder != null) {
+            randomSource = RandomSource.seeded(inputRecorder.getSeed());
+        }
+
+        asCurrent(() -> Maths.useRandomSource(randomSource, () -> {
+            initEngine();
+
+            if (inputReplayer != null) {
+                replayLoop();
+            } else if (isSimulating) {
+                simulationLoop();
+            } else {
+                gameLoop();
+            }
+        }));
+    }
+
+    /** Closes the game, without closing the JVM instance. */
+    public void closeGame() {
+        // the display is released once the game has closed
+        if (display != null) {
+            display.close();
+        }
+    }
+
+    /**
+     * Runs the specified action with this context as the current thread's {@link #current() current context}.
+     * <p>
+     * This lets code running outside of the game's thread -- such as callbacks from the AWT event thread -- act on this
+     * context through the static {@link FastJEngine} methods.
+     *
+     * @param action The action to run.
+     */
+    public void asCurrent(Runnable action) {
+        EngineContext previous = CurrentContext.get();
+        CurrentContext.set(this);
+        try {
+            action.run();
+        } finally {
+            if (previous != null) {
+                CurrentContext.set(previous);
+            } else {
+                CurrentContext.remove();
+            }
+        }
+    }
+
+    /**
+     * Closes this context's game, then throws the error specified with the error message.
+     *
+     * @param errorMessage The error message to log.
+     * @param exception    The exception that caused a need for this method call.
+     */
+    private void error(String errorMessage, Exception exception) {
+        asCurrent(() -> FastJEngine.error(errorMessage, exception));
+    }
+
+    /** Initializes the game engine's components. */
+    private void initEngine() {
+        runningCheck();
+        isRunning = true;
+        boolean isFirstContext = RunningContexts.incrementAndGet() == 1;
+
+        boolean isRendering = !isSimulating || simulationRenderInterval > 0;
+
+        ThreadFixer.start();
+        if (isRendering) {
+            display.init();
+        }
+
+        // input left over from an earlier game would make a recording and its replay start out differently
+        Mouse.reset();
+        Keyboard.reset();
+
+        gameManager.setup(display);
+
+        timer.setVirtual(isSimulating || inputReplayer != null);
+        timer.init();
+        simulatedTicks = 0L;
+        simulationSpeed = 0d;
+        frameTracker.reset();
+        lastSpeedSampleTicks = 0L;
+
+        long simulationInterval = timestep.getInterval();
+        fpsLogger = Executors.newSingleThreadScheduledExecutor();
+        fpsLogger.scheduleWithFixedDelay(() -> {
+            if (isSimulating) {
+                sampleSimulationSpeed(simulationInterval);
+            }
+            if (isRendering) {
+                logFPS(drawFrames);
+            }
+            drawFrames = 0;
+        }, 1, 1, TimeUnit.SECONDS);
+
+        // yes, I really gc before starting -- but not while other games are running, as it would pause them too
+        if (isFirstContext) {
+            System.gc();
+        }
+        if (isRendering) {
+            display.open();
+        }
+    }
+
+    /** Runs the game loop -- the heart of the engine. */
+    private void gameLoop() {
+        timestep.reset();
+
+        while (!display.isClosed()) {
+            frameTracker.beginFrame();
+
+            frameTracker.beginPhase(ProfilePhase.INPUT);
+            int updates = timestep.advance(timer.getElapsedNanos());
+            gameManager.getCurrentScene().inputManager.processEvents(gameManager.getCurrentScene(), inputRecorder);
+            frameTracker.endPhase();
+
+            frameTracker.beginPhase(ProfilePhase.UPDATE);
+            for (int i = 0; i < updates; i++) {
+                fixedUpdate();
+            }
+            recordFrame(updates);
+            frameTracker.endPhase();
+
+            frameTracker.beginPhase(ProfilePhase.RENDER);
+            gameManager.render(display);
+            drawFrames++;
+            frameTracker.endPhase();
+
+            frameTracker.beginPhase(ProfilePhase.SYNC);
+            if (!display.isFullscreen()) {
+                sync();
+            }
+            frameTracker.endPhase();
+
+            frameTracker.endFrame(updates);
+        }
+
+        exit();
+    }
+
+    /**
+     * Runs the simulation loop, which updates the game as fast as it can on a virtual clock.
+     * <p>
+     * See {@link #configureSimulation(boolean, int)}.
+     */
+    private void simulationLoop() {
+        long interval = timestep.getInterval();
+        long startTime = System.nanoTime();
+
+        while (!display.isClosed()) {
+            frameTracker.beginFrame();
+
+            frameTracker.beginPhase(ProfilePhase.INPUT);
+            timer.advance(interval);
+            gameManager.getCurrentScene().inputManager.processEvents(gameManager.getCurrentScene(), inputRecorder);
+            frameTracker.endPhase();
+
+            frameTracker.beginPhase(ProfilePhase.UPDATE);
+            fixedUpdate();
+            simulatedTicks++;
+            recordFrame(1);
+            frameTracker.endPhase();
+
+            if (simulationRenderInterval > 0 && simulatedTicks % simulationRenderInterval == 0L) {
+                frameTracker.beginPhase(ProfilePhase.RENDER);
+                gameManager.render(display);
+                drawFrames++;
+                frameTracker.endPhase();
+            }
+
+            frameTracker.endFrame(1);
+        }
+
+        double realSeconds = (System.nanoTime() - startTime) / 1_000_000_000d;
+        double simulatedSeconds = simulatedTicks * interval / 1_000_000_000d;
+        FastJEngine.log(String.format("Simulated %d updates (%.2fs) in %.2fs, at %.1fx real time.", simulatedTicks, simulatedSeconds, realSeconds, simulatedSeconds / Math.max(realSeconds, Double.MIN_VALUE)));
+
+        exit();
+    }
+
+    /**
+     * Runs the replay loop, which plays the game out from the input replayer's log as fast as it can.
+     * <p>
+     * See {@link #setInputReplayer(InputReplayer)}.
+     */
+    private void replayLoop() {
+        long interval = timestep.getInterval();
+        long startTime = System.nanoTime();
+        long replayedUpdates = 0L;
+
+        while (!display.isClosed()) {
+            frameTracker.beginFrame();
+
+            frameTracker.beginPhase(ProfilePhase.INPUT);
+            Scene currentScene = gameManager.getCurrentScene();
+            int updates;
+            try {
+                updates = inputReplayer.replayFrame(currentScene.inputManager);
+            } catch (IOException exception) {
+                error(InputReplayErrorMessage, exception);
+                return;
+            }
+
+            if (updates == -1) {
+                break;
+            }
+
+            currentScene.inputManager.processEvents(currentScene);
+            frameTracker.endPhase();
+
+            frameTracker.beginPhase(ProfilePhase.UPDATE);
+            for (int i = 0; i < updates; i++) {
+                timer.advance(interval);
+                fixedUpdate();
+            }
+            replayedUpdates += updates;
+            frameTracker.endPhase();
+
+            if (!isSimulating || (simulationRenderInterval > 0 && inputReplayer.getFrameCount() % simulationRenderInterval == 0L)) {
+                frameTracker.beginPhase(ProfilePhase.RENDER);
+                gameManager.render(display);
+                drawFrames++;
+                frameTracker.endPhase();
+            }
+
+            frameTracker.endFrame(updates);
+        }
+
+        double realSeconds = (System.nanoTime() - startTime) / 1_000_000_000d;
+        FastJEngine.log(String.format("Replayed %d frames (%d updates) in %.2fs.", inputReplayer.getFrameCount(), replayedUpdates, realSeconds));
+
+        exit();
+    }
+
+    /** Runs one fixed update of the game. */
+    private void fixedUpdate() {
+        frameTracker.beginTick();
+        gameManager.update(display);
+        Mouse.endUpdate();
+        Keyboard.endUpdate();
+        frameTracker.endTick();
+    }
+
+    /**
+     * Writes the current frame to the input recorder, if there is one.
+     *
+     * @param updates The amount of updates run in the frame.
+     */
+    private void recordFrame(int updates) {
+        if (inputRecorder == null) {
+            return;
+        }
+
+        try {
+            inputRecorder.endFrame(updates);
+        } catch (IOException exception) {
+            error(InputRecordErrorMessage, exception);
+        }
+    }
+
+    /**
+     * Samples how many simulated seconds passed since the last sample, a second ago.
+     *
+     * @param interval The length of a simulated update, in nanoseconds.
+     */
+    private void sampleSimulationSpeed(long interval) {
+        long ticks = simulatedTicks;
+        simulationSpeed = (ticks - lastSpeedSampleTicks) * interval / 1_000_000_000d;
+        lastSpeedSampleTicks = ticks;
+    }
+
+    /**
+     * Syncs the game engine frame rate.
+     * <p>
+     * This provides, for a lack of better terms, "jank" way of emulating V-Sync when the game engine is not running in
+     * fullscreen mode.
+     */
+    private void sync() {
+        final float loopSlot = 1f / targetFPS;
+        final double endTime = timer.getLastLoopTime() + loopSlot;
+        final double currentTime = timer.getTime();
+        if (currentTime < endTime) {
+            try {
+                TimeUnit.MILLISECONDS.sleep((long) ((endTime - currentTime) * 1000L));
+            } catch (InterruptedException ignored) {
+            }
+        }
+    }
+
+    /** Gracefully removes all resources created by the game engine. */
+    private void exit() {
+        isRunning = false;
+        fpsLogger.shutdownNow();
+
+        List<Scene> scenes = new ArrayList<>(gameManager.getScenes());
+        gameManager.reset();
+        for (Scene scene : scenes) {
+            BehaviorManager.removeListenerList(scene);
+            TagManager.removeTaggableEntityList(scene);
+        }
+
+        // input recording and replay
+        closeInputLog(inputRecorder);
+        closeInputLog(inputReplayer);
+        inputRecorder = null;
+        inputReplayer = null;
+
+        // each game has its own input devices, while the registries are shared -- so they are only reset once no game
+        // is using them
+        Mouse.stop();
+        Keyboard.stop();
+
+        boolean isLastContext = RunningContexts.decrementAndGet() == 0;
+        if (isLastContext) {
+            BehaviorManager.reset();
+            TagManager.reset();
+        }
+
+        // engine speed variables
+        targetFPS = 0;
+        targetUPS = 0;
+
+        // fixed timestep
+        timestep = null;
+
+        // simulation -- the tick count and speed are kept, so they can be read after the simulation ends
+        isSimulating = false;
+        simulationRenderInterval = 0;
+
+        // FPS counting
+        timer = null;
+        fpsLog = null;
+        drawFrames = 0;
+        totalFPS = 0;
+        fpsLogIndex = 0;
+        fpsLogger = null;
+
+        // HW acceleration
+        hwAccel = null;
+
+        // randomness
+        randomSource = null;
+
+        // profiling -- the profiler is kept, so its last report can be read after the game exits
+        profiler.setEnabled(false);
+
+        // Display/Logic
+        display = null;
+        gameManager = null;
+
+        // Check values
+        isRunning = false;
+
+        // Helpful? Debatable. Do I care? Not yet....
+        if (isLastContext) {
+            System.gc();
+        }
+    }
+
+    /**
+     * Closes the specified input recorder or replayer, warning if it could not be closed.
+     *
+     * @param inputLog The recorder or replayer to close, or {@code null} if there is none.
+     */
+    private static void closeInputLog(Closeable inputLog) {
+        if (inputLog == null) {
+            return;
+        }
+
+        try {
+            inputLog.close();
+        } catch (IOException exception) {
+            FastJEngine.warning("Could not close the input log: " + exception.getMessage());
+        }
+    }
+
+    /**
+     * Logs the current frames rendered, displaying it on the {@code Display} if necessary.
+     *
+     * @param frames The count of frames rendered.
+     */
+    private void logFPS(int frames) {
+        if (display.isShowingFPSInTitle()) {
+            display.setDisplayedTitle(String.format("%s | FPS: %d", display.getTitle(), frames));
+        }
+
+        storeFPS(frames);
+    }
+
+    /**
+     * Stores the specified frames value in the engine's FPS log.
+     *
+     * @param frames The count of frames rendered.
+     */
+    private void storeFPS(int frames) {
+        fpsLog[fpsLogIndex % 100] = frames;
+        fpsLogIndex++;
+        totalFPS += frames;
+    }
+}
@@ -1,20 +1,16 @@
 package io.github.lucasstarsz.fastj.engine;
 
-import io.github.lucasstarsz.fastj.engine.internals.ThreadFixer;
-import io.github.lucasstarsz.fastj.engine.internals.Timer;
+import io.github.lucasstarsz.fastj.math.Maths;
 import io.github.lucasstarsz.fastj.math.Point;
+import io.github.lucasstarsz.fastj.math.RandomSource;
 import io.github.lucasstarsz.fastj.graphics.Display;
 
-import io.github.lucasstarsz.fastj.systems.behaviors.BehaviorManager;
 import io.github.lucasstarsz.fastj.systems.control.LogicManager;
-import io.github.lucasstarsz.fastj.systems.input.keyboard.Keyboard;
-import io.github.lucasstarsz.fastj.systems.input.mouse.Mouse;
-import io.github.lucasstarsz.fastj.systems.tags.TagManager;
+import io.github.lucasstarsz.fastj.systems.input.InputRecorder;
+import io.github.lucasstarsz.fastj.systems.input.InputReplayer;
+import io.github.lucasstarsz.fastj.systems.profiling.Profiler;
 
-import java.util.Arrays;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.awt.GraphicsEnvironment;
 
 /**
  * The main control hub of the game engine.
@@ -22,6 +18,10 @@ import java.util.concurrent.TimeUnit;
  * This class contains the methods needed to initialize and run a game using the FastJ Game Engine. With this, you'll
  * have access to the engine's features in their full force.
  * <p>
+ * The engine runs a single {@link EngineContext} through its static methods. To run several games in the same JVM at
+ * once, create and run {@code EngineContext}s directly -- while a context runs, the static methods act on it from the
+ * thread running it.
+ * <p>
  * <a href="https://github.com/lucasstarsz/FastJ-Engine">The FastJ Game Engine</a>
  *
  * @author Andrew Dey
@@ -30,7 +30,7 @@ import java.util.concurrent.TimeUnit;
 public class FastJEngine {
 
     /** Default engine value for frames per second. */
-    public static final int DefaultFPS = Math.max(Display.getDefaultMonitorRefreshRate(), 1);
+    public static final int DefaultFPS = GraphicsEnvironment.isHeadless() ? 60 : Math.max(Display.getDefaultMonitorRefreshRate(), 1);
     /** Default engine value for updates per second. */
     public static final int DefaultUPS = 60;
     /** Default engine value for the window resolution of the {@link Display}. */
@@ -38,27 +38,7 @@ public class FastJEngine {
     /** Default engine value for the internal resolution of the {@link Display}. */
     public static final Point DefaultInternalResolution = new Point(1280, 720);
 
-    // engine speed variables
-    private static int targetFPS;
-    private static int targetUPS;
-
-    // FPS counting
-    private static Timer timer;
-    private static int[] fpsLog;
-    private static int drawFrames;
-    private static int totalFPS;
-    private static int fpsLogIndex;
-    private static ScheduledExecutorService fpsLogger;
-
-    // HW acceleration
-    private static HWAccel hwAccel;
-
-    // Display/Logic
-    private static Display display;
-    private static LogicManager gameManager;
-
-    // Check values
-    private static boolean isRunning;
+    private static volatile EngineContext context;
 
     /**
      * Initializes the game engine with the specified title and logic manager.
@@ -93,15 +73,7 @@ public class FastJEngine {
      */
     public static void init(String gameTitle, LogicManager gameManager, int fps, int ups, Point windowResolution, Point internalResolution, HWAccel hardwareAcceleration) {
         runningCheck();
-
-        FastJEngine.gameManager = gameManager;
-        display = new Display(gameTitle, windowResolution, internalResolution);
-        timer = new Timer();
-
-        fpsLog = new int[100];
-        Arrays.fill(fpsLog, -1);
-
-        configure(fps, ups, windowResolution, internalResolution, hardwareAcceleration);
+        context = new EngineContext(gameTitle, gameManager, fps, ups, windowResolution, internalResolution, hardwareAcceleration);
     }
 
     /**
@@ -116,13 +88,7 @@ public class FastJEngine {
      * @param hardwareAcceleration Defines the type of hardware acceleration to use for the game.
      */
     public static void configure(int fps, int ups, Point windowResolution, Point internalResolution, HWAccel hardwareAcceleration) {
-        runningCheck();
-
-        configureViewerResolution(windowResolution);
-        configureInternalResolution(internalResolution);
-        configureHardwareAcceleration(hardwareAcceleration);
-        setTargetFPS(fps);
-        setTargetUPS(ups);
+        EngineContext.current().configure(fps, ups, windowResolution, internalResolution, hardwareAcceleration);
     }
 
     /**
@@ -131,13 +97,7 @@ public class FastJEngine {
      * @param windowResolution The game's window resolution.
      */
     public static void configureViewerResolution(Point windowResolution) {
-        runningCheck();
-
-        if ((windowResolution.x | windowResolution.y) < 1) {
-            error(CrashMessages.CONFIGURATION_ERROR.errorMessage, new IllegalArgumentException("Resolution values must be at least 1."));
-        }
-
-        display.setViewerResolution(windowResolution);
+        EngineContext.current().configureViewerResolution(windowResolution);
     }
 
     /**
@@ -150,13 +110,7 @@ public class FastJEngine {
      *                           result, the content is scaled to fit the size of the {@code windowResolution}).
      */
     public static void configureInternalResolution(Point internalResolution) {
-        runningCheck();
-
-        if ((internalResolution.x | internalResolution.y) < 1) {
-            error(CrashMessages.CONFIGURATION_ERROR.errorMessage, new IllegalArgumentException("internal resolution values must be at least 1."));
-        }
-
-        display.setInternalResolution(internalResolution);
+        EngineContext.current().configureInternalResolution(internalResolution);
     }
 
     /**
@@ -168,20 +122,142 @@ public class FastJEngine {
      * @param hardwareAcceleration Defines the type of hardware acceleration to use for the game.
      */
     public static void configureHardwareAcceleration(HWAccel hardwareAcceleration) {
-        runningCheck();
+        EngineContext.current().configureHardwareAcceleration(hardwareAcceleration);
+    }
 
-        if (hardwareAcceleration.equals(HWAccel.DIRECT3D)) {
-            if (System.getProperty("os.name").startsWith("Win")) {
-                HWAccel.setHardwareAcceleration(HWAccel.DIRECT3D);
-                hwAccel = hardwareAcceleration;
-            } else {
-                warning("This OS doesn't support Direct3D hardware acceleration. Configuration will be left at default.");
-                configureHardwareAcceleration(HWAccel.DEFAULT);
-            }
-        } else {
-            HWAccel.setHardwareAcceleration(hardwareAcceleration);
-            hwAccel = hardwareAcceleration;
-        }
+    /**
+     * Configures whether the game runs as a simulation, updating as fast as the CPU allows rather than in real time.
+     * <p>
+     * In simulation mode, the engine's timer is driven by a virtual clock which moves forward by one update interval per
+     * update, so the game sees the same passage of time it would at its target UPS. Nothing is synced to the target
+     * FPS, and the game is only rendered every {@code renderInterval} updates -- or never, with a render interval of
+     * {@code 0}, in which case the {@link Display} is never opened. The simulation runs until {@link #closeGame()} is
+     * called.
+     * <p>
+     * While it runs, {@link #getSimulationSpeed()} reports how many simulated seconds pass per real second.
+     *
+     * @param enable         Whether the game should run as a simulation.
+     * @param renderInterval The amount of updates between each rendered frame, or {@code 0} to never render.
+     */
+    public static void configureSimulation(boolean enable, int renderInterval) {
+        EngineContext.current().configureSimulation(enable, renderInterval);
+    }
+
+    /**
+     * Gets whether the game runs as a simulation.
+     *
+     * @return Whether simulation mode is enabled.
+     */
+    public static boolean isSimulating() {
+        return EngineContext.current().isSimulating();
+    }
+
+    /**
+     * Gets the amount of updates between each rendered frame in simulation mode.
+     *
+     * @return The simulation render interval, where {@code 0} means the game is never rendered.
+     */
+    public static int getSimulationRenderInterval() {
+        return EngineContext.current().getSimulationRenderInterval();
+    }
+
+    /**
+     * Gets the amount of updates run by the current or most recent simulation.
+     *
+     * @return The simulated update count.
+     */
+    public static long getSimulatedTicks() {
+        return EngineContext.current().getSimulatedTicks();
+    }
+
+    /**
+     * Gets how many simulated seconds passed over the last real second of the current or most recent simulation.
+     *
+     * @return The simulation speed, as a multiple of real time.
+     */
+    public static double getSimulationSpeed() {
+        return EngineContext.current().getSimulationSpeed();
+    }
+
+    /**
+     * Gets the game's profiler, which times the phases of each frame while it is enabled.
+     * <p>
+     * See {@link Profiler}.
+     *
+     * @return The game's {@code Profiler}.
+     */
+    public static Profiler getProfiler() {
+        return EngineContext.current().getProfiler();
+    }
+
+    /**
+     * Gets the longest a frame may take before it is recorded as a hitch.
+     * <p>
+     * See {@link EngineContext#getHitchBudget()}.
+     *
+     * @return The hitch budget, in nanoseconds.
+     */
+    public static long getHitchBudget() {
+        return EngineContext.current().getHitchBudget();
+    }
+
+    /**
+     * Sets the longest a frame may take before it is recorded as a hitch.
+     * <p>
+     * See {@link EngineContext#setHitchBudget(long)}.
+     *
+     * @param nanos The hitch budget, in nanoseconds, or {@code 0} to go back to twice the time of a frame at the target
+     *              FPS.
+     */
+    public static void setHitchBudget(long nanos) {
+        EngineContext.current().setHitchBudget(nanos);
+    }
+
+    /**
+     * Gives the game its own seeded random source, which the {@link Maths} random generator methods draw from while
+     * the game runs.
+     * <p>
+     * See {@link EngineContext#setRandomSource(RandomSource)}.
+     *
+     * @param seed The seed for the game's random source.
+     */
+    public static void setRandomSeed(long seed) {
+        EngineContext.current().setRandomSeed(seed);
+    }
+
+    /**
+     * Sets the recorder to record the game's input with, as it is processed each frame.
+     * <p>
+     * See {@link EngineContext#setInputRecorder(InputRecorder)}.
+     *
+     * @param recorder The {@code InputRecorder} to record input with, or {@code null} to not record input.
+     */
+    public static void setInputRecorder(InputRecorder recorder) {
+        EngineContext.current().setInputRecorder(recorder);
+    }
+
+    /**
+     * Sets the replayer to replay the game's input from, in place of the user's input.
+     * <p>
+     * See {@link EngineContext#setInputReplayer(InputReplayer)}.
+     *
+     * @param replayer The {@code InputReplayer} to replay input from, or {@code null} to use the user's input.
+     */
+    public static void setInputReplayer(InputReplayer replayer) {
+        EngineContext.current().setInputReplayer(replayer);
+    }
+
+    /**
+     * Gets the current time of the engine's timer, in seconds.
+     * <p>
+     * In {@link #configureSimulation(boolean, int) simulation mode}, this is the time of the virtual clock, which starts
+     * at zero and moves forward by one update interval per update. Game logic that needs to measure time should use
+     * this over {@code System.nanoTime()}, so it behaves the same way in both modes.
+     *
+     * @return The current time, in seconds.
+     */
+    public static double getTime() {
+        return EngineContext.current().getTime();
     }
 
     /**
@@ -191,8 +267,9 @@ public class FastJEngine {
      * running.
      */
     public static void runningCheck() {
-        if (isRunning) {
-            error(CrashMessages.CALLED_AFTER_RUN_ERROR.errorMessage, new IllegalStateException("This method cannot be called after the game begins running."));
+        EngineContext current = EngineContext.current();
+        if (current != null) {
+            current.runningCheck();
         }
     }
 
@@ -202,7 +279,7 @@ public class FastJEngine {
      * @return The game engine's display instance.
      */
     public static Display getDisplay() {
-        return display;
+        return EngineContext.current().getDisplay();
     }
 
     /**
@@ -211,7 +288,7 @@ public class FastJEngine {
      * @return The logic manager.
      */
     public static LogicManager getLogicManager() {
-        return gameManager;
+        return EngineContext.current().getLogicManager();
     }
 
     /**
@@ -221,7 +298,7 @@ public class FastJEngine {
      * for the game engine.
      */
     public static HWAccel getHardwareAcceleration() {
-        return hwAccel;
+        return EngineContext.current().getHardwareAcceleration();
     }
 
     /**
@@ -230,7 +307,7 @@ public class FastJEngine {
      * @return The target FPS.
      */
     public static int getTargetFPS() {
-        return targetFPS;
+        return EngineContext.current().getTargetFPS();
     }
 
     /**
@@ -239,10 +316,7 @@ public class FastJEngine {
      * @param fps The target FPS to set to.
      */
     public static void setTargetFPS(int fps) {
-        if (fps < 1) {
-            error(CrashMessages.CONFIGURATION_ERROR.errorMessage, new IllegalArgumentException("FPS amount must be at least 1."));
-        }
-        targetFPS = fps;
+        EngineContext.current().setTargetFPS(fps);
     }
 
     /**
@@ -251,7 +325,7 @@ public class FastJEngine {
      * @return The target UPS.
      */
     public static int getTargetUPS() {
-        return targetUPS;
+        return EngineContext.current().getTargetUPS();
     }
 
     /**
@@ -260,10 +334,19 @@ public class FastJEngine {
      * @param ups The target UPS to set to.
      */
     public static void setTargetUPS(int ups) {
-        if (ups < 1) {
-            error(CrashMessages.CONFIGURATION_ERROR.errorMessage, new IllegalArgumentException("UPS amount must be at least 1."));
-        }
-        targetUPS = ups;
+        EngineContext.current().setTargetUPS(ups);
+    }
+
+    /**
+     * Gets the engine's fixed timestep, which decides how many updates run each frame.
+     * <p>
+     * Use it to set the maximum updates per frame and the {@link CatchUpPolicy} for time past them, to slow down or
+     * speed up the game with a time scale, and to get the interpolation alpha between updates for smoother rendering.
+     *
+     * @return The engine's {@code FixedTimestep}.
+     */
+    public static FixedTimestep getTimestep() {
+        return EngineContext.current().getTimestep();
     }
 
     /**
@@ -272,7 +355,8 @@ public class FastJEngine {
      * @return The boolean that defines whether the engine is running.
      */
     public static boolean isRunning() {
-        return isRunning;
+        EngineContext current = EngineContext.current();
+        return current != null && current.isRunning();
     }
 
     /**
@@ -291,35 +375,20 @@ public class FastJEngine {
      * @return Double value, based on the information requested.
      */
     public static double getFPSData(FPSValue dataType) {
-        int[] validFPSValues = Arrays.copyOfRange(fpsLog, 0, Math.min(fpsLog.length, fpsLogIndex));
-
-        switch (dataType) {
-            case CURRENT:
-                return (fpsLog[fpsLogIndex % 100] != -1) ? fpsLog[fpsLogIndex % 100] : 0;
-            case AVERAGE:
-                return (double) totalFPS / (double) fpsLogIndex;
-            case HIGHEST:
-                return Arrays.stream(validFPSValues).reduce(Integer::max).orElse(-1);
-            case LOWEST:
-                return Arrays.stream(validFPSValues).reduce(Integer::min).orElse(-1);
-            case ONE_PERCENT_LOW:
-                return Arrays.stream(validFPSValues).sorted()
-                        .limit(Math.max(1L, (long) (validFPSValues.length * 0.01)))
-                        .average().orElse(-1d);
-            default:
-                throw new IllegalStateException("Unexpected value: " + dataType);
-        }
+        return EngineContext.current().getFPSData(dataType);
     }
 
     /** Runs the game. */
     public static void run() {
-        initEngine();
-        gameLoop();
+        context.run();
     }
 
     /** Closes the game, without closing the JVM instance. */
     public static void closeGame() {
-        display.close();
+        EngineContext current = EngineContext.current();
+        if (current != null) {
+            current.closeGame();
+        }
     }
 
     /**
@@ -350,134 +419,20 @@ public class FastJEngine {
      * @param exception    The exception that caused a need for this method call.
      */
     public static <T> void error(T errorMessage, Exception exception) {
-        FastJEngine.closeGame();
+        closeGame();
         throw new IllegalStateException("ERROR: " + errorMessage, exception);
     }
 
-    /** Initializes the game engine's components. */
-    private static void initEngine() {
-        runningCheck();
-        isRunning = true;
-
-        ThreadFixer.start();
-        display.init();
-        gameManager.setup(display);
-
-        timer.init();
-        fpsLogger = Executors.newSingleThreadScheduledExecutor();
-        fpsLogger.scheduleWithFixedDelay(() -> {
-            FastJEngine.logFPS(drawFrames);
-            drawFrames = 0;
-        }, 1, 1, TimeUnit.SECONDS);
-
-        System.gc(); // yes, I really gc before starting.
-        display.open();
-    }
-
-    /** Runs the game loop -- the heart of the engine. */
-    private static void gameLoop() {
-        float elapsedTime;
-        float accumulator = 0f;
-        float interval = 1f / targetUPS;
-
-        while (!display.isClosed()) {
-            elapsedTime = timer.getElapsedTime();
-            accumulator += elapsedTime;
-
-            gameManager.getCurrentScene().inputManager.processEvents(gameManager.getCurrentScene());
-
-            while (accumulator >= interval) {
-                gameManager.update(display);
-                accumulator -= interval;
-            }
-
-            gameManager.render(display);
-            drawFrames++;
-
-            if (!display.isFullscreen()) {
-                sync();
-            }
-        }
-
-        exit();
-    }
-
     /**
-     * Syncs the game engine frame rate.
+     * Gets the {@link EngineContext} run by the static methods of the engine.
      * <p>
-     * This provides, for a lack of better terms, "jank" way of emulating V-Sync when the game engine is not running in
-     * fullscreen mode.
-     */
-    private static void sync() {
-        final float loopSlot = 1f / targetFPS;
-        final double endTime = timer.getLastLoopTime() + loopSlot;
-        final double currentTime = timer.getTime();
-        if (currentTime < endTime) {
-            try {
-                TimeUnit.MILLISECONDS.sleep((long) ((endTime - currentTime) * 1000L));
-            } catch (InterruptedException ignored) {
-            }
-        }
-    }
-
-    /** Gracefully removes all resources created by the game engine. */
-    private static void exit() {
-        isRunning = false;
-        fpsLogger.shutdownNow();
-        gameManager.reset();
-
-        Mouse.stop();
-        Keyboard.stop();
-        BehaviorManager.reset();
-        TagManager.reset();
-
-        // engine speed variables
-        targetFPS = 0;
-        targetUPS = 0;
-
-        // FPS counting
-        timer = null;
-        fpsLog = null;
-        drawFrames = 0;
-        totalFPS = 0;
-        fpsLogIndex = 0;
-        fpsLogger = null;
-
-        // HW acceleration
-        hwAccel = null;
-
-        // Display/Logic
-        display = null;
-        gameManager = null;
-
-        // Check values
-        isRunning = false;
-
-        // Helpful? Debatable. Do I care? Not yet....
-        System.gc();
-    }
-
-    /**
-     * Logs the current frames rendered, displaying it on the {@code Display} if necessary.
-     *
-     * @param frames The count of frames rendered.
-     */
-    private static void logFPS(int frames) {
-        if (display.isShowingFPSInTitle()) {
-            display.setDisplayedTitle(String.format("%s | FPS: %d", display.getTitle(), frames));
-        }
-
-        storeFPS(frames);
-    }
-
-    /**
-     * Stores the specified frames value in the engine's FPS log.
+     * This is the context created by the last call to {@link #init(String, LogicManager)}. The other static methods act
+     * on the {@link EngineContext#current() current context} instead, which is the same except on threads running a
+     * different context.
      *
-     * @param frames The count of frames rendered.
+     * @return The engine's context, or {@code null} if the engine has not been initialized.
      */
-    private static void storeFPS(int frames) {
-        fpsLog[fpsLogIndex % 100] = frames;
-        fpsLogIndex++;
-        totalFPS += frames;
+    public static EngineContext getContext() {
+        return context;
     }
 }
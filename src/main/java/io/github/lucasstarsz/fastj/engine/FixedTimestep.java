@@ -0,0 +1,229 @@
+package io.github.lucasstarsz.fastj.engine;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed-timestep accumulator which decides how many game updates to run each frame.
+ * <p>
+ * Elapsed time is accumulated as integer nanoseconds -- scaled by the update rate, so that even rates which do not
+ * divide a second evenly never drift. Each frame, {@link #advance(long)} adds the frame's elapsed time, multiplied by
+ * the {@link #getTimeScale() time scale}, and returns how many updates are due. At most {@link #getMaxUpdatesPerFrame()}
+ * updates run in one frame; what happens to the time past that is decided by the {@link CatchUpPolicy}.
+ * <p>
+ * The time left in the accumulator after the frame's updates is exposed as the {@link #getAlpha() interpolation
+ * alpha}, so rendering can smooth between the last two updates:
+ * <pre>{@code
+ * float alpha = FastJEngine.getTimestep().getAlpha();
+ * Pointf drawnLocation = Pointf.add(previousLocation, Pointf.subtract(location, previousLocation).multiply(alpha));
+ * }</pre>
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public class FixedTimestep {
+
+    /** The default amount of updates that can run in a single frame: {@code 5}. */
+    public static final int DefaultMaxUpdatesPerFrame = 5;
+    /** The default handling of time past the maximum updates per frame: {@link CatchUpPolicy#DROP}. */
+    public static final CatchUpPolicy DefaultCatchUpPolicy = CatchUpPolicy.DROP;
+    /** The default time scale, which runs the game in real time: {@code 1}. */
+    public static final double DefaultTimeScale = 1d;
+
+    private static final long NanosPerSecond = TimeUnit.SECONDS.toNanos(1L);
+
+    private int updatesPerSecond;
+    private int maxUpdatesPerFrame;
+    private CatchUpPolicy catchUpPolicy;
+    private double timeScale;
+
+    /** Accumulated time, in nanoseconds multiplied by the update rate -- an update is due every second's worth. */
+    private long accumulator;
+    private long updateCount;
+    private long droppedTime;
+
+    /**
+     * Constructs a {@code FixedTimestep} which runs the specified amount of updates per second.
+     *
+     * @param updatesPerSecond The amount of updates to run per second of (scaled) time.
+     */
+    public FixedTimestep(int updatesPerSecond) {
+        setUpdatesPerSecond(updatesPerSecond);
+        maxUpdatesPerFrame = DefaultMaxUpdatesPerFrame;
+        catchUpPolicy = DefaultCatchUpPolicy;
+        timeScale = DefaultTimeScale;
+    }
+
+    /**
+     * Gets the amount of updates run per second of (scaled) time.
+     *
+     * @return The update rate.
+     */
+    public int getUpdatesPerSecond() {
+        return updatesPerSecond;
+    }
+
+    /**
+     * Sets the amount of updates run per second of (scaled) time, keeping the progress towards the next update.
+     *
+     * @param updatesPerSecond The update rate. Must be at least {@code 1}.
+     */
+    public void setUpdatesPerSecond(int updatesPerSecond) {
+        if (updatesPerSecond < 1) {
+            FastJEngine.error(CrashMessages.CONFIGURATION_ERROR.errorMessage, new IllegalArgumentException("UPS amount must be at least 1."));
+        }
+
+        if (this.updatesPerSecond != 0) {
+            accumulator = accumulator / this.updatesPerSecond * updatesPerSecond;
+        }
+        this.updatesPerSecond = updatesPerSecond;
+    }
+
+    /**
+     * Gets the length of a single update, in nanoseconds.
+     *
+     * @return The update interval, rounded to the nearest nanosecond.
+     */
+    public long getInterval() {
+        return Math.round((double) NanosPerSecond / updatesPerSecond);
+    }
+
+    /**
+     * Gets the most updates that can run in a single frame.
+     *
+     * @return The maximum updates per frame.
+     */
+    public int getMaxUpdatesPerFrame() {
+        return maxUpdatesPerFrame;
+    }
+
+    /**
+     * Sets the most updates that can run in a single frame.
+     *
+     * @param maxUpdatesPerFrame The maximum updates per frame. Must be at least {@code 1}.
+     */
+    public void setMaxUpdatesPerFrame(int maxUpdatesPerFrame) {
+        if (maxUpdatesPerFrame < 1) {
+            FastJEngine.error(CrashMessages.CONFIGURATION_ERROR.errorMessage, new IllegalArgumentException("The maximum updates per frame must be at least 1."));
+        }
+        this.maxUpdatesPerFrame = maxUpdatesPerFrame;
+    }
+
+    /**
+     * Gets how time past the maximum updates per frame is handled.
+     *
+     * @return The {@code CatchUpPolicy}.
+     */
+    public CatchUpPolicy getCatchUpPolicy() {
+        return catchUpPolicy;
+    }
+
+    /**
+     * Sets how time past the maximum updates per frame is handled.
+     *
+     * @param catchUpPolicy The {@code CatchUpPolicy}.
+     */
+    public void setCatchUpPolicy(CatchUpPolicy catchUpPolicy) {
+        this.catchUpPolicy = catchUpPolicy;
+    }
+
+    /**
+     * Gets the rate at which game time passes, compared to real time.
+     *
+     * @return The time scale.
+     */
+    public double getTimeScale() {
+        return timeScale;
+    }
+
+    /**
+     * Sets the rate at which game time passes, compared to real time.
+     * <p>
+     * Values under {@code 1} run the game in slow motion, and values over {@code 1} fast-forward it. A value of {@code
+     * 0} pauses updates entirely, while rendering carries on.
+     *
+     * @param timeScale The time scale. Must not be negative.
+     */
+    public void setTimeScale(double timeScale) {
+        if (timeScale < 0d || Double.isNaN(timeScale)) {
+            FastJEngine.error(CrashMessages.CONFIGURATION_ERROR.errorMessage, new IllegalArgumentException("The time scale must not be negative."));
+        }
+        this.timeScale = timeScale;
+    }
+
+    /**
+     * Adds the specified elapsed time, and gets how many updates should run this frame.
+     *
+     * @param elapsedNanos The real time elapsed since the last frame, in nanoseconds.
+     * @return The amount of updates to run, between {@code 0} and the maximum updates per frame.
+     */
+    public int advance(long elapsedNanos) {
+        long frameCapacity = maxUpdatesPerFrame * NanosPerSecond;
+        long scaledTime = Math.max(Math.round(elapsedNanos * timeScale), 0L);
+
+        // multiplying by the update rate keeps the accumulation exact; clamping first avoids overflow
+        long maxScaledTime = (frameCapacity * 2L - accumulator) / updatesPerSecond + 1L;
+        if (scaledTime > maxScaledTime) {
+            droppedTime += (scaledTime - maxScaledTime);
+            scaledTime = maxScaledTime;
+        }
+        long addedTime = scaledTime * updatesPerSecond;
+
+        if (catchUpPolicy == CatchUpPolicy.SLOW_DOWN) {
+            long available = frameCapacity + NanosPerSecond - 1L - accumulator;
+            if (addedTime > available) {
+                droppedTime += (addedTime - available) / updatesPerSecond;
+                addedTime = available;
+            }
+        }
+        accumulator += addedTime;
+
+        int updates = (int) Math.min(accumulator / NanosPerSecond, maxUpdatesPerFrame);
+        accumulator -= updates * NanosPerSecond;
+        updateCount += updates;
+
+        if (accumulator >= NanosPerSecond) {
+            long limit = catchUpPolicy == CatchUpPolicy.CARRY ? frameCapacity : 0L;
+            if (accumulator > limit) {
+                droppedTime += (accumulator - limit) / updatesPerSecond;
+                accumulator = limit;
+            }
+        }
+
+        return updates;
+    }
+
+    /**
+     * Gets how far the game is between its last update and its next, for interpolating what is rendered.
+     *
+     * @return The interpolation alpha, from {@code 0} (just updated) up to {@code 1} (about to update). When time is
+     * being carried over to following frames, this may be {@code 1} or more.
+     */
+    public float getAlpha() {
+        return (float) ((double) accumulator / NanosPerSecond);
+    }
+
+    /**
+     * Gets the total amount of updates the timestep has called for.
+     *
+     * @return The update count.
+     */
+    public long getUpdateCount() {
+        return updateCount;
+    }
+
+    /**
+     * Gets the total amount of scaled time that was not caught up on, because of the maximum updates per frame.
+     *
+     * @return The dropped time, in nanoseconds.
+     */
+    public long getDroppedTime() {
+        return droppedTime;
+    }
+
+    /** Resets the timestep's accumulated time and counters, keeping its configuration. */
+    public void reset() {
+        accumulator = 0L;
+        updateCount = 0L;
+        droppedTime = 0L;
+    }
+}
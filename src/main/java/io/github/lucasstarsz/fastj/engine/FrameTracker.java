@@ -0,0 +1,208 @@
+package io.github.lucasstarsz.fastj.engine;
+
+import io.github.lucasstarsz.fastj.systems.profiling.ProfilePhase;
+import io.github.lucasstarsz.fastj.systems.profiling.Profiler;
+import io.github.lucasstarsz.fastj.systems.profiling.events.EngineEvent;
+import io.github.lucasstarsz.fastj.systems.profiling.events.FixedUpdateEvent;
+import io.github.lucasstarsz.fastj.systems.profiling.events.FrameEvent;
+import io.github.lucasstarsz.fastj.systems.profiling.events.HitchEvent;
+import io.github.lucasstarsz.fastj.systems.profiling.events.InputProcessingEvent;
+import io.github.lucasstarsz.fastj.systems.profiling.events.RenderEvent;
+
+import java.util.Arrays;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Tracks the frames and fixed updates of a game, timing their phases for its {@link Profiler} and emitting them as
+ * Java Flight Recorder events.
+ * <p>
+ * Until Flight Recorder is started, no events are created at all; and unless the profiler is enabled or {@link
+ * HitchEvent hitches} are recorded, the phases are not timed either. Each frame then costs a handful of checks.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+final class FrameTracker {
+
+    private final EngineContext context;
+    private final long[] phaseNanos = new long[ProfilePhase.values().length];
+
+    private long frameCount;
+    private long tickCount;
+
+    private boolean isProfiling;
+    private boolean isRecording;
+    private boolean isTiming;
+    private long frameStart;
+
+    private ProfilePhase phase;
+    private long phaseStart;
+
+    private FrameEvent frameEvent;
+    private HitchEvent hitchEvent;
+    private EngineEvent phaseEvent;
+    private FixedUpdateEvent tickEvent;
+
+    FrameTracker(EngineContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Gets the amount of frames started since the game started.
+     *
+     * @return The frame count.
+     */
+    long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Gets the amount of fixed updates run since the game started.
+     *
+     * @return The tick count.
+     */
+    long getTickCount() {
+        return tickCount;
+    }
+
+    /** Starts counting frames and fixed updates over. */
+    void reset() {
+        frameCount = 0L;
+        tickCount = 0L;
+    }
+
+    /** Starts a frame. */
+    void beginFrame() {
+        frameCount++;
+
+        isProfiling = context.getProfiler().isEnabled();
+        isRecording = FlightRecorder.isInitialized();
+        frameEvent = null;
+        hitchEvent = null;
+
+        if (isRecording) {
+            frameEvent = new FrameEvent();
+            frameEvent.begin();
+
+            HitchEvent hitch = new HitchEvent();
+            if (hitch.isEnabled()) {
+                hitch.begin();
+                hitchEvent = hitch;
+            }
+        }
+
+        isTiming = isProfiling || hitchEvent != null;
+        if (isTiming) {
+            Arrays.fill(phaseNanos, 0L);
+            frameStart = System.nanoTime();
+        }
+    }
+
+    /**
+     * Starts the specified top-level phase of the current frame.
+     *
+     * @param framePhase The phase to start.
+     */
+    void beginPhase(ProfilePhase framePhase) {
+        phase = framePhase;
+
+        if (isRecording) {
+            phaseEvent = createPhaseEvent(framePhase);
+            if (phaseEvent != null) {
+                phaseEvent.begin();
+            }
+        }
+
+        if (isTiming) {
+            phaseStart = System.nanoTime();
+        }
+    }
+
+    /** Ends the current phase of the frame. */
+    void endPhase() {
+        if (isTiming) {
+            long phaseEnd = isProfiling ? profiler().mark(phase, phaseStart) : System.nanoTime();
+            phaseNanos[phase.ordinal()] += phaseEnd - phaseStart;
+        }
+
+        if (phaseEvent != null) {
+            commit(phaseEvent);
+            phaseEvent = null;
+        }
+    }
+
+    /** Starts a fixed update. */
+    void beginTick() {
+        if (isRecording) {
+            tickEvent = new FixedUpdateEvent();
+            tickEvent.begin();
+        }
+    }
+
+    /** Ends the current fixed update. */
+    void endTick() {
+        tickCount++;
+
+        if (tickEvent != null) {
+            commit(tickEvent);
+            tickEvent = null;
+        }
+    }
+
+    /**
+     * Ends the current frame, emitting a {@link HitchEvent} if it took longer than the game's hitch budget.
+     *
+     * @param updates The amount of fixed updates run during the frame.
+     */
+    void endFrame(int updates) {
+        if (isProfiling) {
+            profiler().endFrame(frameStart);
+        }
+
+        if (frameEvent != null) {
+            frameEvent.updates = updates;
+            commit(frameEvent);
+            frameEvent = null;
+        }
+
+        if (hitchEvent != null) {
+            long frameNanos = System.nanoTime() - frameStart;
+            long budget = context.getHitchBudget();
+            if (frameNanos > budget) {
+                hitchEvent.budget = budget;
+                hitchEvent.inputTime = phaseNanos[ProfilePhase.INPUT.ordinal()];
+                hitchEvent.updateTime = phaseNanos[ProfilePhase.UPDATE.ordinal()];
+                hitchEvent.renderTime = phaseNanos[ProfilePhase.RENDER.ordinal()];
+                hitchEvent.syncTime = phaseNanos[ProfilePhase.SYNC.ordinal()];
+                hitchEvent.updates = updates;
+                commit(hitchEvent);
+            }
+            hitchEvent = null;
+        }
+    }
+
+    private void commit(EngineEvent event) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.describe(context.getLogicManager().getCurrentScene(), frameCount, tickCount);
+            event.commit();
+        }
+    }
+
+    private Profiler profiler() {
+        return context.getProfiler();
+    }
+
+    /** Creates the event for the specified phase, or {@code null} if the phase has no event of its own. */
+    private static EngineEvent createPhaseEvent(ProfilePhase framePhase) {
+        switch (framePhase) {
+            case INPUT:
+                return new InputProcessingEvent();
+            case RENDER:
+                return new RenderEvent();
+            default:
+                return null;
+        }
+    }
+}
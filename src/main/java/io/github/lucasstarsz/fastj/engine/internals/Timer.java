@@ -12,11 +12,45 @@ package io.github.lucasstarsz.fastj.engine.internals;
  */
 public class Timer {
 
-    private double lastLoopTime;
+    private long lastLoopNanos;
+
+    private boolean isVirtual;
+    private long virtualNanos;
 
     /** Initializes the Timer. */
     public void init() {
-        lastLoopTime = getTime();
+        lastLoopNanos = now();
+    }
+
+    /**
+     * Gets whether the Timer is driven by its virtual clock, rather than the system's clock.
+     *
+     * @return Whether the Timer is virtual.
+     */
+    public boolean isVirtual() {
+        return isVirtual;
+    }
+
+    /**
+     * Sets whether the Timer is driven by its virtual clock, rather than the system's clock.
+     * <p>
+     * The virtual clock starts at zero, and only moves forward when {@link #advance(long)} is called.
+     *
+     * @param virtual Whether the Timer should be virtual.
+     */
+    public void setVirtual(boolean virtual) {
+        isVirtual = virtual;
+        virtualNanos = 0L;
+        lastLoopNanos = now();
+    }
+
+    /**
+     * Moves the virtual clock forward by the specified amount of time.
+     *
+     * @param nanos The time to move forward by, in nanoseconds.
+     */
+    public void advance(long nanos) {
+        virtualNanos += nanos;
     }
 
     /**
@@ -25,7 +59,7 @@ public class Timer {
      * @return The current time (nanoseconds) as a double.
      */
     public double getTime() {
-        return System.nanoTime() / 1_000_000_000d;
+        return now() / 1_000_000_000d;
     }
 
     /**
@@ -34,10 +68,19 @@ public class Timer {
      * @return The time elapsed since the last loop time.
      */
     public float getElapsedTime() {
-        double time = getTime();
-        float elapsedTime = (float) (time - lastLoopTime);
-        lastLoopTime = time;
-        return elapsedTime;
+        return getElapsedNanos() / 1_000_000_000f;
+    }
+
+    /**
+     * Re-evaluates the last loop time, then returns the time passed since the last loop, in whole nanoseconds.
+     *
+     * @return The time elapsed since the last loop time, in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        long time = now();
+        long elapsedNanos = time - lastLoopNanos;
+        lastLoopNanos = time;
+        return elapsedNanos;
     }
 
     /**
@@ -46,6 +89,11 @@ public class Timer {
      * @return The last loop time.
      */
     public double getLastLoopTime() {
-        return lastLoopTime;
+        return lastLoopNanos / 1_000_000_000d;
+    }
+
+    /** Gets the current time of whichever clock drives the Timer, in nanoseconds. */
+    private long now() {
+        return isVirtual ? virtualNanos : System.nanoTime();
     }
 }
@@ -0,0 +1,137 @@
+package io.github.lucasstarsz.fastj.graphics;
+
+import java.awt.AWTException;
+import java.awt.BufferCapabilities;
+import java.awt.Canvas;
+import java.awt.GraphicsConfiguration;
+import java.awt.ImageCapabilities;
+
+/**
+ * The buffer strategy chosen for a {@link Display}'s canvas, and the means of choosing it.
+ * <p>
+ * {@link #negotiate(Canvas, int, boolean)} checks the {@link BufferCapabilities} of the canvas's graphics configuration
+ * and tries the strategies it supports, from the most to the least preferred:
+ * <ol>
+ *     <li>page flipping, with as many buffers as were asked for -- flipping presents on the display's refresh where the
+ *     platform supports it, and is only tried in full-screen mode when the platform requires that;</li>
+ *     <li>blitting from accelerated buffers;</li>
+ *     <li>whichever strategy AWT picks by itself.</li>
+ * </ol>
+ * When more than two buffers are asked for but the platform cannot provide them, fewer buffers are tried before moving
+ * on to the next strategy.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public final class BufferNegotiation {
+
+    private final BufferCapabilities capabilities;
+    private final int bufferAmount;
+
+    private BufferNegotiation(BufferCapabilities capabilities, int bufferAmount) {
+        this.capabilities = capabilities;
+        this.bufferAmount = bufferAmount;
+    }
+
+    /**
+     * Creates a buffer strategy for the specified canvas, using the most preferred strategy the platform supports.
+     * <p>
+     * The canvas must be displayable.
+     *
+     * @param canvas       The canvas to create the buffer strategy for.
+     * @param bufferAmount The amount of buffers to ask for, including the front buffer.
+     * @param isFullscreen Whether the canvas is shown in full-screen mode.
+     * @return The chosen buffer strategy's capabilities and amount of buffers.
+     */
+    public static BufferNegotiation negotiate(Canvas canvas, int bufferAmount, boolean isFullscreen) {
+        GraphicsConfiguration graphicsConfiguration = canvas.getGraphicsConfiguration();
+        BufferCapabilities platformCapabilities = graphicsConfiguration.getBufferCapabilities();
+        int fewestBuffers = Math.min(bufferAmount, 2);
+        int mostBuffers = platformCapabilities.isMultiBufferAvailable() ? bufferAmount : fewestBuffers;
+
+        // page flipping, where the platform supports it in the current screen state
+        if (platformCapabilities.isPageFlipping() && (isFullscreen || !platformCapabilities.isFullScreenRequired())) {
+            BufferCapabilities flipCapabilities = new BufferCapabilities(
+                    new ImageCapabilities(true),
+                    new ImageCapabilities(true),
+                    BufferCapabilities.FlipContents.UNDEFINED
+            );
+
+            BufferNegotiation negotiation = tryStrategies(canvas, flipCapabilities, mostBuffers, fewestBuffers);
+            if (negotiation != null) {
+                return negotiation;
+            }
+        }
+
+        // blitting from accelerated buffers
+        BufferCapabilities blitCapabilities = new BufferCapabilities(
+                new ImageCapabilities(true),
+                new ImageCapabilities(true),
+                null
+        );
+
+        BufferNegotiation negotiation = tryStrategies(canvas, blitCapabilities, mostBuffers, fewestBuffers);
+        if (negotiation != null) {
+            return negotiation;
+        }
+
+        // whatever AWT can manage
+        canvas.createBufferStrategy(bufferAmount);
+        return new BufferNegotiation(canvas.getBufferStrategy().getCapabilities(), bufferAmount);
+    }
+
+    /**
+     * Gets the capabilities of the chosen buffer strategy.
+     *
+     * @return The chosen {@code BufferCapabilities}.
+     */
+    public BufferCapabilities getCapabilities() {
+        return capabilities;
+    }
+
+    /**
+     * Gets the amount of buffers of the chosen buffer strategy, including the front buffer.
+     *
+     * @return The amount of buffers.
+     */
+    public int getBufferAmount() {
+        return bufferAmount;
+    }
+
+    /**
+     * Gets whether the chosen buffer strategy presents frames by page flipping, rather than by blitting.
+     *
+     * @return Whether the buffer strategy uses page flipping.
+     */
+    public boolean isPageFlipping() {
+        return capabilities.isPageFlipping();
+    }
+
+    @Override
+    public String toString() {
+        return "BufferNegotiation{" +
+                "strategy=" + (isPageFlipping() ? "page flipping" : "blitting") +
+                ", bufferAmount=" + bufferAmount +
+                ", acceleratedBackBuffer=" + capabilities.getBackBufferCapabilities().isAccelerated() +
+                ", fullScreenRequired=" + capabilities.isFullScreenRequired() +
+                ", flipContents=" + capabilities.getFlipContents() +
+                '}';
+    }
+
+    /**
+     * Tries to create a buffer strategy with the specified capabilities, from the most buffers down to the fewest.
+     *
+     * @return The resulting negotiation, or {@code null} if none of the buffer amounts could be created.
+     */
+    private static BufferNegotiation tryStrategies(Canvas canvas, BufferCapabilities capabilities, int mostBuffers, int fewestBuffers) {
+        for (int buffers = mostBuffers; buffers >= fewestBuffers; buffers--) {
+            try {
+                canvas.createBufferStrategy(buffers, capabilities);
+                return new BufferNegotiation(canvas.getBufferStrategy().getCapabilities(), buffers);
+            } catch (AWTException exception) {
+                // not supported -- try the next option
+            }
+        }
+        return null;
+    }
+}
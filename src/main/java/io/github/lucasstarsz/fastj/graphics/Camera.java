@@ -101,16 +101,28 @@ public class Camera {
      * @return The overall transformation of the {@code Camera} object as an {@code AffineTransform} value.
      */
     public AffineTransform getTransformation() {
-        AffineTransform at = new AffineTransform();
+        return getTransformation(new AffineTransform());
+    }
+
+    /**
+     * Stores the transformation of this {@code Camera} object in the specified {@code AffineTransform}.
+     * <p>
+     * Unlike {@link #getTransformation()}, this does not allocate a new {@code AffineTransform}.
+     *
+     * @param dest The {@code AffineTransform} to store the transformation in.
+     * @return The {@code dest} transform, for convenience.
+     */
+    public AffineTransform getTransformation(AffineTransform dest) {
+        dest.setToIdentity();
 
         if (rotation != Camera.DefaultRotation) {
-            at.rotate(Math.toRadians(rotation));
+            dest.rotate(Math.toRadians(rotation));
         }
         if (translation.x != Camera.DefaultTranslation.x || translation.y != Camera.DefaultTranslation.y) {
-            at.translate(translation.x, translation.y);
+            dest.translate(translation.x, translation.y);
         }
 
-        return at;
+        return dest;
     }
 
     /** Resets the camera's transformation to the default. */
@@ -0,0 +1,282 @@
+package io.github.lucasstarsz.fastj.graphics;
+
+import java.awt.Rectangle;
+import java.awt.geom.Rectangle2D;
+
+/**
+ * Class that collects the regions of the screen that need to be redrawn, merging them into a small set of rectangles.
+ * <p>
+ * Damaged regions are snapped outwards to whole pixels, and clipped to the tracked area. Regions that overlap or touch
+ * are merged together -- and when there are more regions than the tracker's maximum, the two regions whose merged
+ * rectangle wastes the least area are merged. Once the damaged regions cover enough of the area, the whole area is
+ * considered damaged instead.
+ * <p>
+ * The tracker's rectangles are reused, so adding damage does not allocate memory.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public class DamageTracker {
+
+    /** The default maximum amount of separate damaged regions: {@code 8}. */
+    public static final int DefaultMaxRegions = 8;
+    /** The default portion of the area that, once damaged, causes the whole area to be damaged: {@code 0.5f}. */
+    public static final float DefaultFullDamageRatio = 0.5f;
+
+    private final Rectangle[] regions;
+    private final int maxRegions;
+    private final float fullDamageRatio;
+    private int regionCount;
+
+    private final Rectangle area;
+    private boolean fullyDamaged;
+
+    /** Constructs a {@code DamageTracker} with the default maximum regions and full damage ratio. */
+    public DamageTracker() {
+        this(DefaultMaxRegions, DefaultFullDamageRatio);
+    }
+
+    /**
+     * Constructs a {@code DamageTracker} with the specified maximum regions and full damage ratio.
+     *
+     * @param maxRegions      The maximum amount of separate damaged regions.
+     * @param fullDamageRatio The portion of the area, from {@code 0} to {@code 1}, that once damaged causes the whole
+     *                        area to be damaged.
+     */
+    public DamageTracker(int maxRegions, float fullDamageRatio) {
+        this.maxRegions = Math.max(maxRegions, 1);
+        this.fullDamageRatio = fullDamageRatio;
+
+        // one extra region, to hold a newly added region before merging
+        regions = new Rectangle[this.maxRegions + 1];
+        for (int i = 0; i < regions.length; i++) {
+            regions[i] = new Rectangle();
+        }
+
+        area = new Rectangle();
+    }
+
+    /**
+     * Gets the area damage is tracked within.
+     *
+     * @return The tracked area.
+     */
+    public Rectangle getArea() {
+        return area;
+    }
+
+    /**
+     * Sets the size of the area damage is tracked within, starting from {@code (0, 0)}.
+     * <p>
+     * This does not change any damage already tracked.
+     *
+     * @param width  The width of the area.
+     * @param height The height of the area.
+     */
+    public void setArea(int width, int height) {
+        area.setBounds(0, 0, width, height);
+    }
+
+    /**
+     * Gets whether the whole area is damaged.
+     *
+     * @return Whether the whole area is damaged.
+     */
+    public boolean isFullyDamaged() {
+        return fullyDamaged;
+    }
+
+    /**
+     * Gets whether nothing is damaged.
+     *
+     * @return Whether nothing is damaged.
+     */
+    public boolean isEmpty() {
+        return !fullyDamaged && regionCount == 0;
+    }
+
+    /**
+     * Gets the amount of separate damaged regions.
+     * <p>
+     * If the whole area is damaged, this is {@code 1}.
+     *
+     * @return The amount of damaged regions.
+     */
+    public int getRegionCount() {
+        return fullyDamaged ? 1 : regionCount;
+    }
+
+    /**
+     * Gets the damaged region at the specified index.
+     * <p>
+     * If the whole area is damaged, the only region is the whole area. The returned rectangle is owned by the tracker,
+     * and should not be modified.
+     *
+     * @param index The index of the region.
+     * @return The damaged region.
+     */
+    public Rectangle getRegion(int index) {
+        if (index < 0 || index >= getRegionCount()) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for " + getRegionCount() + " regions");
+        }
+        return fullyDamaged ? area : regions[index];
+    }
+
+    /**
+     * Checks whether the specified rectangle intersects any damaged region.
+     *
+     * @param rect The rectangle to check.
+     * @return Whether the rectangle intersects the damage.
+     */
+    public boolean intersects(Rectangle2D rect) {
+        if (fullyDamaged) {
+            return rect.intersects(area);
+        }
+
+        for (int i = 0; i < regionCount; i++) {
+            if (rect.intersects(regions[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Damages the whole area. */
+    public void damageAll() {
+        fullyDamaged = true;
+        regionCount = 0;
+    }
+
+    /**
+     * Damages the specified rectangle.
+     *
+     * @param rect The damaged rectangle.
+     */
+    public void addDamage(Rectangle2D rect) {
+        addDamage(rect.getX(), rect.getY(), rect.getWidth(), rect.getHeight());
+    }
+
+    /**
+     * Damages the specified rectangle.
+     *
+     * @param x      The x location of the damaged rectangle.
+     * @param y      The y location of the damaged rectangle.
+     * @param width  The width of the damaged rectangle.
+     * @param height The height of the damaged rectangle.
+     */
+    public void addDamage(double x, double y, double width, double height) {
+        if (fullyDamaged || width < 0.0 || height < 0.0) {
+            return;
+        }
+
+        // snap outwards to whole pixels, with a pixel of padding for outlines
+        int minX = Math.max((int) Math.floor(x) - 1, area.x);
+        int minY = Math.max((int) Math.floor(y) - 1, area.y);
+        int maxX = Math.min((int) Math.ceil(x + width) + 1, area.x + area.width);
+        int maxY = Math.min((int) Math.ceil(y + height) + 1, area.y + area.height);
+        if (minX >= maxX || minY >= maxY) {
+            return;
+        }
+
+        Rectangle added = regions[regionCount];
+        added.setBounds(minX, minY, maxX - minX, maxY - minY);
+
+        // merge with every region the new one overlaps or touches, until none are left
+        boolean merged;
+        do {
+            merged = false;
+            for (int i = 0; i < regionCount; i++) {
+                if (touches(regions[i], added)) {
+                    added.add(regions[i]);
+                    removeRegion(i);
+                    merged = true;
+                    break;
+                }
+            }
+        } while (merged);
+
+        regionCount++;
+
+        if (regionCount > maxRegions) {
+            mergeCheapestPair();
+        }
+
+        if (damagedArea() >= (long) (fullDamageRatio * ((long) area.width * area.height))) {
+            damageAll();
+        }
+    }
+
+    /** Removes all damage. */
+    public void clear() {
+        fullyDamaged = false;
+        regionCount = 0;
+    }
+
+    /**
+     * Removes the region at the specified index, keeping the removed rectangle for reuse.
+     *
+     * @param index The index of the region to remove.
+     */
+    private void removeRegion(int index) {
+        Rectangle removed = regions[index];
+        regions[index] = regions[regionCount - 1];
+        regions[regionCount - 1] = regions[regionCount];
+        regions[regionCount] = removed;
+        regionCount--;
+    }
+
+    /** Merges the two regions whose merged rectangle adds the least undamaged area. */
+    private void mergeCheapestPair() {
+        int bestFirst = 0;
+        int bestSecond = 1;
+        long bestCost = Long.MAX_VALUE;
+
+        for (int i = 0; i < regionCount; i++) {
+            for (int j = i + 1; j < regionCount; j++) {
+                Rectangle first = regions[i];
+                Rectangle second = regions[j];
+
+                int width = Math.max(first.x + first.width, second.x + second.width) - Math.min(first.x, second.x);
+                int height = Math.max(first.y + first.height, second.y + second.height) - Math.min(first.y, second.y);
+                long cost = (long) width * height - areaOf(first) - areaOf(second);
+
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    bestFirst = i;
+                    bestSecond = j;
+                }
+            }
+        }
+
+        Rectangle second = regions[bestSecond];
+        // move the region to the end first, so the merged region keeps its index
+        regions[bestSecond] = regions[regionCount - 1];
+        regions[regionCount - 1] = second;
+        regions[bestFirst].add(second);
+        regionCount--;
+    }
+
+    /**
+     * Gets the total area of the damaged regions.
+     *
+     * @return The damaged area.
+     */
+    private long damagedArea() {
+        long total = 0L;
+        for (int i = 0; i < regionCount; i++) {
+            total += areaOf(regions[i]);
+        }
+        return total;
+    }
+
+    private static long areaOf(Rectangle rect) {
+        return (long) rect.width * rect.height;
+    }
+
+    private static boolean touches(Rectangle first, Rectangle second) {
+        return first.x <= second.x + second.width
+                && second.x <= first.x + first.width
+                && first.y <= second.y + second.height
+                && second.y <= first.y + first.height;
+    }
+}
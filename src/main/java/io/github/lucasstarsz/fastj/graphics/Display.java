@@ -1,14 +1,19 @@
 package io.github.lucasstarsz.fastj.graphics;
 
 import io.github.lucasstarsz.fastj.engine.CrashMessages;
+import io.github.lucasstarsz.fastj.engine.EngineContext;
 import io.github.lucasstarsz.fastj.engine.FastJEngine;
 import io.github.lucasstarsz.fastj.math.Point;
 import io.github.lucasstarsz.fastj.math.Pointf;
+import io.github.lucasstarsz.fastj.math.Scratch;
 import io.github.lucasstarsz.fastj.graphics.game.GameObject;
 import io.github.lucasstarsz.fastj.graphics.ui.UIElement;
 
 import io.github.lucasstarsz.fastj.systems.input.keyboard.Keyboard;
 import io.github.lucasstarsz.fastj.systems.input.mouse.Mouse;
+import io.github.lucasstarsz.fastj.systems.profiling.ProfilePhase;
+import io.github.lucasstarsz.fastj.systems.profiling.Profiler;
+import io.github.lucasstarsz.fastj.systems.profiling.events.PresentEvent;
 
 import javax.swing.JFrame;
 import java.awt.*;
@@ -16,12 +21,19 @@ import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferStrategy;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+import jdk.jfr.FlightRecorder;
+
 /**
  * Class that draws to a screen using a combination of Swing's JFrame, and AWT's Canvas.
  *
@@ -32,10 +44,15 @@ public class Display {
 
     /** Integer representing the default back buffer amount of {@code 3}. */
     public static final int DefaultBackBufferAmount = 3;
+    /** The most times a frame is drawn again when its buffer's contents are lost, before it is dropped. */
+    public static final int MaxBufferRedraws = 3;
+
+    private static final AffineTransform IdentityTransform = new AffineTransform();
 
     // input
     private final Mouse mouse;
     private final Keyboard keyboard;
+    private EngineContext owner;
 
     // display and background
     private JFrame outputDisplay;
@@ -58,7 +75,39 @@ public class Display {
 
     // graphics drawing
     private final Map<RenderingHints.Key, Object> renderHints;
+    private RenderQuality renderQuality = RenderQuality.MEDIUM;
+    private RenderQualityGovernor renderQualityGovernor;
     private Canvas drawingCanvas;
+    private BufferNegotiation bufferNegotiation;
+    private int backBufferAmount = DefaultBackBufferAmount;
+    private boolean isBufferStrategyOutdated;
+    private long lostContentsCount;
+
+    // render mode
+    private RenderMode renderMode = RenderMode.FULL;
+    private final DamageTracker damageTracker;
+    private final Map<GameObject, DamageRecord> damageRecords;
+    private final AffineTransform sceneTransform;
+    private final Rectangle2D.Float screenBoundsScratch;
+    private final Rectangle2D.Float hierarchyBoundsScratch;
+    private final float[] boundsScratch;
+    private BufferedImage sceneImage;
+    private Color sceneBackgroundColor;
+    private int damageFrame;
+    private final TiledRenderer tiledRenderer;
+    private boolean isScanlineRasterizing;
+
+    // resolution scaling
+    private ResolutionGovernor resolutionGovernor;
+    private final Point renderResolution;
+
+    // ui caching
+    private boolean isCachingUI;
+    private BufferedImage uiOverlay;
+    private final AffineTransform uiOverlayTransform;
+    private final AffineTransform nextUIOverlayTransform;
+    private final List<UIElement> uiOverlayElements;
+    private final Map<UIElement, Rectangle> uiOverlayRegions;
 
     // helpers
     private boolean isClosed = false;
@@ -76,9 +125,26 @@ public class Display {
         vanityDisplayTitle = title;
         viewerResolution = viewerRes;
         internalResolution = internalRes.copy();
+        renderResolution = internalRes.copy();
 
         lastResolution = Point.Origin.copy();
         renderHints = new LinkedHashMap<>();
+
+        damageTracker = new DamageTracker();
+        damageRecords = new IdentityHashMap<>();
+        sceneTransform = new AffineTransform();
+        screenBoundsScratch = new Rectangle2D.Float();
+        hierarchyBoundsScratch = new Rectangle2D.Float();
+        boundsScratch = new float[8];
+        tiledRenderer = new TiledRenderer();
+
+        uiOverlayTransform = new AffineTransform();
+        nextUIOverlayTransform = new AffineTransform();
+        uiOverlayElements = new ArrayList<>();
+        uiOverlayRegions = new IdentityHashMap<>();
+
+        background = new Rectangle2D.Float(0f, 0f, internalResolution.x, internalResolution.y);
+
         mouse = new Mouse();
         keyboard = new Keyboard();
     }
@@ -269,6 +335,89 @@ public class Display {
     public void setInternalResolution(Point res) {
         FastJEngine.runningCheck();
         internalResolution = res.copy();
+        background.width = internalResolution.x;
+        background.height = internalResolution.y;
+    }
+
+    /**
+     * Gets the resolution game objects are currently drawn at.
+     * <p>
+     * This is the internal resolution, unless a {@link ResolutionGovernor} has lowered it to keep up with the target
+     * frame rate. Game objects are still positioned and culled using the internal resolution.
+     *
+     * @return The render resolution, as a {@code Point}.
+     */
+    public Point getRenderResolution() {
+        return renderResolution;
+    }
+
+    /**
+     * Gets the buffer strategy chosen for the {@code Display}, and its capabilities.
+     *
+     * @return The {@code Display}'s {@code BufferNegotiation}, or {@code null} if it has not chosen one yet.
+     */
+    public BufferNegotiation getBufferNegotiation() {
+        return bufferNegotiation;
+    }
+
+    /**
+     * Gets the amount of buffers the {@code Display} asks for when choosing its buffer strategy.
+     *
+     * @return The amount of buffers, including the front buffer.
+     */
+    public int getBackBufferAmount() {
+        return backBufferAmount;
+    }
+
+    /**
+     * Sets the amount of buffers the {@code Display} asks for when choosing its buffer strategy.
+     * <p>
+     * The buffer strategy is chosen again before the next frame. If the platform cannot provide that many buffers,
+     * fewer are used -- see {@link BufferNegotiation}.
+     *
+     * @param bufferAmount The amount of buffers, including the front buffer. Must be at least {@code 1}.
+     */
+    public void setBackBufferAmount(int bufferAmount) {
+        if (bufferAmount < 1) {
+            FastJEngine.error(CrashMessages.illegalAction(getClass()), new IllegalArgumentException("The back buffer amount must be at least 1."));
+        }
+
+        backBufferAmount = bufferAmount;
+        isBufferStrategyOutdated = true;
+    }
+
+    /**
+     * Gets the amount of times the contents of the {@code Display}'s buffers have been lost or restored while drawing a
+     * frame, causing the frame to be drawn again.
+     *
+     * @return The amount of lost buffer contents.
+     */
+    public long getLostContentsCount() {
+        return lostContentsCount;
+    }
+
+    /**
+     * Gets the governor which lowers the {@code Display}'s render resolution when frames take too long to render.
+     *
+     * @return The {@code Display}'s {@code ResolutionGovernor}, or {@code null} if it has none.
+     */
+    public ResolutionGovernor getResolutionGovernor() {
+        return resolutionGovernor;
+    }
+
+    /**
+     * Sets the governor which lowers the {@code Display}'s render resolution when frames take too long to render.
+     * <p>
+     * While the governor's scale is below {@code 1}, game objects are drawn into an image at the lowered resolution,
+     * which is stretched over the screen. The UI is always drawn at the internal resolution.
+     *
+     * @param governor The new {@code ResolutionGovernor}, or {@code null} to always render at the internal resolution.
+     */
+    public void setResolutionGovernor(ResolutionGovernor governor) {
+        resolutionGovernor = governor;
+        if (resolutionGovernor != null) {
+            resolutionGovernor.reset();
+        }
     }
 
     /**
@@ -281,7 +430,20 @@ public class Display {
      * @return The scale of the {@code Display} resolution.
      */
     public Pointf getResolutionScale() {
-        return Pointf.divide(viewerResolution.asPointf(), internalResolution.asPointf());
+        return getResolutionScale(new Pointf());
+    }
+
+    /**
+     * Stores the scaling of the {@code Display} resolution in the specified {@code Pointf}.
+     * <p>
+     * Unlike {@link #getResolutionScale()}, this does not allocate a new {@code Pointf}.
+     *
+     * @param dest The {@code Pointf} to store the scale in.
+     * @return The {@code dest} point, for convenience.
+     */
+    public Pointf getResolutionScale(Pointf dest) {
+        dest.set((float) viewerResolution.x / internalResolution.x, (float) viewerResolution.y / internalResolution.y);
+        return dest;
     }
 
     /**
@@ -315,6 +477,7 @@ public class Display {
 
             // prepare for full screen
             outputDisplay.dispose();
+            isBufferStrategyOutdated = true;
             outputDisplay.setUndecorated(true);
             outputDisplay.setResizable(false);
 
@@ -330,6 +493,7 @@ public class Display {
 
             // update display
             outputDisplay.dispose();
+            isBufferStrategyOutdated = true;
             outputDisplay.setUndecorated(false);
             outputDisplay.setResizable(true);
 
@@ -415,6 +579,95 @@ public class Display {
         drawingCanvas.setBackground(newColor);
     }
 
+    /**
+     * Gets the way the {@code Display} draws its game objects each frame.
+     *
+     * @return The {@code Display}'s {@link RenderMode}.
+     */
+    public RenderMode getRenderMode() {
+        return renderMode;
+    }
+
+    /**
+     * Sets the way the {@code Display} draws its game objects each frame.
+     * <p>
+     * With {@link RenderMode#DIRTY_REGIONS}, game objects are drawn to an image kept between frames, and only the
+     * regions of it that have changed are cleared and drawn again. Game objects that do not touch those regions are
+     * skipped entirely. Custom game objects should call {@code appearanceChanged()} whenever they change how they look
+     * without moving, so that they are drawn again.
+     * <p>
+     * With {@link RenderMode#PARALLEL_TILES}, game objects are drawn to an image split into tiles, which are drawn in
+     * parallel. Custom game objects must not change shared state while rendering.
+     *
+     * @param mode The new {@code RenderMode}.
+     */
+    public void setRenderMode(RenderMode mode) {
+        renderMode = mode;
+
+        sceneImage = null;
+        sceneBackgroundColor = null;
+        damageRecords.clear();
+        damageTracker.clear();
+        tiledRenderer.clearObjects();
+    }
+
+    /**
+     * Gets whether the {@code Display} fills simple polygons with the {@link ScanlineRasterizer}.
+     *
+     * @return Whether the {@code Display} uses the scanline rasterizer.
+     */
+    public boolean isScanlineRasterizing() {
+        return isScanlineRasterizing;
+    }
+
+    /**
+     * Sets whether the {@code Display} fills simple polygons with the {@link ScanlineRasterizer}.
+     * <p>
+     * The rasterizer writes filled, solid-color {@link io.github.lucasstarsz.fastj.graphics.game.Polygon2D}s straight
+     * into the pixels of the scene image, skipping Java2D. It is only used with {@link RenderMode#DIRTY_REGIONS} and
+     * {@link RenderMode#PARALLEL_TILES}, which draw to a scene image, and only while antialiasing is off. Everything
+     * else is still drawn through Java2D. Polygon edges are sampled as with {@link RenderingHints#VALUE_STROKE_PURE pure
+     * stroke control}, so they may differ by a pixel from Java2D's default.
+     *
+     * @param scanlineRasterizing Whether the {@code Display} should use the scanline rasterizer.
+     */
+    public void setScanlineRasterizing(boolean scanlineRasterizing) {
+        isScanlineRasterizing = scanlineRasterizing;
+        tiledRenderer.setScanlineRasterizing(scanlineRasterizing);
+    }
+
+    /**
+     * Gets whether the {@code Display} caches its UI in an overlay image.
+     *
+     * @return Whether the {@code Display} caches its UI.
+     */
+    public boolean isCachingUI() {
+        return isCachingUI;
+    }
+
+    /**
+     * Sets whether the {@code Display} should cache its UI in an overlay image.
+     * <p>
+     * When enabled, UI elements are drawn into an overlay image which is drawn to the screen each frame, instead of
+     * drawing each element every frame. Only the parts of the overlay covered by {@link UIElement#isDirty() dirty}
+     * elements are drawn again -- the whole overlay is only redrawn when UI elements are added or removed, or when the
+     * camera's rotation changes. As the overlay is kept while the camera moves, UI elements drawn to it are not culled.
+     * <p>
+     * This is best suited to scenes with a lot of UI that rarely changes, such as menus. UI elements which change their
+     * appearance without {@link UIElement#markDirty() marking themselves dirty} will not be updated while this is
+     * enabled.
+     *
+     * @param enable Whether the {@code Display} should cache its UI.
+     */
+    public void setUICaching(boolean enable) {
+        isCachingUI = enable;
+        if (!isCachingUI) {
+            uiOverlay = null;
+            uiOverlayElements.clear();
+            uiOverlayRegions.clear();
+        }
+    }
+
     /**
      * Gets the displayed icon of the {@code Display}.
      *
@@ -451,6 +704,37 @@ public class Display {
         return drawingCanvas;
     }
 
+    /**
+     * Gets the {@code Mouse} that takes input from the {@code Display}.
+     *
+     * @return The {@code Mouse} of the {@code Display}.
+     */
+    public Mouse getMouse() {
+        return mouse;
+    }
+
+    /**
+     * Gets the {@code Keyboard} that takes input from the {@code Display}.
+     *
+     * @return The {@code Keyboard} of the {@code Display}.
+     */
+    public Keyboard getKeyboard() {
+        return keyboard;
+    }
+
+    /**
+     * Gets the context whose game owns the {@code Display}.
+     * <p>
+     * This is the {@link EngineContext#current() current context} of the thread that initialized the {@code Display}.
+     * Window and input callbacks, which arrive on the AWT event thread, are run as this context -- so that the static
+     * {@link FastJEngine} methods they call act on the game that owns the window.
+     *
+     * @return The owning context, or {@code null} if the {@code Display} has not been initialized.
+     */
+    public EngineContext getOwner() {
+        return owner;
+    }
+
     /**
      * Gets the {@code Graphics2D} object associated with this {@code Display}, set to the transformation of the current
      * scene's camera.
@@ -516,6 +800,7 @@ public class Display {
 
         // update display
         outputDisplay.dispose();
+        isBufferStrategyOutdated = true;
         outputDisplay.setUndecorated(false);
         outputDisplay.setResizable(true);
 
@@ -543,6 +828,7 @@ public class Display {
         outputDisplay.setVisible(false);
 
         outputDisplay.dispose();
+        isBufferStrategyOutdated = true;
         outputDisplay.setUndecorated(!enable);
         outputDisplay.pack();
 
@@ -561,13 +847,112 @@ public class Display {
     public void render(Map<String, GameObject> gameObjects, Map<String, UIElement> gui, Camera camera) {
         if (!outputDisplay.isVisible()) return;
 
+        long renderStartTime = System.nanoTime();
+        updateRenderResolution();
+
+        Scratch scratch = Scratch.get();
+        int mark = scratch.mark();
         try {
-            BufferStrategy drawBuffer;
-            do {
+            BufferStrategy drawBuffer = drawingCanvas.getBufferStrategy();
+            if (drawBuffer == null || isBufferStrategyOutdated) {
+                // the canvas is between windows while the screen state switches -- skip the frame
+                if (!drawingCanvas.isDisplayable()) {
+                    return;
+                }
+
+                negotiateBufferStrategy();
                 drawBuffer = drawingCanvas.getBufferStrategy();
-            } while (drawBuffer == null);
+            }
+
+            int redraws = 0;
+            long presentTime = 0L;
+            do {
+                do {
+                    Graphics2D drawGraphics = (Graphics2D) drawBuffer.getDrawGraphics();
+                    try {
+                        if (!drawFrame(drawGraphics, gameObjects, gui, camera)) {
+                            return;
+                        }
+                    } finally {
+                        drawGraphics.dispose();
+                    }
+                } while (drawBuffer.contentsRestored() && countLostContents(++redraws));
+
+                Profiler profiler = Profiler.active();
+                PresentEvent presentEvent = null;
+                if (FlightRecorder.isInitialized()) {
+                    presentEvent = new PresentEvent();
+                    presentEvent.begin();
+                }
+
+                long presentStart = System.nanoTime();
+                drawBuffer.show();
+                presentTime += System.nanoTime() - presentStart;
+
+                if (profiler != null) {
+                    profiler.mark(ProfilePhase.PRESENT, presentStart);
+                }
+                if (presentEvent != null) {
+                    presentEvent.end();
+                    if (presentEvent.shouldCommit()) {
+                        presentEvent.describeCurrentGame();
+                        presentEvent.redraws = redraws;
+                        presentEvent.commit();
+                    }
+                }
+            } while (drawBuffer.contentsLost() && countLostContents(++redraws));
+
+            long renderTime = System.nanoTime() - renderStartTime;
+            if (resolutionGovernor != null) {
+                resolutionGovernor.update(renderTime, presentTime);
+            }
+            if (renderQualityGovernor != null) {
+                renderQualityGovernor.update(renderTime, presentTime);
+                if (renderQualityGovernor.getQuality() != renderQuality) {
+                    setRenderQuality(renderQualityGovernor.getQuality());
+                }
+            }
+        } catch (IllegalStateException e) {
+            if (!switchingScreenState && !FastJEngine.isRunning()) {
+                FastJEngine.error(CrashMessages.illegalAction(getClass()), e);
+            }
+        } finally {
+            scratch.release(mark);
+        }
+    }
+
+    /**
+     * Draws a frame of the specified game objects and GUI objects to the specified buffer graphics.
+     *
+     * @param drawGraphics The graphics of the buffer to draw to.
+     * @param gameObjects  The game objects to be rendered.
+     * @param gui          The GUI objects to be rendered.
+     * @param camera       The camera that the user will view the game from.
+     * @return Whether the frame was drawn completely.
+     */
+    private boolean drawFrame(Graphics2D drawGraphics, Map<String, GameObject> gameObjects, Map<String, UIElement> gui, Camera camera) {
+        AffineTransform deviceTransform = drawGraphics.getTransform();
+        prepareGraphics(drawGraphics, camera);
+
+        if (renderMode == RenderMode.DIRTY_REGIONS) {
+            if (!renderDamagedRegions(gameObjects, camera)) {
+                return false;
+            }
 
-            Graphics2D drawGraphics = prepareGraphics((Graphics2D) drawBuffer.getDrawGraphics(), camera);
+            drawToScreen(drawGraphics, sceneImage, deviceTransform);
+        } else if (renderMode == RenderMode.PARALLEL_TILES) {
+            if (!renderParallelTiles(gameObjects, camera)) {
+                return false;
+            }
+
+            drawToScreen(drawGraphics, sceneImage, deviceTransform);
+        } else if (!renderResolution.equals(internalResolution)) {
+            if (!renderScaledScene(gameObjects, camera)) {
+                return false;
+            }
+
+            drawToScreen(drawGraphics, sceneImage, deviceTransform);
+        } else {
             drawGraphics.clearRect(
                     (int) (background.x - camera.getTranslation().x),
                     (int) (background.y - camera.getTranslation().y),
@@ -576,38 +961,614 @@ public class Display {
             );
 
             for (GameObject obj : gameObjects.values()) {
-                try {
-                    if (!isOnScreen(obj, camera)) continue;
-                    obj.render(drawGraphics);
-                } catch (NullPointerException e) {
-                    nullWarnCheck(obj, false, e);
-                } catch (Exception e) {
-                    FastJEngine.error(CrashMessages.RENDER_ERROR.errorMessage + " | Origin: Game Object Drawable " + obj.getID(), e);
-                    return;
+                if (!renderGameObject(obj, drawGraphics, camera)) {
+                    return false;
                 }
             }
+        }
+
+        if (isCachingUI) {
+            if (!updateUIOverlay(gui, camera)) {
+                return false;
+            }
 
+            drawToScreen(drawGraphics, uiOverlay, deviceTransform);
+        } else {
             for (UIElement guiObj : gui.values()) {
-                try {
-                    if (!isOnScreen(guiObj, camera)) continue;
-                    guiObj.renderAsGUIObject(drawGraphics, camera);
-                } catch (NullPointerException e) {
-                    nullWarnCheck(guiObj, true, e);
-                } catch (Exception e) {
-                    FastJEngine.error(CrashMessages.RENDER_ERROR.errorMessage + " | Origin: GUI Drawable " + guiObj.getID(), e);
-                    return;
+                if (!renderGUIObject(guiObj, drawGraphics, camera, true)) {
+                    return false;
                 }
             }
+        }
 
-            drawBuffer.show();
-            drawGraphics.dispose();
-        } catch (IllegalStateException e) {
-            if (!switchingScreenState && !FastJEngine.isRunning()) {
-                FastJEngine.error(CrashMessages.illegalAction(getClass()), e);
+        Profiler profiler = Profiler.active();
+        if (profiler != null) {
+            drawGraphics.setTransform(deviceTransform);
+            profiler.drawOverlay(drawGraphics);
+        }
+
+        return true;
+    }
+
+    /**
+     * Counts a loss of the buffer's contents while drawing a frame.
+     *
+     * @param redraws The amount of times the frame has been redrawn.
+     * @return Whether the frame should be drawn again.
+     */
+    private boolean countLostContents(int redraws) {
+        lostContentsCount++;
+        return redraws < MaxBufferRedraws;
+    }
+
+    /**
+     * Renders the specified game object and its children, if it is on screen.
+     * <p>
+     * Game objects with a parent are skipped, as they are rendered by their parents.
+     *
+     * @param obj    The game object to render.
+     * @param g      The {@code Graphics2D} to render the game object to.
+     * @param camera The camera that the user will view the game from.
+     * @return Whether rendering can continue, rather than having crashed the game.
+     */
+    private boolean renderGameObject(GameObject obj, Graphics2D g, Camera camera) {
+        try {
+            // children are rendered by their parents
+            if (obj.getParent() != null) return true;
+
+            Profiler profiler = Profiler.active();
+            if (obj.getChildren().isEmpty() && !isOnScreen(obj, camera, profiler)) return true;
+
+            if (profiler == null) {
+                obj.renderHierarchy(g);
+            } else {
+                long renderStart = System.nanoTime();
+                obj.renderHierarchy(g);
+                profiler.recordDrawable(obj.getClass(), System.nanoTime() - renderStart);
+            }
+        } catch (NullPointerException e) {
+            nullWarnCheck(obj, false, e);
+        } catch (Exception e) {
+            FastJEngine.error(CrashMessages.RENDER_ERROR.errorMessage + " | Origin: Game Object Drawable " + obj.getID(), e);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Fills the specified game object into the scene image with the {@link ScanlineRasterizer}, if it can.
+     *
+     * @param obj             The game object to fill.
+     * @param cameraTransform The transformation from the game world to the scene image.
+     * @param clip            The region of the scene image to draw within.
+     * @return Whether the game object was handled, rather than needing to be rendered through Java2D.
+     */
+    private boolean rasterizeGameObject(GameObject obj, AffineTransform cameraTransform, Rectangle clip) {
+        try {
+            return ScanlineRasterizer.get().fill(obj, cameraTransform, sceneImage, clip);
+        } catch (NullPointerException e) {
+            nullWarnCheck(obj, false, e);
+            return true;
+        }
+    }
+
+    /**
+     * Redraws the whole scene image at the render resolution, for when it is lower than the internal resolution.
+     *
+     * @param gameObjects The game objects to be rendered.
+     * @param camera      The camera that the user will view the game from.
+     * @return Whether rendering can continue, rather than having crashed the game.
+     */
+    private boolean renderScaledScene(Map<String, GameObject> gameObjects, Camera camera) {
+        ensureSceneImage();
+
+        Graphics2D sceneGraphics = sceneImage.createGraphics();
+        try {
+            sceneGraphics.setRenderingHints(renderHints);
+            sceneGraphics.setBackground(drawingCanvas.getBackground());
+            sceneGraphics.clearRect(0, 0, renderResolution.x, renderResolution.y);
+            sceneGraphics.transform(sceneTransformOf(camera));
+
+            for (GameObject obj : gameObjects.values()) {
+                if (!renderGameObject(obj, sceneGraphics, camera)) {
+                    return false;
+                }
             }
+        } finally {
+            sceneGraphics.dispose();
+        }
+
+        return true;
+    }
+
+    /** Brings the render resolution up to date with the internal resolution and the resolution governor's scale. */
+    private void updateRenderResolution() {
+        if (resolutionGovernor == null) {
+            renderResolution.set(internalResolution.x, internalResolution.y);
+        } else {
+            resolutionGovernor.scaleResolution(internalResolution, renderResolution);
         }
     }
 
+    /**
+     * Creates the scene image again if it does not match the render resolution.
+     *
+     * @return Whether the scene image was created again.
+     */
+    private boolean ensureSceneImage() {
+        if (sceneImage != null && sceneImage.getWidth() == renderResolution.x && sceneImage.getHeight() == renderResolution.y) {
+            return false;
+        }
+
+        sceneImage = createCompatibleImage(renderResolution.x, renderResolution.y, Transparency.OPAQUE);
+        return true;
+    }
+
+    /**
+     * Gets the transformation from the game world to the scene image -- the camera's transformation, scaled down to the
+     * render resolution.
+     * <p>
+     * The transform is taken from the current thread's {@link Scratch} arena, and is released at the end of {@link
+     * #render(Map, Map, Camera)}.
+     *
+     * @param camera The camera that the user will view the game from.
+     * @return The scene transformation.
+     */
+    private AffineTransform sceneTransformOf(Camera camera) {
+        Scratch scratch = Scratch.get();
+        AffineTransform transform = camera.getTransformation(scratch.transform());
+
+        if (!renderResolution.equals(internalResolution)) {
+            AffineTransform renderScale = scratch.transform();
+            renderScale.setToScale((double) renderResolution.x / internalResolution.x, (double) renderResolution.y / internalResolution.y);
+            transform.preConcatenate(renderScale);
+        }
+
+        return transform;
+    }
+
+    /**
+     * Draws the specified image over the whole screen, scaled by the resolution scale but not by the camera.
+     * <p>
+     * The transformation of the {@code Graphics2D} is restored afterwards.
+     *
+     * @param g               The {@code Graphics2D} to draw the image to.
+     * @param image           The image to draw, which is stretched to the internal resolution.
+     * @param deviceTransform The transformation of the {@code Graphics2D}, before it was prepared.
+     */
+    private void drawToScreen(Graphics2D g, BufferedImage image, AffineTransform deviceTransform) {
+        Scratch scratch = Scratch.get();
+        int mark = scratch.mark();
+        try {
+            AffineTransform oldTransform = g.getTransform();
+            Pointf resolutionScale = getResolutionScale(scratch.point());
+
+            g.setTransform(deviceTransform);
+            g.scale(resolutionScale.x, resolutionScale.y);
+            g.drawImage(image, 0, 0, internalResolution.x, internalResolution.y, null);
+
+            g.setTransform(oldTransform);
+        } finally {
+            scratch.release(mark);
+        }
+    }
+
+    /**
+     * Brings the kept scene image up to date, clearing and redrawing only the regions of it that have changed.
+     *
+     * @param gameObjects The game objects to be rendered.
+     * @param camera      The camera that the user will view the game from.
+     * @return Whether rendering can continue, rather than having crashed the game.
+     */
+    private boolean renderDamagedRegions(Map<String, GameObject> gameObjects, Camera camera) {
+        AffineTransform cameraTransform = sceneTransformOf(camera);
+        updateDamage(gameObjects, cameraTransform);
+
+        if (damageTracker.isEmpty()) {
+            return true;
+        }
+
+        boolean rasterizing = isScanlineRasterizing && ScanlineRasterizer.supports(sceneImage) && ScanlineRasterizer.allows(renderHints);
+
+        Graphics2D sceneGraphics = sceneImage.createGraphics();
+        try {
+            sceneGraphics.setRenderingHints(renderHints);
+            sceneGraphics.setBackground(sceneBackgroundColor);
+
+            for (int i = 0; i < damageTracker.getRegionCount(); i++) {
+                Rectangle region = damageTracker.getRegion(i);
+
+                sceneGraphics.setTransform(IdentityTransform);
+                sceneGraphics.setClip(region);
+                sceneGraphics.clearRect(region.x, region.y, region.width, region.height);
+                sceneGraphics.transform(cameraTransform);
+
+                for (GameObject obj : gameObjects.values()) {
+                    DamageRecord record = damageRecords.get(obj);
+                    if (record != null && !record.screenBounds.intersects(region)) {
+                        continue;
+                    }
+
+                    if (rasterizing && rasterizeGameObject(obj, cameraTransform, region)) {
+                        continue;
+                    }
+
+                    if (!renderGameObject(obj, sceneGraphics, camera)) {
+                        return false;
+                    }
+                }
+            }
+        } finally {
+            sceneGraphics.dispose();
+            damageTracker.clear();
+        }
+
+        return true;
+    }
+
+    /**
+     * Redraws the whole scene image, split into tiles which are drawn in parallel.
+     * <p>
+     * The game objects on screen, and their screen bounds, are found on this thread -- which also brings their lazily
+     * computed bounds up to date before any other thread draws them.
+     *
+     * @param gameObjects The game objects to be rendered.
+     * @param camera      The camera that the user will view the game from.
+     * @return Whether rendering can continue, rather than having crashed the game.
+     */
+    private boolean renderParallelTiles(Map<String, GameObject> gameObjects, Camera camera) {
+        AffineTransform cameraTransform = sceneTransformOf(camera);
+
+        if (ensureSceneImage() || tiledRenderer.getImage() != sceneImage) {
+            tiledRenderer.setImage(sceneImage);
+        }
+
+        tiledRenderer.clearObjects();
+        Profiler profiler = Profiler.active();
+        for (GameObject obj : gameObjects.values()) {
+            try {
+                // children are rendered by their parents
+                if (obj.getParent() != null) continue;
+
+                if (!obj.getChildren().isEmpty()) {
+                    tiledRenderer.addObjectToAllTiles(obj);
+                } else if (obj.shouldRender() && isOnScreen(obj, camera, profiler)) {
+                    screenBoundsOf(obj, cameraTransform, screenBoundsScratch);
+                    tiledRenderer.addObject(obj,
+                            screenBoundsScratch.x,
+                            screenBoundsScratch.y,
+                            screenBoundsScratch.x + screenBoundsScratch.width,
+                            screenBoundsScratch.y + screenBoundsScratch.height
+                    );
+                }
+            } catch (NullPointerException e) {
+                nullWarnCheck(obj, false, e);
+            }
+        }
+
+        boolean rendered = tiledRenderer.render(cameraTransform, drawingCanvas.getBackground(), renderHints, true);
+        tiledRenderer.clearObjects();
+
+        if (!rendered) {
+            GameObject failedObject = tiledRenderer.getFailedObject();
+            Exception failure = tiledRenderer.getFailure();
+
+            if (failure instanceof NullPointerException) {
+                nullWarnCheck(failedObject, false, (NullPointerException) failure);
+            } else {
+                FastJEngine.error(CrashMessages.RENDER_ERROR.errorMessage + " | Origin: Game Object Drawable " + failedObject.getID(), failure);
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Finds the regions of the scene image that have changed since the last frame.
+     * <p>
+     * Each game object's screen bounds, appearance version, and visibility are compared against those of the last
+     * frame. Game objects that have changed, been added, or been removed damage both where they were and where they
+     * are now. The whole scene is damaged when the scene image is resized, or the camera or background color change.
+     * <p>
+     * Children are drawn by their parents, so a game object with children is tracked as its whole hierarchy: its
+     * bounds cover all of its children, and a change to any of them changes its {@link
+     * GameObject#getHierarchyVersion() hierarchy version}.
+     *
+     * @param gameObjects     The game objects to be rendered.
+     * @param cameraTransform The transformation from the game world to the scene image.
+     */
+    private void updateDamage(Map<String, GameObject> gameObjects, AffineTransform cameraTransform) {
+        damageFrame++;
+        damageTracker.setArea(renderResolution.x, renderResolution.y);
+
+        Color backgroundColor = drawingCanvas.getBackground();
+        boolean resized = ensureSceneImage();
+        if (resized || !sceneTransform.equals(cameraTransform) || !backgroundColor.equals(sceneBackgroundColor)) {
+            sceneTransform.setTransform(cameraTransform);
+            sceneBackgroundColor = backgroundColor;
+            damageTracker.damageAll();
+        }
+
+        for (GameObject obj : gameObjects.values()) {
+            // children are damaged along with their parents
+            if (obj.getParent() != null) continue;
+
+            try {
+                DamageRecord record = damageRecords.get(obj);
+                int appearanceVersion = obj.getHierarchyVersion();
+                boolean shown = obj.shouldRender();
+
+                if (record == null) {
+                    record = new DamageRecord();
+                    damageRecords.put(obj, record);
+
+                    damageBoundsOf(obj, cameraTransform, record.screenBounds);
+                    damageTracker.addDamage(record.screenBounds);
+                } else {
+                    damageBoundsOf(obj, cameraTransform, screenBoundsScratch);
+                    if (!screenBoundsScratch.equals(record.screenBounds)
+                            || appearanceVersion != record.appearanceVersion
+                            || shown != record.shown) {
+                        damageTracker.addDamage(record.screenBounds);
+                        damageTracker.addDamage(screenBoundsScratch);
+                        record.screenBounds.setRect(screenBoundsScratch);
+                    }
+                }
+
+                record.appearanceVersion = appearanceVersion;
+                record.shown = shown;
+                record.frame = damageFrame;
+            } catch (NullPointerException e) {
+                nullWarnCheck(obj, false, e);
+                damageTracker.damageAll();
+            }
+        }
+
+        // game objects which were not seen this frame have been removed
+        Iterator<DamageRecord> records = damageRecords.values().iterator();
+        while (records.hasNext()) {
+            DamageRecord record = records.next();
+            if (record.frame != damageFrame) {
+                damageTracker.addDamage(record.screenBounds);
+                records.remove();
+            }
+        }
+    }
+
+    /**
+     * Gets the bounds of the specified game object on the scene image, at the render resolution.
+     *
+     * @param obj             The game object to get the screen bounds of.
+     * @param cameraTransform The transformation from the game world to the scene image.
+     * @param dest            The rectangle to store the screen bounds in.
+     */
+    private void screenBoundsOf(GameObject obj, AffineTransform cameraTransform, Rectangle2D.Float dest) {
+        Pointf[] bounds = obj.getBounds();
+        for (int i = 0; i < 4; i++) {
+            boundsScratch[i * 2] = bounds[i].x;
+            boundsScratch[i * 2 + 1] = bounds[i].y;
+        }
+        transformBoundsScratch(cameraTransform, dest);
+    }
+
+    /**
+     * Gets the bounds of the specified game object on the scene image, covering all of its children if it has any.
+     *
+     * @param obj             The game object to get the damage bounds of.
+     * @param cameraTransform The transformation from the game world to the scene image.
+     * @param dest            The rectangle to store the damage bounds in.
+     */
+    private void damageBoundsOf(GameObject obj, AffineTransform cameraTransform, Rectangle2D.Float dest) {
+        if (obj.getChildren().isEmpty()) {
+            screenBoundsOf(obj, cameraTransform, dest);
+            return;
+        }
+
+        Rectangle2D.Float bounds = obj.getHierarchyBounds(hierarchyBoundsScratch);
+        boundsScratch[0] = bounds.x;
+        boundsScratch[1] = bounds.y;
+        boundsScratch[2] = bounds.x + bounds.width;
+        boundsScratch[3] = bounds.y;
+        boundsScratch[4] = bounds.x + bounds.width;
+        boundsScratch[5] = bounds.y + bounds.height;
+        boundsScratch[6] = bounds.x;
+        boundsScratch[7] = bounds.y + bounds.height;
+        transformBoundsScratch(cameraTransform, dest);
+    }
+
+    /** Transforms the four corners held in the bounds scratch array, storing the rectangle around them. */
+    private void transformBoundsScratch(AffineTransform cameraTransform, Rectangle2D.Float dest) {
+        cameraTransform.transform(boundsScratch, 0, boundsScratch, 0, 4);
+
+        float minX = boundsScratch[0];
+        float minY = boundsScratch[1];
+        float maxX = minX;
+        float maxY = minY;
+        for (int i = 1; i < 4; i++) {
+            minX = Math.min(minX, boundsScratch[i * 2]);
+            minY = Math.min(minY, boundsScratch[i * 2 + 1]);
+            maxX = Math.max(maxX, boundsScratch[i * 2]);
+            maxY = Math.max(maxY, boundsScratch[i * 2 + 1]);
+        }
+
+        dest.setRect(minX, minY, maxX - minX, maxY - minY);
+    }
+
+    /**
+     * Renders the specified GUI object, if it is on screen.
+     * <p>
+     * The GUI object is only marked clean once it has been drawn, so one that was culled is still drawn once it comes
+     * on screen.
+     *
+     * @param guiObj The GUI object to render.
+     * @param g      The {@code Graphics2D} to render the GUI object to.
+     * @param camera The camera that the user will view the game from.
+     * @param cull   Whether to skip the GUI object if it is off screen.
+     * @return Whether rendering can continue, rather than having crashed the game.
+     */
+    private boolean renderGUIObject(UIElement guiObj, Graphics2D g, Camera camera, boolean cull) {
+        try {
+            Profiler profiler = Profiler.active();
+            if (!cull || isOnScreen(guiObj, camera, profiler)) {
+                if (profiler == null) {
+                    guiObj.renderAsGUIObject(g, camera);
+                } else {
+                    long renderStart = System.nanoTime();
+                    guiObj.renderAsGUIObject(g, camera);
+                    profiler.recordDrawable(guiObj.getClass(), System.nanoTime() - renderStart);
+                }
+                guiObj.markClean();
+            }
+        } catch (NullPointerException e) {
+            nullWarnCheck(guiObj, true, e);
+        } catch (Exception e) {
+            FastJEngine.error(CrashMessages.RENDER_ERROR.errorMessage + " | Origin: GUI Drawable " + guiObj.getID(), e);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Brings the cached UI overlay up to date with the specified GUI objects.
+     * <p>
+     * If the GUI objects or the transformation they are drawn with have changed, the whole overlay is redrawn.
+     * Otherwise, only the regions covered by dirty GUI objects -- both where they were, and where they are now -- are
+     * cleared, and the GUI objects overlapping those regions are drawn again.
+     *
+     * @param gui    The GUI objects to be rendered.
+     * @param camera The camera that the user will view the game from.
+     * @return Whether rendering can continue, rather than having crashed the game.
+     */
+    private boolean updateUIOverlay(Map<String, UIElement> gui, Camera camera) {
+        // gui objects are drawn at the inverse of the camera's translation, then through the camera's transformation
+        AffineTransform cameraTransform = camera.getTransformation(Scratch.get().transform());
+        nextUIOverlayTransform.setTransform(cameraTransform);
+        nextUIOverlayTransform.translate(-camera.getTranslation().x, -camera.getTranslation().y);
+
+        boolean resized = uiOverlay == null
+                || uiOverlay.getWidth() != internalResolution.x
+                || uiOverlay.getHeight() != internalResolution.y;
+        boolean redrawAll = resized
+                || !uiOverlayTransform.equals(nextUIOverlayTransform)
+                || !hasSameElements(uiOverlayElements, gui);
+
+        Rectangle damage = null;
+        if (redrawAll) {
+            if (resized) {
+                uiOverlay = createCompatibleImage(internalResolution.x, internalResolution.y, Transparency.TRANSLUCENT);
+            }
+
+            uiOverlayTransform.setTransform(nextUIOverlayTransform);
+            uiOverlayElements.clear();
+            uiOverlayElements.addAll(gui.values());
+            uiOverlayRegions.clear();
+            damage = new Rectangle(0, 0, uiOverlay.getWidth(), uiOverlay.getHeight());
+        } else {
+            for (UIElement guiObj : uiOverlayElements) {
+                if (!guiObj.isDirty()) {
+                    continue;
+                }
+
+                Rectangle region = overlayRegionOf(guiObj);
+                Rectangle lastRegion = uiOverlayRegions.get(guiObj);
+                if (lastRegion != null) {
+                    region = region.union(lastRegion);
+                }
+
+                damage = (damage == null) ? region : damage.union(region);
+            }
+        }
+
+        if (damage == null) {
+            return true;
+        }
+
+        Graphics2D overlayGraphics = uiOverlay.createGraphics();
+        try {
+            overlayGraphics.setRenderingHints(renderHints);
+            overlayGraphics.setClip(damage);
+            overlayGraphics.setComposite(AlphaComposite.Clear);
+            overlayGraphics.fill(damage);
+            overlayGraphics.setComposite(AlphaComposite.SrcOver);
+            overlayGraphics.transform(cameraTransform);
+
+            for (UIElement guiObj : uiOverlayElements) {
+                Rectangle lastRegion = uiOverlayRegions.get(guiObj);
+                if (lastRegion != null && !guiObj.isDirty() && !lastRegion.intersects(damage)) {
+                    continue;
+                }
+
+                // the overlay is kept across camera movements, which change what is on screen -- so nothing drawn to it
+                // is culled, and the overlay's clip leaves out whatever is outside of it instead
+                uiOverlayRegions.put(guiObj, overlayRegionOf(guiObj));
+                if (!renderGUIObject(guiObj, overlayGraphics, camera, false)) {
+                    return false;
+                }
+            }
+        } finally {
+            overlayGraphics.dispose();
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the region of the UI overlay covered by the specified GUI object.
+     * <p>
+     * The region is padded slightly, to account for outlines drawn around the GUI object's bounds.
+     *
+     * @param guiObj The GUI object to get the region of.
+     * @return The region of the overlay the GUI object is drawn to.
+     */
+    private Rectangle overlayRegionOf(UIElement guiObj) {
+        Rectangle region = uiOverlayTransform.createTransformedShape(DrawUtil.createRect(guiObj.getBounds())).getBounds();
+        region.grow(2, 2);
+        return region;
+    }
+
+    /**
+     * Checks whether the UI overlay was drawn with the same GUI objects, in the same order, as those specified.
+     *
+     * @param overlayElements The GUI objects the overlay was drawn with.
+     * @param gui             The GUI objects to be rendered.
+     * @return Whether the GUI objects are the same.
+     */
+    private static boolean hasSameElements(List<UIElement> overlayElements, Map<String, UIElement> gui) {
+        if (overlayElements.size() != gui.size()) {
+            return false;
+        }
+
+        int i = 0;
+        for (UIElement guiObj : gui.values()) {
+            if (overlayElements.get(i++) != guiObj) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Creates an image compatible with the {@code Display}'s canvas where possible.
+     *
+     * @param width        The width of the image.
+     * @param height       The height of the image.
+     * @param transparency The transparency of the image, as one of the {@link Transparency} constants.
+     * @return The new image.
+     */
+    private BufferedImage createCompatibleImage(int width, int height, int transparency) {
+        GraphicsConfiguration graphicsConfiguration = (drawingCanvas != null) ? drawingCanvas.getGraphicsConfiguration() : null;
+        if (graphicsConfiguration != null) {
+            return graphicsConfiguration.createCompatibleImage(width, height, transparency);
+        }
+
+        int imageType = (transparency == Transparency.OPAQUE) ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE;
+        return new BufferedImage(width, height, imageType);
+    }
+
     /**
      * If there is a null pointer in the render method, this checks to make sure everything else in the game engine is
      * in order before outputting a warning.
@@ -628,6 +1589,56 @@ public class Display {
         }
     }
 
+    /**
+     * Gets the tier of rendering quality the {@code Display} draws with.
+     *
+     * @return The {@code Display}'s {@link RenderQuality}.
+     */
+    public RenderQuality getRenderQuality() {
+        return renderQuality;
+    }
+
+    /**
+     * Sets the tier of rendering quality the {@code Display} draws with.
+     * <p>
+     * This replaces the rendering hints the tier controls, including any changed with {@link
+     * #modifyRenderSettings(RenderingHints.Key, Object)}.
+     *
+     * @param quality The new {@code RenderQuality}.
+     */
+    public void setRenderQuality(RenderQuality quality) {
+        renderQuality = quality;
+        renderQuality.applyTo(renderHints);
+
+        // the kept scene image was drawn with the old hints
+        sceneImage = null;
+    }
+
+    /**
+     * Gets the governor which steps the {@code Display}'s rendering quality down when frames take too long to render.
+     *
+     * @return The {@code Display}'s {@code RenderQualityGovernor}, or {@code null} if it has none.
+     */
+    public RenderQualityGovernor getRenderQualityGovernor() {
+        return renderQualityGovernor;
+    }
+
+    /**
+     * Sets the governor which steps the {@code Display}'s rendering quality down when frames take too long to render,
+     * and back up when they render comfortably within budget.
+     * <p>
+     * The {@code Display} switches to the governor's current tier straight away.
+     *
+     * @param governor The new {@code RenderQualityGovernor}, or {@code null} to keep the current quality.
+     */
+    public void setRenderQualityGovernor(RenderQualityGovernor governor) {
+        renderQualityGovernor = governor;
+        if (renderQualityGovernor != null) {
+            renderQualityGovernor.reset();
+            setRenderQuality(renderQualityGovernor.getQuality());
+        }
+    }
+
     /**
      * Changes the rendering settings for the specified key.
      * <p>
@@ -650,11 +1661,42 @@ public class Display {
      * @return A boolean that represents whether the polygon is visible on screen.
      */
     public boolean isOnScreen(Drawable drawable, Camera camera) {
-        Rectangle2D.Float drawableBounds = DrawUtil.createRect(drawable.getBounds());
-        drawableBounds.x += camera.getTranslation().x;
-        drawableBounds.y += camera.getTranslation().y;
+        Pointf[] bounds = drawable.getBounds();
+
+        Scratch scratch = Scratch.get();
+        int mark = scratch.mark();
+        try {
+            Rectangle2D.Float drawableBounds = scratch.rect(
+                    bounds[0].x + camera.getTranslation().x,
+                    bounds[0].y + camera.getTranslation().y,
+                    bounds[1].x - bounds[0].x,
+                    bounds[3].y - bounds[0].y
+            );
 
-        return drawableBounds.intersects(background);
+            return drawableBounds.intersects(background);
+        } finally {
+            scratch.release(mark);
+        }
+    }
+
+    /**
+     * Checks whether the specified {@code Drawable} is visible on screen, counting the check with the specified
+     * profiler.
+     *
+     * @param drawable The {@code Drawable} to check.
+     * @param camera   The {@code Camera} to check the drawable with.
+     * @param profiler The active {@code Profiler}, or {@code null} if none is active.
+     * @return Whether the drawable is visible on screen.
+     */
+    private boolean isOnScreen(Drawable drawable, Camera camera, Profiler profiler) {
+        if (profiler == null) {
+            return isOnScreen(drawable, camera);
+        }
+
+        long cullStart = System.nanoTime();
+        boolean onScreen = isOnScreen(drawable, camera);
+        profiler.recordCulling(onScreen, System.nanoTime() - cullStart);
+        return onScreen;
     }
 
     /**
@@ -665,6 +1707,7 @@ public class Display {
      */
     public void init() {
         if (!isReady) {
+            owner = EngineContext.current();
             initDisplay();
             resizeDisplay(viewerResolution);
             setRenderHints();
@@ -692,7 +1735,9 @@ public class Display {
     /** Closes and disposes of the {@code Display}. */
     public void close() {
         isClosed = true;
-        outputDisplay.dispose();
+        if (outputDisplay != null) {
+            outputDisplay.dispose();
+        }
     }
 
     /** Initializes the display, and all of its components. */
@@ -708,7 +1753,7 @@ public class Display {
         outputDisplay.setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
         outputDisplay.addWindowListener(new WindowAdapter() {
             public void windowClosing(WindowEvent displayEvent) {
-                FastJEngine.closeGame();
+                runAsOwner(FastJEngine::closeGame);
             }
         });
 
@@ -722,8 +1767,15 @@ public class Display {
             }
         });
 
-        // Canvas
-        drawingCanvas = new Canvas();
+        // Canvas -- its input listeners are called as the owning context
+        drawingCanvas = new Canvas() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void processEvent(AWTEvent e) {
+                runAsOwner(() -> super.processEvent(e));
+            }
+        };
         drawingCanvas.setPreferredSize(new Dimension(viewerResolution.x, viewerResolution.y));
         drawingCanvas.setFocusable(true);
 
@@ -736,33 +1788,38 @@ public class Display {
         outputDisplay.pack();
         outputDisplay.setLocationRelativeTo(null);
 
-        drawingCanvas.createBufferStrategy(Display.DefaultBackBufferAmount);
-
-        // set background rectangle
-        background = new Rectangle2D.Float(0f, 0f, internalResolution.x, internalResolution.y);
+        negotiateBufferStrategy();
     }
 
-    /** Sets the default state of the rendering hints for the {@code Display}. */
-    private void setRenderHints() {
-        renderHints.clear();
-
-        // All
-        renderHints.put(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
-
-        // Shapes
-        renderHints.put(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_DEFAULT);
+    /**
+     * Runs the specified callback as the {@code Display}'s {@link #getOwner() owning context}, if it has one.
+     *
+     * @param callback The callback to run.
+     */
+    private void runAsOwner(Runnable callback) {
+        if (owner != null) {
+            owner.asCurrent(callback);
+        } else {
+            callback.run();
+        }
+    }
 
-        // Colors
-        renderHints.put(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED);
-        renderHints.put(RenderingHints.KEY_COLOR_RENDERING, RenderingHints.VALUE_COLOR_RENDER_SPEED);
-        renderHints.put(RenderingHints.KEY_DITHERING, RenderingHints.VALUE_DITHER_DISABLE);
+    /** Chooses a buffer strategy for the canvas, replacing its current one, and reports the choice. */
+    private void negotiateBufferStrategy() {
+        BufferStrategy oldBufferStrategy = drawingCanvas.getBufferStrategy();
+        if (oldBufferStrategy != null) {
+            oldBufferStrategy.dispose();
+        }
 
-        // Images
-        renderHints.put(RenderingHints.KEY_ALPHA_INTERPOLATION, RenderingHints.VALUE_ALPHA_INTERPOLATION_SPEED);
+        bufferNegotiation = BufferNegotiation.negotiate(drawingCanvas, backBufferAmount, isFullscreen);
+        isBufferStrategyOutdated = false;
+        FastJEngine.log("Display buffer strategy: " + bufferNegotiation);
+    }
 
-        // Text
-        renderHints.put(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_ON);
-        renderHints.put(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_DEFAULT);
+    /** Sets the default state of the rendering hints for the {@code Display}, from its {@link RenderQuality}. */
+    private void setRenderHints() {
+        renderHints.clear();
+        renderQuality.applyTo(renderHints);
     }
 
     /**
@@ -776,10 +1833,26 @@ public class Display {
      * @return A prepared version of the original {@code Graphics2D} object.
      */
     private Graphics2D prepareGraphics(Graphics2D g, Camera camera) {
-        g.setRenderingHints(renderHints);
-        g.scale(getResolutionScale().x, getResolutionScale().y);
-        g.transform(camera.getTransformation());
+        Scratch scratch = Scratch.get();
+        int mark = scratch.mark();
+        try {
+            Pointf resolutionScale = getResolutionScale(scratch.point());
+
+            g.setRenderingHints(renderHints);
+            g.scale(resolutionScale.x, resolutionScale.y);
+            g.transform(camera.getTransformation(scratch.transform()));
+        } finally {
+            scratch.release(mark);
+        }
 
         return g;
     }
+
+    /** The state of a game object as of the last frame, used to find the regions of the screen that have changed. */
+    private static class DamageRecord {
+        private final Rectangle2D.Float screenBounds = new Rectangle2D.Float();
+        private int appearanceVersion;
+        private boolean shown;
+        private int frame;
+    }
 }
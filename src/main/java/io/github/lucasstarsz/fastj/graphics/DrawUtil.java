@@ -5,7 +5,9 @@ import io.github.lucasstarsz.fastj.engine.FastJEngine;
 import io.github.lucasstarsz.fastj.math.Maths;
 import io.github.lucasstarsz.fastj.math.Pointf;
 import io.github.lucasstarsz.fastj.graphics.game.Model2D;
+import io.github.lucasstarsz.fastj.graphics.game.ModelGeometry;
 import io.github.lucasstarsz.fastj.graphics.game.Polygon2D;
+import io.github.lucasstarsz.fastj.systems.profiling.events.ModelLoadEvent;
 
 import java.awt.Color;
 import java.awt.Font;
@@ -17,10 +19,14 @@ import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jdk.jfr.FlightRecorder;
 
 /**
  * Class that provides supplementary methods for working with {@link Drawable}s.
@@ -35,6 +41,8 @@ public final class DrawUtil {
     private static final String PsdfReadErrorMessage = CrashMessages.theGameCrashed("a .psdf file reading error.");
     private static final String PsdfWriteErrorMessage = CrashMessages.theGameCrashed("a .psdf file reading error.");
 
+    private static final Map<String, ModelGeometry> ModelGeometryCache = new ConcurrentHashMap<>();
+
     /**
      * Gets a {@code Polygon2D} array, loaded from a {@code .psdf} file.
      * <p>
@@ -57,7 +65,52 @@ public final class DrawUtil {
             );
         }
 
-        return parseModelFile(fileLocation);
+        ModelLoadEvent loadEvent = null;
+        if (FlightRecorder.isInitialized()) {
+            loadEvent = new ModelLoadEvent();
+            loadEvent.begin();
+        }
+
+        Polygon2D[] result = parseModelFile(fileLocation);
+        if (result != null) {
+            Hulls.readHullFile(fileLocation, result);
+        }
+
+        if (loadEvent != null) {
+            loadEvent.end();
+            if (loadEvent.shouldCommit()) {
+                loadEvent.describeCurrentGame();
+                loadEvent.fileLocation = fileLocation;
+                loadEvent.polygons = (result != null) ? result.length : 0;
+                loadEvent.commit();
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets a {@code ModelGeometry}, loaded from a {@code .psdf} file.
+     * <p>
+     * Each file is only loaded once -- every later call with the same file location returns the same, shared {@code
+     * ModelGeometry}. This allows any amount of {@code InstancedModel2D}s to be created from a single model file,
+     * without each one holding its own copy of the model's polygons.
+     *
+     * @param fileLocation Location of the file.
+     * @return The shared {@code ModelGeometry} for the file.
+     */
+    public static ModelGeometry loadModelGeometry(String fileLocation) {
+        String key = Paths.get(fileLocation).toAbsolutePath().normalize().toString();
+        return ModelGeometryCache.computeIfAbsent(key, location -> new ModelGeometry(load2DModel(fileLocation)));
+    }
+
+    /**
+     * Clears the cache of {@code ModelGeometry}s loaded through {@link #loadModelGeometry(String)}.
+     * <p>
+     * Instances that already use a cached geometry are unaffected, but the next load of each file will read it again.
+     */
+    public static void clearModelGeometryCache() {
+        ModelGeometryCache.clear();
     }
 
     /**
@@ -135,125 +188,84 @@ public final class DrawUtil {
      */
     public static void writeToPSDF(String destPath, Model2D model) {
         try {
-            String sep = System.lineSeparator();
-            StringBuilder fileContents = new StringBuilder();
-
-            // write object count
-            fileContents.append("amt ").append(model.getPolygons().length).append(sep);
-
-            for (int i = 0; i < model.getPolygons().length; i++) {
-                Polygon2D obj = model.getPolygons()[i];
-                Color c = obj.getColor();
-
-                // Write obj color, fill, show
-                fileContents.append("c ").append(c.getRed()).append(' ').append(c.getGreen()).append(' ').append(c.getBlue()).append(' ').append(c.getAlpha())
-                        .append(sep)
-                        .append("f ").append(obj.isFilled())
-                        .append(sep)
-                        .append("s ").append(obj.shouldRender())
-                        .append(sep);
-
-                // Write each point in object
-                for (int j = 0; j < obj.getPoints().length; j++) {
-                    Pointf pt = obj.getPoints()[j];
-                    fileContents.append("p ")
-                            .append((int) pt.x == pt.x ? Integer.toString((int) pt.x) : pt.x)
-                            .append(' ')
-                            .append((int) pt.y == pt.y ? Integer.toString((int) pt.y) : pt.y)
-                            .append(j == obj.getPoints().length - 1 ? " ;" : "")
-                            .append(sep);
-                }
-
-                // if there are more objects after this object, then add a new line.
-                if (i != model.getPolygons().length - 1) fileContents.append(sep);
-            }
-
-            Files.writeString(Paths.get(destPath), fileContents, StandardCharsets.UTF_8);
+            writeToPSDF(Paths.get(destPath), model);
         } catch (IOException e) {
             FastJEngine.error(PsdfWriteErrorMessage, e);
         }
     }
 
     /**
-     * Creates a {@code Pointf} array representing an outline of the specified {@code Polygon2D} array.
+     * Writes a {@code .psdf} file containing the current state of the {@code Polygon2D}s that make up the specified
+     * {@code Model2D}, throwing any error that occurs instead of crashing the game.
      * <p>
-     * <b>NOTE:</b> This method likely will not provide a completely accurate outline of the array
-     * of {@code Polygon2D} objects.
+     * Unlike {@link #writeToPSDF(String, Model2D)}, this can be used off of the game thread -- such as by a {@code
+     * ChunkStore} saving chunks on a loader thread -- leaving it up to the caller to report the error.
      *
-     * @param polyList The Array of {@code Polygon2D}s that will be used to create the outline of {@code Pointf}s.
-     * @return A {@code Pointf} array that makes up the outline of the specified {@code Polygon2D} array.
+     * @param destPath The destination path of the {@code .psdf} file that will be written.
+     * @param model    The {@code Model2D} that will be written to the file.
+     * @throws IOException if the file could not be written.
      */
-    public static Pointf[] createCollisionOutline(Polygon2D[] polyList) {
-        List<Pointf> polyListPoints = new ArrayList<>();
-        for (Polygon2D obj : polyList) {
-            polyListPoints.addAll(Arrays.asList(obj.getPoints()));
-        }
-
-        for (int i = (polyListPoints.size() - 1); i > -1; i--) {
-            int intersectionCount = 0;
-            // if a point intersects with more than one polygon, then it is an inner point and should be removed
-            for (Polygon2D polygon : polyList) {
-                if (Path2D.Float.intersects(polygon.collisionPath.getPathIterator(null), polyListPoints.get(i).x - 1f, polyListPoints.get(i).y - 1f, 2f, 2f)) {
-                    intersectionCount++;
-                    if (intersectionCount == 2) {
-                        polyListPoints.remove(i);
-                        break;
-                    }
-                }
-            }
-        }
-
-        Pointf[] unshiftedResult = polyListPoints.toArray(new Pointf[0]);
-        Pointf center = centerOf(unshiftedResult);
-        Arrays.sort(unshiftedResult, (a, b) -> {
-            // thank goodness for stackoverflow...
-            if (a.x - center.x >= 0 && b.x - center.x < 0)
-                return 1;
-            if (a.x - center.x < 0 && b.x - center.x >= 0)
-                return -1;
-            if (a.x - center.x == 0 && b.x - center.x == 0) {
-                if (a.y - center.y >= 0 || b.y - center.y >= 0)
-                    return (a.y > b.y) ? 1 : -1;
-                return (b.y > a.y) ? 1 : -1;
-            }
-
-            // compute the cross product of vectors (center -> a) x (center -> b)
-            float det = (a.x - center.x) * (b.y - center.y) - (b.x - center.x) * (a.y - center.y);
-            if (det < 0f)
-                return 1;
-            if (det > 0f)
-                return -1;
-
-            // points a and b are on the same line from the center
-            // check which point is closer to the center
-            float d1 = (a.x - center.x) * (a.x - center.x) + (a.y - center.y) * (a.y - center.y);
-            float d2 = (b.x - center.x) * (b.x - center.x) + (b.y - center.y) * (b.y - center.y);
-            return (d1 > d2) ? 1 : -1;
-        });
-
-        /* Now, we just need to shift the array values to match the original order. */
-
-        // calculate amount to shift
-        int shiftAmount = 0;
-        for (int i = 0; i < unshiftedResult.length; i++) {
-            if (unshiftedResult[i].equals(polyListPoints.get(0))) {
-                shiftAmount = i;
-                break;
+    public static void writeToPSDF(Path destPath, Model2D model) throws IOException {
+        String sep = System.lineSeparator();
+        StringBuilder fileContents = new StringBuilder();
+
+        // write object count
+        fileContents.append("amt ").append(model.getPolygons().length).append(sep);
+
+        for (int i = 0; i < model.getPolygons().length; i++) {
+            Polygon2D obj = model.getPolygons()[i];
+            Color c = obj.getColor();
+
+            // Write obj color, fill, show
+            fileContents.append("c ").append(c.getRed()).append(' ').append(c.getGreen()).append(' ').append(c.getBlue()).append(' ').append(c.getAlpha())
+                    .append(sep)
+                    .append("f ").append(obj.isFilled())
+                    .append(sep)
+                    .append("s ").append(obj.shouldRender())
+                    .append(sep);
+
+            // Write each point in object, as it currently appears in the world
+            Pointf[] points = pointsOfPath(new Path2D.Float(obj.getRenderPath(), model.getWorldTransform()));
+            for (int j = 0; j < points.length; j++) {
+                Pointf pt = points[j];
+                fileContents.append("p ")
+                        .append((int) pt.x == pt.x ? Integer.toString((int) pt.x) : pt.x)
+                        .append(' ')
+                        .append((int) pt.y == pt.y ? Integer.toString((int) pt.y) : pt.y)
+                        .append(j == points.length - 1 ? " ;" : "")
+                        .append(sep);
             }
-        }
 
-        // in case shifting isn't needed
-        if (shiftAmount == 0) {
-            return unshiftedResult;
+            // if there are more objects after this object, then add a new line.
+            if (i != model.getPolygons().length - 1) fileContents.append(sep);
         }
 
-        // do some shifting
-        Pointf[] shiftedResult = new Pointf[unshiftedResult.length];
+        Files.writeString(destPath, fileContents, StandardCharsets.UTF_8);
+    }
 
-        System.arraycopy(unshiftedResult, shiftAmount, shiftedResult, 0, shiftedResult.length - shiftAmount);
-        System.arraycopy(unshiftedResult, 0, shiftedResult, shiftedResult.length - shiftAmount, shiftAmount);
+    /**
+     * Creates a {@code Pointf} array representing an outline of the specified {@code Polygon2D} array.
+     * <p>
+     * The outline is generated using the {@link Hulls#getDefaultMode() default hull mode}, and is cached -- creating
+     * outlines for identical polygons again reuses the outline generated the first time.
+     *
+     * @param polyList The Array of {@code Polygon2D}s that will be used to create the outline of {@code Pointf}s.
+     * @return A {@code Pointf} array that makes up the outline of the specified {@code Polygon2D} array.
+     */
+    public static Pointf[] createCollisionOutline(Polygon2D[] polyList) {
+        return Hulls.outlineOf(polyList);
+    }
 
-        return shiftedResult;
+    /**
+     * Creates a {@code Pointf} array representing an outline of the specified {@code Polygon2D} array, using the
+     * specified {@code HullMode}.
+     *
+     * @param polyList The Array of {@code Polygon2D}s that will be used to create the outline of {@code Pointf}s.
+     * @param mode     The {@code HullMode} used to generate the outline.
+     * @return A {@code Pointf} array that makes up the outline of the specified {@code Polygon2D} array.
+     */
+    public static Pointf[] createCollisionOutline(Polygon2D[] polyList, HullMode mode) {
+        return Hulls.outlineOf(polyList, mode);
     }
 
     /**
@@ -539,9 +551,20 @@ public final class DrawUtil {
      * @return The center of the array.
      */
     public static Pointf centerOf(Pointf[] points) {
-        Pointf result = new Pointf();
-        for (Pointf p : points) result.add(p);
-        return result.divide(points.length);
+        return centerOf(points, new Pointf());
+    }
+
+    /**
+     * Gets the center point of the specified {@code Pointf} array, storing it in the specified {@code Pointf}.
+     *
+     * @param points The {@code Pointf} array to find the center point of.
+     * @param dest   The {@code Pointf} to store the center point in.
+     * @return The {@code dest} point, for convenience.
+     */
+    public static Pointf centerOf(Pointf[] points, Pointf dest) {
+        dest.reset();
+        for (Pointf p : points) dest.add(p);
+        return dest.divide(points.length);
     }
 
     /**
@@ -124,7 +124,7 @@ public abstract class Drawable extends TaggableEntity {
      * @return The bound that corresponds with the specified {@code Boundary}.
      */
     public Pointf getBound(Boundary boundary) {
-        return boundaries[boundary.location];
+        return getBounds()[boundary.location];
     }
 
     /**
@@ -133,7 +133,7 @@ public abstract class Drawable extends TaggableEntity {
      * @return The center point, as a {@code Pointf}.
      */
     public Pointf getCenter() {
-        return DrawUtil.centerOf(boundaries);
+        return DrawUtil.centerOf(getBounds());
     }
 
     /**
@@ -166,7 +166,7 @@ public abstract class Drawable extends TaggableEntity {
         Area otherObject, thisObject;
 
         try {
-            otherObject = new Area(obj.collisionPath);
+            otherObject = new Area(obj.getCollisionPath());
         } catch (NullPointerException e) {
             if (!FastJEngine.getLogicManager().isSwitchingScenes()) {
                 FastJEngine.error(CollisionErrorMessage, new NullPointerException("Collision path for Drawable with id: " + obj.id + " is null"));
@@ -175,7 +175,7 @@ public abstract class Drawable extends TaggableEntity {
         }
 
         try {
-            thisObject = new Area(collisionPath);
+            thisObject = new Area(getCollisionPath());
         } catch (NullPointerException e) {
             if (!FastJEngine.getLogicManager().isSwitchingScenes()) {
                 FastJEngine.error(CollisionErrorMessage, new NullPointerException("Collision path for Drawable with id: " + id + " is null"));
@@ -0,0 +1,222 @@
+package io.github.lucasstarsz.fastj.graphics;
+
+import io.github.lucasstarsz.fastj.engine.CrashMessages;
+import io.github.lucasstarsz.fastj.engine.FastJEngine;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base class for governors which trade rendering quality for speed, based on how long frames take to render.
+ * <p>
+ * Each frame's render time is passed to {@link #update(long)}, which keeps a smoothed average of it. When the average
+ * goes over the upper threshold of the frame budget, the governor {@link #stepDown() steps down} to render faster. When
+ * it drops under the lower threshold, the governor {@link #stepUp() steps up} to render better. The gap between the two
+ * thresholds, along with a cooldown of frames after each step, keeps the governor from stepping back and forth.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public abstract class FrameTimeGovernor {
+
+    /** The default weight of each new frame time in the smoothed average: {@code 0.1}. */
+    public static final float DefaultSmoothing = 0.1f;
+    /** The default fraction of the frame budget under which the governor steps up: {@code 0.75}. */
+    public static final float DefaultLowerThreshold = 0.75f;
+    /** The default fraction of the frame budget over which the governor steps down: {@code 0.95}. */
+    public static final float DefaultUpperThreshold = 0.95f;
+    /** The default amount of frames the governor waits after each step before stepping again: {@code 30}. */
+    public static final int DefaultCooldownFrames = 30;
+
+    private long frameBudget;
+    private float smoothing;
+    private float lowerThreshold;
+    private float upperThreshold;
+    private int cooldownFrames;
+
+    private float averageFrameTime;
+    private boolean hasFrameTime;
+    private int framesSinceStep;
+    private int stepCount;
+
+    /**
+     * Initializes a governor which aims to render each frame within the time given by the specified frame rate.
+     *
+     * @param targetFPS The frame rate to aim for.
+     */
+    protected FrameTimeGovernor(int targetFPS) {
+        setTargetFPS(targetFPS);
+        smoothing = DefaultSmoothing;
+        lowerThreshold = DefaultLowerThreshold;
+        upperThreshold = DefaultUpperThreshold;
+        cooldownFrames = DefaultCooldownFrames;
+    }
+
+    /**
+     * Gets the time the governor aims to render each frame within.
+     *
+     * @return The frame budget, in nanoseconds.
+     */
+    public long getFrameBudget() {
+        return frameBudget;
+    }
+
+    /**
+     * Sets the frame rate the governor aims for.
+     *
+     * @param targetFPS The frame rate to aim for.
+     */
+    public void setTargetFPS(int targetFPS) {
+        if (targetFPS < 1) {
+            FastJEngine.error(CrashMessages.illegalAction(getClass()), new IllegalArgumentException("The target FPS must be at least 1."));
+        }
+
+        frameBudget = TimeUnit.SECONDS.toNanos(1L) / targetFPS;
+    }
+
+    /**
+     * Sets the weight of each new frame time in the smoothed average.
+     * <p>
+     * Higher values react to changes in render time faster, but also to single slow frames.
+     *
+     * @param newSmoothing The weight of each new frame time, from {@code 0} (exclusive) to {@code 1} (inclusive).
+     */
+    public void setSmoothing(float newSmoothing) {
+        if (newSmoothing <= 0f || newSmoothing > 1f) {
+            FastJEngine.error(CrashMessages.illegalAction(getClass()), new IllegalArgumentException("The smoothing must be above 0, and at most 1."));
+        }
+
+        smoothing = newSmoothing;
+    }
+
+    /**
+     * Gets the fraction of the frame budget under which the governor steps up.
+     *
+     * @return The lower threshold.
+     */
+    public float getLowerThreshold() {
+        return lowerThreshold;
+    }
+
+    /**
+     * Gets the fraction of the frame budget over which the governor steps down.
+     *
+     * @return The upper threshold.
+     */
+    public float getUpperThreshold() {
+        return upperThreshold;
+    }
+
+    /**
+     * Sets the fractions of the frame budget under which the governor steps up, and over which it steps down.
+     *
+     * @param lower The fraction of the frame budget under which the governor steps up.
+     * @param upper The fraction of the frame budget over which the governor steps down.
+     */
+    public void setThresholds(float lower, float upper) {
+        if (lower <= 0f || lower >= upper) {
+            FastJEngine.error(CrashMessages.illegalAction(getClass()), new IllegalArgumentException("The lower threshold must be above 0, and less than the upper threshold."));
+        }
+
+        lowerThreshold = lower;
+        upperThreshold = upper;
+    }
+
+    /**
+     * Gets the amount of frames the governor waits after each step before stepping again.
+     *
+     * @return The amount of cooldown frames.
+     */
+    public int getCooldownFrames() {
+        return cooldownFrames;
+    }
+
+    /**
+     * Sets the amount of frames the governor waits after each step before stepping again.
+     *
+     * @param frames The amount of cooldown frames.
+     */
+    public void setCooldownFrames(int frames) {
+        cooldownFrames = Math.max(frames, 0);
+    }
+
+    /**
+     * Gets the smoothed average of the frame times passed to the governor.
+     *
+     * @return The average frame time, in nanoseconds.
+     */
+    public float getAverageFrameTime() {
+        return averageFrameTime;
+    }
+
+    /**
+     * Gets the amount of times the governor has stepped up or down.
+     *
+     * @return The amount of steps.
+     */
+    public int getStepCount() {
+        return stepCount;
+    }
+
+    /**
+     * Adds the render time of a frame to the smoothed average, and steps up or down if it is outside the thresholds.
+     *
+     * @param frameTime The time the frame took to render, in nanoseconds.
+     * @return Whether the governor stepped up or down.
+     */
+    public boolean update(long frameTime) {
+        averageFrameTime = hasFrameTime ? averageFrameTime + (frameTime - averageFrameTime) * smoothing : frameTime;
+        hasFrameTime = true;
+
+        if (++framesSinceStep < cooldownFrames) {
+            return false;
+        }
+
+        boolean stepped = false;
+        if (averageFrameTime > frameBudget * upperThreshold) {
+            stepped = stepDown();
+        } else if (averageFrameTime < frameBudget * lowerThreshold) {
+            stepped = stepUp();
+        }
+
+        if (stepped) {
+            framesSinceStep = 0;
+            stepCount++;
+        }
+        return stepped;
+    }
+
+    /**
+     * Adds the render time of a frame to the smoothed average, leaving out the time spent presenting it.
+     * <p>
+     * Showing a frame may block until the screen's next vertical sync, which says nothing about how long the frame took
+     * to draw -- counting it would push every frame close to the frame budget, and step the governor all the way down.
+     *
+     * @param frameTime   The time the frame took to render and present, in nanoseconds.
+     * @param presentTime The part of the frame time spent presenting the frame, in nanoseconds.
+     * @return Whether the governor stepped up or down.
+     */
+    public boolean update(long frameTime, long presentTime) {
+        return update(Math.max(frameTime - presentTime, 0L));
+    }
+
+    /** Clears the smoothed average and cooldown, so that the governor starts measuring again. */
+    public void reset() {
+        averageFrameTime = 0f;
+        hasFrameTime = false;
+        framesSinceStep = 0;
+    }
+
+    /**
+     * Lowers rendering quality, so that frames render faster.
+     *
+     * @return Whether quality was lowered, rather than already being at its lowest.
+     */
+    protected abstract boolean stepDown();
+
+    /**
+     * Raises rendering quality, as frames are rendering well within their budget.
+     *
+     * @return Whether quality was raised, rather than already being at its highest.
+     */
+    protected abstract boolean stepUp();
+}
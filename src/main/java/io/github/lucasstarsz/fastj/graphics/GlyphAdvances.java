@@ -0,0 +1,138 @@
+package io.github.lucasstarsz.fastj.graphics;
+
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineMetrics;
+import java.util.Arrays;
+
+/**
+ * A table of the advance width of each character in a specific font, for measuring text without laying it out.
+ * <p>
+ * Advances are measured the first time each character is needed, and stored for later use. Measuring text through a
+ * {@code GlyphAdvances} does not allocate memory once its characters have been measured, which makes it suitable for
+ * text that changes every frame, such as a {@link TextBuffer}. It does not account for kerning or ligatures.
+ * <p>
+ * If the font is monospaced, the width of text only depends on its length, and is computed without looking at its
+ * characters at all.
+ * <p>
+ * {@code GlyphAdvances} are shared -- get them through {@link GlyphLayouts#advancesOf(Font)}.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public final class GlyphAdvances {
+
+    private static final int TableSize = 256;
+    private static final char[] MonospaceSamples = {'i', 'm', 'W', '.', '0', ' '};
+
+    private final Font font;
+    private final FontRenderContext renderContext;
+    private final float[] advances;
+
+    private final boolean monospaced;
+    private final float lineHeight;
+    private final float ascent;
+
+    GlyphAdvances(Font font, FontRenderContext renderContext) {
+        this.font = font;
+        this.renderContext = renderContext;
+
+        advances = new float[TableSize];
+        Arrays.fill(advances, Float.NaN);
+
+        boolean sameAdvances = true;
+        float sampleAdvance = advanceOf(MonospaceSamples[0]);
+        for (int i = 1; i < MonospaceSamples.length; i++) {
+            sameAdvances &= (advanceOf(MonospaceSamples[i]) == sampleAdvance);
+        }
+        monospaced = sameAdvances;
+
+        LineMetrics lineMetrics = font.getLineMetrics(" ", renderContext);
+        lineHeight = lineMetrics.getHeight();
+        ascent = lineMetrics.getAscent();
+    }
+
+    /**
+     * Gets the font the advances are measured in.
+     *
+     * @return The {@code Font}.
+     */
+    public Font getFont() {
+        return font;
+    }
+
+    /**
+     * Gets whether the font is monospaced, meaning every character has the same advance.
+     *
+     * @return Whether the font is monospaced.
+     */
+    public boolean isMonospaced() {
+        return monospaced;
+    }
+
+    /**
+     * Gets the line height of the font -- its ascent, descent, and leading combined.
+     *
+     * @return The font's line height.
+     */
+    public float getLineHeight() {
+        return lineHeight;
+    }
+
+    /**
+     * Gets the ascent of the font, from its baseline.
+     *
+     * @return The font's ascent.
+     */
+    public float getAscent() {
+        return ascent;
+    }
+
+    /**
+     * Gets the advance width of the specified character.
+     *
+     * @param character The character to measure.
+     * @return The character's advance.
+     */
+    public float advanceOf(char character) {
+        if (character < TableSize) {
+            float advance = advances[character];
+            if (Float.isNaN(advance)) {
+                advance = measure(character);
+                advances[character] = advance;
+            }
+            return advance;
+        }
+
+        return measure(character);
+    }
+
+    /**
+     * Gets the width of the specified text.
+     *
+     * @param text The text to measure.
+     * @return The text's width.
+     */
+    public float widthOf(CharSequence text) {
+        int length = text.length();
+        if (monospaced) {
+            return length * advanceOf(' ');
+        }
+
+        float width = 0f;
+        for (int i = 0; i < length; i++) {
+            width += advanceOf(text.charAt(i));
+        }
+        return width;
+    }
+
+    /**
+     * Measures the advance width of the specified character.
+     *
+     * @param character The character to measure.
+     * @return The character's advance.
+     */
+    private float measure(char character) {
+        return (float) font.getStringBounds(new char[]{character}, 0, 1, renderContext).getWidth();
+    }
+}
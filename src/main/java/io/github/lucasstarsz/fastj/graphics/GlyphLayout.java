@@ -0,0 +1,121 @@
+package io.github.lucasstarsz.fastj.graphics;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.font.LineMetrics;
+
+/**
+ * The measured, laid-out form of a string of text in a specific font.
+ * <p>
+ * A {@code GlyphLayout} holds a reusable {@link GlyphVector} for its text, alongside the text's measurements. Drawing
+ * it skips laying out the text's glyphs again, unlike {@link Graphics2D#drawString(String, float, float)}.
+ * <p>
+ * The text is measured for {@link GlyphLayouts#DefaultRenderContext}, and drawn with the text antialiasing of the
+ * {@code Graphics2D} it is drawn to -- when that differs from the layout's own, the glyphs are laid out once more for
+ * {@link GlyphLayouts#renderContextFor(Graphics2D) the matching context}, and kept for later draws.
+ * <p>
+ * {@code GlyphLayout}s are immutable and shared -- get them through {@link GlyphLayouts#layoutOf(Font, String)}.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public final class GlyphLayout {
+
+    private final Font font;
+    private final String text;
+    private final GlyphVector glyphVector;
+    private volatile GlyphVector otherGlyphVector;
+
+    private final float width;
+    private final float height;
+    private final float ascent;
+
+    GlyphLayout(Font font, String text, GlyphVector glyphVector, LineMetrics lineMetrics) {
+        this.font = font;
+        this.text = text;
+        this.glyphVector = glyphVector;
+
+        width = (float) glyphVector.getLogicalBounds().getWidth();
+        height = lineMetrics.getHeight();
+        ascent = lineMetrics.getAscent();
+    }
+
+    /**
+     * Gets the font the text was laid out with.
+     *
+     * @return The layout's {@code Font}.
+     */
+    public Font getFont() {
+        return font;
+    }
+
+    /**
+     * Gets the text that was laid out.
+     *
+     * @return The layout's text.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Gets the advance width of the text.
+     *
+     * @return The width of the text.
+     */
+    public float getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the line height of the text -- its ascent, descent, and leading combined.
+     *
+     * @return The height of the text.
+     */
+    public float getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the ascent of the text, from its baseline.
+     *
+     * @return The ascent of the text.
+     */
+    public float getAscent() {
+        return ascent;
+    }
+
+    /**
+     * Draws the text to the specified {@code Graphics2D}, with its baseline starting at the specified location.
+     * <p>
+     * This uses the {@code Graphics2D}'s current paint.
+     *
+     * @param g The {@code Graphics2D} to draw to.
+     * @param x The x location of the start of the text's baseline.
+     * @param y The y location of the text's baseline.
+     */
+    public void draw(Graphics2D g, float x, float y) {
+        g.drawGlyphVector(glyphsFor(GlyphLayouts.renderContextFor(g)), x, y);
+    }
+
+    /**
+     * Gets the text's glyphs, laid out for the specified render context.
+     *
+     * @param renderContext The render context to get the glyphs for.
+     * @return The text's {@code GlyphVector} for the render context.
+     */
+    private GlyphVector glyphsFor(FontRenderContext renderContext) {
+        if (renderContext.equals(glyphVector.getFontRenderContext())) {
+            return glyphVector;
+        }
+
+        GlyphVector otherGlyphs = otherGlyphVector;
+        if (otherGlyphs == null || !renderContext.equals(otherGlyphs.getFontRenderContext())) {
+            otherGlyphs = GlyphLayouts.layoutOf(font, text, renderContext).glyphVector;
+            otherGlyphVector = otherGlyphs;
+        }
+        return otherGlyphs;
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.lucasstarsz.fastj.graphics;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class that lays out, measures, and caches text for {@link io.github.lucasstarsz.fastj.graphics.game.Text2D} and the
+ * engine's UI elements.
+ * <p>
+ * Layouts are cached by their font, text, and {@link FontRenderContext}, so text that is shown many times -- or
+ * changed back and forth between a few values -- is only measured once. Measuring does not depend on the {@link
+ * Display}, so text can be created before the engine runs, off the game thread, or in a headless environment.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public final class GlyphLayouts {
+
+    /**
+     * The {@link FontRenderContext} used to lay out text, matching the text rendering hints of the {@link Display}:
+     * no text antialiasing, with fractional metrics.
+     */
+    public static final FontRenderContext DefaultRenderContext = new FontRenderContext(null, false, true);
+
+    /**
+     * The {@link FontRenderContext} used to draw text where text antialiasing is turned on, such as at the {@link
+     * RenderQuality#HIGH} and {@link RenderQuality#ULTRA} render qualities: text antialiasing, with fractional metrics.
+     */
+    public static final FontRenderContext AntialiasedRenderContext = new FontRenderContext(null, true, true);
+
+    /** The maximum amount of layouts kept in the cache, before the least recently used are discarded. */
+    public static final int MaxCachedLayouts = 2048;
+
+    private static final Map<LayoutKey, GlyphLayout> LayoutCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<LayoutKey, GlyphLayout> eldest) {
+                    return size() > MaxCachedLayouts;
+                }
+            }
+    );
+
+    private static final Map<Font, GlyphAdvances> AdvancesCache = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the table of character advances for the specified font, using the {@link #DefaultRenderContext}.
+     * <p>
+     * Each font's table is created once, and shared from then on.
+     *
+     * @param font The font to get the advances of.
+     * @return The font's {@code GlyphAdvances}.
+     */
+    public static GlyphAdvances advancesOf(Font font) {
+        return AdvancesCache.computeIfAbsent(font, key -> new GlyphAdvances(key, DefaultRenderContext));
+    }
+
+    /**
+     * Gets the layout of the specified text in the specified font, using the {@link #DefaultRenderContext}.
+     *
+     * @param font The font to lay out the text with.
+     * @param text The text to lay out.
+     * @return The resulting {@code GlyphLayout}.
+     */
+    public static GlyphLayout layoutOf(Font font, String text) {
+        return layoutOf(font, text, DefaultRenderContext);
+    }
+
+    /**
+     * Gets the layout of the specified text in the specified font, using the specified {@code FontRenderContext}.
+     *
+     * @param font          The font to lay out the text with.
+     * @param text          The text to lay out.
+     * @param renderContext The render context to lay out the text for.
+     * @return The resulting {@code GlyphLayout}.
+     */
+    public static GlyphLayout layoutOf(Font font, String text, FontRenderContext renderContext) {
+        LayoutKey key = new LayoutKey(font, text, renderContext);
+        GlyphLayout layout = LayoutCache.get(key);
+
+        if (layout == null) {
+            char[] chars = text.toCharArray();
+            GlyphVector glyphVector = font.layoutGlyphVector(renderContext, chars, 0, chars.length, Font.LAYOUT_LEFT_TO_RIGHT);
+            layout = new GlyphLayout(font, text, glyphVector, font.getLineMetrics(text, renderContext));
+            LayoutCache.put(key, layout);
+        }
+
+        return layout;
+    }
+
+    /**
+     * Gets the render context that text drawn to the specified {@code Graphics2D} should be laid out for, based on its
+     * text antialiasing hint.
+     * <p>
+     * A {@link GlyphVector} is drawn with the antialiasing of the context it was laid out for, no matter the hints of the
+     * {@code Graphics2D} it is drawn to -- so text has to be laid out for the right context to follow the hint.
+     *
+     * @param g The {@code Graphics2D} the text will be drawn to.
+     * @return {@link #AntialiasedRenderContext} if text antialiasing is turned on, or otherwise {@link
+     * #DefaultRenderContext}.
+     */
+    public static FontRenderContext renderContextFor(Graphics2D g) {
+        Object textAntialiasing = g.getRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING);
+        boolean isAntialiased = textAntialiasing != null
+                && textAntialiasing != RenderingHints.VALUE_TEXT_ANTIALIAS_OFF
+                && textAntialiasing != RenderingHints.VALUE_TEXT_ANTIALIAS_DEFAULT;
+
+        return isAntialiased ? AntialiasedRenderContext : DefaultRenderContext;
+    }
+
+    /** Removes all layouts and character advance tables from the cache. */
+    public static void clearCache() {
+        LayoutCache.clear();
+        AdvancesCache.clear();
+    }
+
+    /** Cache key identifying a layout by its font, text, and render context. */
+    private static final class LayoutKey {
+        private final Font font;
+        private final String text;
+        private final FontRenderContext renderContext;
+        private final int hash;
+
+        LayoutKey(Font font, String text, FontRenderContext renderContext) {
+            this.font = font;
+            this.text = text;
+            this.renderContext = renderContext;
+            hash = Objects.hash(font, text, renderContext);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (other == null || getClass() != other.getClass()) {
+                return false;
+            }
+            LayoutKey layoutKey = (LayoutKey) other;
+            return font.equals(layoutKey.font)
+                    && text.equals(layoutKey.text)
+                    && renderContext.equals(layoutKey.renderContext);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.lucasstarsz.fastj.graphics;
+
+/**
+ * Modes used by {@link Hulls} to generate the collision outline of a group of polygons.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public enum HullMode {
+    /**
+     * The convex hull of every point of the polygons.
+     * <p>
+     * This is the fastest mode to generate, and the cheapest outline to test collisions against. However, it fills in
+     * any concave areas of the polygons.
+     */
+    CONVEX,
+    /**
+     * The outer boundary of the union of the polygons.
+     * <p>
+     * This follows the exact shape of the polygons, concave areas included, at the cost of a slower generation and a
+     * more detailed outline. If the polygons form several separate pieces, their convex hull is used instead, so that
+     * none of the pieces are left out.
+     */
+    UNION_OUTLINE
+}
@@ -0,0 +1,454 @@
+package io.github.lucasstarsz.fastj.graphics;
+
+import io.github.lucasstarsz.fastj.engine.CrashMessages;
+import io.github.lucasstarsz.fastj.engine.FastJEngine;
+import io.github.lucasstarsz.fastj.math.Pointf;
+import io.github.lucasstarsz.fastj.graphics.game.Polygon2D;
+
+import java.awt.geom.Area;
+import java.awt.geom.PathIterator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Class that generates, caches, and persists collision outlines ("hulls") for groups of polygons.
+ * <p>
+ * Hulls are cached by the content of the polygons they were generated from, so creating many models from the same
+ * geometry only generates its hull once. Hulls can also be written to a {@code .hull} file next to a model's {@code
+ * .psdf} file, which {@link DrawUtil#load2DModel(String)} picks up when loading the model.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public final class Hulls {
+
+    private static final String HullWriteErrorMessage = CrashMessages.theGameCrashed("a .hull file writing error.");
+
+    /** The maximum amount of hulls kept in the cache, before the least recently used are discarded. */
+    public static final int MaxCachedHulls = 512;
+
+    private static final Map<HullKey, Pointf[]> HullCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<HullKey, Pointf[]> eldest) {
+                    return size() > MaxCachedHulls;
+                }
+            }
+    );
+
+    private static volatile HullMode defaultMode = HullMode.CONVEX;
+
+    /**
+     * Gets the {@link HullMode} used when no mode is specified.
+     *
+     * @return The default hull mode.
+     */
+    public static HullMode getDefaultMode() {
+        return defaultMode;
+    }
+
+    /**
+     * Sets the {@link HullMode} used when no mode is specified, such as when creating a {@code Model2D}.
+     *
+     * @param mode The new default hull mode.
+     */
+    public static void setDefaultMode(HullMode mode) {
+        defaultMode = Objects.requireNonNull(mode);
+    }
+
+    /**
+     * Gets the outline of the specified polygons, using the {@link #getDefaultMode() default hull mode}.
+     *
+     * @param polygons The polygons to outline.
+     * @return The outline, as a {@code Pointf} array.
+     */
+    public static Pointf[] outlineOf(Polygon2D[] polygons) {
+        return outlineOf(polygons, defaultMode);
+    }
+
+    /**
+     * Gets the outline of the specified polygons, using the specified {@link HullMode}.
+     * <p>
+     * If an outline for identical polygons has already been generated with the same mode, the cached outline is used
+     * instead of generating it again.
+     *
+     * @param polygons The polygons to outline.
+     * @param mode     The mode to generate the outline with.
+     * @return The outline, as a {@code Pointf} array.
+     */
+    public static Pointf[] outlineOf(Polygon2D[] polygons, HullMode mode) {
+        HullKey key = new HullKey(polygons, mode);
+        Pointf[] hull = HullCache.get(key);
+
+        if (hull == null) {
+            hull = (mode == HullMode.CONVEX) ? convexHull(key.coords) : unionOutline(polygons, key.coords);
+            HullCache.put(key, hull);
+        }
+
+        return copyOf(hull);
+    }
+
+    /**
+     * Generates the convex hull of the specified points.
+     * <p>
+     * This uses the monotone chain algorithm, running in {@code O(n log n)} time. The resulting hull starts at the
+     * left-most point (the top-most one, if there are several), contains no duplicate or collinear points, and follows
+     * the same winding as the boundaries of a {@link Drawable}.
+     *
+     * @param points The points to generate the convex hull of.
+     * @return The convex hull, as a {@code Pointf} array.
+     */
+    public static Pointf[] convexHull(Pointf[] points) {
+        float[] coords = new float[points.length * 2];
+        for (int i = 0; i < points.length; i++) {
+            coords[i * 2] = points[i].x;
+            coords[i * 2 + 1] = points[i].y;
+        }
+        return convexHull(coords);
+    }
+
+    /** Removes all hulls from the cache. */
+    public static void clearCache() {
+        HullCache.clear();
+    }
+
+    /**
+     * Gets the location of the {@code .hull} file that belongs to the specified {@code .psdf} file.
+     *
+     * @param psdfLocation Location of the {@code .psdf} file.
+     * @return The location of the {@code .hull} file.
+     */
+    public static Path hullFileOf(String psdfLocation) {
+        int extensionIndex = psdfLocation.lastIndexOf('.');
+        String baseName = extensionIndex == -1 ? psdfLocation : psdfLocation.substring(0, extensionIndex);
+        return Paths.get(baseName + ".hull");
+    }
+
+    /**
+     * Generates the outline of the specified polygons, and writes it to a {@code .hull} file next to the specified
+     * {@code .psdf} file.
+     * <p>
+     * The file records which polygons it was generated from, and is ignored when loading a model whose polygons no
+     * longer match.
+     *
+     * @param psdfLocation Location of the {@code .psdf} file the polygons belong to.
+     * @param polygons     The polygons to outline.
+     * @param mode         The mode to generate the outline with.
+     */
+    public static void writeHullFile(String psdfLocation, Polygon2D[] polygons, HullMode mode) {
+        HullKey key = new HullKey(polygons, mode);
+        Pointf[] hull = outlineOf(polygons, mode);
+
+        String sep = System.lineSeparator();
+        StringBuilder fileContents = new StringBuilder();
+        fileContents.append("mode ").append(mode.name()).append(sep)
+                .append("src ").append(key.coords.length).append(' ').append(key.digest()).append(sep);
+
+        for (Pointf pt : hull) {
+            fileContents.append("p ").append(pt.x).append(' ').append(pt.y).append(sep);
+        }
+
+        try {
+            Files.writeString(hullFileOf(psdfLocation), fileContents, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            FastJEngine.error(HullWriteErrorMessage, e);
+        }
+    }
+
+    /**
+     * Reads the {@code .hull} file next to the specified {@code .psdf} file, if there is one, and adds its hull to the
+     * cache for the specified polygons.
+     * <p>
+     * Nothing is cached if the hull file does not exist, if it was generated from different polygons, or if it cannot
+     * be read -- the hull is then generated again when it is needed.
+     *
+     * @param psdfLocation Location of the {@code .psdf} file the polygons were loaded from.
+     * @param polygons     The polygons loaded from the {@code .psdf} file.
+     */
+    static void readHullFile(String psdfLocation, Polygon2D[] polygons) {
+        Path hullFile = hullFileOf(psdfLocation);
+        if (!Files.exists(hullFile)) return;
+
+        try {
+            HullMode mode = null;
+            int sourceLength = -1;
+            String sourceDigest = null;
+            List<Pointf> hullPoints = new ArrayList<>();
+
+            for (String line : Files.readAllLines(hullFile)) {
+                String[] tokens = line.split("\\s+");
+                switch (tokens[0]) {
+                    case "mode": {
+                        mode = HullMode.valueOf(tokens[1]);
+                        break;
+                    }
+                    case "src": {
+                        sourceLength = Integer.parseInt(tokens[1]);
+                        sourceDigest = tokens[2];
+                        break;
+                    }
+                    case "p": {
+                        hullPoints.add(new Pointf(Float.parseFloat(tokens[1]), Float.parseFloat(tokens[2])));
+                        break;
+                    }
+                }
+            }
+
+            if (mode == null || hullPoints.size() < 3) return;
+
+            HullKey key = new HullKey(polygons, mode);
+            if (key.coords.length == sourceLength && key.digest().equals(sourceDigest)) {
+                HullCache.put(key, hullPoints.toArray(new Pointf[0]));
+            }
+        } catch (IOException | RuntimeException e) {
+            // a hull file is only a cache -- if it is unreadable, the hull is generated again instead
+            FastJEngine.warning("Ignoring unreadable hull file " + hullFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Generates the convex hull of the specified interleaved x and y coordinates.
+     *
+     * @param coords The coordinates to generate the convex hull of.
+     * @return The convex hull, as a {@code Pointf} array.
+     */
+    private static Pointf[] convexHull(float[] coords) {
+        int pointCount = coords.length / 2;
+        Integer[] order = new Integer[pointCount];
+        for (int i = 0; i < pointCount; i++) {
+            order[i] = i;
+        }
+
+        Arrays.sort(order, (a, b) -> {
+            int compareX = Float.compare(coords[a * 2], coords[b * 2]);
+            return compareX != 0 ? compareX : Float.compare(coords[a * 2 + 1], coords[b * 2 + 1]);
+        });
+
+        if (pointCount < 3) {
+            Pointf[] result = new Pointf[pointCount];
+            for (int i = 0; i < pointCount; i++) {
+                result[i] = new Pointf(coords[order[i] * 2], coords[order[i] * 2 + 1]);
+            }
+            return result;
+        }
+
+        int[] hull = new int[pointCount * 2];
+        int hullSize = 0;
+
+        // lower hull
+        for (int i = 0; i < pointCount; i++) {
+            while (hullSize >= 2 && cross(coords, hull[hullSize - 2], hull[hullSize - 1], order[i]) <= 0) {
+                hullSize--;
+            }
+            hull[hullSize++] = order[i];
+        }
+
+        // upper hull
+        int lowerHullSize = hullSize + 1;
+        for (int i = pointCount - 2; i >= 0; i--) {
+            while (hullSize >= lowerHullSize && cross(coords, hull[hullSize - 2], hull[hullSize - 1], order[i]) <= 0) {
+                hullSize--;
+            }
+            hull[hullSize++] = order[i];
+        }
+
+        // the last point is the same as the first
+        hullSize--;
+
+        Pointf[] result = new Pointf[hullSize];
+        for (int i = 0; i < hullSize; i++) {
+            result[i] = new Pointf(coords[hull[i] * 2], coords[hull[i] * 2 + 1]);
+        }
+        return result;
+    }
+
+    /**
+     * Computes the cross product of the vectors {@code (o -> a)} and {@code (o -> b)}.
+     *
+     * @param coords The interleaved coordinates the points are stored in.
+     * @param o      Index of the origin point.
+     * @param a      Index of the first point.
+     * @param b      Index of the second point.
+     * @return The cross product.
+     */
+    private static double cross(float[] coords, int o, int a, int b) {
+        double ox = coords[o * 2];
+        double oy = coords[o * 2 + 1];
+        return (coords[a * 2] - ox) * (coords[b * 2 + 1] - oy) - (coords[a * 2 + 1] - oy) * (coords[b * 2] - ox);
+    }
+
+    /**
+     * Generates the outer boundary of the union of the specified polygons.
+     * <p>
+     * A single outline cannot follow several separate pieces without leaving some of them out, so if the union is
+     * split into several pieces, the convex hull of the polygons is used instead.
+     *
+     * @param polygons The polygons to outline.
+     * @param coords   The interleaved coordinates of every point of the polygons.
+     * @return The outline, as a {@code Pointf} array.
+     */
+    private static Pointf[] unionOutline(Polygon2D[] polygons, float[] coords) {
+        Area union = new Area();
+        for (Polygon2D polygon : polygons) {
+            union.add(new Area(polygon.getRenderPath()));
+        }
+
+        List<Pointf> largestOutline = new ArrayList<>();
+        double largestArea = 0.0;
+        List<Pointf> currentOutline = new ArrayList<>();
+        double currentArea = 0.0;
+        List<Double> outlineAreas = new ArrayList<>();
+        float[] segmentCoords = new float[6];
+
+        for (PathIterator pathIterator = union.getPathIterator(null); !pathIterator.isDone(); pathIterator.next()) {
+            int segment = pathIterator.currentSegment(segmentCoords);
+
+            if (segment == PathIterator.SEG_MOVETO) {
+                currentOutline = new ArrayList<>();
+                currentArea = 0.0;
+            }
+
+            if (segment == PathIterator.SEG_CLOSE) {
+                Pointf first = currentOutline.get(0);
+                Pointf last = currentOutline.get(currentOutline.size() - 1);
+                currentArea += (double) last.x * first.y - (double) first.x * last.y;
+                outlineAreas.add(currentArea);
+
+                if (Math.abs(currentArea) > Math.abs(largestArea)) {
+                    largestArea = currentArea;
+                    largestOutline = currentOutline;
+                }
+                continue;
+            }
+
+            Pointf point = new Pointf(segmentCoords[0], segmentCoords[1]);
+            if (!currentOutline.isEmpty()) {
+                Pointf previous = currentOutline.get(currentOutline.size() - 1);
+                currentArea += (double) previous.x * point.y - (double) point.x * previous.y;
+            }
+            currentOutline.add(point);
+        }
+
+        // outer boundaries wind the same way as the largest one, while holes wind the other way
+        int pieceCount = 0;
+        for (double area : outlineAreas) {
+            if (Math.signum(area) == Math.signum(largestArea)) {
+                pieceCount++;
+            }
+        }
+
+        if (pieceCount > 1) {
+            return convexHull(coords);
+        }
+        return largestOutline.toArray(new Pointf[0]);
+    }
+
+    /**
+     * Creates a deep copy of the specified {@code Pointf} array.
+     *
+     * @param points The array to copy.
+     * @return The copied array.
+     */
+    private static Pointf[] copyOf(Pointf[] points) {
+        Pointf[] result = new Pointf[points.length];
+        for (int i = 0; i < points.length; i++) {
+            result[i] = points[i].copy();
+        }
+        return result;
+    }
+
+    /** Cache key identifying a group of polygons by their points, along with the mode of the hull generated for them. */
+    private static final class HullKey {
+        private final HullMode mode;
+        private final float[] coords;
+        private final int[] pointCounts;
+        private final int hash;
+
+        HullKey(Polygon2D[] polygons, HullMode mode) {
+            this.mode = mode;
+            pointCounts = new int[polygons.length];
+
+            float[] allCoords = new float[64];
+            float[] segment = new float[6];
+            int coordIndex = 0;
+
+            for (int i = 0; i < polygons.length; i++) {
+                PathIterator pathIterator = polygons[i].getRenderPath().getPathIterator(null);
+                while (!pathIterator.isDone()) {
+                    if (pathIterator.currentSegment(segment) != PathIterator.SEG_CLOSE) {
+                        if (coordIndex == allCoords.length) {
+                            allCoords = Arrays.copyOf(allCoords, allCoords.length * 2);
+                        }
+                        allCoords[coordIndex++] = segment[0];
+                        allCoords[coordIndex++] = segment[1];
+                        pointCounts[i]++;
+                    }
+                    pathIterator.next();
+                }
+            }
+            coords = Arrays.copyOf(allCoords, coordIndex);
+
+            hash = 31 * (31 * Arrays.hashCode(coords) + Arrays.hashCode(pointCounts)) + mode.ordinal();
+        }
+
+        /**
+         * Gets a SHA-256 digest of the key's mode and points, as a hexadecimal string.
+         *
+         * @return The digest of the key.
+         */
+        String digest() {
+            ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * (1 + pointCounts.length) + Float.BYTES * coords.length);
+            buffer.putInt(mode.ordinal());
+            for (int pointCount : pointCounts) {
+                buffer.putInt(pointCount);
+            }
+            for (float coord : coords) {
+                buffer.putFloat(coord);
+            }
+
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(buffer.array());
+                StringBuilder hex = new StringBuilder(digest.length * 2);
+                for (byte b : digest) {
+                    hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+                }
+                return hex.toString();
+            } catch (NoSuchAlgorithmException e) {
+                // every Java platform is required to support SHA-256
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (other == null || getClass() != other.getClass()) {
+                return false;
+            }
+            HullKey hullKey = (HullKey) other;
+            return mode == hullKey.mode
+                    && Arrays.equals(pointCounts, hullKey.pointCounts)
+                    && Arrays.equals(coords, hullKey.coords);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package io.github.lucasstarsz.fastj.graphics;
+
+import io.github.lucasstarsz.fastj.math.Pointf;
+import io.github.lucasstarsz.fastj.graphics.game.Polygon2D;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Class that simplifies polygons to fewer points, for drawing them when they are too small on screen for their detail
+ * to show.
+ * <p>
+ * Polygons are simplified with the Douglas-Peucker algorithm, which keeps only the points that stray further than a
+ * tolerance from the line between the points kept around them. No point of the simplified polygon is further than the
+ * tolerance from the original outline.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public final class PolygonSimplifier {
+
+    /**
+     * The default size, as a multiple of the tolerance, under which {@link #simplify(Polygon2D[], float)} drops a
+     * polygon entirely: {@code 2}.
+     */
+    public static final float DefaultDropFactor = 2f;
+
+    /**
+     * Simplifies the closed outline made by the specified points.
+     *
+     * @param points    The points of the outline, in order.
+     * @param tolerance The furthest distance the simplified outline can stray from the original.
+     * @return The points of the simplified outline, in order. If the outline cannot be simplified, the original
+     * points are returned.
+     */
+    public static Pointf[] simplify(Pointf[] points, float tolerance) {
+        int pointCount = points.length;
+        if (pointCount <= 3 || tolerance <= 0f) {
+            return points;
+        }
+
+        // split the closed outline at the point furthest from the first, and simplify each half as an open line
+        int split = 0;
+        float furthestDistance = -1f;
+        for (int i = 1; i < pointCount; i++) {
+            float distance = distanceSquared(points[0], points[i]);
+            if (distance > furthestDistance) {
+                furthestDistance = distance;
+                split = i;
+            }
+        }
+
+        boolean[] kept = new boolean[pointCount];
+        kept[0] = true;
+        kept[split] = true;
+        simplifyLine(points, 0, split, tolerance * tolerance, kept);
+        simplifyLine(points, split, pointCount, tolerance * tolerance, kept);
+
+        int keptCount = 0;
+        for (boolean isKept : kept) {
+            if (isKept) keptCount++;
+        }
+        if (keptCount == pointCount) {
+            return points;
+        }
+
+        Pointf[] simplified = new Pointf[keptCount];
+        for (int i = 0, j = 0; i < pointCount; i++) {
+            if (kept[i]) {
+                simplified[j++] = points[i].copy();
+            }
+        }
+        return simplified;
+    }
+
+    /**
+     * Simplifies each of the specified polygons, dropping those which become too small or too thin to see.
+     * <p>
+     * A polygon is dropped when the larger side of its bounds is under {@link #DefaultDropFactor} times the tolerance,
+     * or when it simplifies down to fewer than three points. The largest polygon is never dropped, so that the result
+     * always has something to draw.
+     *
+     * @param polygons  The polygons to simplify.
+     * @param tolerance The furthest distance each simplified polygon can stray from its original.
+     * @return The simplified polygons, in the same order as the originals.
+     */
+    public static Polygon2D[] simplify(Polygon2D[] polygons, float tolerance) {
+        List<Polygon2D> simplifiedPolygons = new ArrayList<>(polygons.length);
+
+        int largestIndex = -1;
+        float largestSize = -1f;
+        for (int i = 0; i < polygons.length; i++) {
+            float size = sizeOf(polygons[i].getPoints());
+            if (size > largestSize) {
+                largestSize = size;
+                largestIndex = i;
+            }
+        }
+
+        for (int i = 0; i < polygons.length; i++) {
+            Polygon2D polygon = polygons[i];
+            Pointf[] points = polygon.getPoints();
+            boolean isLargest = i == largestIndex;
+
+            if (!isLargest && sizeOf(points) < tolerance * DefaultDropFactor) {
+                continue;
+            }
+
+            Pointf[] simplifiedPoints = simplify(points, tolerance);
+            if (simplifiedPoints.length < 3) {
+                if (!isLargest) continue;
+                simplifiedPoints = points;
+            }
+
+            simplifiedPolygons.add(new Polygon2D(simplifiedPoints, polygon.getColor(), polygon.isFilled(), polygon.shouldRender()));
+        }
+
+        return simplifiedPolygons.toArray(new Polygon2D[0]);
+    }
+
+    /**
+     * Marks the points between {@code start} and {@code end} that need to be kept, so the line stays within the
+     * tolerance. {@code end} may equal the amount of points, to stand for the first point closing the outline.
+     */
+    private static void simplifyLine(Pointf[] points, int start, int end, float toleranceSquared, boolean[] kept) {
+        // an explicit stack of ranges, as detailed outlines could otherwise recurse very deeply
+        int[] stack = new int[64];
+        int stackSize = 0;
+        stack[stackSize++] = start;
+        stack[stackSize++] = end;
+
+        while (stackSize > 0) {
+            int last = stack[--stackSize];
+            int first = stack[--stackSize];
+            if (last - first < 2) {
+                continue;
+            }
+
+            Pointf a = points[first];
+            Pointf b = points[last % points.length];
+            int furthest = -1;
+            float furthestDistance = toleranceSquared;
+            for (int i = first + 1; i < last; i++) {
+                float distance = segmentDistanceSquared(points[i], a, b);
+                if (distance > furthestDistance) {
+                    furthestDistance = distance;
+                    furthest = i;
+                }
+            }
+
+            if (furthest == -1) {
+                continue;
+            }
+
+            kept[furthest] = true;
+            if (stackSize + 4 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            stack[stackSize++] = first;
+            stack[stackSize++] = furthest;
+            stack[stackSize++] = furthest;
+            stack[stackSize++] = last;
+        }
+    }
+
+    private static float segmentDistanceSquared(Pointf p, Pointf a, Pointf b) {
+        float dx = b.x - a.x;
+        float dy = b.y - a.y;
+        float lengthSquared = dx * dx + dy * dy;
+        if (lengthSquared == 0f) {
+            return distanceSquared(p, a);
+        }
+
+        float t = Math.max(0f, Math.min(1f, ((p.x - a.x) * dx + (p.y - a.y) * dy) / lengthSquared));
+        float offsetX = p.x - (a.x + t * dx);
+        float offsetY = p.y - (a.y + t * dy);
+        return offsetX * offsetX + offsetY * offsetY;
+    }
+
+    private static float distanceSquared(Pointf p1, Pointf p2) {
+        float dx = p2.x - p1.x;
+        float dy = p2.y - p1.y;
+        return dx * dx + dy * dy;
+    }
+
+    /** Gets the larger side of the bounds of the specified points. */
+    private static float sizeOf(Pointf[] points) {
+        float minX = Float.POSITIVE_INFINITY;
+        float minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY;
+        float maxY = Float.NEGATIVE_INFINITY;
+        for (Pointf point : points) {
+            minX = Math.min(minX, point.x);
+            minY = Math.min(minY, point.y);
+            maxX = Math.max(maxX, point.x);
+            maxY = Math.max(maxY, point.y);
+        }
+        return Math.max(maxX - minX, maxY - minY);
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.lucasstarsz.fastj.graphics;
+
+/**
+ * The ways in which the {@link Display} can draw its game objects each frame.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public enum RenderMode {
+    /** Clears the whole screen, and draws every game object on screen, every frame. */
+    FULL,
+    /**
+     * Keeps the previous frame, and only clears and redraws the regions of the screen that have changed.
+     * <p>
+     * A region changes when a game object moves, changes its bounds, changes its {@link
+     * io.github.lucasstarsz.fastj.graphics.game.GameObject#getAppearanceVersion() appearance}, is shown or hidden, or is
+     * added or removed. Moving the camera or changing the background color redraws the whole screen.
+     * <p>
+     * This is best suited to scenes where few objects change each frame, such as board games, editors, and menus.
+     */
+    DIRTY_REGIONS,
+    /**
+     * Clears and draws the whole screen every frame, split into {@link TiledRenderer tiles} which are drawn in parallel
+     * on the cores of the machine.
+     * <p>
+     * Each tile only draws the game objects whose bounds overlap it. Game objects may be drawn by several threads at
+     * once, so custom game objects must not change any shared state in their {@code render} methods.
+     * <p>
+     * This is best suited to busy scenes drawn in software, such as with {@link
+     * io.github.lucasstarsz.fastj.engine.HWAccel#CPU_RENDER}, where drawing rather than updating takes up most of each
+     * frame.
+     */
+    PARALLEL_TILES
+}
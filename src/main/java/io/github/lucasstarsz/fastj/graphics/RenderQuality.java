@@ -0,0 +1,124 @@
+package io.github.lucasstarsz.fastj.graphics;
+
+import java.awt.RenderingHints;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Tiers of rendering quality the {@link Display} can draw with, from fastest to best looking.
+ * <p>
+ * Each tier is a set of {@link RenderingHints} -- antialiasing, stroke control, text antialiasing, alpha and image
+ * interpolation, and so on -- along with whether optional effects should be drawn. Games can check {@link
+ * #allowsEffects()} to skip purely visual extras, such as particles or shadows, on lower tiers.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public enum RenderQuality {
+    /** The fastest tier: no antialiasing of any kind, nearest neighbor image scaling, and no optional effects. */
+    LOW(
+            RenderingHints.VALUE_ANTIALIAS_OFF,
+            RenderingHints.VALUE_STROKE_DEFAULT,
+            RenderingHints.VALUE_RENDER_SPEED,
+            RenderingHints.VALUE_COLOR_RENDER_SPEED,
+            RenderingHints.VALUE_DITHER_DISABLE,
+            RenderingHints.VALUE_ALPHA_INTERPOLATION_SPEED,
+            RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR,
+            RenderingHints.VALUE_TEXT_ANTIALIAS_OFF,
+            false
+    ),
+    /** The default tier: speed-oriented rendering, with the platform's default text antialiasing. */
+    MEDIUM(
+            RenderingHints.VALUE_ANTIALIAS_OFF,
+            RenderingHints.VALUE_STROKE_DEFAULT,
+            RenderingHints.VALUE_RENDER_SPEED,
+            RenderingHints.VALUE_COLOR_RENDER_SPEED,
+            RenderingHints.VALUE_DITHER_DISABLE,
+            RenderingHints.VALUE_ALPHA_INTERPOLATION_SPEED,
+            RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR,
+            RenderingHints.VALUE_TEXT_ANTIALIAS_DEFAULT,
+            true
+    ),
+    /** Antialiased shapes and text, and bilinear image scaling. */
+    HIGH(
+            RenderingHints.VALUE_ANTIALIAS_ON,
+            RenderingHints.VALUE_STROKE_DEFAULT,
+            RenderingHints.VALUE_RENDER_SPEED,
+            RenderingHints.VALUE_COLOR_RENDER_SPEED,
+            RenderingHints.VALUE_DITHER_DISABLE,
+            RenderingHints.VALUE_ALPHA_INTERPOLATION_SPEED,
+            RenderingHints.VALUE_INTERPOLATION_BILINEAR,
+            RenderingHints.VALUE_TEXT_ANTIALIAS_ON,
+            true
+    ),
+    /** The best looking tier: quality-oriented rendering everywhere, pure strokes, and bicubic image scaling. */
+    ULTRA(
+            RenderingHints.VALUE_ANTIALIAS_ON,
+            RenderingHints.VALUE_STROKE_PURE,
+            RenderingHints.VALUE_RENDER_QUALITY,
+            RenderingHints.VALUE_COLOR_RENDER_QUALITY,
+            RenderingHints.VALUE_DITHER_ENABLE,
+            RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY,
+            RenderingHints.VALUE_INTERPOLATION_BICUBIC,
+            RenderingHints.VALUE_TEXT_ANTIALIAS_ON,
+            true
+    );
+
+    private final Map<RenderingHints.Key, Object> renderHints;
+    private final boolean allowsEffects;
+
+    RenderQuality(Object antialiasing, Object strokeControl, Object rendering, Object colorRendering, Object dithering,
+                  Object alphaInterpolation, Object interpolation, Object textAntialiasing, boolean allowsEffects) {
+        Map<RenderingHints.Key, Object> hints = new LinkedHashMap<>();
+
+        // All
+        hints.put(RenderingHints.KEY_ANTIALIASING, antialiasing);
+
+        // Shapes
+        hints.put(RenderingHints.KEY_STROKE_CONTROL, strokeControl);
+
+        // Colors
+        hints.put(RenderingHints.KEY_RENDERING, rendering);
+        hints.put(RenderingHints.KEY_COLOR_RENDERING, colorRendering);
+        hints.put(RenderingHints.KEY_DITHERING, dithering);
+
+        // Images
+        hints.put(RenderingHints.KEY_ALPHA_INTERPOLATION, alphaInterpolation);
+        hints.put(RenderingHints.KEY_INTERPOLATION, interpolation);
+
+        // Text
+        hints.put(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+        hints.put(RenderingHints.KEY_TEXT_ANTIALIASING, textAntialiasing);
+
+        this.renderHints = Collections.unmodifiableMap(hints);
+        this.allowsEffects = allowsEffects;
+    }
+
+    /**
+     * Gets the rendering hints of the tier.
+     *
+     * @return An unmodifiable map of the tier's rendering hints.
+     */
+    public Map<RenderingHints.Key, Object> getRenderHints() {
+        return renderHints;
+    }
+
+    /**
+     * Gets whether optional, purely visual effects should be drawn at this tier.
+     *
+     * @return Whether optional effects are allowed.
+     */
+    public boolean allowsEffects() {
+        return allowsEffects;
+    }
+
+    /**
+     * Puts the tier's rendering hints into the specified map, replacing the values of any keys it already has.
+     *
+     * @param hints The map of rendering hints to apply the tier to.
+     */
+    public void applyTo(Map<RenderingHints.Key, Object> hints) {
+        hints.putAll(renderHints);
+    }
+}
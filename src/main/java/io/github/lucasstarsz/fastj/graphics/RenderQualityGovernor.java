@@ -0,0 +1,148 @@
+package io.github.lucasstarsz.fastj.graphics;
+
+import io.github.lucasstarsz.fastj.engine.CrashMessages;
+import io.github.lucasstarsz.fastj.engine.FastJEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Governor which steps the {@link RenderQuality} tier down when frames take too long to render, and back up when they
+ * render comfortably within budget.
+ * <p>
+ * The governor starts at its {@link #getMaxQuality() highest tier}, and stays within its {@link
+ * #setQualityBounds(RenderQuality, RenderQuality) bounds}. Every change of tier is passed to the governor's {@link
+ * #addOnQualityChange(BiConsumer) quality change actions}:
+ * <pre>{@code
+ * RenderQualityGovernor governor = new RenderQualityGovernor(FastJEngine.getTargetFPS());
+ * governor.addOnQualityChange((from, to) -> FastJEngine.log("Render quality: " + from + " -> " + to));
+ * display.setRenderQualityGovernor(governor);
+ * }</pre>
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public class RenderQualityGovernor extends FrameTimeGovernor {
+
+    /** The default lowest tier the governor can step down to: {@link RenderQuality#LOW}. */
+    public static final RenderQuality DefaultMinQuality = RenderQuality.LOW;
+    /** The default highest tier the governor can step up to: {@link RenderQuality#HIGH}. */
+    public static final RenderQuality DefaultMaxQuality = RenderQuality.HIGH;
+
+    private static final RenderQuality[] Tiers = RenderQuality.values();
+
+    private final List<BiConsumer<RenderQuality, RenderQuality>> onQualityChangeActions;
+
+    private RenderQuality minQuality;
+    private RenderQuality maxQuality;
+    private RenderQuality quality;
+
+    /**
+     * Constructs a {@code RenderQualityGovernor} which aims for the specified frame rate, starting at the highest tier.
+     *
+     * @param targetFPS The frame rate to aim for.
+     */
+    public RenderQualityGovernor(int targetFPS) {
+        super(targetFPS);
+        onQualityChangeActions = new ArrayList<>();
+        minQuality = DefaultMinQuality;
+        maxQuality = DefaultMaxQuality;
+        quality = maxQuality;
+    }
+
+    /**
+     * Gets the governor's current tier.
+     *
+     * @return The current {@code RenderQuality}.
+     */
+    public RenderQuality getQuality() {
+        return quality;
+    }
+
+    /**
+     * Gets the lowest tier the governor can step down to.
+     *
+     * @return The minimum {@code RenderQuality}.
+     */
+    public RenderQuality getMinQuality() {
+        return minQuality;
+    }
+
+    /**
+     * Gets the highest tier the governor can step up to.
+     *
+     * @return The maximum {@code RenderQuality}.
+     */
+    public RenderQuality getMaxQuality() {
+        return maxQuality;
+    }
+
+    /**
+     * Sets the lowest and highest tiers the governor can step to, moving the current tier within them.
+     *
+     * @param min The minimum {@code RenderQuality}.
+     * @param max The maximum {@code RenderQuality}.
+     */
+    public void setQualityBounds(RenderQuality min, RenderQuality max) {
+        if (min.compareTo(max) > 0) {
+            FastJEngine.error(CrashMessages.illegalAction(getClass()), new IllegalArgumentException("The minimum quality must be at most the maximum quality."));
+        }
+
+        minQuality = min;
+        maxQuality = max;
+
+        if (quality.compareTo(minQuality) < 0) {
+            changeQuality(minQuality);
+        } else if (quality.compareTo(maxQuality) > 0) {
+            changeQuality(maxQuality);
+        }
+    }
+
+    /**
+     * Adds an action to run whenever the governor changes tier.
+     *
+     * @param action The action to run, given the previous tier and the new tier.
+     */
+    public void addOnQualityChange(BiConsumer<RenderQuality, RenderQuality> action) {
+        onQualityChangeActions.add(action);
+    }
+
+    /**
+     * Removes an action added by {@link #addOnQualityChange(BiConsumer)}.
+     *
+     * @param action The action to remove.
+     */
+    public void removeOnQualityChange(BiConsumer<RenderQuality, RenderQuality> action) {
+        onQualityChangeActions.remove(action);
+    }
+
+    @Override
+    protected boolean stepDown() {
+        if (quality.compareTo(minQuality) <= 0) {
+            return false;
+        }
+
+        changeQuality(Tiers[quality.ordinal() - 1]);
+        return true;
+    }
+
+    @Override
+    protected boolean stepUp() {
+        if (quality.compareTo(maxQuality) >= 0) {
+            return false;
+        }
+
+        changeQuality(Tiers[quality.ordinal() + 1]);
+        return true;
+    }
+
+    private void changeQuality(RenderQuality newQuality) {
+        RenderQuality oldQuality = quality;
+        quality = newQuality;
+
+        for (BiConsumer<RenderQuality, RenderQuality> action : onQualityChangeActions) {
+            action.accept(oldQuality, newQuality);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.lucasstarsz.fastj.graphics;
+
+import io.github.lucasstarsz.fastj.engine.CrashMessages;
+import io.github.lucasstarsz.fastj.engine.FastJEngine;
+import io.github.lucasstarsz.fastj.math.Point;
+
+/**
+ * Governor which lowers the resolution game objects are drawn at when frames take too long to render.
+ * <p>
+ * The governor's {@link #getScale() scale} is a fraction of the {@link Display}'s internal resolution. When it is
+ * below {@code 1}, the display draws its game objects into a smaller image, which is stretched to fill the screen. The
+ * UI is still drawn at the full resolution. The scale steps down when frames go over budget, and back up when there is
+ * room to spare, staying within its {@link #setScaleBounds(float, float) bounds}:
+ * <pre>{@code
+ * display.setResolutionGovernor(new ResolutionGovernor(FastJEngine.getTargetFPS()));
+ * }</pre>
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public class ResolutionGovernor extends FrameTimeGovernor {
+
+    /** The default lowest scale the governor can step down to: {@code 0.5}. */
+    public static final float DefaultMinScale = 0.5f;
+    /** The default highest scale the governor can step up to: {@code 1}. */
+    public static final float DefaultMaxScale = 1f;
+    /** The default amount the scale changes by in each step: {@code 0.1}. */
+    public static final float DefaultScaleStep = 0.1f;
+
+    private float minScale;
+    private float maxScale;
+    private float scaleStep;
+    private float scale;
+
+    /**
+     * Constructs a {@code ResolutionGovernor} which aims for the specified frame rate, starting at the highest scale.
+     *
+     * @param targetFPS The frame rate to aim for.
+     */
+    public ResolutionGovernor(int targetFPS) {
+        super(targetFPS);
+        minScale = DefaultMinScale;
+        maxScale = DefaultMaxScale;
+        scaleStep = DefaultScaleStep;
+        scale = maxScale;
+    }
+
+    /**
+     * Gets the fraction of the internal resolution game objects are drawn at.
+     *
+     * @return The current scale.
+     */
+    public float getScale() {
+        return scale;
+    }
+
+    /**
+     * Gets the lowest scale the governor can step down to.
+     *
+     * @return The minimum scale.
+     */
+    public float getMinScale() {
+        return minScale;
+    }
+
+    /**
+     * Gets the highest scale the governor can step up to.
+     *
+     * @return The maximum scale.
+     */
+    public float getMaxScale() {
+        return maxScale;
+    }
+
+    /**
+     * Sets the lowest and highest scales the governor can step to, moving the current scale within them.
+     *
+     * @param min The minimum scale, above {@code 0}.
+     * @param max The maximum scale, at most {@code 1}.
+     */
+    public void setScaleBounds(float min, float max) {
+        if (min <= 0f || min > max || max > 1f) {
+            FastJEngine.error(CrashMessages.illegalAction(getClass()), new IllegalArgumentException("The scale bounds must be above 0 and at most 1, with the minimum at most the maximum."));
+        }
+
+        minScale = min;
+        maxScale = max;
+        scale = Math.max(minScale, Math.min(scale, maxScale));
+    }
+
+    /**
+     * Gets the amount the scale changes by in each step.
+     *
+     * @return The scale step.
+     */
+    public float getScaleStep() {
+        return scaleStep;
+    }
+
+    /**
+     * Sets the amount the scale changes by in each step.
+     *
+     * @param step The new scale step, above {@code 0}.
+     */
+    public void setScaleStep(float step) {
+        if (step <= 0f) {
+            FastJEngine.error(CrashMessages.illegalAction(getClass()), new IllegalArgumentException("The scale step must be above 0."));
+        }
+
+        scaleStep = step;
+    }
+
+    /**
+     * Gets the resolution game objects are drawn at, for the specified internal resolution.
+     *
+     * @param internalResolution The internal resolution of the display.
+     * @param dest               The {@code Point} to store the scaled resolution in.
+     * @return The {@code dest} point, for convenience.
+     */
+    public Point scaleResolution(Point internalResolution, Point dest) {
+        dest.set(Math.max(Math.round(internalResolution.x * scale), 1), Math.max(Math.round(internalResolution.y * scale), 1));
+        return dest;
+    }
+
+    @Override
+    protected boolean stepDown() {
+        if (scale <= minScale) {
+            return false;
+        }
+
+        scale = Math.max(scale - scaleStep, minScale);
+        return true;
+    }
+
+    @Override
+    protected boolean stepUp() {
+        if (scale >= maxScale) {
+            return false;
+        }
+
+        scale = Math.min(scale + scaleStep, maxScale);
+        return true;
+    }
+}
@@ -0,0 +1,393 @@
+package io.github.lucasstarsz.fastj.graphics;
+
+import io.github.lucasstarsz.fastj.graphics.game.GameObject;
+import io.github.lucasstarsz.fastj.graphics.game.Polygon2D;
+
+import java.awt.Color;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.PathIterator;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * A software rasterizer that fills solid-color shapes straight into the pixels of an image.
+ * <p>
+ * Filling a simple shape through a {@code Graphics2D} goes through Java2D's general purpose path pipeline. For
+ * solid-color, non-antialiased polygons -- which make up most of what a game draws -- the rasterizer instead walks the
+ * shape's edges one scanline at a time, and writes each covered span of pixels directly into the image's {@code int}
+ * array. Pixels are covered when their centers are inside the shape, using the shape's winding rule, and translucent
+ * colors are blended over the existing pixels.
+ * <p>
+ * Shapes are sampled at their exact coordinates, as Java2D does with {@link RenderingHints#VALUE_STROKE_PURE pure
+ * stroke control}. Java2D's default stroke control nudges coordinates towards pixel centers, so edges drawn without it
+ * may differ from Java2D's by a pixel.
+ * <p>
+ * Only images with {@code int}-packed pixels are {@link #supports(BufferedImage) supported}. Strokes, antialiasing,
+ * and paints other than solid colors are left to Java2D. Writing to an image's pixels directly stops Java2D from
+ * caching a copy of that image in video memory, so the rasterizer is best used on images which change every frame.
+ * <p>
+ * Each thread has its own rasterizer, which must only be used from that thread.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public final class ScanlineRasterizer {
+
+    private static final int InitialCapacity = 16;
+    private static final double Flatness = 0.25;
+    private static final ThreadLocal<ScanlineRasterizer> ThreadRasterizer = ThreadLocal.withInitial(ScanlineRasterizer::new);
+
+    // edges, always stored from top to bottom
+    private float[] edgeTop;
+    private float[] edgeBottom;
+    private float[] edgeX;
+    private float[] edgeSlope;
+    private int[] edgeWinding;
+    private int edgeCount;
+
+    private int[] edgeOrder;
+    private int[] activeEdges;
+    private float[] crossings;
+    private int[] crossingWindings;
+
+    private final float[] segment;
+
+    private ScanlineRasterizer() {
+        edgeTop = new float[InitialCapacity];
+        edgeBottom = new float[InitialCapacity];
+        edgeX = new float[InitialCapacity];
+        edgeSlope = new float[InitialCapacity];
+        edgeWinding = new int[InitialCapacity];
+        edgeOrder = new int[InitialCapacity];
+        activeEdges = new int[InitialCapacity];
+        crossings = new float[InitialCapacity];
+        crossingWindings = new int[InitialCapacity];
+        segment = new float[6];
+    }
+
+    /**
+     * Gets the rasterizer of the current thread.
+     *
+     * @return The current thread's {@code ScanlineRasterizer}.
+     */
+    public static ScanlineRasterizer get() {
+        return ThreadRasterizer.get();
+    }
+
+    /**
+     * Checks whether the rasterizer can draw into the specified image.
+     *
+     * @param image The image to check.
+     * @return Whether the image stores its pixels as packed {@code int}s, in a format the rasterizer can write.
+     */
+    public static boolean supports(BufferedImage image) {
+        if (image == null || !(image.getRaster().getDataBuffer() instanceof DataBufferInt)) {
+            return false;
+        }
+
+        switch (image.getType()) {
+            case BufferedImage.TYPE_INT_RGB:
+            case BufferedImage.TYPE_INT_ARGB:
+            case BufferedImage.TYPE_INT_ARGB_PRE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Checks whether the specified rendering hints allow the rasterizer to be used in place of Java2D.
+     *
+     * @param renderHints The rendering hints to check.
+     * @return Whether the rendering hints leave antialiasing off.
+     */
+    public static boolean allows(Map<RenderingHints.Key, Object> renderHints) {
+        return !RenderingHints.VALUE_ANTIALIAS_ON.equals(renderHints.get(RenderingHints.KEY_ANTIALIASING));
+    }
+
+    /**
+     * Fills the specified game object into the image, if it is a game object the rasterizer can draw.
+     * <p>
+     * Only filled {@link Polygon2D}s without a parent or children can be drawn by the rasterizer. For any other game
+     * object, nothing is drawn and {@code false} is returned, so that it can be rendered through Java2D instead.
+     *
+     * @param obj       The game object to fill.
+     * @param transform The transform to draw the game object with, such as a camera transform.
+     * @param target    The image to draw into.
+     * @param clip      The area of the image to draw within.
+     * @return Whether the game object was handled by the rasterizer.
+     */
+    public boolean fill(GameObject obj, AffineTransform transform, BufferedImage target, Rectangle clip) {
+        if (!(obj instanceof Polygon2D) || obj.getParent() != null || !obj.getChildren().isEmpty()) {
+            return false;
+        }
+
+        Polygon2D polygon = (Polygon2D) obj;
+        if (!polygon.isFilled()) {
+            return false;
+        }
+
+        if (polygon.shouldRender()) {
+            fill(polygon.getRenderPath(), transform, polygon.getColor(), target, clip);
+        }
+        return true;
+    }
+
+    /**
+     * Fills the specified shape into the image, in a solid color.
+     *
+     * @param shape     The shape to fill.
+     * @param transform The transform to draw the shape with.
+     * @param color     The color to fill the shape with.
+     * @param target    The image to draw into, which must be {@link #supports(BufferedImage) supported}.
+     * @param clip      The area of the image to draw within.
+     */
+    public void fill(Shape shape, AffineTransform transform, Color color, BufferedImage target, Rectangle clip) {
+        int alpha = color.getAlpha();
+        if (alpha == 0) {
+            return;
+        }
+
+        PathIterator pathIterator = shape.getPathIterator(transform, Flatness);
+        boolean evenOdd = pathIterator.getWindingRule() == PathIterator.WIND_EVEN_ODD;
+        buildEdges(pathIterator);
+        if (edgeCount == 0) {
+            return;
+        }
+
+        int clipMinX = Math.max(clip.x, 0);
+        int clipMinY = Math.max(clip.y, 0);
+        int clipMaxX = Math.min(clip.x + clip.width, target.getWidth());
+        int clipMaxY = Math.min(clip.y + clip.height, target.getHeight());
+        if (clipMinX >= clipMaxX || clipMinY >= clipMaxY) {
+            return;
+        }
+
+        // pixel rows whose centers lie between the top and bottom of the shape
+        float shapeTop = Float.POSITIVE_INFINITY;
+        float shapeBottom = Float.NEGATIVE_INFINITY;
+        for (int i = 0; i < edgeCount; i++) {
+            shapeTop = Math.min(shapeTop, edgeTop[i]);
+            shapeBottom = Math.max(shapeBottom, edgeBottom[i]);
+        }
+        int firstRow = Math.max((int) Math.ceil(shapeTop - 0.5f), clipMinY);
+        int lastRow = Math.min((int) Math.ceil(shapeBottom - 0.5f), clipMaxY);
+
+        WritableRaster raster = target.getRaster();
+        int[] pixels = ((DataBufferInt) raster.getDataBuffer()).getData();
+        int scanlineStride = ((SinglePixelPackedSampleModel) raster.getSampleModel()).getScanlineStride();
+        int pixelOffset = raster.getDataBuffer().getOffset()
+                - raster.getSampleModelTranslateY() * scanlineStride
+                - raster.getSampleModelTranslateX();
+        int imageType = target.getType();
+        int argb = color.getRGB();
+
+        sortEdges();
+        int nextEdge = 0;
+        int activeCount = 0;
+
+        for (int row = firstRow; row < lastRow; row++) {
+            float sampleY = row + 0.5f;
+
+            // add the edges which have started, and remove the ones which have ended
+            while (nextEdge < edgeCount && edgeTop[edgeOrder[nextEdge]] <= sampleY) {
+                activeEdges[activeCount++] = edgeOrder[nextEdge++];
+            }
+
+            int crossingCount = 0;
+            for (int i = 0; i < activeCount; i++) {
+                int edge = activeEdges[i];
+                if (edgeBottom[edge] <= sampleY) {
+                    activeEdges[i--] = activeEdges[--activeCount];
+                    continue;
+                }
+                if (edgeTop[edge] > sampleY) {
+                    continue;
+                }
+
+                float x = edgeX[edge] + (sampleY - edgeTop[edge]) * edgeSlope[edge];
+                int winding = edgeWinding[edge];
+
+                // insertion sort, as the crossings of most shapes are few and nearly in order already
+                int j = crossingCount++;
+                while (j > 0 && crossings[j - 1] > x) {
+                    crossings[j] = crossings[j - 1];
+                    crossingWindings[j] = crossingWindings[j - 1];
+                    j--;
+                }
+                crossings[j] = x;
+                crossingWindings[j] = winding;
+            }
+
+            int rowStart = pixelOffset + row * scanlineStride;
+            int winding = 0;
+            for (int i = 0; i < crossingCount - 1; i++) {
+                winding += evenOdd ? 1 : crossingWindings[i];
+                boolean inside = evenOdd ? (winding & 1) != 0 : winding != 0;
+                if (!inside) {
+                    continue;
+                }
+
+                // pixels whose centers lie between the two crossings
+                int spanStart = Math.max((int) Math.ceil(crossings[i] - 0.5f), clipMinX);
+                int spanEnd = Math.min((int) Math.ceil(crossings[i + 1] - 0.5f), clipMaxX);
+                if (spanStart < spanEnd) {
+                    fillSpan(pixels, rowStart + spanStart, rowStart + spanEnd, argb, alpha, imageType);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the edges of the flattened path, closing each of its subpaths.
+     *
+     * @param pathIterator The flattened path to collect the edges of.
+     */
+    private void buildEdges(PathIterator pathIterator) {
+        edgeCount = 0;
+        float startX = 0f;
+        float startY = 0f;
+        float lastX = 0f;
+        float lastY = 0f;
+
+        for (; !pathIterator.isDone(); pathIterator.next()) {
+            int segmentType = pathIterator.currentSegment(segment);
+            float x = segment[0];
+            float y = segment[1];
+
+            switch (segmentType) {
+                case PathIterator.SEG_MOVETO:
+                    addEdge(lastX, lastY, startX, startY);
+                    startX = x;
+                    startY = y;
+                    break;
+                case PathIterator.SEG_LINETO:
+                    addEdge(lastX, lastY, x, y);
+                    break;
+                case PathIterator.SEG_CLOSE:
+                    addEdge(lastX, lastY, startX, startY);
+                    x = startX;
+                    y = startY;
+                    break;
+                default:
+                    // a flattened path only has straight segments
+                    break;
+            }
+
+            lastX = x;
+            lastY = y;
+        }
+
+        addEdge(lastX, lastY, startX, startY);
+    }
+
+    private void addEdge(float x0, float y0, float x1, float y1) {
+        if (y0 == y1) {
+            return;
+        }
+
+        if (edgeCount == edgeTop.length) {
+            int newCapacity = edgeTop.length * 2;
+            edgeTop = Arrays.copyOf(edgeTop, newCapacity);
+            edgeBottom = Arrays.copyOf(edgeBottom, newCapacity);
+            edgeX = Arrays.copyOf(edgeX, newCapacity);
+            edgeSlope = Arrays.copyOf(edgeSlope, newCapacity);
+            edgeWinding = Arrays.copyOf(edgeWinding, newCapacity);
+            edgeOrder = Arrays.copyOf(edgeOrder, newCapacity);
+            activeEdges = Arrays.copyOf(activeEdges, newCapacity);
+            crossings = Arrays.copyOf(crossings, newCapacity);
+            crossingWindings = Arrays.copyOf(crossingWindings, newCapacity);
+        }
+
+        boolean downwards = y1 > y0;
+        float topX = downwards ? x0 : x1;
+        float topY = downwards ? y0 : y1;
+        float bottomY = downwards ? y1 : y0;
+
+        edgeTop[edgeCount] = topY;
+        edgeBottom[edgeCount] = bottomY;
+        edgeX[edgeCount] = topX;
+        edgeSlope[edgeCount] = (x1 - x0) / (y1 - y0);
+        edgeWinding[edgeCount] = downwards ? 1 : -1;
+        edgeCount++;
+    }
+
+    /** Sorts the edges by their tops, so they can be activated in order. */
+    private void sortEdges() {
+        for (int i = 0; i < edgeCount; i++) {
+            int edge = i;
+            int j = i;
+            while (j > 0 && edgeTop[edgeOrder[j - 1]] > edgeTop[edge]) {
+                edgeOrder[j] = edgeOrder[j - 1];
+                j--;
+            }
+            edgeOrder[j] = edge;
+        }
+    }
+
+    /**
+     * Fills a span of pixels with the specified color, blending it over them if it is translucent.
+     *
+     * @param pixels    The image's pixels.
+     * @param start     The index of the first pixel, inclusive.
+     * @param end       The index of the last pixel, exclusive.
+     * @param argb      The non-premultiplied color to fill with.
+     * @param alpha     The alpha of the color.
+     * @param imageType The type of the image, which decides how its pixels are stored.
+     */
+    private static void fillSpan(int[] pixels, int start, int end, int argb, int alpha, int imageType) {
+        if (alpha == 255) {
+            Arrays.fill(pixels, start, end, argb);
+            return;
+        }
+
+        int red = (argb >> 16) & 0xFF;
+        int green = (argb >> 8) & 0xFF;
+        int blue = argb & 0xFF;
+        int inverseAlpha = 255 - alpha;
+
+        if (imageType == BufferedImage.TYPE_INT_ARGB) {
+            for (int i = start; i < end; i++) {
+                int destination = pixels[i];
+                int destinationAlpha = destination >>> 24;
+                int remainingAlpha = multiply(destinationAlpha, inverseAlpha);
+                int resultAlpha = alpha + remainingAlpha;
+
+                pixels[i] = resultAlpha << 24
+                        | ((red * alpha + ((destination >> 16) & 0xFF) * remainingAlpha + resultAlpha / 2) / resultAlpha) << 16
+                        | ((green * alpha + ((destination >> 8) & 0xFF) * remainingAlpha + resultAlpha / 2) / resultAlpha) << 8
+                        | (blue * alpha + (destination & 0xFF) * remainingAlpha + resultAlpha / 2) / resultAlpha;
+            }
+            return;
+        }
+
+        // the source premultiplied by its alpha, then the destination scaled by what the source lets through
+        int sourceRed = multiply(red, alpha);
+        int sourceGreen = multiply(green, alpha);
+        int sourceBlue = multiply(blue, alpha);
+        boolean premultiplied = imageType == BufferedImage.TYPE_INT_ARGB_PRE;
+
+        for (int i = start; i < end; i++) {
+            int destination = pixels[i];
+            int resultAlpha = premultiplied ? alpha + multiply(destination >>> 24, inverseAlpha) : 255;
+
+            pixels[i] = resultAlpha << 24
+                    | (sourceRed + multiply((destination >> 16) & 0xFF, inverseAlpha)) << 16
+                    | (sourceGreen + multiply((destination >> 8) & 0xFF, inverseAlpha)) << 8
+                    | (sourceBlue + multiply(destination & 0xFF, inverseAlpha));
+        }
+    }
+
+    /** Multiplies two values in the range {@code 0-255}, as if they were fractions of {@code 255}, rounding. */
+    private static int multiply(int a, int b) {
+        int product = a * b + 128;
+        return (product + (product >> 8)) >> 8;
+    }
+}
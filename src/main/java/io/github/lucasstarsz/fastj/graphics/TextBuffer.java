@@ -0,0 +1,356 @@
+package io.github.lucasstarsz.fastj.graphics;
+
+import java.util.Arrays;
+
+/**
+ * A mutable, reusable buffer of characters for text that changes often, such as scores, timers, and debug readouts.
+ * <p>
+ * Unlike building a new {@code String} for every change, a {@code TextBuffer} is modified in place -- including
+ * formatting numbers directly into its characters -- so updating it does not allocate memory, as long as its capacity
+ * is not exceeded. Each change increases the buffer's {@link #getVersion() version}, allowing anything that displays
+ * the buffer to tell whether it needs to measure it again.
+ * <p>
+ * Methods that modify the buffer return it, allowing calls to be chained:
+ * <pre>{@code
+ * scoreBuffer.clear().append("Score: ").appendPadded(score, 6, '0');
+ * }</pre>
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public class TextBuffer implements CharSequence {
+
+    /** The default capacity of a {@code TextBuffer}: {@code 32} characters. */
+    public static final int DefaultCapacity = 32;
+
+    private char[] chars;
+    private int length;
+    private int version;
+
+    /** Constructs an empty {@code TextBuffer}, with the {@link #DefaultCapacity default capacity}. */
+    public TextBuffer() {
+        this(DefaultCapacity);
+    }
+
+    /**
+     * Constructs an empty {@code TextBuffer}, with the specified capacity.
+     *
+     * @param capacity The amount of characters the buffer can hold before it needs to grow.
+     */
+    public TextBuffer(int capacity) {
+        chars = new char[Math.max(capacity, 1)];
+    }
+
+    /**
+     * Constructs a {@code TextBuffer} containing the specified text.
+     *
+     * @param text The initial text of the buffer.
+     */
+    public TextBuffer(CharSequence text) {
+        this(Math.max(text.length(), DefaultCapacity));
+        append(text);
+    }
+
+    /**
+     * Gets the character array backing the buffer.
+     * <p>
+     * Only the first {@link #length()} characters of the array are part of the buffer's text. The array may be
+     * replaced when the buffer grows, and should not be modified.
+     *
+     * @return The buffer's character array.
+     */
+    public char[] getChars() {
+        return chars;
+    }
+
+    /**
+     * Gets the version of the buffer, which changes every time the buffer's text is modified.
+     *
+     * @return The buffer's version.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the amount of characters the buffer can hold before it needs to grow.
+     *
+     * @return The buffer's capacity.
+     */
+    public int getCapacity() {
+        return chars.length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for length " + length);
+        }
+        return chars[index];
+    }
+
+    /**
+     * Creates a new {@code String} from a part of the buffer's text.
+     * <p>
+     * This allocates a new {@code String}.
+     *
+     * @param start The start index, inclusive.
+     * @param end   The end index, exclusive.
+     * @return The requested part of the buffer's text.
+     */
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") is out of bounds for length " + length);
+        }
+        return new String(chars, start, end - start);
+    }
+
+    /**
+     * Empties the buffer, keeping its capacity.
+     *
+     * @return The {@code TextBuffer}, for method chaining.
+     */
+    public TextBuffer clear() {
+        length = 0;
+        version++;
+        return this;
+    }
+
+    /**
+     * Replaces the buffer's text with the specified text.
+     *
+     * @param text The new text of the buffer.
+     * @return The {@code TextBuffer}, for method chaining.
+     */
+    public TextBuffer set(CharSequence text) {
+        length = 0;
+        return append(text);
+    }
+
+    /**
+     * Sets the length of the buffer's text.
+     * <p>
+     * If the new length is longer than the current one, the added characters are spaces.
+     *
+     * @param newLength The new length of the buffer's text.
+     * @return The {@code TextBuffer}, for method chaining.
+     */
+    public TextBuffer setLength(int newLength) {
+        if (newLength < 0) {
+            throw new IndexOutOfBoundsException("Length cannot be negative: " + newLength);
+        }
+
+        ensureCapacity(newLength);
+        if (newLength > length) {
+            Arrays.fill(chars, length, newLength, ' ');
+        }
+
+        length = newLength;
+        version++;
+        return this;
+    }
+
+    /**
+     * Sets the character at the specified index of the buffer.
+     *
+     * @param index     The index of the character to set.
+     * @param character The new character.
+     * @return The {@code TextBuffer}, for method chaining.
+     */
+    public TextBuffer setCharAt(int index, char character) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for length " + length);
+        }
+
+        chars[index] = character;
+        version++;
+        return this;
+    }
+
+    /**
+     * Appends the specified character to the buffer.
+     *
+     * @param character The character to append.
+     * @return The {@code TextBuffer}, for method chaining.
+     */
+    public TextBuffer append(char character) {
+        ensureCapacity(length + 1);
+        chars[length++] = character;
+        version++;
+        return this;
+    }
+
+    /**
+     * Appends the specified text to the buffer.
+     *
+     * @param text The text to append.
+     * @return The {@code TextBuffer}, for method chaining.
+     */
+    public TextBuffer append(CharSequence text) {
+        int textLength = text.length();
+        ensureCapacity(length + textLength);
+
+        for (int i = 0; i < textLength; i++) {
+            chars[length++] = text.charAt(i);
+        }
+
+        version++;
+        return this;
+    }
+
+    /**
+     * Appends the decimal form of the specified {@code int} to the buffer.
+     *
+     * @param value The value to append.
+     * @return The {@code TextBuffer}, for method chaining.
+     */
+    public TextBuffer append(int value) {
+        return appendPadded(value, 0, ' ');
+    }
+
+    /**
+     * Appends the decimal form of the specified {@code long} to the buffer.
+     *
+     * @param value The value to append.
+     * @return The {@code TextBuffer}, for method chaining.
+     */
+    public TextBuffer append(long value) {
+        return appendPadded(value, 0, ' ');
+    }
+
+    /**
+     * Appends the decimal form of the specified {@code float} to the buffer, rounded to the specified amount of
+     * decimal places.
+     *
+     * @param value         The value to append.
+     * @param decimalPlaces The amount of digits to show after the decimal point, from {@code 0} to {@code 9}.
+     * @return The {@code TextBuffer}, for method chaining.
+     */
+    public TextBuffer append(float value, int decimalPlaces) {
+        if (decimalPlaces < 0 || decimalPlaces > 9) {
+            throw new IllegalArgumentException("The amount of decimal places must be between 0 and 9, but was " + decimalPlaces + ".");
+        }
+
+        if (Float.isNaN(value)) {
+            return append("NaN");
+        }
+        if (Float.isInfinite(value)) {
+            return append(value > 0f ? "Infinity" : "-Infinity");
+        }
+
+        long scale = 1L;
+        for (int i = 0; i < decimalPlaces; i++) {
+            scale *= 10L;
+        }
+
+        long scaledValue = Math.round(Math.abs((double) value) * scale);
+        if (value < 0f && scaledValue != 0L) {
+            append('-');
+        }
+
+        appendPadded(scaledValue / scale, 0, ' ');
+
+        if (decimalPlaces > 0) {
+            append('.');
+            appendPadded(scaledValue % scale, decimalPlaces, '0');
+        }
+
+        return this;
+    }
+
+    /**
+     * Appends the decimal form of the specified {@code long} to the buffer, padded on the left to at least the
+     * specified width.
+     * <p>
+     * This is useful for counters and timers whose text should not change width as their value changes. When padding
+     * with {@code '0'}, a negative sign is placed before the padding.
+     *
+     * @param value    The value to append.
+     * @param minWidth The minimum amount of characters to append.
+     * @param padding  The character to pad with.
+     * @return The {@code TextBuffer}, for method chaining.
+     */
+    public TextBuffer appendPadded(long value, int minWidth, char padding) {
+        boolean negative = value < 0L;
+        int digitCount = 1;
+        for (long remaining = value / 10L; remaining != 0L; remaining /= 10L) {
+            digitCount++;
+        }
+
+        int numberWidth = digitCount + (negative ? 1 : 0);
+        int paddingWidth = Math.max(minWidth - numberWidth, 0);
+        ensureCapacity(length + paddingWidth + numberWidth);
+
+        if (negative && padding == '0') {
+            chars[length++] = '-';
+        }
+        for (int i = 0; i < paddingWidth; i++) {
+            chars[length++] = padding;
+        }
+        if (negative && padding != '0') {
+            chars[length++] = '-';
+        }
+
+        // write digits from the end; negating each digit keeps Long.MIN_VALUE in range
+        int digitIndex = length + digitCount - 1;
+        long remaining = value;
+        for (int i = 0; i < digitCount; i++) {
+            int digit = (int) (remaining % 10L);
+            chars[digitIndex--] = (char) ('0' + (negative ? -digit : digit));
+            remaining /= 10L;
+        }
+        length += digitCount;
+
+        version++;
+        return this;
+    }
+
+    /**
+     * Checks whether the buffer's text is the same as the specified text.
+     *
+     * @param text The text to compare against.
+     * @return Whether the buffer's text is the same as the specified text.
+     */
+    public boolean contentEquals(CharSequence text) {
+        if (text.length() != length) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (chars[i] != text.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Creates a {@code String} containing the buffer's text.
+     * <p>
+     * This allocates a new {@code String}.
+     *
+     * @return The buffer's text.
+     */
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+
+    /**
+     * Grows the buffer's character array, if it cannot hold the specified amount of characters.
+     *
+     * @param minCapacity The amount of characters the buffer needs to hold.
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(minCapacity, chars.length * 2));
+        }
+    }
+}
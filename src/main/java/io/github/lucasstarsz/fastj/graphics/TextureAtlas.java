@@ -0,0 +1,322 @@
+package io.github.lucasstarsz.fastj.graphics;
+
+import io.github.lucasstarsz.fastj.engine.CrashMessages;
+import io.github.lucasstarsz.fastj.engine.FastJEngine;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.imageio.ImageIO;
+
+/**
+ * A set of images packed into a single image, drawn by their regions of it.
+ * <p>
+ * Drawing many small images means switching the image the rendering pipeline draws from for each one. A {@code
+ * TextureAtlas} packs its images into a single image instead, so that any amount of sprites drawn from the same atlas
+ * only ever draw from that one image:
+ * <pre>{@code
+ * TextureAtlas atlas = TextureAtlas.load("assets/player_idle.png", "assets/player_walk1.png", "assets/player_walk2.png");
+ * Sprite2D player = new Sprite2D(atlas, "player_walk1", "player_walk2");
+ * }</pre>
+ * Images are packed onto shelves, tallest first, with a gap of {@link #DefaultPadding transparent padding} between them
+ * so that filtering never samples a neighbouring image.
+ * <p>
+ * When drawing to the screen, the atlas keeps a copy of its image in video memory, as a {@link VolatileImage}. The
+ * copy is validated before each draw, and is restored from the packed image whenever its contents are lost. Drawing to
+ * an image instead of the screen uses the packed image directly.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public class TextureAtlas {
+
+    private static final String AtlasReadErrorMessage = CrashMessages.theGameCrashed("a texture atlas image reading error.");
+
+    /** The default amount of transparent pixels between the images of an atlas: {@code 1}. */
+    public static final int DefaultPadding = 1;
+    /** The maximum width and height of an atlas' packed image: {@code 4096}. */
+    public static final int MaxSize = 4096;
+
+    private final BufferedImage image;
+    private final String[] names;
+    private final Rectangle[] regions;
+    private final Map<String, Integer> regionIndices;
+
+    private VolatileImage acceleratedImage;
+    private int restoreCount;
+
+    private TextureAtlas(BufferedImage image, String[] names, Rectangle[] regions) {
+        this.image = image;
+        this.names = names;
+        this.regions = regions;
+
+        regionIndices = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            regionIndices.put(names[i], i);
+        }
+    }
+
+    /**
+     * Loads the images at the specified locations, and packs them into an atlas.
+     * <p>
+     * Each image's region is named after its file, without the file extension -- {@code "assets/player.png"} is named
+     * {@code "player"}.
+     *
+     * @param fileLocations Locations of the image files.
+     * @return The packed atlas.
+     */
+    public static TextureAtlas load(String... fileLocations) {
+        Map<String, BufferedImage> images = new LinkedHashMap<>();
+
+        for (String fileLocation : fileLocations) {
+            Path file = Paths.get(fileLocation);
+            String fileName = file.getFileName().toString();
+            int extensionIndex = fileName.lastIndexOf('.');
+            String name = extensionIndex == -1 ? fileName : fileName.substring(0, extensionIndex);
+
+            try {
+                BufferedImage loadedImage = ImageIO.read(file.toFile());
+                if (loadedImage == null) {
+                    throw new IOException("Unsupported image format: \"" + fileLocation + "\".");
+                }
+                images.put(name, loadedImage);
+            } catch (IOException e) {
+                FastJEngine.error(AtlasReadErrorMessage, e);
+            }
+        }
+
+        return pack(images);
+    }
+
+    /**
+     * Packs the specified images into an atlas, with the {@link #DefaultPadding default padding} between them.
+     *
+     * @param images The images to pack, mapped by the names of their regions.
+     * @return The packed atlas.
+     */
+    public static TextureAtlas pack(Map<String, BufferedImage> images) {
+        return pack(images, DefaultPadding);
+    }
+
+    /**
+     * Packs the specified images into an atlas, with the specified padding between them.
+     * <p>
+     * Regions are indexed in the iteration order of the map.
+     *
+     * @param images  The images to pack, mapped by the names of their regions.
+     * @param padding The amount of transparent pixels between the images.
+     * @return The packed atlas.
+     */
+    public static TextureAtlas pack(Map<String, BufferedImage> images, int padding) {
+        int imageCount = images.size();
+        String[] names = images.keySet().toArray(new String[0]);
+        BufferedImage[] sources = images.values().toArray(new BufferedImage[0]);
+        Rectangle[] regions = new Rectangle[imageCount];
+
+        // start with a width that fits the widest image, and is close to square
+        long totalArea = 0L;
+        int maxWidth = 1;
+        for (BufferedImage source : sources) {
+            totalArea += (long) (source.getWidth() + padding) * (source.getHeight() + padding);
+            maxWidth = Math.max(maxWidth, source.getWidth() + padding * 2);
+        }
+        int atlasWidth = Integer.highestOneBit(Math.max(Math.max(maxWidth, (int) Math.ceil(Math.sqrt(totalArea))), 2) - 1) << 1;
+
+        // place the images on shelves, tallest first
+        Integer[] packOrder = new Integer[imageCount];
+        for (int i = 0; i < imageCount; i++) {
+            packOrder[i] = i;
+        }
+        Arrays.sort(packOrder, Comparator.comparingInt((Integer i) -> sources[i].getHeight()).reversed());
+
+        int x = padding;
+        int y = padding;
+        int shelfHeight = 0;
+        for (int i : packOrder) {
+            BufferedImage source = sources[i];
+            if (x + source.getWidth() + padding > atlasWidth) {
+                x = padding;
+                y += shelfHeight + padding;
+                shelfHeight = 0;
+            }
+
+            regions[i] = new Rectangle(x, y, source.getWidth(), source.getHeight());
+            x += source.getWidth() + padding;
+            shelfHeight = Math.max(shelfHeight, source.getHeight());
+        }
+        int atlasHeight = Math.max(y + shelfHeight + padding, 1);
+
+        if (atlasWidth > MaxSize || atlasHeight > MaxSize) {
+            FastJEngine.error(CrashMessages.illegalAction(TextureAtlas.class),
+                    new IllegalArgumentException("The images need an atlas of " + atlasWidth + "*" + atlasHeight + ", which is larger than the maximum of " + MaxSize + "*" + MaxSize + ".")
+            );
+        }
+
+        BufferedImage atlasImage = createCompatibleImage(atlasWidth, atlasHeight);
+        Graphics2D g = atlasImage.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        for (int i = 0; i < imageCount; i++) {
+            g.drawImage(sources[i], regions[i].x, regions[i].y, null);
+        }
+        g.dispose();
+
+        return new TextureAtlas(atlasImage, names, regions);
+    }
+
+    /**
+     * Gets the atlas' packed image.
+     *
+     * @return The packed image.
+     */
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    /**
+     * Gets the amount of regions in the atlas.
+     *
+     * @return The amount of regions.
+     */
+    public int getRegionCount() {
+        return regions.length;
+    }
+
+    /**
+     * Gets the index of the region with the specified name.
+     *
+     * @param name The name of the region.
+     * @return The index of the region, or {@code -1} if the atlas has no region with that name.
+     */
+    public int indexOf(String name) {
+        Integer index = regionIndices.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Gets the name of the region at the specified index.
+     *
+     * @param region The index of the region.
+     * @return The name of the region.
+     */
+    public String getName(int region) {
+        return names[region];
+    }
+
+    /**
+     * Gets the area of the packed image covered by the region at the specified index.
+     * <p>
+     * The returned rectangle is owned by the atlas, and should not be modified.
+     *
+     * @param region The index of the region.
+     * @return The region's area of the packed image.
+     */
+    public Rectangle getRegion(int region) {
+        return regions[region];
+    }
+
+    /**
+     * Gets the amount of times the atlas' copy in video memory has been restored, after its contents were lost or it
+     * became incompatible with the screen.
+     *
+     * @return The amount of restores.
+     */
+    public int getRestoreCount() {
+        return restoreCount;
+    }
+
+    /**
+     * Draws the region at the specified index, with its top-left corner at the specified location.
+     *
+     * @param g      The {@code Graphics2D} to draw to.
+     * @param region The index of the region.
+     * @param x      The x location to draw the region at.
+     * @param y      The y location to draw the region at.
+     */
+    public void drawRegion(Graphics2D g, int region, int x, int y) {
+        Rectangle source = regions[region];
+        g.drawImage(imageFor(g),
+                x, y, x + source.width, y + source.height,
+                source.x, source.y, source.x + source.width, source.y + source.height,
+                null
+        );
+    }
+
+    /** Frees the atlas' copy in video memory, if it has one. It is created again the next time the atlas is drawn. */
+    public void flush() {
+        if (acceleratedImage != null) {
+            acceleratedImage.flush();
+            acceleratedImage = null;
+        }
+    }
+
+    /**
+     * Gets the image to draw the atlas' regions from, when drawing to the specified {@code Graphics2D}.
+     * <p>
+     * When drawing to the screen, this validates the atlas' copy in video memory -- creating it, or restoring its
+     * contents, as needed.
+     *
+     * @param g The {@code Graphics2D} that will be drawn to.
+     * @return The image to draw from.
+     */
+    private Image imageFor(Graphics2D g) {
+        GraphicsConfiguration graphicsConfiguration = g.getDeviceConfiguration();
+        if (graphicsConfiguration == null || graphicsConfiguration.getDevice().getType() != GraphicsDevice.TYPE_RASTER_SCREEN) {
+            return image;
+        }
+
+        if (acceleratedImage == null) {
+            createAcceleratedImage(graphicsConfiguration);
+        }
+
+        int status = acceleratedImage.validate(graphicsConfiguration);
+        if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+            acceleratedImage.flush();
+            createAcceleratedImage(graphicsConfiguration);
+            restoreCount++;
+        } else if (status == VolatileImage.IMAGE_RESTORED) {
+            copyToAcceleratedImage();
+            restoreCount++;
+        }
+
+        // if the contents were lost after restoring them, draw from the packed image until the next validation
+        return acceleratedImage.contentsLost() ? image : acceleratedImage;
+    }
+
+    private void createAcceleratedImage(GraphicsConfiguration graphicsConfiguration) {
+        acceleratedImage = graphicsConfiguration.createCompatibleVolatileImage(image.getWidth(), image.getHeight(), Transparency.TRANSLUCENT);
+        copyToAcceleratedImage();
+    }
+
+    /** Copies the packed image into the atlas' copy in video memory. */
+    private void copyToAcceleratedImage() {
+        Graphics2D g = acceleratedImage.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+    }
+
+    private static BufferedImage createCompatibleImage(int width, int height) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            return GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice()
+                    .getDefaultConfiguration()
+                    .createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+}
@@ -0,0 +1,387 @@
+package io.github.lucasstarsz.fastj.graphics;
+
+import io.github.lucasstarsz.fastj.graphics.game.GameObject;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class that draws game objects into an image split into square tiles, drawing the tiles in parallel.
+ * <p>
+ * Each game object is added along with its bounds on the image, and is assigned to every tile its bounds overlap.
+ * Rendering then clears each tile and draws its game objects -- in the order they were added -- into that tile's slice
+ * of the image, with the tiles split across the cores of the machine. Since every tile only covers its own pixels, the
+ * result is the same as drawing every game object into the whole image on one thread.
+ * <p>
+ * Game objects may be drawn by several threads at once, and so must not change any shared state while rendering. The
+ * renderer's arrays are reused between frames, so assigning game objects to tiles does not allocate memory once they
+ * have grown large enough.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public class TiledRenderer {
+
+    /** The default width and height of each tile, in pixels: {@code 128}. */
+    public static final int DefaultTileSize = 128;
+
+    private final int tileSize;
+
+    private BufferedImage image;
+    private BufferedImage[] tileImages;
+    private Rectangle[] tileAreas;
+    private int tileColumns;
+    private int tileRows;
+
+    private GameObject[] objects;
+    private int[] objectTiles;
+    private int objectCount;
+
+    private int[] tileObjectStarts;
+    private int[] tileObjects;
+
+    private GameObject failedObject;
+    private Exception failure;
+
+    private boolean isScanlineRasterizing;
+
+    /** Constructs a {@code TiledRenderer} with the {@link #DefaultTileSize default tile size}. */
+    public TiledRenderer() {
+        this(DefaultTileSize);
+    }
+
+    /**
+     * Constructs a {@code TiledRenderer} with the specified tile size.
+     *
+     * @param tileSize The width and height of each tile, in pixels.
+     */
+    public TiledRenderer(int tileSize) {
+        this.tileSize = Math.max(tileSize, 1);
+
+        objects = new GameObject[64];
+        objectTiles = new int[64 * 4];
+        tileObjectStarts = new int[1];
+        tileObjects = new int[64];
+    }
+
+    /**
+     * Gets the width and height of each tile, in pixels.
+     *
+     * @return The tile size.
+     */
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * Gets the amount of tiles the image is split into.
+     *
+     * @return The amount of tiles.
+     */
+    public int getTileCount() {
+        return tileColumns * tileRows;
+    }
+
+    /**
+     * Gets the image the renderer draws into.
+     *
+     * @return The renderer's image, or {@code null} if it has none.
+     */
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    /**
+     * Sets the image the renderer draws into, splitting it into tiles.
+     *
+     * @param newImage The new image to draw into.
+     */
+    public void setImage(BufferedImage newImage) {
+        image = newImage;
+        tileColumns = (image.getWidth() + tileSize - 1) / tileSize;
+        tileRows = (image.getHeight() + tileSize - 1) / tileSize;
+
+        int tileCount = tileColumns * tileRows;
+        tileImages = new BufferedImage[tileCount];
+        tileAreas = new Rectangle[tileCount];
+        tileObjectStarts = new int[tileCount + 1];
+
+        for (int row = 0; row < tileRows; row++) {
+            for (int column = 0; column < tileColumns; column++) {
+                int x = column * tileSize;
+                int y = row * tileSize;
+                int width = Math.min(tileSize, image.getWidth() - x);
+                int height = Math.min(tileSize, image.getHeight() - y);
+
+                int tile = row * tileColumns + column;
+                tileAreas[tile] = new Rectangle(x, y, width, height);
+                tileImages[tile] = image.getSubimage(x, y, width, height);
+            }
+        }
+    }
+
+    /**
+     * Gets the amount of game objects added since the renderer was last cleared.
+     *
+     * @return The amount of game objects.
+     */
+    public int getObjectCount() {
+        return objectCount;
+    }
+
+    /**
+     * Gets the amount of game objects assigned to the specified tile, as of the last render.
+     *
+     * @param tile The index of the tile.
+     * @return The amount of game objects drawn in the tile.
+     */
+    public int getTileObjectCount(int tile) {
+        return tileObjectStarts[tile + 1] - tileObjectStarts[tile];
+    }
+
+    /**
+     * Adds a game object to draw in each tile its bounds overlap.
+     *
+     * @param obj  The game object to draw.
+     * @param minX The left edge of the game object's bounds on the image.
+     * @param minY The top edge of the game object's bounds on the image.
+     * @param maxX The right edge of the game object's bounds on the image.
+     * @param maxY The bottom edge of the game object's bounds on the image.
+     */
+    public void addObject(GameObject obj, float minX, float minY, float maxX, float maxY) {
+        // a pixel of padding for outlines, as with damaged regions
+        int minColumn = Math.max((int) Math.floor((minX - 1f) / tileSize), 0);
+        int minRow = Math.max((int) Math.floor((minY - 1f) / tileSize), 0);
+        int maxColumn = Math.min((int) Math.floor((maxX + 1f) / tileSize), tileColumns - 1);
+        int maxRow = Math.min((int) Math.floor((maxY + 1f) / tileSize), tileRows - 1);
+
+        if (minColumn > maxColumn || minRow > maxRow) {
+            return;
+        }
+
+        addObjectToTiles(obj, minColumn, minRow, maxColumn, maxRow);
+    }
+
+    /**
+     * Adds a game object to draw in every tile, for game objects whose bounds do not cover everything they draw.
+     *
+     * @param obj The game object to draw.
+     */
+    public void addObjectToAllTiles(GameObject obj) {
+        addObjectToTiles(obj, 0, 0, tileColumns - 1, tileRows - 1);
+    }
+
+    /** Removes every game object from the renderer. */
+    public void clearObjects() {
+        Arrays.fill(objects, 0, objectCount, null);
+        objectCount = 0;
+    }
+
+    /**
+     * Gets whether the renderer fills simple polygons with the {@link ScanlineRasterizer}, when its image and rendering
+     * hints allow it.
+     *
+     * @return Whether the renderer uses the scanline rasterizer.
+     */
+    public boolean isScanlineRasterizing() {
+        return isScanlineRasterizing;
+    }
+
+    /**
+     * Sets whether the renderer fills simple polygons with the {@link ScanlineRasterizer}, when its image and rendering
+     * hints allow it.
+     *
+     * @param scanlineRasterizing Whether the renderer should use the scanline rasterizer.
+     */
+    public void setScanlineRasterizing(boolean scanlineRasterizing) {
+        isScanlineRasterizing = scanlineRasterizing;
+    }
+
+    /**
+     * Gets the game object that failed to render during the last render, if any.
+     *
+     * @return The game object that failed to render, or {@code null} if none failed.
+     */
+    public GameObject getFailedObject() {
+        return failedObject;
+    }
+
+    /**
+     * Gets the exception thrown while rendering the {@link #getFailedObject() failed game object}, if any.
+     *
+     * @return The exception thrown while rendering, or {@code null} if none was thrown.
+     */
+    public Exception getFailure() {
+        return failure;
+    }
+
+    /**
+     * Clears each tile to the specified background, and draws its game objects into it.
+     * <p>
+     * If a game object throws an exception while rendering, the rest of that tile is skipped, and the game object and
+     * exception are available from {@link #getFailedObject()} and {@link #getFailure()}.
+     *
+     * @param transform       The transform to draw the game objects with, such as a camera transform.
+     * @param backgroundColor The color to clear each tile to.
+     * @param renderHints     The rendering hints to draw with.
+     * @param allowParallel   Whether the tiles may be split across multiple threads.
+     * @return Whether every game object rendered without throwing an exception.
+     */
+    public boolean render(AffineTransform transform, Color backgroundColor, Map<RenderingHints.Key, Object> renderHints, boolean allowParallel) {
+        assignObjectsToTiles();
+        failedObject = null;
+        failure = null;
+
+        TileBatch allTiles = new TileBatch(0, getTileCount(), transform, backgroundColor, renderHints);
+        if (allowParallel && getTileCount() > 1 && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ForkJoinPool.commonPool().invoke(allTiles);
+        } else {
+            renderTiles(0, getTileCount(), transform, backgroundColor, renderHints);
+        }
+
+        return failure == null;
+    }
+
+    private void addObjectToTiles(GameObject obj, int minColumn, int minRow, int maxColumn, int maxRow) {
+        if (objectCount == objects.length) {
+            objects = Arrays.copyOf(objects, objects.length * 2);
+            objectTiles = Arrays.copyOf(objectTiles, objects.length * 4);
+        }
+
+        objects[objectCount] = obj;
+        int t = objectCount * 4;
+        objectTiles[t] = minColumn;
+        objectTiles[t + 1] = minRow;
+        objectTiles[t + 2] = maxColumn;
+        objectTiles[t + 3] = maxRow;
+        objectCount++;
+    }
+
+    /** Lists each tile's game objects, in the order they were added, using a counting sort by tile. */
+    private void assignObjectsToTiles() {
+        int tileCount = getTileCount();
+        Arrays.fill(tileObjectStarts, 0);
+
+        // count the game objects in each tile, offset by one so the counts become start indices
+        for (int i = 0; i < objectCount; i++) {
+            int t = i * 4;
+            for (int row = objectTiles[t + 1]; row <= objectTiles[t + 3]; row++) {
+                for (int column = objectTiles[t]; column <= objectTiles[t + 2]; column++) {
+                    tileObjectStarts[row * tileColumns + column + 1]++;
+                }
+            }
+        }
+        for (int tile = 0; tile < tileCount; tile++) {
+            tileObjectStarts[tile + 1] += tileObjectStarts[tile];
+        }
+
+        int totalAssignments = tileObjectStarts[tileCount];
+        if (tileObjects.length < totalAssignments) {
+            tileObjects = new int[Math.max(totalAssignments, tileObjects.length * 2)];
+        }
+
+        // place each game object, moving the start of its tiles forward as they fill up
+        for (int i = 0; i < objectCount; i++) {
+            int t = i * 4;
+            for (int row = objectTiles[t + 1]; row <= objectTiles[t + 3]; row++) {
+                for (int column = objectTiles[t]; column <= objectTiles[t + 2]; column++) {
+                    tileObjects[tileObjectStarts[row * tileColumns + column]++] = i;
+                }
+            }
+        }
+
+        // each start now holds the start of the next tile, so shift them back by one tile
+        System.arraycopy(tileObjectStarts, 0, tileObjectStarts, 1, tileCount);
+        tileObjectStarts[0] = 0;
+    }
+
+    /**
+     * Renders a range of tiles on the current thread.
+     *
+     * @param start           The index of the first tile, inclusive.
+     * @param end             The index of the last tile, exclusive.
+     * @param transform       The transform to draw the game objects with.
+     * @param backgroundColor The color to clear each tile to.
+     * @param renderHints     The rendering hints to draw with.
+     */
+    private void renderTiles(int start, int end, AffineTransform transform, Color backgroundColor, Map<RenderingHints.Key, Object> renderHints) {
+        for (int tile = start; tile < end; tile++) {
+            Rectangle area = tileAreas[tile];
+            Graphics2D g = tileImages[tile].createGraphics();
+
+            try {
+                g.setRenderingHints(renderHints);
+                g.setBackground(backgroundColor);
+                g.clearRect(0, 0, area.width, area.height);
+                g.translate(-area.x, -area.y);
+                g.transform(transform);
+
+                // the rasterizer draws into the whole image, clipped to the tile
+                boolean rasterizing = isScanlineRasterizing && ScanlineRasterizer.supports(image) && ScanlineRasterizer.allows(renderHints);
+
+                for (int i = tileObjectStarts[tile]; i < tileObjectStarts[tile + 1]; i++) {
+                    GameObject obj = objects[tileObjects[i]];
+                    try {
+                        if (rasterizing && ScanlineRasterizer.get().fill(obj, transform, image, area)) {
+                            continue;
+                        }
+                        obj.renderHierarchy(g);
+                    } catch (Exception e) {
+                        recordFailure(obj, e);
+                        break;
+                    }
+                }
+            } finally {
+                g.dispose();
+            }
+        }
+    }
+
+    private synchronized void recordFailure(GameObject obj, Exception e) {
+        if (failure == null) {
+            failedObject = obj;
+            failure = e;
+        }
+    }
+
+    /** A range of tiles to render, which splits itself in half until it is a single tile. */
+    private class TileBatch extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int start;
+        private final int end;
+        private final AffineTransform transform;
+        private final Color backgroundColor;
+        private final Map<RenderingHints.Key, Object> renderHints;
+
+        TileBatch(int start, int end, AffineTransform transform, Color backgroundColor, Map<RenderingHints.Key, Object> renderHints) {
+            this.start = start;
+            this.end = end;
+            this.transform = transform;
+            this.backgroundColor = backgroundColor;
+            this.renderHints = renderHints;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start < 2) {
+                renderTiles(start, end, transform, backgroundColor, renderHints);
+                return;
+            }
+
+            int middle = (start + end) >>> 1;
+            invokeAll(
+                    new TileBatch(start, middle, transform, backgroundColor, renderHints),
+                    new TileBatch(middle, end, transform, backgroundColor, renderHints)
+            );
+        }
+    }
+}
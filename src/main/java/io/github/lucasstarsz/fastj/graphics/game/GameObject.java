@@ -1,14 +1,22 @@
 package io.github.lucasstarsz.fastj.graphics.game;
 
+import io.github.lucasstarsz.fastj.engine.CrashMessages;
+import io.github.lucasstarsz.fastj.engine.FastJEngine;
 import io.github.lucasstarsz.fastj.math.Pointf;
+import io.github.lucasstarsz.fastj.math.Scratch;
+import io.github.lucasstarsz.fastj.graphics.DrawUtil;
 import io.github.lucasstarsz.fastj.graphics.Drawable;
 
 import io.github.lucasstarsz.fastj.systems.behaviors.Behavior;
 import io.github.lucasstarsz.fastj.systems.control.Scene;
+import io.github.lucasstarsz.fastj.systems.profiling.Profiler;
 
 import java.awt.Graphics2D;
+import java.awt.Shape;
 import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -16,6 +24,11 @@ import java.util.List;
  * <p>
  * The {@code GameObject} class is one of the most useful backing classes in the engine. It contains the logic needed to
  * transform objects that can be rendered to the screen -- polygons, models, and (still a work in progress) text.
+ * <p>
+ * {@code GameObject}s can also be attached to one another, forming a hierarchy. A child's geometry is defined in the
+ * space of its parent, so transforming the parent moves all of its children with it. Each {@code GameObject} caches
+ * its composed world transform, and the world-space bounds and collision path of a child are only recomputed when
+ * they are queried after a change.
  *
  * @author Andrew Dey
  * @version 1.0.0
@@ -29,11 +42,30 @@ public abstract class GameObject extends Drawable {
     /** {@code float} representing a default rotation value of {@code 0f}. */
     public static final float DefaultRotation = 0f;
 
+    private static final AffineTransform BakedTransform = new AffineTransform();
+
     private final List<Behavior> behaviors;
 
+    private GameObject parent;
+    private final List<GameObject> children;
+
+    private final AffineTransform worldTransform;
+    private boolean worldTransformOutdated;
+
+    private Pointf[] worldBounds;
+    private Shape worldCollisionPath;
+    private boolean worldDataOutdated;
+
+    private int appearanceVersion;
+
     /** Initializes {@link GameObject} internals. */
     protected GameObject() {
         behaviors = new ArrayList<>();
+        children = new ArrayList<>();
+
+        worldTransform = new AffineTransform();
+        worldTransformOutdated = true;
+        worldDataOutdated = true;
     }
 
     /**
@@ -59,7 +91,13 @@ public abstract class GameObject extends Drawable {
      * @return The {@code GameObject}, for method chaining.
      */
     public GameObject setTranslation(Pointf setTranslation) {
-        translate(Pointf.multiply(getTranslation(), -1f).add(setTranslation));
+        Scratch scratch = Scratch.get();
+        int mark = scratch.mark();
+        try {
+            translate(scratch.point(-getTranslation().x, -getTranslation().y).add(setTranslation));
+        } finally {
+            scratch.release(mark);
+        }
         return this;
     }
 
@@ -95,7 +133,13 @@ public abstract class GameObject extends Drawable {
      * @return The {@code GameObject}, for method chaining.
      */
     public GameObject setScale(Pointf setScale) {
-        scale(Pointf.multiply(getScale(), -1f).add(setScale));
+        Scratch scratch = Scratch.get();
+        int mark = scratch.mark();
+        try {
+            scale(scratch.point(-getScale().x, -getScale().y).add(setScale));
+        } finally {
+            scratch.release(mark);
+        }
         return this;
     }
 
@@ -150,13 +194,275 @@ public abstract class GameObject extends Drawable {
         return transformation;
     }
 
+    /**
+     * Gets the transform the {@code GameObject} applies to its own geometry, and to the geometry of its children.
+     * <p>
+     * Objects that store their geometry untransformed, such as {@link Model2D}, return the transform they draw that
+     * geometry with. Objects that apply their transformations directly to their geometry, such as {@link Polygon2D},
+     * only apply their local transform to their children -- it holds the transformations applied since the object was
+     * created. By default, this is the identity transform.
+     * <p>
+     * The returned transform is owned by the {@code GameObject}, and should not be modified.
+     *
+     * @return The local transform, as an {@link AffineTransform}.
+     */
+    public AffineTransform getLocalTransform() {
+        return BakedTransform;
+    }
+
+    /**
+     * Gets the transform from the {@code GameObject}'s local space to world space.
+     * <p>
+     * This is the composition of the local transforms of the {@code GameObject} and all of its parents. It is cached,
+     * and only recomputed after the {@code GameObject} or one of its parents is transformed.
+     * <p>
+     * The returned transform is owned by the {@code GameObject}, and should not be modified.
+     *
+     * @return The world transform, as an {@link AffineTransform}.
+     */
+    public AffineTransform getWorldTransform() {
+        if (worldTransformOutdated) {
+            if (parent == null) {
+                worldTransform.setTransform(getLocalTransform());
+            } else {
+                worldTransform.setTransform(parent.getWorldTransform());
+                worldTransform.concatenate(getLocalTransform());
+            }
+            worldTransformOutdated = false;
+        }
+        return worldTransform;
+    }
+
+    /**
+     * Gets the parent of the {@code GameObject}.
+     *
+     * @return The parent {@code GameObject}, or {@code null} if the {@code GameObject} is not attached to one.
+     */
+    public GameObject getParent() {
+        return parent;
+    }
+
+    /**
+     * Gets the children attached to the {@code GameObject}.
+     *
+     * @return An unmodifiable view of the {@code GameObject}'s children.
+     */
+    public List<GameObject> getChildren() {
+        return Collections.unmodifiableList(children);
+    }
+
+    /**
+     * Attaches the specified {@code GameObject} as a child of this {@code GameObject}.
+     * <p>
+     * The child's geometry is interpreted in the local space of this {@code GameObject} from then on. If the child
+     * already has a parent, it is detached from that parent first.
+     * <p>
+     * Children are rendered along with their parent, so they do not need to be added to a scene as game objects.
+     *
+     * @param child The {@code GameObject} to attach.
+     * @return The {@code GameObject}, for method chaining.
+     */
+    public GameObject addChild(GameObject child) {
+        for (GameObject ancestor = this; ancestor != null; ancestor = ancestor.parent) {
+            if (ancestor == child) {
+                FastJEngine.error(CrashMessages.illegalAction(getClass()),
+                        new IllegalArgumentException("A GameObject cannot be attached to itself or to one of its own children."));
+            }
+        }
+
+        if (child.parent != null) {
+            child.parent.removeChild(child);
+        }
+
+        children.add(child);
+        child.parent = this;
+        child.transformChanged();
+
+        return this;
+    }
+
+    /**
+     * Detaches the specified {@code GameObject} from this {@code GameObject}'s children.
+     *
+     * @param child The {@code GameObject} to detach.
+     * @return The {@code GameObject}, for method chaining.
+     */
+    public GameObject removeChild(GameObject child) {
+        if (children.remove(child)) {
+            child.parent = null;
+            child.transformChanged();
+        }
+
+        return this;
+    }
+
+    /**
+     * Gets the boundaries of the {@code GameObject}, in world space.
+     * <p>
+     * For a {@code GameObject} without a parent, this is the same as its own bounds. For a child, its bounds are
+     * mapped through its parent's world transform, the first time they are requested after a change.
+     *
+     * @return The {@code Pointf} array that contains the bounds of the {@code GameObject}.
+     */
+    @Override
+    public Pointf[] getBounds() {
+        if (parent == null) {
+            return super.getBounds();
+        }
+
+        updateWorldData();
+        return worldBounds;
+    }
+
+    /**
+     * Gets the collision path of the {@code GameObject}, in world space.
+     * <p>
+     * For a {@code GameObject} without a parent, this is the same as its own collision path. For a child, its
+     * collision path is mapped through its parent's world transform, the first time it is requested after a change.
+     *
+     * @return The collision path of the {@code GameObject}, as a {@code Shape}.
+     */
+    @Override
+    public Shape getCollisionPath() {
+        if (parent == null) {
+            return super.getCollisionPath();
+        }
+
+        updateWorldData();
+        return worldCollisionPath;
+    }
+
+    @Override
+    protected void setBounds(Pointf[] bounds) {
+        super.setBounds(bounds);
+        worldDataOutdated = true;
+    }
+
+    @Override
+    protected void setCollisionPath(Shape path) {
+        super.setCollisionPath(path);
+        worldDataOutdated = true;
+    }
+
+    @Override
+    protected void translateBounds(Pointf translation) {
+        super.translateBounds(translation);
+        worldDataOutdated = true;
+    }
+
+    /**
+     * Gets the bounds of the {@code GameObject} together with those of all of its children, in world space.
+     *
+     * @param dest The {@code Rectangle2D.Float} to store the bounds in.
+     * @return The specified {@code Rectangle2D.Float}, holding the smallest rectangle around the whole hierarchy.
+     */
+    public Rectangle2D.Float getHierarchyBounds(Rectangle2D.Float dest) {
+        Pointf[] bounds = getBounds();
+        dest.setRect(bounds[0].x, bounds[0].y, 0f, 0f);
+        addHierarchyBounds(dest);
+        return dest;
+    }
+
+    /**
+     * Gets the appearance version of the {@code GameObject}, which changes every time the way it looks changes in a way
+     * its bounds may not show -- such as its color or text, or a rotation that leaves its bounds the same.
+     * <p>
+     * This allows the {@link io.github.lucasstarsz.fastj.graphics.Display Display} to tell which objects need to be
+     * drawn again, when only redrawing the parts of the screen that have changed.
+     *
+     * @return The appearance version of the {@code GameObject}.
+     */
+    public int getAppearanceVersion() {
+        return appearanceVersion;
+    }
+
+    /**
+     * Notifies the {@code GameObject} that the way it looks has changed, without its transformation changing.
+     * <p>
+     * Subclasses should call this whenever they change anything about how they are drawn other than their
+     * transformation, such as their colors.
+     */
+    protected void appearanceChanged() {
+        appearanceVersion++;
+    }
+
+    /**
+     * Gets a version of the {@code GameObject} and all of its children, which changes every time any of their
+     * {@link #getAppearanceVersion() appearance versions} change, or any of them is shown or hidden.
+     *
+     * @return The hierarchy version of the {@code GameObject}.
+     */
+    public int getHierarchyVersion() {
+        int version = 31 * getAppearanceVersion() + (shouldRender() ? 1 : 0);
+        for (GameObject child : children) {
+            version = 31 * version + child.getHierarchyVersion();
+        }
+        return version;
+    }
+
+    /**
+     * Notifies the {@code GameObject} that its transformation has changed.
+     * <p>
+     * This invalidates the cached world transform and world-space data of the {@code GameObject} and all of its
+     * children, and changes their appearance versions -- a transformation may change how they look without changing
+     * their bounds. Subclasses should call this whenever they are transformed.
+     */
+    protected void transformChanged() {
+        worldDataOutdated = true;
+        appearanceVersion++;
+
+        localTransformChanged();
+    }
+
+    /**
+     * Notifies the {@code GameObject} that its local transform has changed, without anything about how the
+     * {@code GameObject} itself is drawn changing.
+     * <p>
+     * This invalidates the cached world transform of the {@code GameObject}, along with everything cached about its
+     * children. Subclasses which bake their transformations into their own geometry should call this when they move
+     * without otherwise changing, so that their children follow them.
+     */
+    protected void localTransformChanged() {
+        worldTransformOutdated = true;
+
+        for (GameObject child : children) {
+            child.transformChanged();
+        }
+    }
+
+    /**
+     * Renders the {@code GameObject}, followed by all of its children, to the specified {@link Graphics2D} parameter.
+     *
+     * @param g The {@code Graphics2D} parameter to render the {@code GameObject} and its children to.
+     */
+    public void renderHierarchy(Graphics2D g) {
+        render(g);
+
+        if (children.isEmpty()) return;
+
+        AffineTransform oldTransform = g.getTransform();
+        g.transform(getLocalTransform());
+
+        for (GameObject child : children) {
+            child.renderHierarchy(g);
+        }
+
+        g.setTransform(oldTransform);
+    }
+
     /**
      * Rotates the {@code GameObject} in the direction of the specified rotation, about its center.
      *
      * @param rotationMod float parameter that the {@code GameObject} will be rotated by.
      */
     public void rotate(float rotationMod) {
-        rotate(rotationMod, getCenter());
+        Scratch scratch = Scratch.get();
+        int mark = scratch.mark();
+        try {
+            rotate(rotationMod, centerOf(scratch.point()));
+        } finally {
+            scratch.release(mark);
+        }
     }
 
     /**
@@ -165,7 +471,13 @@ public abstract class GameObject extends Drawable {
      * @param scaleXY float parameter that the {@code GameObject} will be scaled by, acting as both the x and y values.
      */
     public void scale(float scaleXY) {
-        scale(new Pointf(scaleXY), getCenter());
+        Scratch scratch = Scratch.get();
+        int mark = scratch.mark();
+        try {
+            scale(scratch.point(scaleXY, scaleXY), centerOf(scratch.point()));
+        } finally {
+            scratch.release(mark);
+        }
     }
 
     /**
@@ -175,7 +487,28 @@ public abstract class GameObject extends Drawable {
      *                 values.
      */
     public void scale(Pointf scaleMod) {
-        scale(scaleMod, getCenter());
+        Scratch scratch = Scratch.get();
+        int mark = scratch.mark();
+        try {
+            scale(scaleMod, centerOf(scratch.point()));
+        } finally {
+            scratch.release(mark);
+        }
+    }
+
+    /**
+     * Gets the center of the {@code GameObject}, in the space its transformations are applied in.
+     * <p>
+     * For a child, that is its parent's local space rather than world space -- so its own bounds are used, rather than
+     * its world bounds.
+     *
+     * @param dest The {@code Pointf} to store the center in.
+     * @return The specified {@code Pointf}, holding the center.
+     */
+    private Pointf centerOf(Pointf dest) {
+        // getBounds() brings lazily computed bounds up to date, before the local bounds are read
+        Pointf[] bounds = getBounds();
+        return DrawUtil.centerOf(parent == null ? bounds : super.getBounds(), dest);
     }
 
     /** Calls the {@link Behavior#init} method for each of the {@code GameObject}'s behaviors. */
@@ -187,6 +520,16 @@ public abstract class GameObject extends Drawable {
 
     /** Calls the {@link Behavior#update} method for each of the {@code GameObject}'s behaviors. */
     public void updateBehaviors() {
+        Profiler profiler = Profiler.active();
+        if (profiler != null) {
+            for (Behavior behavior : behaviors) {
+                long updateStart = System.nanoTime();
+                behavior.update(this);
+                profiler.recordBehavior(behavior.getClass(), System.nanoTime() - updateStart);
+            }
+            return;
+        }
+
         for (Behavior behavior : behaviors) {
             behavior.update(this);
         }
@@ -253,6 +596,13 @@ public abstract class GameObject extends Drawable {
     protected void destroyTheRest(Scene origin) {
         super.destroyTheRest(origin);
 
+        if (parent != null) {
+            parent.removeChild(this);
+        }
+        while (!children.isEmpty()) {
+            removeChild(children.get(0));
+        }
+
         origin.drawableManager.removeGameObject(this);
         origin.removeBehaviorListener(this);
 
@@ -260,6 +610,64 @@ public abstract class GameObject extends Drawable {
         clearAllBehaviors();
     }
 
+    /** Grows the specified rectangle to fit the world-space bounds of the {@code GameObject} and its children. */
+    private void addHierarchyBounds(Rectangle2D.Float dest) {
+        Pointf[] bounds = getBounds();
+        if (bounds != null) {
+            for (Pointf corner : bounds) {
+                dest.add(corner.x, corner.y);
+            }
+        }
+
+        for (GameObject child : children) {
+            child.addHierarchyBounds(dest);
+        }
+    }
+
+    /** Recomputes the world-space bounds and collision path of a child {@code GameObject}, if they are outdated. */
+    private void updateWorldData() {
+        if (!worldDataOutdated) return;
+
+        AffineTransform parentTransform = parent.getWorldTransform();
+        Pointf[] localBounds = super.getBounds();
+
+        if (localBounds == null) {
+            worldBounds = null;
+        } else {
+            float minX = Float.POSITIVE_INFINITY;
+            float minY = Float.POSITIVE_INFINITY;
+            float maxX = Float.NEGATIVE_INFINITY;
+            float maxY = Float.NEGATIVE_INFINITY;
+            float[] corners = new float[8];
+
+            for (int i = 0; i < localBounds.length; i++) {
+                corners[i * 2] = localBounds[i].x;
+                corners[i * 2 + 1] = localBounds[i].y;
+            }
+            parentTransform.transform(corners, 0, corners, 0, localBounds.length);
+
+            for (int i = 0; i < corners.length; i += 2) {
+                minX = Math.min(minX, corners[i]);
+                minY = Math.min(minY, corners[i + 1]);
+                maxX = Math.max(maxX, corners[i]);
+                maxY = Math.max(maxY, corners[i + 1]);
+            }
+
+            if (worldBounds == null) {
+                worldBounds = new Pointf[]{new Pointf(), new Pointf(), new Pointf(), new Pointf()};
+            }
+            worldBounds[0].set(minX, minY);
+            worldBounds[1].set(maxX, minY);
+            worldBounds[2].set(maxX, maxY);
+            worldBounds[3].set(minX, maxY);
+        }
+
+        Shape localCollisionPath = super.getCollisionPath();
+        worldCollisionPath = localCollisionPath == null ? null : parentTransform.createTransformedShape(localCollisionPath);
+
+        worldDataOutdated = false;
+    }
+
     @Override
     public String toString() {
         return "GameObject{" +
@@ -0,0 +1,299 @@
+package io.github.lucasstarsz.fastj.graphics.game;
+
+import io.github.lucasstarsz.fastj.math.Maths;
+import io.github.lucasstarsz.fastj.math.Pointf;
+
+import io.github.lucasstarsz.fastj.systems.control.Scene;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.PathIterator;
+import java.util.Objects;
+
+/**
+ * {@code GameObject} subclass for drawing one instance of a shared {@link ModelGeometry}.
+ * <p>
+ * Unlike a {@link Model2D}, an {@code InstancedModel2D} does not own any polygons. It only stores its own transform,
+ * along with an optional tint color -- the geometry itself is shared between every instance created from it. This
+ * makes each transformation a constant-time operation, and keeps the memory cost of large crowds of identical models
+ * small.
+ * <p>
+ * The bounds and collision path of the instance are only computed when requested, and are cached until the instance
+ * is transformed again.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public class InstancedModel2D extends GameObject {
+
+    /** {@code boolean} representing the default "should render" of {@code true}. */
+    public static final boolean DefaultShow = true;
+
+    private ModelGeometry geometry;
+    private AffineTransform transform;
+    private Color tint;
+
+    private float rotation;
+    private Pointf scale;
+    private Pointf translation;
+
+    private Pointf[] instanceBounds;
+    private boolean boundsOutdated;
+    private boolean collisionPathOutdated;
+
+    /**
+     * {@code InstancedModel2D} constructor that takes in a {@link ModelGeometry}.
+     * <p>
+     * This defaults whether the instance should be shown to {@link #DefaultShow}.
+     *
+     * @param geometry The {@code ModelGeometry} the instance draws.
+     */
+    public InstancedModel2D(ModelGeometry geometry) {
+        this(geometry, DefaultShow);
+    }
+
+    /**
+     * {@code InstancedModel2D} constructor that takes in a {@link ModelGeometry} and a show variable.
+     *
+     * @param geometry The {@code ModelGeometry} the instance draws.
+     * @param show     Boolean that determines whether this instance should be drawn to the screen.
+     */
+    public InstancedModel2D(ModelGeometry geometry, boolean show) {
+        this.geometry = geometry;
+        transform = new AffineTransform();
+
+        rotation = GameObject.DefaultRotation;
+        scale = GameObject.DefaultScale.copy();
+        translation = geometry.getTopLeft();
+
+        instanceBounds = new Pointf[]{new Pointf(), new Pointf(), new Pointf(), new Pointf()};
+        boundsOutdated = true;
+        collisionPathOutdated = true;
+
+        setShouldRender(show);
+    }
+
+    /**
+     * {@code InstancedModel2D} constructor that takes in a {@link ModelGeometry}, a show variable, and an initial
+     * translation, rotation, and scale for the instance.
+     *
+     * @param geometry      The {@code ModelGeometry} the instance draws.
+     * @param location      {@code Pointf} that defines the x and y location of the created instance.
+     * @param rotVal        Float value that defines the value that the instance will be rotated to, on creation.
+     * @param scaleVal      {@code Pointf} that defines the values that the instance will be scaled to, on creation.
+     * @param shouldBeShown Boolean that determines whether this instance should be drawn to the screen.
+     */
+    public InstancedModel2D(ModelGeometry geometry, Pointf location, float rotVal, Pointf scaleVal, boolean shouldBeShown) {
+        this(geometry, shouldBeShown);
+
+        setTranslation(location);
+        setRotation(rotVal);
+        setScale(scaleVal);
+    }
+
+    /**
+     * Gets the {@link ModelGeometry} this instance draws.
+     *
+     * @return The instance's geometry.
+     */
+    public ModelGeometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * Gets the tint applied to the instance's geometry.
+     *
+     * @return The tint color, or {@code null} if the instance is not tinted.
+     */
+    public Color getTint() {
+        return tint;
+    }
+
+    /**
+     * Sets the tint applied to the instance's geometry.
+     * <p>
+     * Each color of the geometry is multiplied by the tint when rendering. Setting the tint to {@code null} renders the
+     * geometry with its original colors.
+     *
+     * @param newTint The new tint color.
+     * @return The {@code InstancedModel2D}, for method chaining.
+     */
+    public InstancedModel2D setTint(Color newTint) {
+        tint = newTint;
+        appearanceChanged();
+        return this;
+    }
+
+    /**
+     * Gets the transform that maps the instance's geometry to its current location, rotation, and scale.
+     * <p>
+     * The returned transform is owned by the instance, and should not be modified.
+     *
+     * @return The instance's transform, as an {@code AffineTransform}.
+     */
+    @Override
+    public AffineTransform getLocalTransform() {
+        return transform;
+    }
+
+    @Override
+    public Pointf[] getBounds() {
+        if (boundsOutdated) {
+            updateBounds();
+        }
+        return super.getBounds();
+    }
+
+    @Override
+    public Shape getCollisionPath() {
+        if (collisionPathOutdated) {
+            setCollisionPath(transform.createTransformedShape(geometry.getCollisionOutline()));
+            collisionPathOutdated = false;
+        }
+        return super.getCollisionPath();
+    }
+
+    @Override
+    public float getRotation() {
+        return rotation;
+    }
+
+    @Override
+    public Pointf getScale() {
+        return scale;
+    }
+
+    @Override
+    public Pointf getTranslation() {
+        return translation;
+    }
+
+    @Override
+    public void translate(Pointf translationMod) {
+        translation.add(translationMod);
+        transform.preConcatenate(AffineTransform.getTranslateInstance(translationMod.x, translationMod.y));
+        transformChanged();
+    }
+
+    @Override
+    public void rotate(float rotationMod, Pointf centerpoint) {
+        rotation += rotationMod;
+        transform.preConcatenate(AffineTransform.getRotateInstance(Math.toRadians(rotationMod), centerpoint.x, centerpoint.y));
+        transformChanged();
+    }
+
+    @Override
+    public void scale(Pointf scaleMod, Pointf centerpoint) {
+        scale.add(scaleMod);
+
+        AffineTransform scaleTransform = AffineTransform.getTranslateInstance(centerpoint.x, centerpoint.y);
+        scaleTransform.scale(1f + scaleMod.x, 1f + scaleMod.y);
+        scaleTransform.translate(-centerpoint.x, -centerpoint.y);
+
+        transform.preConcatenate(scaleTransform);
+        transformChanged();
+    }
+
+    @Override
+    public void render(Graphics2D g) {
+        if (!shouldRender()) return;
+
+        AffineTransform oldTransform = g.getTransform();
+        g.transform(transform);
+        geometry.render(g, tint);
+        g.setTransform(oldTransform);
+    }
+
+    @Override
+    public void destroy(Scene originScene) {
+        geometry = null;
+        transform = null;
+        instanceBounds = null;
+        tint = null;
+
+        scale = null;
+        rotation = 0f;
+        translation = null;
+
+        destroyTheRest(originScene);
+    }
+
+    /**
+     * Marks the instance's bounds and collision path as needing to be recomputed, alongside the world-space data of
+     * its children.
+     */
+    @Override
+    protected void transformChanged() {
+        boundsOutdated = true;
+        collisionPathOutdated = true;
+        super.transformChanged();
+    }
+
+    /** Recomputes the instance's bounds from its geometry's collision outline and its transform. */
+    private void updateBounds() {
+        float minX = Float.POSITIVE_INFINITY;
+        float minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY;
+        float maxY = Float.NEGATIVE_INFINITY;
+        float[] coords = new float[6];
+
+        PathIterator pathIterator = geometry.getCollisionOutline().getPathIterator(transform);
+        while (!pathIterator.isDone()) {
+            if (pathIterator.currentSegment(coords) != PathIterator.SEG_CLOSE) {
+                minX = Math.min(minX, coords[0]);
+                minY = Math.min(minY, coords[1]);
+                maxX = Math.max(maxX, coords[0]);
+                maxY = Math.max(maxY, coords[1]);
+            }
+            pathIterator.next();
+        }
+
+        instanceBounds[0].set(minX, minY);
+        instanceBounds[1].set(maxX, minY);
+        instanceBounds[2].set(maxX, maxY);
+        instanceBounds[3].set(minX, maxY);
+
+        setBounds(instanceBounds);
+        boundsOutdated = false;
+    }
+
+    /**
+     * Checks for equality between the {@code InstancedModel2D} and the other specified.
+     *
+     * @param other The {@code InstancedModel2D} to check for equality against.
+     * @return Whether the two {@code InstancedModel2D}s are equal.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        InstancedModel2D instancedModel2D = (InstancedModel2D) other;
+        return geometry == instancedModel2D.geometry
+                && Objects.equals(translation, instancedModel2D.translation)
+                && Objects.equals(scale, instancedModel2D.scale)
+                && Maths.floatEquals(instancedModel2D.rotation, rotation)
+                && Objects.equals(tint, instancedModel2D.tint);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(geometry), rotation, scale, translation, tint);
+    }
+
+    @Override
+    public String toString() {
+        return "InstancedModel2D{" +
+                "geometry=" + geometry +
+                ", tint=" + tint +
+                ", rotation=" + rotation +
+                ", scale=" + scale +
+                ", translation=" + translation +
+                '}';
+    }
+}
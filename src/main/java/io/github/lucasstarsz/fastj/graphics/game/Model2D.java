@@ -4,16 +4,32 @@ import io.github.lucasstarsz.fastj.math.Maths;
 import io.github.lucasstarsz.fastj.math.Pointf;
 import io.github.lucasstarsz.fastj.graphics.Boundary;
 import io.github.lucasstarsz.fastj.graphics.DrawUtil;
+import io.github.lucasstarsz.fastj.graphics.PolygonSimplifier;
 
 import io.github.lucasstarsz.fastj.systems.control.Scene;
 
 import java.awt.Graphics2D;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
+import java.awt.geom.PathIterator;
+import java.awt.geom.Rectangle2D;
 import java.util.Arrays;
 import java.util.Objects;
 
 /**
  * {@code Drawable} subclass for grouping an array of {@code Polygon2D}s under a single object.
  * <p>
+ * The model's polygons are kept in the model's local space, and are never transformed themselves. Instead, the model
+ * keeps a single {@link AffineTransform} which is applied when it is rendered, making each transformation a
+ * constant-time operation regardless of how many points the model has. The model's bounds and collision path are
+ * recomputed from that transform only when they are requested.
+ * <p>
+ * Models can also keep simplified {@link #generateDetailLevels(int) detail levels} of their polygons. When rendered,
+ * the model draws the coarsest level whose simplification stays within {@link #getMaxDetailError() a pixel or so} at
+ * the current on-screen size, so detailed models cost less to draw when they are zoomed out or drawn at a lowered
+ * render resolution. Collision keeps using the {@link #setCollisionDetailLevel(int) collision detail level}.
+ * <p>
  * This class is compatible with loading from a .PSDF file, using the {@code DrawUtil.load2DModel()} method.
  *
  * @author Andrew Dey
@@ -23,9 +39,25 @@ public class Model2D extends GameObject {
 
     /** {@code boolean} representing the default "should render" of {@code true}. */
     public static final boolean DefaultShow = true;
+    /** The default on-screen error, in pixels, that a detail level's simplification may have: {@code 1}. */
+    public static final float DefaultMaxDetailError = 1f;
+
+    /** The tolerance of the first generated detail level, as a fraction of the model's size. */
+    private static final float BaseDetailTolerance = 1f / 256f;
+    /** How much each generated detail level's tolerance grows over the previous level's. */
+    private static final float DetailToleranceGrowth = 4f;
 
     private Polygon2D[] polyArr;
+    private Polygon2D[][] detailLevels;
+    private float[] detailTolerances;
+    private int detailLevelsVersion;
+    private float maxDetailError;
+    private int collisionDetailLevel;
     private Polygon2D collisionObject;
+    private AffineTransform modelTransform;
+
+    private boolean boundsOutdated;
+    private boolean collisionPathOutdated;
 
     private float rotation;
     private Pointf scale;
@@ -54,6 +86,9 @@ public class Model2D extends GameObject {
      */
     public Model2D(Polygon2D[] polygonArray, boolean show) {
         polyArr = polygonArray;
+        modelTransform = new AffineTransform();
+        clearDetailLevels();
+        maxDetailError = DefaultMaxDetailError;
 
         setBounds(createBounds());
 
@@ -81,27 +116,18 @@ public class Model2D extends GameObject {
      * @param shouldBeShown Boolean that determines whether this Model2D should be drawn to the screen.
      */
     public Model2D(Polygon2D[] polygonArray, Pointf location, float rotVal, Pointf scaleVal, boolean shouldBeShown) {
-        polyArr = polygonArray;
-
-        setBounds(createBounds());
-
-        rotation = GameObject.DefaultRotation;
-        scale = GameObject.DefaultScale.copy();
-        translation = new Pointf(getBound(Boundary.TOP_LEFT));
-
-        setCollisionPoints();
+        this(polygonArray, shouldBeShown);
 
         setTranslation(location);
         setRotation(rotVal);
         setScale(scaleVal);
-
-        setBounds(createBounds());
-
-        setShouldRender(shouldBeShown);
     }
 
     /**
      * Gets the array of {@code Polygon2D}s for this Model2D.
+     * <p>
+     * The polygons are in the model's local space -- they are not affected by transforming the model. To get their
+     * location on screen, map them through the model's {@link #getWorldTransform() world transform}.
      *
      * @return The array of {@code Polygon2D}s.
      */
@@ -109,6 +135,189 @@ public class Model2D extends GameObject {
         return polyArr;
     }
 
+    /**
+     * Gets the array of {@code Polygon2D}s for the specified detail level of this Model2D.
+     *
+     * @param detailLevel The detail level to get the polygons of, where {@code 0} is the model's original polygons.
+     * @return The array of {@code Polygon2D}s, in the model's local space.
+     */
+    public synchronized Polygon2D[] getPolygons(int detailLevel) {
+        refreshDetailLevels();
+        return detailLevels[detailLevel];
+    }
+
+    /**
+     * Gets whether the model has been {@link #destroy(Scene) destroyed}.
+     *
+     * @return Whether the model has been destroyed.
+     */
+    public boolean isDestroyed() {
+        return polyArr == null;
+    }
+
+    /**
+     * Gets the amount of detail levels the model has, including its original polygons.
+     *
+     * @return The amount of detail levels.
+     */
+    public int getDetailLevelCount() {
+        return detailLevels.length;
+    }
+
+    /**
+     * Gets the simplification tolerance of the specified detail level, in the model's local units.
+     *
+     * @param detailLevel The detail level to get the tolerance of.
+     * @return The furthest distance the detail level's polygons can stray from the original polygons.
+     */
+    public float getDetailTolerance(int detailLevel) {
+        return detailTolerances[detailLevel];
+    }
+
+    /**
+     * Gets the on-screen error, in pixels, that the detail level chosen for rendering may have.
+     *
+     * @return The maximum detail error.
+     */
+    public float getMaxDetailError() {
+        return maxDetailError;
+    }
+
+    /**
+     * Sets the on-screen error, in pixels, that the detail level chosen for rendering may have.
+     * <p>
+     * Larger values switch to coarser detail levels sooner, trading accuracy for speed.
+     *
+     * @param pixels The maximum detail error.
+     * @return The {@code Model2D}, for method chaining.
+     */
+    public Model2D setMaxDetailError(float pixels) {
+        maxDetailError = pixels;
+        return this;
+    }
+
+    /**
+     * Gets the detail level that the model's collision path is made from.
+     *
+     * @return The collision detail level.
+     */
+    public int getCollisionDetailLevel() {
+        return collisionDetailLevel;
+    }
+
+    /**
+     * Sets the detail level that the model's collision path is made from.
+     *
+     * @param detailLevel The detail level to make the collision path from.
+     * @return The {@code Model2D}, for method chaining.
+     */
+    public Model2D setCollisionDetailLevel(int detailLevel) {
+        if (detailLevel != collisionDetailLevel) {
+            collisionDetailLevel = detailLevel;
+            setCollisionPoints();
+            collisionPathOutdated = true;
+        }
+        return this;
+    }
+
+    /**
+     * Generates the specified amount of detail levels for the model, replacing any it already has.
+     * <p>
+     * Level {@code 0} is always the model's original polygons. Each level after it is simplified with a tolerance four
+     * times larger than the last, starting from {@code 1/256} of the larger side of the model's untransformed bounds.
+     * Polygons that become too small to see at a level's tolerance are dropped from it.
+     *
+     * @param levelCount The amount of detail levels to have, including the original polygons.
+     * @return The {@code Model2D}, for method chaining.
+     */
+    public Model2D generateDetailLevels(int levelCount) {
+        float[] tolerances = new float[Math.max(levelCount - 1, 0)];
+        float tolerance = localSize() * BaseDetailTolerance;
+        for (int i = 0; i < tolerances.length; i++) {
+            tolerances[i] = tolerance;
+            tolerance *= DetailToleranceGrowth;
+        }
+
+        return generateDetailLevels(tolerances);
+    }
+
+    /**
+     * Generates a detail level for the model for each of the specified tolerances, replacing any it already has.
+     * <p>
+     * Level {@code 0} is always the model's original polygons, followed by a level for each tolerance. The simplified
+     * levels copy the color, fill, and outline of the original polygons, and are generated again once the appearance
+     * of any of the original polygons changes.
+     *
+     * @param tolerances The simplification tolerances of each detail level, in the model's local units and in
+     *                   ascending order.
+     * @return The {@code Model2D}, for method chaining.
+     */
+    public synchronized Model2D generateDetailLevels(float... tolerances) {
+        Polygon2D[][] newDetailLevels = new Polygon2D[tolerances.length + 1][];
+        float[] newDetailTolerances = new float[tolerances.length + 1];
+        newDetailLevels[0] = polyArr;
+
+        for (int i = 0; i < tolerances.length; i++) {
+            newDetailLevels[i + 1] = PolygonSimplifier.simplify(polyArr, tolerances[i]);
+            newDetailTolerances[i + 1] = tolerances[i];
+        }
+
+        detailLevels = newDetailLevels;
+        detailTolerances = newDetailTolerances;
+        detailLevelsVersion = polygonsAppearanceVersion();
+
+        if (collisionDetailLevel >= detailLevels.length) {
+            setCollisionDetailLevel(0);
+        }
+        return this;
+    }
+
+    /**
+     * Gets the coarsest detail level whose simplification stays within the {@link #getMaxDetailError() maximum detail
+     * error}, when the model's local units are drawn at the specified size.
+     *
+     * @param pixelsPerUnit The amount of pixels one of the model's local units covers on screen.
+     * @return The detail level to render with.
+     */
+    public int getDetailLevelFor(double pixelsPerUnit) {
+        for (int level = detailTolerances.length - 1; level > 0; level--) {
+            if (detailTolerances[level] * pixelsPerUnit <= maxDetailError) {
+                return level;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the transform that maps the model's polygons from local space to the space the model is placed in.
+     * <p>
+     * The returned transform is owned by the model, and should not be modified.
+     *
+     * @return The model's transform, as an {@code AffineTransform}.
+     */
+    @Override
+    public AffineTransform getLocalTransform() {
+        return modelTransform;
+    }
+
+    @Override
+    public Pointf[] getBounds() {
+        if (boundsOutdated) {
+            setBounds(createBounds());
+            boundsOutdated = false;
+        }
+        return super.getBounds();
+    }
+
+    @Override
+    public Shape getCollisionPath() {
+        if (collisionPathOutdated) {
+            setCollisionPath(new Path2D.Float(collisionObject.getRenderPath(), modelTransform));
+            collisionPathOutdated = false;
+        }
+        return super.getCollisionPath();
+    }
+
     @Override
     public float getRotation() {
         return rotation;
@@ -127,51 +336,55 @@ public class Model2D extends GameObject {
     @Override
     public void translate(Pointf translationMod) {
         translation.add(translationMod);
-
-        for (Polygon2D obj : polyArr) {
-            obj.translate(translationMod);
-        }
-
-        collisionObject.translate(translationMod);
-        setCollisionPath(collisionObject.getRenderPath());
-
-        translateBounds(translationMod);
+        modelTransform.preConcatenate(AffineTransform.getTranslateInstance(translationMod.x, translationMod.y));
+        transformChanged();
     }
 
     @Override
     public void rotate(float rotationMod, Pointf centerpoint) {
         rotation += rotationMod;
-
-        for (Polygon2D obj : polyArr) {
-            obj.rotate(rotationMod, centerpoint);
-        }
-
-        collisionObject.rotate(rotationMod, centerpoint);
-        setCollisionPath(collisionObject.getRenderPath());
-
-        setBounds(createBounds());
+        modelTransform.preConcatenate(AffineTransform.getRotateInstance(Math.toRadians(rotationMod), centerpoint.x, centerpoint.y));
+        transformChanged();
     }
 
     @Override
     public void scale(Pointf scaleMod, Pointf centerpoint) {
         scale.add(scaleMod);
 
-        for (Polygon2D obj : polyArr) {
-            obj.scale(scaleMod, centerpoint);
-        }
+        AffineTransform scaleTransform = AffineTransform.getTranslateInstance(centerpoint.x, centerpoint.y);
+        scaleTransform.scale(1f + scaleMod.x, 1f + scaleMod.y);
+        scaleTransform.translate(-centerpoint.x, -centerpoint.y);
 
-        collisionObject.scale(scaleMod, centerpoint);
-        setCollisionPath(collisionObject.getRenderPath());
+        modelTransform.preConcatenate(scaleTransform);
+        transformChanged();
+    }
 
-        setBounds(createBounds());
+    /**
+     * Gets the appearance version of the model, which also changes when the appearance of any of its polygons changes.
+     *
+     * @return The appearance version of the model.
+     */
+    @Override
+    public int getAppearanceVersion() {
+        return super.getAppearanceVersion() + polygonsAppearanceVersion();
     }
 
     @Override
     public void render(Graphics2D g) {
         if (!shouldRender()) return;
-        for (Polygon2D obj : polyArr) {
+
+        AffineTransform oldTransform = g.getTransform();
+        g.transform(modelTransform);
+
+        // the on-screen size of a local unit, which already includes the camera and the display's render scale
+        double pixelsPerUnit = Math.sqrt(Math.abs(g.getTransform().getDeterminant()));
+        Polygon2D[] polygons = polygonsFor(pixelsPerUnit);
+
+        for (Polygon2D obj : polygons) {
             obj.render(g);
         }
+
+        g.setTransform(oldTransform);
     }
 
     @Override
@@ -179,7 +392,14 @@ public class Model2D extends GameObject {
         for (Polygon2D obj : polyArr) {
             obj.destroy(originScene);
         }
+        for (int i = 1; i < detailLevels.length; i++) {
+            for (Polygon2D obj : detailLevels[i]) {
+                obj.destroy(originScene);
+            }
+        }
         polyArr = null;
+        detailLevels = null;
+        detailTolerances = null;
 
         scale = null;
         rotation = 0f;
@@ -187,38 +407,112 @@ public class Model2D extends GameObject {
 
         collisionObject.destroy(originScene);
         collisionObject = null;
+        modelTransform = null;
 
         destroyTheRest(originScene);
     }
 
+    /**
+     * Marks the model's bounds and collision path as needing to be recomputed, alongside the world-space data of its
+     * children.
+     */
+    @Override
+    protected void transformChanged() {
+        boundsOutdated = true;
+        collisionPathOutdated = true;
+        super.transformChanged();
+    }
+
     /** Sets the collision points for the {@code Model2D}. */
     private void setCollisionPoints() {
-        collisionObject = new Polygon2D(DrawUtil.createCollisionOutline(polyArr));
+        collisionObject = new Polygon2D(DrawUtil.createCollisionOutline(detailLevels[collisionDetailLevel]));
         setCollisionPath(collisionObject.getRenderPath());
     }
 
-    /** Creates the boundaries for the {@code Model2D}. */
+    /** Gets the sum of the appearance versions of the model's polygons, which changes whenever any of them changes. */
+    private int polygonsAppearanceVersion() {
+        int version = 0;
+        for (Polygon2D obj : polyArr) {
+            version += obj.getAppearanceVersion();
+        }
+        return version;
+    }
+
+    /**
+     * Gets the polygons of the detail level to render with, when the model's local units are drawn at the specified
+     * size.
+     * <p>
+     * Models can be rendered from several threads at once, such as with {@code RenderMode.PARALLEL_TILES}. The detail
+     * levels are refreshed and picked from while holding the model's lock, so no thread sees them half-generated.
+     *
+     * @param pixelsPerUnit The amount of pixels one of the model's local units covers on screen.
+     * @return The polygons to render.
+     */
+    private synchronized Polygon2D[] polygonsFor(double pixelsPerUnit) {
+        if (detailLevels.length == 1) {
+            return polyArr;
+        }
+
+        refreshDetailLevels();
+        return detailLevels[getDetailLevelFor(pixelsPerUnit)];
+    }
+
+    /** Generates the simplified detail levels again if the appearance of the original polygons changed since. */
+    private synchronized void refreshDetailLevels() {
+        if (detailLevels.length > 1 && polygonsAppearanceVersion() != detailLevelsVersion) {
+            generateDetailLevels(Arrays.copyOfRange(detailTolerances, 1, detailTolerances.length));
+        }
+    }
+
+    /** Resets the model's detail levels to only its original polygons. */
+    private void clearDetailLevels() {
+        detailLevels = new Polygon2D[][] {polyArr};
+        detailTolerances = new float[] {0f};
+        collisionDetailLevel = 0;
+    }
+
+    /** Gets the larger side of the bounds of the model's untransformed polygons. */
+    private float localSize() {
+        Rectangle2D localBounds = null;
+        for (Polygon2D p : polyArr) {
+            Rectangle2D polygonBounds = p.getRenderPath().getBounds2D();
+            if (localBounds == null) {
+                localBounds = polygonBounds;
+            } else {
+                localBounds.add(polygonBounds);
+            }
+        }
+        return localBounds == null ? 0f : (float) Math.max(localBounds.getWidth(), localBounds.getHeight());
+    }
+
+    /** Creates the boundaries for the {@code Model2D}, based on its polygons mapped through the model's transform. */
     private Pointf[] createBounds() {
         Pointf[] boundaries = new Pointf[4];
 
         /* Individually set each boundary point -- Arrays#fill uses the same object
          * for each point, making it undesirable for this use case. */
-        boundaries[0] = polyArr[0].getCenter().copy();
-        boundaries[1] = polyArr[0].getCenter().copy();
-        boundaries[2] = polyArr[0].getCenter().copy();
-        boundaries[3] = polyArr[0].getCenter().copy();
+        boundaries[0] = new Pointf(Float.POSITIVE_INFINITY);
+        boundaries[1] = new Pointf(Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY);
+        boundaries[2] = new Pointf(Float.NEGATIVE_INFINITY);
+        boundaries[3] = new Pointf();
 
+        float[] coords = new float[6];
         for (Polygon2D p : polyArr) {
-            for (Pointf coord : p.getBounds()) {
-                // top left
-                boundaries[0].x = Math.min(boundaries[0].x, coord.x);
-                boundaries[0].y = Math.min(boundaries[0].y, coord.y);
+            PathIterator pathIterator = p.getRenderPath().getPathIterator(modelTransform);
+
+            while (!pathIterator.isDone()) {
+                if (pathIterator.currentSegment(coords) != PathIterator.SEG_CLOSE) {
+                    // top left
+                    boundaries[0].x = Math.min(boundaries[0].x, coords[0]);
+                    boundaries[0].y = Math.min(boundaries[0].y, coords[1]);
 
-                // top right
-                boundaries[1].x = Math.max(boundaries[1].x, coord.x);
+                    // top right
+                    boundaries[1].x = Math.max(boundaries[1].x, coords[0]);
 
-                // bottom right
-                boundaries[2].y = Math.max(boundaries[2].y, coord.y);
+                    // bottom right
+                    boundaries[2].y = Math.max(boundaries[2].y, coords[1]);
+                }
+                pathIterator.next();
             }
         }
 
@@ -254,12 +548,13 @@ public class Model2D extends GameObject {
                 && Objects.equals(scale, model2D.scale)
                 && Maths.floatEquals(model2D.rotation, rotation)
                 && Arrays.equals(polyArr, model2D.polyArr)
-                && Objects.equals(collisionObject, model2D.collisionObject);
+                && Objects.equals(collisionObject, model2D.collisionObject)
+                && Objects.equals(modelTransform, model2D.modelTransform);
     }
 
     @Override
     public int hashCode() {
-        int result = Objects.hash(collisionObject, rotation, scale, translation);
+        int result = Objects.hash(collisionObject, modelTransform, rotation, scale, translation);
         result = 31 * result + Arrays.hashCode(polyArr);
         return result;
     }
@@ -269,6 +564,7 @@ public class Model2D extends GameObject {
         return "Model2D{" +
                 "polyArr=" + Arrays.toString(polyArr) +
                 ", collisionObject=" + collisionObject +
+                ", modelTransform=" + modelTransform +
                 ", rotation=" + rotation +
                 ", scale=" + scale +
                 ", translation=" + translation +
@@ -0,0 +1,214 @@
+package io.github.lucasstarsz.fastj.graphics.game;
+
+import io.github.lucasstarsz.fastj.engine.CrashMessages;
+import io.github.lucasstarsz.fastj.engine.FastJEngine;
+import io.github.lucasstarsz.fastj.math.Pointf;
+import io.github.lucasstarsz.fastj.graphics.DrawUtil;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable, shareable geometry for a 2D model.
+ * <p>
+ * A {@code ModelGeometry} holds everything about a model that does not change between instances of it: the outline
+ * of each polygon, their colors and fill settings, the model's collision outline, and its untransformed bounds. Any
+ * number of {@link InstancedModel2D}s can be drawn from a single {@code ModelGeometry}, each only carrying its own
+ * transform and tint.
+ * <p>
+ * A {@code ModelGeometry} copies the paths of the polygons it is created from, so later changes to those polygons do
+ * not affect it.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public final class ModelGeometry {
+
+    /** The maximum amount of tinted palettes each geometry keeps, before the least recently used are discarded. */
+    public static final int MaxTintedPalettes = 64;
+
+    private final Path2D.Float[] paths;
+    private final Color[] colors;
+    private final boolean[] filled;
+    private final boolean[] shown;
+
+    private final Path2D.Float collisionOutline;
+    private final Rectangle2D.Float bounds;
+
+    private final Map<Color, Color[]> tintedPalettes;
+
+    /**
+     * {@code ModelGeometry} constructor that takes in an array of {@link Polygon2D}s.
+     * <p>
+     * The polygons' current outlines, colors, fill settings, and visibility are copied into the geometry.
+     *
+     * @param polygonArray Array of {@code Polygon2D}s used to create the geometry.
+     */
+    public ModelGeometry(Polygon2D[] polygonArray) {
+        if (polygonArray == null || polygonArray.length == 0) {
+            FastJEngine.error(CrashMessages.illegalAction(getClass()),
+                    new IllegalArgumentException("A model's geometry must contain at least one polygon."));
+        }
+
+        int polygonCount = polygonArray.length;
+        paths = new Path2D.Float[polygonCount];
+        colors = new Color[polygonCount];
+        filled = new boolean[polygonCount];
+        shown = new boolean[polygonCount];
+
+        for (int i = 0; i < polygonCount; i++) {
+            Polygon2D polygon = polygonArray[i];
+            paths[i] = new Path2D.Float(polygon.getRenderPath());
+            colors[i] = polygon.getColor();
+            filled[i] = polygon.isFilled();
+            shown[i] = polygon.shouldRender();
+        }
+
+        collisionOutline = DrawUtil.createPath(DrawUtil.createCollisionOutline(polygonArray));
+
+        Rectangle2D.Float modelBounds = (Rectangle2D.Float) paths[0].getBounds2D();
+        for (int i = 1; i < polygonCount; i++) {
+            Rectangle2D.union(modelBounds, paths[i].getBounds2D(), modelBounds);
+        }
+        bounds = modelBounds;
+
+        tintedPalettes = Collections.synchronizedMap(
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Color, Color[]> eldest) {
+                        return size() > MaxTintedPalettes;
+                    }
+                }
+        );
+    }
+
+    /**
+     * Gets the amount of polygons that make up the geometry.
+     *
+     * @return The amount of polygons.
+     */
+    public int getPolygonCount() {
+        return paths.length;
+    }
+
+    /**
+     * Gets the collision outline of the geometry, in model space.
+     * <p>
+     * The returned path is shared between all users of the geometry, and should not be modified.
+     *
+     * @return The collision outline, as a {@code Path2D.Float}.
+     */
+    public Path2D.Float getCollisionOutline() {
+        return collisionOutline;
+    }
+
+    /**
+     * Gets the bounds of the geometry, in model space.
+     *
+     * @return A copy of the bounds, as a {@code Rectangle2D.Float}.
+     */
+    public Rectangle2D.Float getBounds() {
+        return (Rectangle2D.Float) bounds.clone();
+    }
+
+    /**
+     * Creates a new array of {@link Polygon2D}s from the geometry.
+     * <p>
+     * The resulting polygons are independent of the geometry, and can be freely transformed and modified -- for
+     * instance, to create a regular {@link Model2D}.
+     *
+     * @return The array of {@code Polygon2D}s.
+     */
+    public Polygon2D[] createPolygons() {
+        Polygon2D[] result = new Polygon2D[paths.length];
+
+        for (int i = 0; i < paths.length; i++) {
+            result[i] = new Polygon2D(DrawUtil.pointsOfPath(paths[i]), colors[i], filled[i], shown[i]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the colors of the geometry, modulated by the specified tint.
+     * <p>
+     * Tinted palettes are computed once per tint color, and shared between every instance using that tint. Only the
+     * {@link #MaxTintedPalettes} most recently used palettes are kept, so tints that change every frame do not fill
+     * memory.
+     *
+     * @param tint The tint to apply, or {@code null} for the geometry's original colors.
+     * @return The array of tinted colors, with one entry per polygon.
+     */
+    Color[] getPalette(Color tint) {
+        if (tint == null) {
+            return colors;
+        }
+
+        Color[] palette = tintedPalettes.get(tint);
+
+        if (palette == null) {
+            palette = createTintedPalette(tint);
+            tintedPalettes.put(tint, palette);
+        }
+
+        return palette;
+    }
+
+    /**
+     * Renders the geometry to the specified {@code Graphics2D}, in model space.
+     *
+     * @param g    The {@code Graphics2D} to render to. Any instance transform must already be applied to it.
+     * @param tint The tint to apply, or {@code null} for the geometry's original colors.
+     */
+    void render(Graphics2D g, Color tint) {
+        Color[] palette = getPalette(tint);
+
+        for (int i = 0; i < paths.length; i++) {
+            if (!shown[i]) continue;
+
+            g.setColor(palette[i]);
+
+            if (filled[i]) {
+                g.fill(paths[i]);
+            } else {
+                g.draw(paths[i]);
+            }
+        }
+    }
+
+    /**
+     * Creates a palette of the geometry's colors, each multiplied by the specified tint.
+     *
+     * @param tint The tint to apply.
+     * @return The array of tinted colors.
+     */
+    private Color[] createTintedPalette(Color tint) {
+        Color[] palette = new Color[colors.length];
+
+        for (int i = 0; i < colors.length; i++) {
+            Color color = colors[i];
+            palette[i] = new Color(
+                    color.getRed() * tint.getRed() / 255,
+                    color.getGreen() * tint.getGreen() / 255,
+                    color.getBlue() * tint.getBlue() / 255,
+                    color.getAlpha() * tint.getAlpha() / 255
+            );
+        }
+
+        return palette;
+    }
+
+    /**
+     * Gets the top-left corner of the geometry's bounds.
+     *
+     * @return The top-left corner, as a {@code Pointf}.
+     */
+    Pointf getTopLeft() {
+        return new Pointf(bounds.x, bounds.y);
+    }
+}
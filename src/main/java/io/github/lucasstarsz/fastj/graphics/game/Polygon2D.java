@@ -11,12 +11,17 @@ import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Path2D;
+import java.awt.geom.PathIterator;
 import java.awt.geom.Rectangle2D;
 import java.util.Arrays;
 import java.util.Objects;
 
 /**
  * {@code Drawable} subclass for drawing a polygon.
+ * <p>
+ * A polygon applies its transformations directly to its points. Any children attached to it are drawn through its
+ * {@link #getLocalTransform() local transform}, which holds the transformations applied to the polygon since it was
+ * created.
  *
  * @author Andrew Dey
  * @version 1.0.0
@@ -40,6 +45,8 @@ public class Polygon2D extends GameObject {
     private Pointf scale;
     private Pointf translation;
 
+    private final AffineTransform localTransform = new AffineTransform();
+
 
     /**
      * {@code Polygon2D} constructor that takes in a set of points.
@@ -148,6 +155,7 @@ public class Polygon2D extends GameObject {
      */
     public Polygon2D setColor(Color newColor) {
         color = newColor;
+        appearanceChanged();
         return this;
     }
 
@@ -169,6 +177,7 @@ public class Polygon2D extends GameObject {
      */
     public Polygon2D setFilled(boolean fill) {
         paintFilled = fill;
+        appearanceChanged();
         return this;
     }
 
@@ -208,6 +217,7 @@ public class Polygon2D extends GameObject {
 
         setBoundaries(renderPath);
         setCollisionPath(renderPath);
+        appearanceChanged();
     }
 
     @Override
@@ -215,6 +225,11 @@ public class Polygon2D extends GameObject {
         return translation;
     }
 
+    @Override
+    public AffineTransform getLocalTransform() {
+        return localTransform;
+    }
+
     @Override
     public float getRotation() {
         return rotation;
@@ -234,6 +249,9 @@ public class Polygon2D extends GameObject {
 
         translateBounds(translationMod);
         setCollisionPath(renderPath);
+
+        localTransform.preConcatenate(at);
+        localTransformChanged();
     }
 
     @Override
@@ -245,26 +263,55 @@ public class Polygon2D extends GameObject {
 
         setCollisionPath(renderPath);
         setBoundaries(renderPath);
+
+        localTransform.preConcatenate(polyAT);
+        transformChanged();
     }
 
     @Override
     public void scale(Pointf scaleMod, Pointf centerpoint) {
-        final Pointf[] renderCopy = DrawUtil.pointsOfPath(renderPath);
-        final Pointf oldScale = new Pointf(scale);
+        final float oldScaleX = scale.x;
+        final float oldScaleY = scale.y;
 
         scale.add(scaleMod);
 
-        for (Pointf pt : renderCopy) {
-            final Pointf distanceFromCenter = Pointf.subtract(centerpoint, pt);
-
-            pt.add(Pointf.multiply(distanceFromCenter, oldScale));
-            pt.add(Pointf.multiply(Pointf.multiply(distanceFromCenter, -1f), scale));
+        // move each point by its distance from the center, times the difference in scale
+        final Path2D.Float scaledPath = new Path2D.Float(Path2D.WIND_NON_ZERO, points.length + 1);
+        final float[] coords = new float[6];
+
+        for (PathIterator pi = renderPath.getPathIterator(null); !pi.isDone(); pi.next()) {
+            int segmentType = pi.currentSegment(coords);
+            if (segmentType == PathIterator.SEG_CLOSE) {
+                scaledPath.closePath();
+                continue;
+            }
+
+            final float distanceX = centerpoint.x - coords[0];
+            final float distanceY = centerpoint.y - coords[1];
+
+            float x = coords[0] + distanceX * oldScaleX;
+            float y = coords[1] + distanceY * oldScaleY;
+            x += -distanceX * scale.x;
+            y += -distanceY * scale.y;
+
+            if (segmentType == PathIterator.SEG_MOVETO) {
+                scaledPath.moveTo(x, y);
+            } else {
+                scaledPath.lineTo(x, y);
+            }
         }
 
-        renderPath = DrawUtil.createPath(renderCopy);
+        renderPath = scaledPath;
 
         setCollisionPath(renderPath);
         setBoundaries(renderPath);
+
+        // each point ends up at center + (point - center) * (1 + scaleMod)
+        AffineTransform scaleAT = AffineTransform.getTranslateInstance(centerpoint.x, centerpoint.y);
+        scaleAT.scale(1f + scaleMod.x, 1f + scaleMod.y);
+        scaleAT.translate(-centerpoint.x, -centerpoint.y);
+        localTransform.preConcatenate(scaleAT);
+        transformChanged();
     }
 
     @Override
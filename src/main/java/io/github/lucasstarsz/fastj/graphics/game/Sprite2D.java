@@ -0,0 +1,470 @@
+package io.github.lucasstarsz.fastj.graphics.game;
+
+import io.github.lucasstarsz.fastj.engine.CrashMessages;
+import io.github.lucasstarsz.fastj.engine.FastJEngine;
+import io.github.lucasstarsz.fastj.math.Maths;
+import io.github.lucasstarsz.fastj.math.Pointf;
+import io.github.lucasstarsz.fastj.graphics.TextureAtlas;
+
+import io.github.lucasstarsz.fastj.systems.control.Scene;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * {@code GameObject} subclass for drawing images from a {@link TextureAtlas}.
+ * <p>
+ * A {@code Sprite2D} draws one region of its atlas at a time. Given several regions, it plays them as the frames of an
+ * animation, advanced by {@link #animate(float)}:
+ * <pre>{@code
+ * Sprite2D player = new Sprite2D(atlas, "player_walk1", "player_walk2", "player_walk3");
+ * player.setFrameDuration(0.15f);
+ *
+ * // each update
+ * player.animate(1f / FastJEngine.getTargetUPS());
+ * }</pre>
+ * Like an {@link InstancedModel2D}, the sprite only stores its own transform -- drawing an image is a single copy from
+ * the atlas, no matter how detailed the image is. The sprite's bounds and collision path are the transformed rectangle
+ * of its current frame, and are only computed when requested.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public class Sprite2D extends GameObject {
+
+    /** {@code boolean} representing the default "should render" of {@code true}. */
+    public static final boolean DefaultShow = true;
+    /** {@code float} representing the default time each frame is shown for, in seconds: {@code 0.1f}. */
+    public static final float DefaultFrameDuration = 0.1f;
+    /** {@code boolean} representing the default "should loop" of {@code true}. */
+    public static final boolean DefaultLooping = true;
+
+    private TextureAtlas atlas;
+    private int[] frames;
+    private int frameIndex;
+    private float frameDuration;
+    private float frameTime;
+    private boolean looping;
+
+    private AffineTransform transform;
+    private float rotation;
+    private Pointf scale;
+    private Pointf translation;
+
+    private Pointf[] spriteBounds;
+    private boolean boundsOutdated;
+    private boolean collisionPathOutdated;
+
+    /**
+     * {@code Sprite2D} constructor that takes in a {@link TextureAtlas}, and the names of the regions to use as the
+     * sprite's frames.
+     * <p>
+     * This defaults whether the sprite should be shown to {@link #DefaultShow}.
+     *
+     * @param atlas      The {@code TextureAtlas} the sprite draws from.
+     * @param frameNames The names of the atlas regions the sprite shows, in order.
+     */
+    public Sprite2D(TextureAtlas atlas, String... frameNames) {
+        this(atlas, regionsOf(atlas, frameNames), DefaultShow);
+    }
+
+    /**
+     * {@code Sprite2D} constructor that takes in a {@link TextureAtlas}, the indices of the regions to use as the
+     * sprite's frames, and a show variable.
+     *
+     * @param atlas  The {@code TextureAtlas} the sprite draws from.
+     * @param frames The indices of the atlas regions the sprite shows, in order.
+     * @param show   Boolean that determines whether this sprite should be drawn to the screen.
+     */
+    public Sprite2D(TextureAtlas atlas, int[] frames, boolean show) {
+        if (frames.length == 0) {
+            FastJEngine.error(CrashMessages.illegalAction(getClass()), new IllegalArgumentException("A sprite must have at least one frame."));
+        }
+
+        this.atlas = atlas;
+        this.frames = frames.clone();
+        frameDuration = DefaultFrameDuration;
+        looping = DefaultLooping;
+
+        transform = new AffineTransform();
+        rotation = GameObject.DefaultRotation;
+        scale = GameObject.DefaultScale.copy();
+        translation = new Pointf();
+
+        spriteBounds = new Pointf[]{new Pointf(), new Pointf(), new Pointf(), new Pointf()};
+        boundsOutdated = true;
+        collisionPathOutdated = true;
+
+        setShouldRender(show);
+    }
+
+    /**
+     * {@code Sprite2D} constructor that takes in a {@link TextureAtlas}, the indices of the regions to use as the
+     * sprite's frames, a show variable, and an initial translation, rotation, and scale for the sprite.
+     *
+     * @param atlas         The {@code TextureAtlas} the sprite draws from.
+     * @param frames        The indices of the atlas regions the sprite shows, in order.
+     * @param location      {@code Pointf} that defines the x and y location of the created sprite.
+     * @param rotVal        Float value that defines the value that the sprite will be rotated to, on creation.
+     * @param scaleVal      {@code Pointf} that defines the values that the sprite will be scaled to, on creation.
+     * @param shouldBeShown Boolean that determines whether this sprite should be drawn to the screen.
+     */
+    public Sprite2D(TextureAtlas atlas, int[] frames, Pointf location, float rotVal, Pointf scaleVal, boolean shouldBeShown) {
+        this(atlas, frames, shouldBeShown);
+
+        setTranslation(location);
+        setRotation(rotVal);
+        setScale(scaleVal);
+    }
+
+    /**
+     * Gets the {@link TextureAtlas} the sprite draws from.
+     *
+     * @return The sprite's atlas.
+     */
+    public TextureAtlas getAtlas() {
+        return atlas;
+    }
+
+    /**
+     * Gets the amount of frames the sprite has.
+     *
+     * @return The amount of frames.
+     */
+    public int getFrameCount() {
+        return frames.length;
+    }
+
+    /**
+     * Gets the index of the frame the sprite is currently showing.
+     *
+     * @return The current frame index.
+     */
+    public int getFrameIndex() {
+        return frameIndex;
+    }
+
+    /**
+     * Gets the index of the atlas region the sprite is currently showing.
+     *
+     * @return The atlas region of the current frame.
+     */
+    public int getCurrentRegion() {
+        return frames[frameIndex];
+    }
+
+    /**
+     * Sets the frame the sprite is showing, restarting that frame's time.
+     *
+     * @param newFrameIndex The index of the frame to show.
+     * @return The {@code Sprite2D}, for method chaining.
+     */
+    public Sprite2D setFrameIndex(int newFrameIndex) {
+        if (newFrameIndex < 0 || newFrameIndex >= frames.length) {
+            throw new IndexOutOfBoundsException("Index " + newFrameIndex + " is out of bounds for a sprite of " + frames.length + " frames");
+        }
+
+        frameTime = 0f;
+        showFrame(newFrameIndex);
+        return this;
+    }
+
+    /**
+     * Gets the time each frame is shown for.
+     *
+     * @return The frame duration, in seconds.
+     */
+    public float getFrameDuration() {
+        return frameDuration;
+    }
+
+    /**
+     * Sets the time each frame is shown for.
+     *
+     * @param newFrameDuration The new frame duration, in seconds.
+     * @return The {@code Sprite2D}, for method chaining.
+     */
+    public Sprite2D setFrameDuration(float newFrameDuration) {
+        frameDuration = newFrameDuration;
+        return this;
+    }
+
+    /**
+     * Gets whether the sprite's animation starts over after its last frame.
+     *
+     * @return Whether the animation loops.
+     */
+    public boolean isLooping() {
+        return looping;
+    }
+
+    /**
+     * Sets whether the sprite's animation starts over after its last frame, rather than stopping on it.
+     *
+     * @param shouldLoop Whether the animation should loop.
+     * @return The {@code Sprite2D}, for method chaining.
+     */
+    public Sprite2D setLooping(boolean shouldLoop) {
+        looping = shouldLoop;
+        return this;
+    }
+
+    /**
+     * Gets whether the sprite's animation has stopped on its last frame.
+     * <p>
+     * A looping animation never finishes.
+     *
+     * @return Whether the animation has finished.
+     */
+    public boolean isFinished() {
+        return !looping && frameIndex == frames.length - 1;
+    }
+
+    /**
+     * Advances the sprite's animation by the specified amount of time.
+     *
+     * @param elapsedSeconds The time passed since the animation was last advanced, in seconds.
+     */
+    public void animate(float elapsedSeconds) {
+        if (frames.length == 1 || frameDuration <= 0f || isFinished()) {
+            return;
+        }
+
+        frameTime += elapsedSeconds;
+        if (frameTime < frameDuration) {
+            return;
+        }
+
+        int framesPassed = (int) (frameTime / frameDuration);
+        frameTime -= framesPassed * frameDuration;
+
+        int newFrameIndex = frameIndex + framesPassed;
+        if (looping) {
+            newFrameIndex %= frames.length;
+        } else if (newFrameIndex >= frames.length - 1) {
+            newFrameIndex = frames.length - 1;
+            frameTime = 0f;
+        }
+
+        showFrame(newFrameIndex);
+    }
+
+    /**
+     * Gets the transform that maps the sprite's current frame to its current location, rotation, and scale.
+     * <p>
+     * The returned transform is owned by the sprite, and should not be modified.
+     *
+     * @return The sprite's transform, as an {@code AffineTransform}.
+     */
+    @Override
+    public AffineTransform getLocalTransform() {
+        return transform;
+    }
+
+    @Override
+    public Pointf[] getBounds() {
+        if (boundsOutdated) {
+            updateBounds();
+        }
+        return super.getBounds();
+    }
+
+    @Override
+    public Shape getCollisionPath() {
+        if (collisionPathOutdated) {
+            Rectangle region = atlas.getRegion(frames[frameIndex]);
+            setCollisionPath(transform.createTransformedShape(new Rectangle2D.Float(0f, 0f, region.width, region.height)));
+            collisionPathOutdated = false;
+        }
+        return super.getCollisionPath();
+    }
+
+    @Override
+    public float getRotation() {
+        return rotation;
+    }
+
+    @Override
+    public Pointf getScale() {
+        return scale;
+    }
+
+    @Override
+    public Pointf getTranslation() {
+        return translation;
+    }
+
+    @Override
+    public void translate(Pointf translationMod) {
+        translation.add(translationMod);
+        transform.preConcatenate(AffineTransform.getTranslateInstance(translationMod.x, translationMod.y));
+        transformChanged();
+    }
+
+    @Override
+    public void rotate(float rotationMod, Pointf centerpoint) {
+        rotation += rotationMod;
+        transform.preConcatenate(AffineTransform.getRotateInstance(Math.toRadians(rotationMod), centerpoint.x, centerpoint.y));
+        transformChanged();
+    }
+
+    @Override
+    public void scale(Pointf scaleMod, Pointf centerpoint) {
+        scale.add(scaleMod);
+
+        AffineTransform scaleTransform = AffineTransform.getTranslateInstance(centerpoint.x, centerpoint.y);
+        scaleTransform.scale(1f + scaleMod.x, 1f + scaleMod.y);
+        scaleTransform.translate(-centerpoint.x, -centerpoint.y);
+
+        transform.preConcatenate(scaleTransform);
+        transformChanged();
+    }
+
+    @Override
+    public void render(Graphics2D g) {
+        if (!shouldRender()) return;
+
+        AffineTransform oldTransform = g.getTransform();
+        g.transform(transform);
+        atlas.drawRegion(g, frames[frameIndex], 0, 0);
+        g.setTransform(oldTransform);
+    }
+
+    @Override
+    public void destroy(Scene originScene) {
+        atlas = null;
+        frames = null;
+        transform = null;
+        spriteBounds = null;
+
+        scale = null;
+        rotation = 0f;
+        translation = null;
+
+        destroyTheRest(originScene);
+    }
+
+    /**
+     * Marks the sprite's bounds and collision path as needing to be recomputed, alongside the world-space data of its
+     * children.
+     */
+    @Override
+    protected void transformChanged() {
+        boundsOutdated = true;
+        collisionPathOutdated = true;
+        super.transformChanged();
+    }
+
+    /**
+     * Shows the specified frame, updating the sprite's bounds if the frame is a different size.
+     *
+     * @param newFrameIndex The index of the frame to show.
+     */
+    private void showFrame(int newFrameIndex) {
+        if (newFrameIndex == frameIndex) {
+            return;
+        }
+
+        Rectangle oldRegion = atlas.getRegion(frames[frameIndex]);
+        Rectangle newRegion = atlas.getRegion(frames[newFrameIndex]);
+        if (oldRegion.width != newRegion.width || oldRegion.height != newRegion.height) {
+            boundsOutdated = true;
+            collisionPathOutdated = true;
+        }
+
+        frameIndex = newFrameIndex;
+        appearanceChanged();
+    }
+
+    /** Recomputes the sprite's bounds from the size of its current frame and its transform. */
+    private void updateBounds() {
+        Rectangle region = atlas.getRegion(frames[frameIndex]);
+        float[] corners = {
+                0f, 0f,
+                region.width, 0f,
+                region.width, region.height,
+                0f, region.height
+        };
+        transform.transform(corners, 0, corners, 0, 4);
+
+        float minX = Math.min(Math.min(corners[0], corners[2]), Math.min(corners[4], corners[6]));
+        float minY = Math.min(Math.min(corners[1], corners[3]), Math.min(corners[5], corners[7]));
+        float maxX = Math.max(Math.max(corners[0], corners[2]), Math.max(corners[4], corners[6]));
+        float maxY = Math.max(Math.max(corners[1], corners[3]), Math.max(corners[5], corners[7]));
+
+        spriteBounds[0].set(minX, minY);
+        spriteBounds[1].set(maxX, minY);
+        spriteBounds[2].set(maxX, maxY);
+        spriteBounds[3].set(minX, maxY);
+
+        setBounds(spriteBounds);
+        boundsOutdated = false;
+    }
+
+    /**
+     * Gets the indices of the atlas regions with the specified names.
+     *
+     * @param atlas      The atlas containing the regions.
+     * @param frameNames The names of the regions.
+     * @return The indices of the regions.
+     */
+    private static int[] regionsOf(TextureAtlas atlas, String[] frameNames) {
+        int[] regions = new int[frameNames.length];
+        for (int i = 0; i < frameNames.length; i++) {
+            regions[i] = atlas.indexOf(frameNames[i]);
+            if (regions[i] == -1) {
+                FastJEngine.error(CrashMessages.illegalAction(Sprite2D.class),
+                        new IllegalArgumentException("The texture atlas has no region named \"" + frameNames[i] + "\".")
+                );
+            }
+        }
+        return regions;
+    }
+
+    /**
+     * Checks for equality between the {@code Sprite2D} and the other specified.
+     *
+     * @param other The {@code Sprite2D} to check for equality against.
+     * @return Whether the two {@code Sprite2D}s are equal.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        Sprite2D sprite2D = (Sprite2D) other;
+        return atlas == sprite2D.atlas
+                && frameIndex == sprite2D.frameIndex
+                && Arrays.equals(frames, sprite2D.frames)
+                && Objects.equals(translation, sprite2D.translation)
+                && Objects.equals(scale, sprite2D.scale)
+                && Maths.floatEquals(sprite2D.rotation, rotation);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(System.identityHashCode(atlas), frameIndex, rotation, scale, translation);
+        result = 31 * result + Arrays.hashCode(frames);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "Sprite2D{" +
+                "atlas=" + atlas +
+                ", frames=" + Arrays.toString(frames) +
+                ", frameIndex=" + frameIndex +
+                ", rotation=" + rotation +
+                ", scale=" + scale +
+                ", translation=" + translation +
+                '}';
+    }
+}
@@ -4,19 +4,30 @@ import io.github.lucasstarsz.fastj.engine.CrashMessages;
 import io.github.lucasstarsz.fastj.engine.FastJEngine;
 import io.github.lucasstarsz.fastj.math.Pointf;
 import io.github.lucasstarsz.fastj.graphics.DrawUtil;
+import io.github.lucasstarsz.fastj.graphics.GlyphAdvances;
+import io.github.lucasstarsz.fastj.graphics.GlyphLayout;
+import io.github.lucasstarsz.fastj.graphics.GlyphLayouts;
+import io.github.lucasstarsz.fastj.graphics.TextBuffer;
 
 import io.github.lucasstarsz.fastj.systems.control.Scene;
 
 import java.awt.Color;
 import java.awt.Font;
-import java.awt.FontMetrics;
 import java.awt.Graphics2D;
+import java.awt.Shape;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Path2D;
 import java.awt.geom.Rectangle2D;
 
 /**
  * {@code Drawable} subclass for drawing text.
+ * <p>
+ * Text is laid out and measured through {@link GlyphLayouts}, so a {@code Text2D} does not need a running display to
+ * be created or changed.
+ * <p>
+ * For text that changes often, such as scores and timers, a {@code Text2D} can display a {@link TextBuffer} instead of
+ * a {@code String}. The buffer is drawn straight from its characters, and only measured again when it has changed --
+ * with a monospaced font, only when its length has changed. Updating the buffer does not allocate memory.
  *
  * @author Andrew Dey
  * @version 1.0.0
@@ -34,7 +45,14 @@ public class Text2D extends GameObject {
     private Color color;
     private Font font;
     private Pointf translation;
-    private boolean hasMetrics;
+    private final AffineTransform localTransform = new AffineTransform();
+    private GlyphLayout layout;
+
+    private TextBuffer textBuffer;
+    private int measuredVersion;
+    private int measuredLength;
+    private final Pointf[] bufferBounds = {new Pointf(), new Pointf(), new Pointf(), new Pointf()};
+    private final Path2D.Float bufferPath = new Path2D.Float();
 
     /**
      * {@code Text2D} Constructor that takes in a string of text and a location.
@@ -67,27 +85,59 @@ public class Text2D extends GameObject {
         setColor(setColor);
         setShouldRender(show);
 
-        setMetrics(FastJEngine.getDisplay().getGraphics());
+        setMetrics();
     }
 
     /**
      * Gets the displayed text of this {@code Text2D}.
      *
+     * If the {@code Text2D} displays a {@link TextBuffer}, this creates a new {@code String} from the buffer's
+     * contents.
+     *
      * @return Returns a String that contains the text displayed.
      */
     public String getText() {
-        return text;
+        return textBuffer != null ? textBuffer.toString() : text;
     }
 
     /**
      * Sets the text for this {@code Text2D}.
+     * <p>
+     * If the {@code Text2D} displayed a {@link TextBuffer}, it stops doing so.
      *
      * @param setText The new text value.
      * @return This instance of the {@code Text2D}, for method chaining.
      */
     public Text2D setText(String setText) {
         text = setText;
-        setMetrics(FastJEngine.getDisplay().getGraphics());
+        textBuffer = null;
+        setMetrics();
+        appearanceChanged();
+
+        return this;
+    }
+
+    /**
+     * Gets the {@code TextBuffer} displayed by this {@code Text2D}.
+     *
+     * @return The displayed {@code TextBuffer}, or {@code null} if the {@code Text2D} displays a {@code String}.
+     */
+    public TextBuffer getTextBuffer() {
+        return textBuffer;
+    }
+
+    /**
+     * Sets the {@code TextBuffer} for this {@code Text2D} to display.
+     * <p>
+     * Changes made to the buffer afterwards are shown without needing to set it again.
+     *
+     * @param setTextBuffer The {@code TextBuffer} to display.
+     * @return This instance of the {@code Text2D}, for method chaining.
+     */
+    public Text2D setTextBuffer(TextBuffer setTextBuffer) {
+        textBuffer = setTextBuffer;
+        invalidateBufferMetrics();
+        appearanceChanged();
 
         return this;
     }
@@ -109,6 +159,7 @@ public class Text2D extends GameObject {
      */
     public Text2D setColor(Color setColor) {
         color = setColor;
+        appearanceChanged();
         return this;
     }
 
@@ -129,11 +180,39 @@ public class Text2D extends GameObject {
      */
     public Text2D setFont(Font setFont) {
         font = setFont;
-        setMetrics(FastJEngine.getDisplay().getGraphics());
 
+        if (textBuffer != null) {
+            invalidateBufferMetrics();
+        } else {
+            setMetrics();
+        }
+
+        appearanceChanged();
         return this;
     }
 
+    /**
+     * Gets the appearance version of the {@code Text2D}, which also changes when its {@link TextBuffer} changes.
+     *
+     * @return The appearance version of the {@code Text2D}.
+     */
+    @Override
+    public int getAppearanceVersion() {
+        return (textBuffer != null) ? super.getAppearanceVersion() + textBuffer.getVersion() : super.getAppearanceVersion();
+    }
+
+    @Override
+    public Pointf[] getBounds() {
+        updateBufferMetrics();
+        return super.getBounds();
+    }
+
+    @Override
+    public Shape getCollisionPath() {
+        updateBufferMetrics();
+        return super.getCollisionPath();
+    }
+
     @Override
     public Pointf getTranslation() {
         return translation;
@@ -149,20 +228,28 @@ public class Text2D extends GameObject {
         return GameObject.DefaultRotation;
     }
 
+    @Override
+    public AffineTransform getLocalTransform() {
+        return localTransform;
+    }
+
     @Override
     public void render(Graphics2D g) {
         if (!shouldRender()) {
             return;
         }
 
-        if (!hasMetrics) {
-            setMetrics(g);
-        }
-
-        g.setFont(font);
         g.setColor(color);
 
-        g.drawString(text, translation.x, translation.y);
+        if (textBuffer != null) {
+            AffineTransform oldTransform = g.getTransform();
+            g.setFont(font);
+            g.translate(translation.x, translation.y);
+            g.drawChars(textBuffer.getChars(), 0, textBuffer.length(), 0, 0);
+            g.setTransform(oldTransform);
+        } else {
+            layout.draw(g, translation.x, translation.y);
+        }
     }
 
     @Override
@@ -171,6 +258,8 @@ public class Text2D extends GameObject {
         color = null;
         font = null;
         translation = null;
+        layout = null;
+        textBuffer = null;
 
         super.destroyTheRest(originScene);
     }
@@ -180,9 +269,12 @@ public class Text2D extends GameObject {
         translation.add(translationMod);
 
         AffineTransform at = AffineTransform.getTranslateInstance(translationMod.x, translationMod.y);
-        setCollisionPath(((Path2D.Float) getCollisionPath()).createTransformedShape(at));
+        setCollisionPath(at.createTransformedShape(collisionPath));
 
         translateBounds(translationMod);
+
+        localTransform.preConcatenate(at);
+        localTransformChanged();
     }
 
     // TODO Add support for rotation and scaling
@@ -217,23 +309,60 @@ public class Text2D extends GameObject {
      * Sets up the necessary boundaries for creating the metrics for this {@code Text2D}.
      * <p>
      * This also sets the resulting metrics as the collision path for this {@code Text2D}.
-     *
-     * @param g {@code Graphics2D} object that the {@code Text2D} is rendered on.
      */
-    private void setMetrics(Graphics2D g) {
-        hasMetrics = false;
-
-        FontMetrics fm = g.getFontMetrics(font);
-        int textWidth = fm.stringWidth(text);
-        int textHeight = fm.getHeight();
+    private void setMetrics() {
+        layout = GlyphLayouts.layoutOf(font, text);
 
-        final Rectangle2D.Float bounds = new Rectangle2D.Float(translation.x, translation.y, textWidth, textHeight);
+        final Rectangle2D.Float bounds = new Rectangle2D.Float(translation.x, translation.y, layout.getWidth(), layout.getHeight());
         setBounds(DrawUtil.createBox(bounds));
 
         setCollisionPath(createMetricsPath(bounds));
+    }
+
+    /** Forces the metrics of the displayed {@code TextBuffer} to be measured again, the next time they are needed. */
+    private void invalidateBufferMetrics() {
+        if (textBuffer != null) {
+            measuredVersion = textBuffer.getVersion() - 1;
+            measuredLength = -1;
+        }
+    }
+
+    /**
+     * Measures the displayed {@code TextBuffer}, if it has changed since it was last measured.
+     * <p>
+     * With a monospaced font, the buffer is only measured again if its length has changed. The buffer's boundaries and
+     * collision path are reused between measurements, so this does not allocate memory.
+     */
+    private void updateBufferMetrics() {
+        if (textBuffer == null || textBuffer.getVersion() == measuredVersion) {
+            return;
+        }
+
+        measuredVersion = textBuffer.getVersion();
+
+        GlyphAdvances advances = GlyphLayouts.advancesOf(font);
+        if (advances.isMonospaced() && textBuffer.length() == measuredLength) {
+            return;
+        }
+
+        measuredLength = textBuffer.length();
+
+        float width = advances.widthOf(textBuffer);
+        float height = advances.getLineHeight();
+
+        bufferBounds[0].set(translation.x, translation.y);
+        bufferBounds[1].set(translation.x + width, translation.y);
+        bufferBounds[2].set(translation.x + width, translation.y + height);
+        bufferBounds[3].set(translation.x, translation.y + height);
+        setBounds(bufferBounds);
 
-        g.dispose();
-        hasMetrics = true;
+        bufferPath.reset();
+        bufferPath.moveTo(bufferBounds[0].x, bufferBounds[0].y);
+        bufferPath.lineTo(bufferBounds[1].x, bufferBounds[1].y);
+        bufferPath.lineTo(bufferBounds[2].x, bufferBounds[2].y);
+        bufferPath.lineTo(bufferBounds[3].x, bufferBounds[3].y);
+        bufferPath.closePath();
+        setCollisionPath(bufferPath);
     }
 
     /**
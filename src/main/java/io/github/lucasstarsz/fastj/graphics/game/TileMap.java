@@ -0,0 +1,679 @@
+package io.github.lucasstarsz.fastj.graphics.game;
+
+import io.github.lucasstarsz.fastj.engine.CrashMessages;
+import io.github.lucasstarsz.fastj.engine.FastJEngine;
+import io.github.lucasstarsz.fastj.math.Maths;
+import io.github.lucasstarsz.fastj.math.Pointf;
+import io.github.lucasstarsz.fastj.graphics.TextureAtlas;
+
+import io.github.lucasstarsz.fastj.systems.control.Scene;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * {@code GameObject} subclass for drawing a grid of tiles from a {@link TextureAtlas}.
+ * <p>
+ * Each tile is stored as the index of the atlas region it shows, in a single {@code short} array -- or as {@link
+ * #EmptyTile} if nothing is drawn there. Rather than drawing each tile every frame, the map is split into square chunks
+ * of tiles, each drawn once into a cached image. Rendering the map only draws the cached images of the chunks that are
+ * visible, and a chunk's image is only redrawn after one of its tiles changes.
+ * <p>
+ * Tiles can be marked as solid by their region index. Checking whether a location is on a solid tile takes constant
+ * time, no matter how large the map is:
+ * <pre>{@code
+ * TileMap level = new TileMap(tileset, 400, 300, 16, 16);
+ * level.setSolid(tileset.indexOf("wall"), true);
+ *
+ * if (level.isSolidAt(player.getCenter().x, player.getBound(Boundary.BOTTOM_LEFT).y)) {
+ *     // the player is standing on a wall
+ * }
+ * }</pre>
+ * The map's bounds and collision path cover the whole grid of tiles.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public class TileMap extends GameObject {
+
+    /** {@code boolean} representing the default "should render" of {@code true}. */
+    public static final boolean DefaultShow = true;
+    /** The tile value for a cell with no tile: {@code -1}. */
+    public static final short EmptyTile = -1;
+    /** The default width and height of each chunk, in tiles: {@code 16}. */
+    public static final int DefaultChunkSize = 16;
+
+    private TextureAtlas tileset;
+    private short[] tiles;
+    private boolean[] solidTiles;
+
+    private final int columns;
+    private final int rows;
+    private final int tileWidth;
+    private final int tileHeight;
+
+    private final int chunkSize;
+    private final int chunkColumns;
+    private final int chunkRows;
+    private BufferedImage[] chunkImages;
+    private boolean[] chunkOutdated;
+    private int chunkRenderCount;
+
+    private AffineTransform transform;
+    private AffineTransform inverseTransform;
+    private boolean inverseOutdated;
+    private boolean invertible;
+
+    private float rotation;
+    private Pointf scale;
+    private Pointf translation;
+
+    private Pointf[] mapBounds;
+    private boolean boundsOutdated;
+    private boolean collisionPathOutdated;
+
+    /**
+     * {@code TileMap} constructor that takes in a tileset, and the size of the map and its tiles.
+     * <p>
+     * Every tile starts as {@link #EmptyTile}. This defaults the chunk size to {@link #DefaultChunkSize}, and whether
+     * the map should be shown to {@link #DefaultShow}.
+     *
+     * @param tileset    The {@code TextureAtlas} the tiles are drawn from.
+     * @param columns    The amount of tiles in each row of the map.
+     * @param rows       The amount of tiles in each column of the map.
+     * @param tileWidth  The width of each tile.
+     * @param tileHeight The height of each tile.
+     */
+    public TileMap(TextureAtlas tileset, int columns, int rows, int tileWidth, int tileHeight) {
+        this(tileset, columns, rows, tileWidth, tileHeight, DefaultChunkSize, DefaultShow);
+    }
+
+    /**
+     * {@code TileMap} constructor that takes in a tileset, the size of the map and its tiles, the size of the map's
+     * chunks, and a show variable.
+     * <p>
+     * Every tile starts as {@link #EmptyTile}.
+     *
+     * @param tileset    The {@code TextureAtlas} the tiles are drawn from.
+     * @param columns    The amount of tiles in each row of the map.
+     * @param rows       The amount of tiles in each column of the map.
+     * @param tileWidth  The width of each tile.
+     * @param tileHeight The height of each tile.
+     * @param chunkSize  The width and height of each chunk, in tiles.
+     * @param show       Boolean that determines whether this map should be drawn to the screen.
+     */
+    public TileMap(TextureAtlas tileset, int columns, int rows, int tileWidth, int tileHeight, int chunkSize, boolean show) {
+        if (columns < 1 || rows < 1 || tileWidth < 1 || tileHeight < 1 || chunkSize < 1) {
+            FastJEngine.error(CrashMessages.illegalAction(getClass()),
+                    new IllegalArgumentException("A tile map's size, tile size, and chunk size must all be at least 1.")
+            );
+        }
+
+        this.tileset = tileset;
+        this.columns = columns;
+        this.rows = rows;
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+
+        tiles = new short[columns * rows];
+        Arrays.fill(tiles, EmptyTile);
+        solidTiles = new boolean[tileset.getRegionCount()];
+
+        this.chunkSize = chunkSize;
+        chunkColumns = (columns + chunkSize - 1) / chunkSize;
+        chunkRows = (rows + chunkSize - 1) / chunkSize;
+        chunkImages = new BufferedImage[chunkColumns * chunkRows];
+        chunkOutdated = new boolean[chunkColumns * chunkRows];
+
+        transform = new AffineTransform();
+        inverseTransform = new AffineTransform();
+        inverseOutdated = true;
+
+        rotation = GameObject.DefaultRotation;
+        scale = GameObject.DefaultScale.copy();
+        translation = new Pointf();
+
+        mapBounds = new Pointf[]{new Pointf(), new Pointf(), new Pointf(), new Pointf()};
+        boundsOutdated = true;
+        collisionPathOutdated = true;
+
+        setShouldRender(show);
+    }
+
+    /**
+     * Gets the {@link TextureAtlas} the map's tiles are drawn from.
+     *
+     * @return The map's tileset.
+     */
+    public TextureAtlas getTileset() {
+        return tileset;
+    }
+
+    /**
+     * Gets the amount of tiles in each row of the map.
+     *
+     * @return The amount of columns.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the amount of tiles in each column of the map.
+     *
+     * @return The amount of rows.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the width of each tile.
+     *
+     * @return The tile width.
+     */
+    public int getTileWidth() {
+        return tileWidth;
+    }
+
+    /**
+     * Gets the height of each tile.
+     *
+     * @return The tile height.
+     */
+    public int getTileHeight() {
+        return tileHeight;
+    }
+
+    /**
+     * Gets the width and height of each chunk, in tiles.
+     *
+     * @return The chunk size.
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Gets the amount of times a chunk's cached image has been drawn, since the map was created.
+     *
+     * @return The amount of chunk renders.
+     */
+    public int getChunkRenderCount() {
+        return chunkRenderCount;
+    }
+
+    /**
+     * Gets the tile at the specified cell.
+     *
+     * @param column The column of the cell.
+     * @param row    The row of the cell.
+     * @return The index of the atlas region shown at the cell, or {@link #EmptyTile} if the cell is empty.
+     */
+    public int getTile(int column, int row) {
+        checkCell(column, row);
+        return tiles[row * columns + column];
+    }
+
+    /**
+     * Sets the tile at the specified cell.
+     *
+     * @param column The column of the cell.
+     * @param row    The row of the cell.
+     * @param tile   The index of the atlas region to show at the cell, or {@link #EmptyTile} to empty it.
+     * @return The {@code TileMap}, for method chaining.
+     */
+    public TileMap setTile(int column, int row, int tile) {
+        checkCell(column, row);
+        checkTile(tile);
+
+        int index = row * columns + column;
+        if (tiles[index] != tile) {
+            tiles[index] = (short) tile;
+            chunkOutdated[(row / chunkSize) * chunkColumns + column / chunkSize] = true;
+            appearanceChanged();
+        }
+        return this;
+    }
+
+    /**
+     * Sets every tile in the specified rectangle of cells.
+     *
+     * @param column The column of the top-left cell.
+     * @param row    The row of the top-left cell.
+     * @param width  The amount of columns to fill.
+     * @param height The amount of rows to fill.
+     * @param tile   The index of the atlas region to show at each cell, or {@link #EmptyTile} to empty them.
+     * @return The {@code TileMap}, for method chaining.
+     */
+    public TileMap fill(int column, int row, int width, int height, int tile) {
+        for (int y = row; y < row + height; y++) {
+            for (int x = column; x < column + width; x++) {
+                setTile(x, y, tile);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Gets whether the specified tile is solid.
+     *
+     * @param tile The index of the atlas region.
+     * @return Whether the tile is solid. {@link #EmptyTile} is never solid.
+     */
+    public boolean isSolid(int tile) {
+        return tile != EmptyTile && solidTiles[tile];
+    }
+
+    /**
+     * Sets whether the specified tile is solid, wherever it is in the map.
+     *
+     * @param tile  The index of the atlas region.
+     * @param solid Whether the tile should be solid.
+     * @return The {@code TileMap}, for method chaining.
+     */
+    public TileMap setSolid(int tile, boolean solid) {
+        if (tile == EmptyTile) {
+            FastJEngine.error(CrashMessages.illegalAction(getClass()), new IllegalArgumentException("An empty tile cannot be solid."));
+        }
+        checkTile(tile);
+
+        solidTiles[tile] = solid;
+        return this;
+    }
+
+    /**
+     * Gets the tile at the specified world location.
+     *
+     * @param x The x location, in world space.
+     * @param y The y location, in world space.
+     * @return The index of the atlas region shown at the location, or {@link #EmptyTile} if the location is on an empty
+     *         cell or outside the map.
+     */
+    public int getTileAt(float x, float y) {
+        updateInverseTransform();
+        if (!invertible) {
+            return EmptyTile;
+        }
+
+        double localX = inverseTransform.getScaleX() * x + inverseTransform.getShearX() * y + inverseTransform.getTranslateX();
+        double localY = inverseTransform.getShearY() * x + inverseTransform.getScaleY() * y + inverseTransform.getTranslateY();
+
+        int column = (int) Math.floor(localX / tileWidth);
+        int row = (int) Math.floor(localY / tileHeight);
+        if (column < 0 || column >= columns || row < 0 || row >= rows) {
+            return EmptyTile;
+        }
+        return tiles[row * columns + column];
+    }
+
+    /**
+     * Checks whether the specified world location is on a solid tile.
+     *
+     * @param x The x location, in world space.
+     * @param y The y location, in world space.
+     * @return Whether the location is on a solid tile.
+     */
+    public boolean isSolidAt(float x, float y) {
+        return isSolid(getTileAt(x, y));
+    }
+
+    /**
+     * Checks whether the specified world rectangle overlaps any solid tile.
+     * <p>
+     * This checks each cell the rectangle covers. If the map is rotated, the cells covering the rectangle's bounds in
+     * the map's space are checked, which may include cells slightly outside the rectangle.
+     *
+     * @param rect The rectangle, in world space.
+     * @return Whether the rectangle overlaps a solid tile.
+     */
+    public boolean overlapsSolid(Rectangle2D rect) {
+        updateInverseTransform();
+        if (!invertible) {
+            return false;
+        }
+
+        Rectangle2D localRect = inverseTransform.createTransformedShape(rect).getBounds2D();
+        int minColumn = Math.max((int) Math.floor(localRect.getMinX() / tileWidth), 0);
+        int minRow = Math.max((int) Math.floor(localRect.getMinY() / tileHeight), 0);
+        int maxColumn = Math.min((int) Math.ceil(localRect.getMaxX() / tileWidth) - 1, columns - 1);
+        int maxRow = Math.min((int) Math.ceil(localRect.getMaxY() / tileHeight) - 1, rows - 1);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                if (isSolid(tiles[row * columns + column])) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Frees the cached images of every chunk. Each chunk's image is drawn again the next time the chunk is visible.
+     */
+    public void clearChunkCache() {
+        Arrays.fill(chunkImages, null);
+    }
+
+    /**
+     * Gets the transform that maps the map's tiles to its current location, rotation, and scale.
+     * <p>
+     * The returned transform is owned by the map, and should not be modified.
+     *
+     * @return The map's transform, as an {@code AffineTransform}.
+     */
+    @Override
+    public AffineTransform getLocalTransform() {
+        return transform;
+    }
+
+    @Override
+    public Pointf[] getBounds() {
+        if (boundsOutdated) {
+            updateBounds();
+        }
+        return super.getBounds();
+    }
+
+    @Override
+    public Shape getCollisionPath() {
+        if (collisionPathOutdated) {
+            setCollisionPath(transform.createTransformedShape(new Rectangle2D.Float(0f, 0f, columns * tileWidth, rows * tileHeight)));
+            collisionPathOutdated = false;
+        }
+        return super.getCollisionPath();
+    }
+
+    @Override
+    public float getRotation() {
+        return rotation;
+    }
+
+    @Override
+    public Pointf getScale() {
+        return scale;
+    }
+
+    @Override
+    public Pointf getTranslation() {
+        return translation;
+    }
+
+    @Override
+    public void translate(Pointf translationMod) {
+        translation.add(translationMod);
+        transform.preConcatenate(AffineTransform.getTranslateInstance(translationMod.x, translationMod.y));
+        transformChanged();
+    }
+
+    @Override
+    public void rotate(float rotationMod, Pointf centerpoint) {
+        rotation += rotationMod;
+        transform.preConcatenate(AffineTransform.getRotateInstance(Math.toRadians(rotationMod), centerpoint.x, centerpoint.y));
+        transformChanged();
+    }
+
+    @Override
+    public void scale(Pointf scaleMod, Pointf centerpoint) {
+        scale.add(scaleMod);
+
+        AffineTransform scaleTransform = AffineTransform.getTranslateInstance(centerpoint.x, centerpoint.y);
+        scaleTransform.scale(1f + scaleMod.x, 1f + scaleMod.y);
+        scaleTransform.translate(-centerpoint.x, -centerpoint.y);
+
+        transform.preConcatenate(scaleTransform);
+        transformChanged();
+    }
+
+    @Override
+    public void render(Graphics2D g) {
+        if (!shouldRender()) return;
+
+        AffineTransform oldTransform = g.getTransform();
+        g.transform(transform);
+
+        Rectangle2D visibleArea = visibleAreaOf(g);
+        if (visibleArea != null) {
+            int chunkWidth = chunkSize * tileWidth;
+            int chunkHeight = chunkSize * tileHeight;
+
+            int minChunkX = Math.max((int) Math.floor(visibleArea.getMinX() / chunkWidth), 0);
+            int minChunkY = Math.max((int) Math.floor(visibleArea.getMinY() / chunkHeight), 0);
+            int maxChunkX = Math.min((int) Math.ceil(visibleArea.getMaxX() / chunkWidth) - 1, chunkColumns - 1);
+            int maxChunkY = Math.min((int) Math.ceil(visibleArea.getMaxY() / chunkHeight) - 1, chunkRows - 1);
+
+            for (int chunkY = minChunkY; chunkY <= maxChunkY; chunkY++) {
+                for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                    g.drawImage(chunkImageOf(chunkX, chunkY, g.getDeviceConfiguration()), chunkX * chunkWidth, chunkY * chunkHeight, null);
+                }
+            }
+        }
+
+        g.setTransform(oldTransform);
+    }
+
+    @Override
+    public void destroy(Scene originScene) {
+        tileset = null;
+        tiles = null;
+        solidTiles = null;
+        chunkImages = null;
+        chunkOutdated = null;
+
+        transform = null;
+        inverseTransform = null;
+        mapBounds = null;
+
+        scale = null;
+        rotation = 0f;
+        translation = null;
+
+        destroyTheRest(originScene);
+    }
+
+    /**
+     * Marks the map's bounds, collision path, and inverse transform as needing to be recomputed, alongside the
+     * world-space data of its children.
+     */
+    @Override
+    protected void transformChanged() {
+        boundsOutdated = true;
+        collisionPathOutdated = true;
+        inverseOutdated = true;
+        super.transformChanged();
+    }
+
+    /**
+     * Gets the area of the map that the specified {@code Graphics2D} can draw to, in the map's space.
+     *
+     * @param g The {@code Graphics2D}, already transformed into the map's space.
+     * @return The visible area, or {@code null} if nothing is visible.
+     */
+    private static Rectangle2D visibleAreaOf(Graphics2D g) {
+        Rectangle clipBounds = g.getClipBounds();
+        if (clipBounds != null) {
+            return clipBounds;
+        }
+
+        // without a clip, the whole device is visible
+        Rectangle deviceBounds = g.getDeviceConfiguration().getBounds();
+        try {
+            return g.getTransform().createInverse()
+                    .createTransformedShape(new Rectangle(0, 0, deviceBounds.width, deviceBounds.height))
+                    .getBounds2D();
+        } catch (NoninvertibleTransformException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the cached image of the specified chunk, drawing its tiles into it first if it is missing or outdated.
+     * <p>
+     * This is synchronized, as the tile map may be rendered by several threads at once when the display renders in
+     * {@link io.github.lucasstarsz.fastj.graphics.RenderMode#PARALLEL_TILES parallel tiles}.
+     *
+     * @param chunkX                The x coordinate of the chunk.
+     * @param chunkY                The y coordinate of the chunk.
+     * @param graphicsConfiguration The configuration to create the chunk's image with, if it does not have one yet.
+     * @return The chunk's image.
+     */
+    private synchronized BufferedImage chunkImageOf(int chunkX, int chunkY, GraphicsConfiguration graphicsConfiguration) {
+        int chunk = chunkY * chunkColumns + chunkX;
+        if (chunkImages[chunk] == null || chunkOutdated[chunk]) {
+            renderChunk(chunkX, chunkY, graphicsConfiguration);
+        }
+        return chunkImages[chunk];
+    }
+
+    /**
+     * Draws the tiles of the specified chunk into its cached image.
+     *
+     * @param chunkX                The x coordinate of the chunk.
+     * @param chunkY                The y coordinate of the chunk.
+     * @param graphicsConfiguration The configuration to create the chunk's image with, if it does not have one yet.
+     */
+    private void renderChunk(int chunkX, int chunkY, GraphicsConfiguration graphicsConfiguration) {
+        int chunk = chunkY * chunkColumns + chunkX;
+        int firstColumn = chunkX * chunkSize;
+        int firstRow = chunkY * chunkSize;
+        int chunkColumnCount = Math.min(chunkSize, columns - firstColumn);
+        int chunkRowCount = Math.min(chunkSize, rows - firstRow);
+
+        if (chunkImages[chunk] == null) {
+            chunkImages[chunk] = graphicsConfiguration.createCompatibleImage(chunkColumnCount * tileWidth, chunkRowCount * tileHeight, Transparency.TRANSLUCENT);
+        }
+
+        Graphics2D chunkGraphics = chunkImages[chunk].createGraphics();
+        chunkGraphics.setComposite(AlphaComposite.Clear);
+        chunkGraphics.fillRect(0, 0, chunkColumnCount * tileWidth, chunkRowCount * tileHeight);
+        chunkGraphics.setComposite(AlphaComposite.SrcOver);
+
+        for (int row = 0; row < chunkRowCount; row++) {
+            int rowStart = (firstRow + row) * columns + firstColumn;
+            for (int column = 0; column < chunkColumnCount; column++) {
+                short tile = tiles[rowStart + column];
+                if (tile != EmptyTile) {
+                    tileset.drawRegion(chunkGraphics, tile, column * tileWidth, row * tileHeight);
+                }
+            }
+        }
+
+        chunkGraphics.dispose();
+        chunkOutdated[chunk] = false;
+        chunkRenderCount++;
+    }
+
+    /** Recomputes the inverse of the map's transform, used to find the cells at world locations. */
+    private void updateInverseTransform() {
+        if (!inverseOutdated) {
+            return;
+        }
+
+        inverseTransform.setTransform(transform);
+        try {
+            inverseTransform.invert();
+            invertible = true;
+        } catch (NoninvertibleTransformException e) {
+            invertible = false;
+        }
+        inverseOutdated = false;
+    }
+
+    /** Recomputes the map's bounds from its size and its transform. */
+    private void updateBounds() {
+        float width = columns * tileWidth;
+        float height = rows * tileHeight;
+        float[] corners = {
+                0f, 0f,
+                width, 0f,
+                width, height,
+                0f, height
+        };
+        transform.transform(corners, 0, corners, 0, 4);
+
+        float minX = Math.min(Math.min(corners[0], corners[2]), Math.min(corners[4], corners[6]));
+        float minY = Math.min(Math.min(corners[1], corners[3]), Math.min(corners[5], corners[7]));
+        float maxX = Math.max(Math.max(corners[0], corners[2]), Math.max(corners[4], corners[6]));
+        float maxY = Math.max(Math.max(corners[1], corners[3]), Math.max(corners[5], corners[7]));
+
+        mapBounds[0].set(minX, minY);
+        mapBounds[1].set(maxX, minY);
+        mapBounds[2].set(maxX, maxY);
+        mapBounds[3].set(minX, maxY);
+
+        setBounds(mapBounds);
+        boundsOutdated = false;
+    }
+
+    private void checkCell(int column, int row) {
+        if (column < 0 || column >= columns || row < 0 || row >= rows) {
+            throw new IndexOutOfBoundsException("Cell (" + column + ", " + row + ") is out of bounds for a map of " + columns + "*" + rows + " tiles");
+        }
+    }
+
+    private void checkTile(int tile) {
+        if (tile < EmptyTile || tile >= tileset.getRegionCount()) {
+            throw new IndexOutOfBoundsException("Tile " + tile + " is out of bounds for a tileset of " + tileset.getRegionCount() + " regions");
+        }
+    }
+
+    /**
+     * Checks for equality between the {@code TileMap} and the other specified.
+     *
+     * @param other The {@code TileMap} to check for equality against.
+     * @return Whether the two {@code TileMap}s are equal.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        TileMap tileMap = (TileMap) other;
+        return tileset == tileMap.tileset
+                && columns == tileMap.columns
+                && rows == tileMap.rows
+                && tileWidth == tileMap.tileWidth
+                && tileHeight == tileMap.tileHeight
+                && Arrays.equals(tiles, tileMap.tiles)
+                && Arrays.equals(solidTiles, tileMap.solidTiles)
+                && Objects.equals(translation, tileMap.translation)
+                && Objects.equals(scale, tileMap.scale)
+                && Maths.floatEquals(tileMap.rotation, rotation);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(System.identityHashCode(tileset), columns, rows, tileWidth, tileHeight, rotation, scale, translation);
+        result = 31 * result + Arrays.hashCode(tiles);
+        result = 31 * result + Arrays.hashCode(solidTiles);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "TileMap{" +
+                "tileset=" + tileset +
+                ", columns=" + columns +
+                ", rows=" + rows +
+                ", tileWidth=" + tileWidth +
+                ", tileHeight=" + tileHeight +
+                ", rotation=" + rotation +
+                ", scale=" + scale +
+                ", translation=" + translation +
+                '}';
+    }
+}
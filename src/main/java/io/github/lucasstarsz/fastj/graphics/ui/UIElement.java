@@ -2,11 +2,13 @@ package io.github.lucasstarsz.fastj.graphics.ui;
 
 import io.github.lucasstarsz.fastj.graphics.Camera;
 import io.github.lucasstarsz.fastj.graphics.Drawable;
+import io.github.lucasstarsz.fastj.math.Pointf;
 
 import io.github.lucasstarsz.fastj.systems.control.Scene;
 import io.github.lucasstarsz.fastj.systems.input.mouse.MouseActionListener;
 
 import java.awt.Graphics2D;
+import java.awt.Shape;
 import java.awt.event.MouseEvent;
 import java.util.ArrayList;
 import java.util.List;
@@ -14,6 +16,11 @@ import java.util.function.Consumer;
 
 /**
  * A drawable to be used as UI.
+ * <p>
+ * A {@code UIElement} keeps track of whether its appearance has changed since it was last drawn. When the {@link
+ * io.github.lucasstarsz.fastj.graphics.Display Display} caches its UI, only elements marked as dirty are drawn again --
+ * subclasses should call {@link #markDirty()} whenever anything affecting how they look changes, and should draw within
+ * their bounds.
  *
  * @author Andrew Dey
  * @version 1.0.0
@@ -22,6 +29,7 @@ public abstract class UIElement extends Drawable implements MouseActionListener
 
     private final List<Consumer<MouseEvent>> onActionEvents;
     private EventCondition onActionCondition;
+    private boolean dirty = true;
 
     /**
      * Instantiates the {@code UIElement}'s internals, and adds it to the origin scene as a ui element/mouse listener.
@@ -68,6 +76,29 @@ public abstract class UIElement extends Drawable implements MouseActionListener
         return this;
     }
 
+    /**
+     * Gets whether the {@code UIElement}'s appearance has changed since it was last drawn.
+     *
+     * @return Whether the {@code UIElement} is dirty.
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Marks the {@code UIElement} as dirty, so that it is drawn again the next time the UI is rendered.
+     * <p>
+     * Changing an element's bounds or collision path marks it as dirty automatically.
+     */
+    public void markDirty() {
+        dirty = true;
+    }
+
+    /** Marks the {@code UIElement} as drawn, clearing its dirty state. This is called by the display. */
+    public void markClean() {
+        dirty = false;
+    }
+
     /**
      * Renders the {@code UIElement} to the parameter {@code Graphics2D} object, aligning with the window by rendering
      * at the inverse translation of the specified {@code Camera}.
@@ -77,6 +108,24 @@ public abstract class UIElement extends Drawable implements MouseActionListener
      */
     public abstract void renderAsGUIObject(Graphics2D g, Camera camera);
 
+    @Override
+    protected void setBounds(Pointf[] bounds) {
+        super.setBounds(bounds);
+        markDirty();
+    }
+
+    @Override
+    protected void setCollisionPath(Shape path) {
+        super.setCollisionPath(path);
+        markDirty();
+    }
+
+    @Override
+    protected void translateBounds(Pointf translation) {
+        super.translateBounds(translation);
+        markDirty();
+    }
+
     /**
      * Removes the {@code UIElement}'s references in the specified scene as a GUI object and as a mouse listener.
      *
@@ -1,9 +1,10 @@
 package io.github.lucasstarsz.fastj.graphics.ui.elements;
 
-import io.github.lucasstarsz.fastj.engine.FastJEngine;
 import io.github.lucasstarsz.fastj.math.Pointf;
 import io.github.lucasstarsz.fastj.graphics.Camera;
 import io.github.lucasstarsz.fastj.graphics.DrawUtil;
+import io.github.lucasstarsz.fastj.graphics.GlyphLayout;
+import io.github.lucasstarsz.fastj.graphics.GlyphLayouts;
 import io.github.lucasstarsz.fastj.graphics.game.Text2D;
 import io.github.lucasstarsz.fastj.graphics.ui.UIElement;
 
@@ -14,7 +15,6 @@ import io.github.lucasstarsz.fastj.systems.input.mouse.MouseButtons;
 
 import java.awt.Color;
 import java.awt.Font;
-import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.geom.Rectangle2D;
@@ -39,7 +39,7 @@ public class Button extends UIElement {
     private Font font;
     private String text = "";
     private Rectangle2D.Float textBounds;
-    private boolean hasMetrics;
+    private GlyphLayout textLayout;
 
     /**
      * Constructs a button with a default location and size.
@@ -70,8 +70,6 @@ public class Button extends UIElement {
 
         this.setPaint(Color.cyan);
         this.setFont(Text2D.DefaultFont);
-
-        setMetrics(FastJEngine.getDisplay().getGraphics());
     }
 
     /**
@@ -91,6 +89,7 @@ public class Button extends UIElement {
      */
     public Button setPaint(Paint paint) {
         this.paint = paint;
+        markDirty();
         return this;
     }
 
@@ -111,7 +110,7 @@ public class Button extends UIElement {
      */
     public Button setText(String text) {
         this.text = text;
-        setMetrics(FastJEngine.getDisplay().getGraphics());
+        setMetrics();
         return this;
     }
 
@@ -132,7 +131,7 @@ public class Button extends UIElement {
      */
     public Button setFont(Font font) {
         this.font = font;
-        setMetrics(FastJEngine.getDisplay().getGraphics());
+        setMetrics();
         return this;
     }
 
@@ -147,12 +146,7 @@ public class Button extends UIElement {
         g2.setPaint(Color.black);
         g2.draw(renderCopy);
 
-        if (!hasMetrics) {
-            setMetrics(g2);
-        }
-
-        g2.setFont(font);
-        g2.drawString(text, textBounds.x, textBounds.y);
+        textLayout.draw(g2, textBounds.x, textBounds.y);
     }
 
     @Override
@@ -165,16 +159,13 @@ public class Button extends UIElement {
      * Sets up the necessary boundaries for creating text metrics, and aligns the text with the button.
      * <p>
      * If the text metrics show that the text does not fit in the button, the button will be resized to fit the text.
-     *
-     * @param g {@code Graphics2D} object that the {@code Text2D} is rendered on.
      */
-    private void setMetrics(Graphics2D g) {
-        hasMetrics = false;
-
-        FontMetrics fm = g.getFontMetrics(font);
+    private void setMetrics() {
+        markDirty();
+        textLayout = GlyphLayouts.layoutOf(font, text);
 
-        int textWidth = fm.stringWidth(text);
-        int textHeight = fm.getHeight();
+        float textWidth = textLayout.getWidth();
+        float textHeight = textLayout.getHeight();
 
         textBounds = new Rectangle2D.Float(
                 location.x + (renderPath.width - textWidth) / 2f,
@@ -192,8 +183,5 @@ public class Button extends UIElement {
         if (renderPath.height < textBounds.height) {
             renderPath.height = textBounds.height;
         }
-
-        g.dispose();
-        hasMetrics = true;
     }
 }
@@ -1,9 +1,11 @@
 package io.github.lucasstarsz.fastj.math;
 
-import java.util.concurrent.ThreadLocalRandom;
-
 /**
  * Secondary mathematics class to provide useful utility methods dealing primarily with {@code float}s.
+ * <p>
+ * The random generator methods draw from a {@link RandomSource}: the source {@link #useRandomSource(RandomSource,
+ * Runnable) bound to the current thread}, if there is one, or otherwise the engine-wide source. The engine-wide source
+ * is unseeded until {@link #setRandomSeed(long)} or {@link #setRandomSource(RandomSource)} is called.
  *
  * @author Andrew Dey
  * @version 1.0.0
@@ -17,6 +19,77 @@ public class Maths {
      */
     public static final float FloatPrecision = 0.00001f;
 
+    private static final ThreadLocal<RandomSource> ThreadRandomSource = new ThreadLocal<>();
+    private static volatile RandomSource engineRandomSource = RandomSource.unseeded();
+
+    /**
+     * Gets the random source the random generator methods draw from on the current thread.
+     *
+     * @return The source bound to the current thread, if there is one, or otherwise the engine-wide source.
+     */
+    public static RandomSource getRandomSource() {
+        RandomSource threadRandomSource = ThreadRandomSource.get();
+        return threadRandomSource != null ? threadRandomSource : engineRandomSource;
+    }
+
+    /**
+     * Sets the engine-wide random source, which the random generator methods draw from on threads without a source of
+     * their own.
+     * <p>
+     * Seeded sources are not safe to share between threads, so an engine-wide seeded source should only be drawn from
+     * by one thread at a time.
+     *
+     * @param randomSource The engine-wide {@code RandomSource}.
+     */
+    public static void setRandomSource(RandomSource randomSource) {
+        engineRandomSource = randomSource;
+    }
+
+    /**
+     * Makes the engine-wide random source produce the same sequence of values each time it is given the specified
+     * seed.
+     *
+     * @param seed The seed for the engine-wide random source.
+     * @see #setRandomSource(RandomSource)
+     */
+    public static void setRandomSeed(long seed) {
+        setRandomSource(RandomSource.seeded(seed));
+    }
+
+    /** Makes the engine-wide random source unseeded again, undoing {@link #setRandomSeed(long)}. */
+    public static void clearRandomSeed() {
+        setRandomSource(RandomSource.unseeded());
+    }
+
+    /**
+     * Runs the specified action, with the random generator methods drawing from the specified source on the current
+     * thread.
+     * <p>
+     * Once the action is done, the thread goes back to the source it drew from before.
+     *
+     * @param randomSource The {@code RandomSource} to draw from, or {@code null} to keep drawing from the current
+     *                     thread's source.
+     * @param action       The action to run.
+     */
+    public static void useRandomSource(RandomSource randomSource, Runnable action) {
+        if (randomSource == null) {
+            action.run();
+            return;
+        }
+
+        RandomSource previous = ThreadRandomSource.get();
+        ThreadRandomSource.set(randomSource);
+        try {
+            action.run();
+        } finally {
+            if (previous != null) {
+                ThreadRandomSource.set(previous);
+            } else {
+                ThreadRandomSource.remove();
+            }
+        }
+    }
+
     /**
      * Generates a random float number within the specified min and max limits.
      *
@@ -29,7 +102,7 @@ public class Maths {
             throw new IllegalArgumentException("The minimum must be less than the maximum.");
         }
 
-        return ThreadLocalRandom.current().nextFloat() * (max - min) + min;
+        return getRandomSource().nextFloat() * (max - min) + min;
     }
 
     /**
@@ -49,7 +122,7 @@ public class Maths {
 
         // nextInt(...) excludes the max number as a possibility...
         // as such, I extend the range here.
-        return ThreadLocalRandom.current().nextInt(min, max + 1);
+        return getRandomSource().nextInt(min, max + 1);
     }
 
     /**
@@ -58,7 +131,7 @@ public class Maths {
      * @return The randomized boolean value.
      */
     public static boolean randomBoolean() {
-        return ThreadLocalRandom.current().nextBoolean();
+        return getRandomSource().nextBoolean();
     }
 
     /**
@@ -73,7 +146,7 @@ public class Maths {
             throw new IllegalArgumentException("The left edge must be less than the right edge.");
         }
 
-        return ThreadLocalRandom.current().nextBoolean() ? leftEdge : rightEdge;
+        return getRandomSource().nextBoolean() ? leftEdge : rightEdge;
     }
 
     /**
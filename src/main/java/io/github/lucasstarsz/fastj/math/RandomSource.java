@@ -0,0 +1,144 @@
+package io.github.lucasstarsz.fastj.math;
+
+/**
+ * A source of random values, for the random generator methods of {@link Maths}.
+ * <p>
+ * Sources made by {@link #seeded(long)} produce the same sequence of values each time they are given the same seed, so
+ * simulations and benchmarks using them can be reproduced. They are not safe to share between threads -- instead,
+ * {@link #split() split} a child source off for each thread, which stays deterministic:
+ * <pre>{@code
+ * RandomSource random = RandomSource.seeded(42L);
+ * for (Chunk chunk : chunks) {
+ *     RandomSource chunkRandom = random.split();
+ *     pool.submit(() -> Maths.useRandomSource(chunkRandom, chunk::update));
+ * }
+ * }</pre>
+ * Implementations only need to provide {@link #nextLong()} and {@link #split()} -- the other values are derived from
+ * {@code nextLong()}.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public interface RandomSource {
+
+    /**
+     * Creates a fast, seeded random source -- an {@link XoshiroRandom}.
+     *
+     * @param seed The seed for the random source.
+     * @return The seeded random source.
+     */
+    static RandomSource seeded(long seed) {
+        return new XoshiroRandom(seed);
+    }
+
+    /**
+     * Gets the unseeded random source, which uses the random generator of whichever thread it is called from.
+     * <p>
+     * Unlike seeded sources, the unseeded source is safe to share between threads.
+     *
+     * @return The unseeded random source.
+     */
+    static RandomSource unseeded() {
+        return ThreadLocalRandomSource.Instance;
+    }
+
+    /**
+     * Generates a random {@code long} value, with all 64 bits random.
+     *
+     * @return The random {@code long} value.
+     */
+    long nextLong();
+
+    /**
+     * Creates a new random source from this one, whose values do not overlap with this source's.
+     * <p>
+     * Splitting a seeded source produces the same child source each time, so a fixed seed can be handed out to many
+     * threads deterministically.
+     *
+     * @return The child random source.
+     */
+    RandomSource split();
+
+    /**
+     * Generates a random {@code int} value, with all 32 bits random.
+     *
+     * @return The random {@code int} value.
+     */
+    default int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    /**
+     * Generates a random {@code int} value from {@code 0} up to, but not including, the specified bound.
+     *
+     * @param bound The bound on the random value. Must be positive.
+     * @return The random {@code int} value.
+     */
+    default int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("The bound must be positive.");
+        }
+
+        // multiply-shift, rejecting the few low values that would bias the result
+        long product = (nextLong() >>> 32) * bound;
+        if ((product & 0xFFFFFFFFL) < bound) {
+            long threshold = (0x1_0000_0000L - bound) % bound;
+            while ((product & 0xFFFFFFFFL) < threshold) {
+                product = (nextLong() >>> 32) * bound;
+            }
+        }
+        return (int) (product >>> 32);
+    }
+
+    /**
+     * Generates a random {@code int} value from the specified origin up to, but not including, the specified bound.
+     *
+     * @param origin The lowest possible value.
+     * @param bound  The bound on the random value. Must be greater than the origin.
+     * @return The random {@code int} value.
+     */
+    default int nextInt(int origin, int bound) {
+        if (origin >= bound) {
+            throw new IllegalArgumentException("The origin must be less than the bound.");
+        }
+
+        int range = bound - origin;
+        if (range > 0) {
+            return origin + nextInt(range);
+        }
+
+        // the range is too large for an int -- draw until a value falls within it
+        int value;
+        do {
+            value = nextInt();
+        } while (value < origin || value >= bound);
+        return value;
+    }
+
+    /**
+     * Generates a random {@code float} value from {@code 0} up to, but not including, {@code 1}.
+     *
+     * @return The random {@code float} value.
+     */
+    default float nextFloat() {
+        return (nextLong() >>> 40) * 0x1.0p-24f;
+    }
+
+    /**
+     * Generates a random {@code double} value from {@code 0} up to, but not including, {@code 1}.
+     *
+     * @return The random {@code double} value.
+     */
+    default double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Generates a random {@code boolean} value.
+     *
+     * @return The random {@code boolean} value.
+     */
+    default boolean nextBoolean() {
+        return nextLong() < 0L;
+    }
+}
@@ -0,0 +1,190 @@
+package io.github.lucasstarsz.fastj.math;
+
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+
+/**
+ * A per-thread arena of reusable temporary values, for hot paths that need short-lived points, transforms, and
+ * rectangles.
+ * <p>
+ * Values are taken from the arena between a {@link #mark()} and its matching {@link #release(int)}. Releasing a mark
+ * returns every value taken since, so they can be handed out again -- once the arena has grown to fit the most values
+ * needed at once, using it does not allocate memory:
+ * <pre>{@code
+ * Scratch scratch = Scratch.get();
+ * int mark = scratch.mark();
+ * try {
+ *     Pointf center = DrawUtil.centerOf(bounds, scratch.point());
+ *     // use center...
+ * } finally {
+ *     scratch.release(mark);
+ * }
+ * }</pre>
+ * Values taken from the arena must not be kept, or used after their mark has been released. Each thread has its own
+ * arena, which must only be used from that thread.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public final class Scratch {
+
+    private static final int InitialCapacity = 16;
+    private static final ThreadLocal<Scratch> ThreadScratch = ThreadLocal.withInitial(Scratch::new);
+
+    private Pointf[] points;
+    private int pointCount;
+
+    private AffineTransform[] transforms;
+    private int transformCount;
+
+    private Rectangle2D.Float[] rects;
+    private int rectCount;
+
+    // each mark saves the point, transform, and rectangle counts
+    private int[] marks;
+    private int markDepth;
+
+    private Scratch() {
+        points = new Pointf[InitialCapacity];
+        transforms = new AffineTransform[InitialCapacity];
+        rects = new Rectangle2D.Float[InitialCapacity];
+        marks = new int[InitialCapacity * 3];
+    }
+
+    /**
+     * Gets the arena of the current thread.
+     *
+     * @return The current thread's {@code Scratch}.
+     */
+    public static Scratch get() {
+        return ThreadScratch.get();
+    }
+
+    /**
+     * Marks the current state of the arena, so that values taken afterwards can be released.
+     *
+     * @return The mark, to be passed to {@link #release(int)}.
+     */
+    public int mark() {
+        if ((markDepth + 1) * 3 > marks.length) {
+            marks = Arrays.copyOf(marks, marks.length * 2);
+        }
+
+        int index = markDepth * 3;
+        marks[index] = pointCount;
+        marks[index + 1] = transformCount;
+        marks[index + 2] = rectCount;
+
+        return markDepth++;
+    }
+
+    /**
+     * Releases every value taken from the arena since the specified mark was made.
+     * <p>
+     * This also releases any marks made after the specified mark.
+     *
+     * @param mark The mark to release, as returned by {@link #mark()}.
+     * @throws IllegalStateException if the mark has already been released.
+     */
+    public void release(int mark) {
+        if (mark < 0 || mark >= markDepth) {
+            throw new IllegalStateException("Mark " + mark + " is not active -- it may have already been released.");
+        }
+
+        int index = mark * 3;
+        pointCount = marks[index];
+        transformCount = marks[index + 1];
+        rectCount = marks[index + 2];
+
+        markDepth = mark;
+    }
+
+    /**
+     * Gets the amount of marks that have not been released yet.
+     *
+     * @return The amount of active marks.
+     */
+    public int getMarkDepth() {
+        return markDepth;
+    }
+
+    /**
+     * Takes a point from the arena, set to {@code (0, 0)}.
+     *
+     * @return The temporary {@code Pointf}.
+     */
+    public Pointf point() {
+        return point(0f, 0f);
+    }
+
+    /**
+     * Takes a point from the arena, set to the specified values.
+     *
+     * @param x The x value of the point.
+     * @param y The y value of the point.
+     * @return The temporary {@code Pointf}.
+     */
+    public Pointf point(float x, float y) {
+        if (pointCount == points.length) {
+            points = Arrays.copyOf(points, points.length * 2);
+        }
+
+        Pointf point = points[pointCount];
+        if (point == null) {
+            point = new Pointf();
+            points[pointCount] = point;
+        }
+        pointCount++;
+
+        point.set(x, y);
+        return point;
+    }
+
+    /**
+     * Takes a transform from the arena, set to the identity transform.
+     *
+     * @return The temporary {@code AffineTransform}.
+     */
+    public AffineTransform transform() {
+        if (transformCount == transforms.length) {
+            transforms = Arrays.copyOf(transforms, transforms.length * 2);
+        }
+
+        AffineTransform transform = transforms[transformCount];
+        if (transform == null) {
+            transform = new AffineTransform();
+            transforms[transformCount] = transform;
+        } else {
+            transform.setToIdentity();
+        }
+        transformCount++;
+
+        return transform;
+    }
+
+    /**
+     * Takes a rectangle from the arena, set to the specified values.
+     *
+     * @param x      The x location of the rectangle.
+     * @param y      The y location of the rectangle.
+     * @param width  The width of the rectangle.
+     * @param height The height of the rectangle.
+     * @return The temporary {@code Rectangle2D.Float}.
+     */
+    public Rectangle2D.Float rect(float x, float y, float width, float height) {
+        if (rectCount == rects.length) {
+            rects = Arrays.copyOf(rects, rects.length * 2);
+        }
+
+        Rectangle2D.Float rect = rects[rectCount];
+        if (rect == null) {
+            rect = new Rectangle2D.Float();
+            rects[rectCount] = rect;
+        }
+        rectCount++;
+
+        rect.setRect(x, y, width, height);
+        return rect;
+    }
+}
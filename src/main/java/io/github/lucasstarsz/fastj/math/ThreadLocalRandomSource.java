@@ -0,0 +1,57 @@
+package io.github.lucasstarsz.fastj.math;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The unseeded {@link RandomSource}, which uses the {@link ThreadLocalRandom} of whichever thread it is called from.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+final class ThreadLocalRandomSource implements RandomSource {
+
+    static final ThreadLocalRandomSource Instance = new ThreadLocalRandomSource();
+
+    private ThreadLocalRandomSource() {
+    }
+
+    @Override
+    public long nextLong() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    @Override
+    public RandomSource split() {
+        return new XoshiroRandom(ThreadLocalRandom.current().nextLong());
+    }
+
+    @Override
+    public int nextInt() {
+        return ThreadLocalRandom.current().nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return ThreadLocalRandom.current().nextInt(bound);
+    }
+
+    @Override
+    public int nextInt(int origin, int bound) {
+        return ThreadLocalRandom.current().nextInt(origin, bound);
+    }
+
+    @Override
+    public float nextFloat() {
+        return ThreadLocalRandom.current().nextFloat();
+    }
+
+    @Override
+    public double nextDouble() {
+        return ThreadLocalRandom.current().nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return ThreadLocalRandom.current().nextBoolean();
+    }
+}
@@ -0,0 +1,163 @@
+package io.github.lucasstarsz.fastj.math;
+
+import java.awt.geom.AffineTransform;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class that applies affine transforms to vertices stored as separate arrays of x and y values.
+ * <p>
+ * The kernel works on plain {@code float} arrays, in tight loops that do not allocate memory. Transforming many shapes
+ * at once -- such as every dirty shape of a {@link VertexBuffer} -- can be split across the cores of the machine, once
+ * there are enough vertices to make it worthwhile.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public final class TransformKernel {
+
+    /** The amount of vertices a batch needs before it is split across multiple threads: {@code 32768}. */
+    public static final int ParallelThreshold = 32768;
+
+    /**
+     * Transforms a range of vertices using the specified matrix values, in the order used by {@link
+     * AffineTransform#getMatrix(double[])}.
+     * <p>
+     * The source and destination arrays may be the same.
+     *
+     * @param srcX   The source x values.
+     * @param srcY   The source y values.
+     * @param dstX   The array to store the transformed x values in.
+     * @param dstY   The array to store the transformed y values in.
+     * @param offset The index of the first vertex to transform.
+     * @param length The amount of vertices to transform.
+     * @param m00    The x scaling element of the matrix.
+     * @param m10    The y shearing element of the matrix.
+     * @param m01    The x shearing element of the matrix.
+     * @param m11    The y scaling element of the matrix.
+     * @param m02    The x translation element of the matrix.
+     * @param m12    The y translation element of the matrix.
+     */
+    public static void transform(float[] srcX, float[] srcY, float[] dstX, float[] dstY, int offset, int length,
+                                 float m00, float m10, float m01, float m11, float m02, float m12) {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            float x = srcX[i];
+            float y = srcY[i];
+            dstX[i] = m00 * x + m01 * y + m02;
+            dstY[i] = m10 * x + m11 * y + m12;
+        }
+    }
+
+    /**
+     * Transforms a range of vertices using the specified {@code AffineTransform}.
+     * <p>
+     * The source and destination arrays may be the same.
+     *
+     * @param srcX      The source x values.
+     * @param srcY      The source y values.
+     * @param dstX      The array to store the transformed x values in.
+     * @param dstY      The array to store the transformed y values in.
+     * @param offset    The index of the first vertex to transform.
+     * @param length    The amount of vertices to transform.
+     * @param transform The transform to apply.
+     */
+    public static void transform(float[] srcX, float[] srcY, float[] dstX, float[] dstY, int offset, int length, AffineTransform transform) {
+        transform(srcX, srcY, dstX, dstY, offset, length,
+                (float) transform.getScaleX(), (float) transform.getShearY(),
+                (float) transform.getShearX(), (float) transform.getScaleY(),
+                (float) transform.getTranslateX(), (float) transform.getTranslateY()
+        );
+    }
+
+    /**
+     * Transforms the local vertices of the specified shapes of a {@code VertexBuffer} into its world vertices, each
+     * using its shape's transform.
+     *
+     * @param buffer        The buffer containing the shapes.
+     * @param shapes        The indices of the shapes to transform.
+     * @param shapeCount    The amount of shape indices to use from the array.
+     * @param allowParallel Whether the shapes may be split across multiple threads, if there are at least {@link
+     *                      #ParallelThreshold} vertices to transform.
+     * @return The amount of vertices transformed.
+     */
+    public static int transformShapes(VertexBuffer buffer, int[] shapes, int shapeCount, boolean allowParallel) {
+        int vertexCount = 0;
+        for (int i = 0; i < shapeCount; i++) {
+            vertexCount += buffer.getLength(shapes[i]);
+        }
+
+        if (allowParallel && vertexCount >= ParallelThreshold && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ForkJoinPool.commonPool().invoke(new ShapeBatch(buffer, shapes, 0, shapeCount, vertexCount));
+        } else {
+            transformShapeRange(buffer, shapes, 0, shapeCount);
+        }
+
+        return vertexCount;
+    }
+
+    /**
+     * Transforms a range of the specified shapes of a {@code VertexBuffer} on the current thread.
+     *
+     * @param buffer The buffer containing the shapes.
+     * @param shapes The indices of the shapes to transform.
+     * @param start  The first index into the shape indices, inclusive.
+     * @param end    The last index into the shape indices, exclusive.
+     */
+    private static void transformShapeRange(VertexBuffer buffer, int[] shapes, int start, int end) {
+        float[] localX = buffer.getLocalX();
+        float[] localY = buffer.getLocalY();
+        float[] worldX = buffer.getWorldX();
+        float[] worldY = buffer.getWorldY();
+        float[] transforms = buffer.getTransforms();
+
+        for (int i = start; i < end; i++) {
+            int shape = shapes[i];
+            int t = shape * VertexBuffer.TransformStride;
+
+            transform(localX, localY, worldX, worldY, buffer.getOffset(shape), buffer.getLength(shape),
+                    transforms[t], transforms[t + 1], transforms[t + 2],
+                    transforms[t + 3], transforms[t + 4], transforms[t + 5]
+            );
+        }
+    }
+
+    /** A range of shapes to transform, which splits itself in half until it is small enough to transform directly. */
+    private static class ShapeBatch extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final VertexBuffer buffer;
+        private final int[] shapes;
+        private final int start;
+        private final int end;
+        private final int vertexCount;
+
+        ShapeBatch(VertexBuffer buffer, int[] shapes, int start, int end, int vertexCount) {
+            this.buffer = buffer;
+            this.shapes = shapes;
+            this.start = start;
+            this.end = end;
+            this.vertexCount = vertexCount;
+        }
+
+        @Override
+        protected void compute() {
+            if (vertexCount < ParallelThreshold / 2 || end - start < 2) {
+                transformShapeRange(buffer, shapes, start, end);
+                return;
+            }
+
+            // split where half of the vertices are on each side
+            int middle = start;
+            int firstHalfCount = 0;
+            while (middle < end - 1 && firstHalfCount < vertexCount / 2) {
+                firstHalfCount += buffer.getLength(shapes[middle++]);
+            }
+
+            invokeAll(
+                    new ShapeBatch(buffer, shapes, start, middle, firstHalfCount),
+                    new ShapeBatch(buffer, shapes, middle, end, vertexCount - firstHalfCount)
+            );
+        }
+    }
+}
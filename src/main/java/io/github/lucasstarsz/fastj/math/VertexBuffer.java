@@ -0,0 +1,415 @@
+package io.github.lucasstarsz.fastj.math;
+
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
+import java.util.Arrays;
+
+/**
+ * Storage for the vertices of many shapes, kept in contiguous arrays alongside a transform for each shape.
+ * <p>
+ * Each shape's vertices are stored in their local space, in one array of x values and one of y values. Changing a
+ * shape's transform marks it as dirty -- {@link #update()} then transforms the vertices of every dirty shape into world
+ * space in a single pass through the {@link TransformKernel}, splitting the work across cores when there are enough
+ * vertices. Nothing is allocated while updating, or while moving shapes.
+ * <p>
+ * This is suited to large amounts of moving vector objects, such as particles and bullets:
+ * <pre>{@code
+ * VertexBuffer bullets = new VertexBuffer();
+ * int bullet = bullets.addShape(DrawUtil.createBox(Pointf.Origin, 4f));
+ *
+ * // each update
+ * bullets.translate(bullet, 5f, 0f);
+ * bullets.update();
+ * bullets.toPath(bullet, bulletPath);
+ * }</pre>
+ * The engine does not put a scene's game objects into a buffer -- they keep their own paths, transformed at render
+ * time. A buffer is for games that manage their own large groups of shapes, as above.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public class VertexBuffer {
+
+    /** The default amount of shapes a {@code VertexBuffer} can hold before it needs to grow: {@code 16}. */
+    public static final int DefaultShapeCapacity = 16;
+    /** The default amount of vertices a {@code VertexBuffer} can hold before it needs to grow: {@code 256}. */
+    public static final int DefaultVertexCapacity = 256;
+
+    /** The amount of values stored for each shape's transform. */
+    static final int TransformStride = 6;
+
+    private float[] localX;
+    private float[] localY;
+    private float[] worldX;
+    private float[] worldY;
+    private int vertexCount;
+
+    private int[] offsets;
+    private int[] lengths;
+    private float[] transforms;
+    private int shapeCount;
+
+    private boolean[] dirty;
+    private int[] dirtyShapes;
+    private int dirtyCount;
+
+    /** Constructs an empty {@code VertexBuffer}, with the default shape and vertex capacities. */
+    public VertexBuffer() {
+        this(DefaultShapeCapacity, DefaultVertexCapacity);
+    }
+
+    /**
+     * Constructs an empty {@code VertexBuffer}, with the specified shape and vertex capacities.
+     *
+     * @param shapeCapacity  The amount of shapes the buffer can hold before it needs to grow.
+     * @param vertexCapacity The amount of vertices the buffer can hold before it needs to grow.
+     */
+    public VertexBuffer(int shapeCapacity, int vertexCapacity) {
+        shapeCapacity = Math.max(shapeCapacity, 1);
+        vertexCapacity = Math.max(vertexCapacity, 1);
+
+        localX = new float[vertexCapacity];
+        localY = new float[vertexCapacity];
+        worldX = new float[vertexCapacity];
+        worldY = new float[vertexCapacity];
+
+        offsets = new int[shapeCapacity];
+        lengths = new int[shapeCapacity];
+        transforms = new float[shapeCapacity * TransformStride];
+        dirty = new boolean[shapeCapacity];
+        dirtyShapes = new int[shapeCapacity];
+    }
+
+    /**
+     * Adds a shape to the buffer, with an identity transform.
+     *
+     * @param points The local vertices of the shape.
+     * @return The index of the new shape.
+     */
+    public int addShape(Pointf[] points) {
+        ensureShapeCapacity(shapeCount + 1);
+        ensureVertexCapacity(vertexCount + points.length);
+
+        int shape = shapeCount++;
+        offsets[shape] = vertexCount;
+        lengths[shape] = points.length;
+
+        for (Pointf point : points) {
+            localX[vertexCount] = point.x;
+            localY[vertexCount] = point.y;
+            vertexCount++;
+        }
+
+        setTransform(shape, 1f, 0f, 0f, 1f, 0f, 0f);
+        return shape;
+    }
+
+    /**
+     * Gets the amount of shapes in the buffer.
+     *
+     * @return The amount of shapes.
+     */
+    public int getShapeCount() {
+        return shapeCount;
+    }
+
+    /**
+     * Gets the amount of vertices in the buffer, across all shapes.
+     *
+     * @return The amount of vertices.
+     */
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    /**
+     * Gets the index of the first vertex of the specified shape.
+     *
+     * @param shape The index of the shape.
+     * @return The index of the shape's first vertex.
+     */
+    public int getOffset(int shape) {
+        return offsets[shape];
+    }
+
+    /**
+     * Gets the amount of vertices in the specified shape.
+     *
+     * @param shape The index of the shape.
+     * @return The amount of vertices in the shape.
+     */
+    public int getLength(int shape) {
+        return lengths[shape];
+    }
+
+    /**
+     * Gets the array of local x values.
+     * <p>
+     * The array may be replaced when the buffer grows, and should not be modified.
+     *
+     * @return The local x values.
+     */
+    public float[] getLocalX() {
+        return localX;
+    }
+
+    /**
+     * Gets the array of local y values.
+     * <p>
+     * The array may be replaced when the buffer grows, and should not be modified.
+     *
+     * @return The local y values.
+     */
+    public float[] getLocalY() {
+        return localY;
+    }
+
+    /**
+     * Gets the array of world x values, as of the last {@link #update()}.
+     * <p>
+     * The array may be replaced when the buffer grows, and should not be modified.
+     *
+     * @return The world x values.
+     */
+    public float[] getWorldX() {
+        return worldX;
+    }
+
+    /**
+     * Gets the array of world y values, as of the last {@link #update()}.
+     * <p>
+     * The array may be replaced when the buffer grows, and should not be modified.
+     *
+     * @return The world y values.
+     */
+    public float[] getWorldY() {
+        return worldY;
+    }
+
+    /**
+     * Gets the array of shape transforms -- six values for each shape, in the order used by {@link
+     * AffineTransform#getMatrix(double[])}.
+     *
+     * @return The shape transforms.
+     */
+    float[] getTransforms() {
+        return transforms;
+    }
+
+    /**
+     * Sets the local location of a vertex of the specified shape.
+     *
+     * @param shape The index of the shape.
+     * @param index The index of the vertex, within the shape.
+     * @param x     The new local x location of the vertex.
+     * @param y     The new local y location of the vertex.
+     */
+    public void setLocalPoint(int shape, int index, float x, float y) {
+        if (index < 0 || index >= lengths[shape]) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for a shape of " + lengths[shape] + " vertices");
+        }
+
+        localX[offsets[shape] + index] = x;
+        localY[offsets[shape] + index] = y;
+        markDirty(shape);
+    }
+
+    /**
+     * Sets the transform of the specified shape.
+     *
+     * @param shape     The index of the shape.
+     * @param transform The new transform of the shape.
+     */
+    public void setTransform(int shape, AffineTransform transform) {
+        setTransform(shape,
+                (float) transform.getScaleX(), (float) transform.getShearY(),
+                (float) transform.getShearX(), (float) transform.getScaleY(),
+                (float) transform.getTranslateX(), (float) transform.getTranslateY()
+        );
+    }
+
+    /**
+     * Sets the transform of the specified shape, using matrix values in the order used by {@link
+     * AffineTransform#getMatrix(double[])}.
+     *
+     * @param shape The index of the shape.
+     * @param m00   The x scaling element of the matrix.
+     * @param m10   The y shearing element of the matrix.
+     * @param m01   The x shearing element of the matrix.
+     * @param m11   The y scaling element of the matrix.
+     * @param m02   The x translation element of the matrix.
+     * @param m12   The y translation element of the matrix.
+     */
+    public void setTransform(int shape, float m00, float m10, float m01, float m11, float m02, float m12) {
+        int t = shape * TransformStride;
+        transforms[t] = m00;
+        transforms[t + 1] = m10;
+        transforms[t + 2] = m01;
+        transforms[t + 3] = m11;
+        transforms[t + 4] = m02;
+        transforms[t + 5] = m12;
+
+        markDirty(shape);
+    }
+
+    /**
+     * Translates the specified shape in world space.
+     *
+     * @param shape The index of the shape.
+     * @param x     The amount to translate the shape by on the x axis.
+     * @param y     The amount to translate the shape by on the y axis.
+     */
+    public void translate(int shape, float x, float y) {
+        int t = shape * TransformStride;
+        transforms[t + 4] += x;
+        transforms[t + 5] += y;
+
+        markDirty(shape);
+    }
+
+    /**
+     * Gets whether the specified shape has changed since the last {@link #update()}.
+     *
+     * @param shape The index of the shape.
+     * @return Whether the shape is dirty.
+     */
+    public boolean isDirty(int shape) {
+        return dirty[shape];
+    }
+
+    /**
+     * Gets the amount of shapes that have changed since the last {@link #update()}.
+     *
+     * @return The amount of dirty shapes.
+     */
+    public int getDirtyCount() {
+        return dirtyCount;
+    }
+
+    /**
+     * Transforms the vertices of every dirty shape into world space, splitting the work across cores if there are
+     * enough vertices.
+     *
+     * @return The amount of vertices transformed.
+     */
+    public int update() {
+        return update(true);
+    }
+
+    /**
+     * Transforms the vertices of every dirty shape into world space.
+     *
+     * @param allowParallel Whether the work may be split across cores, if there are enough vertices.
+     * @return The amount of vertices transformed.
+     */
+    public int update(boolean allowParallel) {
+        int transformed = TransformKernel.transformShapes(this, dirtyShapes, dirtyCount, allowParallel);
+
+        for (int i = 0; i < dirtyCount; i++) {
+            dirty[dirtyShapes[i]] = false;
+        }
+        dirtyCount = 0;
+
+        return transformed;
+    }
+
+    /**
+     * Gets the world space bounds of the specified shape, as of the last {@link #update()}.
+     *
+     * @param shape The index of the shape.
+     * @param dest  The array to store the bounds in, as {@code minX, minY, maxX, maxY}.
+     * @return The {@code dest} array, for convenience.
+     */
+    public float[] worldBoundsOf(int shape, float[] dest) {
+        int start = offsets[shape];
+        int end = start + lengths[shape];
+
+        float minX = Float.POSITIVE_INFINITY;
+        float minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY;
+        float maxY = Float.NEGATIVE_INFINITY;
+        for (int i = start; i < end; i++) {
+            minX = Math.min(minX, worldX[i]);
+            minY = Math.min(minY, worldY[i]);
+            maxX = Math.max(maxX, worldX[i]);
+            maxY = Math.max(maxY, worldY[i]);
+        }
+
+        dest[0] = minX;
+        dest[1] = minY;
+        dest[2] = maxX;
+        dest[3] = maxY;
+        return dest;
+    }
+
+    /**
+     * Replaces the contents of the specified path with the world space outline of the specified shape, as of the last
+     * {@link #update()}.
+     *
+     * @param shape The index of the shape.
+     * @param dest  The path to store the outline in.
+     * @return The {@code dest} path, for convenience.
+     */
+    public Path2D.Float toPath(int shape, Path2D.Float dest) {
+        int start = offsets[shape];
+        int end = start + lengths[shape];
+
+        dest.reset();
+        if (start == end) {
+            return dest;
+        }
+
+        dest.moveTo(worldX[start], worldY[start]);
+        for (int i = start + 1; i < end; i++) {
+            dest.lineTo(worldX[i], worldY[i]);
+        }
+        dest.closePath();
+
+        return dest;
+    }
+
+    /** Removes all shapes from the buffer, keeping its capacity. */
+    public void clear() {
+        Arrays.fill(dirty, 0, shapeCount, false);
+        shapeCount = 0;
+        vertexCount = 0;
+        dirtyCount = 0;
+    }
+
+    /**
+     * Marks the specified shape as dirty, so that it is transformed on the next {@link #update()}.
+     *
+     * @param shape The index of the shape.
+     */
+    private void markDirty(int shape) {
+        if (!dirty[shape]) {
+            dirty[shape] = true;
+            dirtyShapes[dirtyCount++] = shape;
+        }
+    }
+
+    private void ensureShapeCapacity(int minCapacity) {
+        if (minCapacity <= offsets.length) {
+            return;
+        }
+
+        int newCapacity = Math.max(minCapacity, offsets.length * 2);
+        offsets = Arrays.copyOf(offsets, newCapacity);
+        lengths = Arrays.copyOf(lengths, newCapacity);
+        transforms = Arrays.copyOf(transforms, newCapacity * TransformStride);
+        dirty = Arrays.copyOf(dirty, newCapacity);
+        dirtyShapes = Arrays.copyOf(dirtyShapes, newCapacity);
+    }
+
+    private void ensureVertexCapacity(int minCapacity) {
+        if (minCapacity <= localX.length) {
+            return;
+        }
+
+        int newCapacity = Math.max(minCapacity, localX.length * 2);
+        localX = Arrays.copyOf(localX, newCapacity);
+        localY = Arrays.copyOf(localY, newCapacity);
+        worldX = Arrays.copyOf(worldX, newCapacity);
+        worldY = Arrays.copyOf(worldY, newCapacity);
+    }
+}
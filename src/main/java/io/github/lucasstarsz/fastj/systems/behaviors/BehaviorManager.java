@@ -5,19 +5,22 @@ import io.github.lucasstarsz.fastj.graphics.game.GameObject;
 import io.github.lucasstarsz.fastj.systems.control.Scene;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Class to manage behavior listeners for all scenes.
+ * <p>
+ * Scenes from games running in separate {@link io.github.lucasstarsz.fastj.engine.EngineContext}s can use the manager
+ * at the same time -- each scene's list of listeners is only used by the game the scene belongs to.
  *
  * @author Andrew Dey
  * @version 1.0.0
  */
 public class BehaviorManager {
 
-    private static final Map<Scene, List<GameObject>> BehaviorListenerLists = new HashMap<>();
+    private static final Map<Scene, List<GameObject>> BehaviorListenerLists = new ConcurrentHashMap<>();
 
     /**
      * Gets the specified list of behavior listeners aliased to the specified {@code Scene}.
@@ -3,12 +3,18 @@ package io.github.lucasstarsz.fastj.systems.control;
 import io.github.lucasstarsz.fastj.engine.CrashMessages;
 import io.github.lucasstarsz.fastj.engine.FastJEngine;
 import io.github.lucasstarsz.fastj.graphics.Display;
+import io.github.lucasstarsz.fastj.math.Maths;
+import io.github.lucasstarsz.fastj.systems.profiling.ProfilePhase;
+import io.github.lucasstarsz.fastj.systems.profiling.Profiler;
+import io.github.lucasstarsz.fastj.systems.profiling.events.SceneSwitchEvent;
 
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import jdk.jfr.FlightRecorder;
+
 /**
  * The manager which allows for control over the scenes in a game.
  * <p>
@@ -159,19 +165,39 @@ public abstract class LogicManager {
                     new IllegalArgumentException("A scene with the name: \"" + nextSceneName + "\" hasn't been added!"));
         }
 
+        SceneSwitchEvent switchEvent = null;
+        if (FlightRecorder.isInitialized()) {
+            switchEvent = new SceneSwitchEvent();
+            switchEvent.begin();
+        }
+
         switchingScenes = true;
         Display display = FastJEngine.getDisplay();
+        Scene previousScene = currentScene;
 
         Scene nextScene = scenes.get(nextSceneName);
-        if (!nextScene.isInitialized()) {
-            nextScene.load(display);
-            nextScene.initBehaviorListeners();
+        boolean isLoading = !nextScene.isInitialized();
+        if (isLoading) {
+            Maths.useRandomSource(nextScene.getRandomSource(), () -> {
+                nextScene.load(display);
+                nextScene.initBehaviorListeners();
+            });
             nextScene.setInitialized(true);
         }
         display.setBackgroundToCameraPos(nextScene.getCamera());
 
         setCurrentScene(nextSceneName);
         switchingScenes = false;
+
+        if (switchEvent != null) {
+            switchEvent.end();
+            if (switchEvent.shouldCommit()) {
+                switchEvent.describeCurrentGame();
+                switchEvent.previousScene = (previousScene != null) ? previousScene.getSceneName() : null;
+                switchEvent.loaded = isLoading;
+                switchEvent.commit();
+            }
+        }
     }
 
     /** Loads the current scene, if it's not already initialized. */
@@ -179,8 +205,10 @@ public abstract class LogicManager {
         nullSceneCheck();
 
         if (!currentScene.isInitialized()) {
-            currentScene.load(FastJEngine.getDisplay());
-            currentScene.initBehaviorListeners();
+            Maths.useRandomSource(currentScene.getRandomSource(), () -> {
+                currentScene.load(FastJEngine.getDisplay());
+                currentScene.initBehaviorListeners();
+            });
 
             FastJEngine.getDisplay().setBackgroundToCameraPos(currentScene.getCamera());
         }
@@ -201,9 +229,17 @@ public abstract class LogicManager {
             nullSceneCheck();
             initSceneCheck();
 
-            currentScene.update(display);
-            currentScene.updateBehaviorListeners();
-            currentScene.inputManager.fireKeysDown();
+            Maths.useRandomSource(currentScene.getRandomSource(), () -> {
+                Profiler profiler = Profiler.active();
+                long updateStart = (profiler != null) ? System.nanoTime() : 0L;
+                currentScene.update(display);
+                if (profiler != null) {
+                    profiler.mark(ProfilePhase.SCENE_UPDATE, updateStart);
+                }
+
+                currentScene.updateBehaviorListeners();
+                currentScene.inputManager.fireKeysDown();
+            });
 
         } catch (NullPointerException e) {
             snapshotCheck(snapshot, e);
@@ -4,6 +4,8 @@ import io.github.lucasstarsz.fastj.graphics.Camera;
 import io.github.lucasstarsz.fastj.graphics.Display;
 import io.github.lucasstarsz.fastj.graphics.Drawable;
 import io.github.lucasstarsz.fastj.graphics.game.GameObject;
+import io.github.lucasstarsz.fastj.math.Maths;
+import io.github.lucasstarsz.fastj.math.RandomSource;
 
 import io.github.lucasstarsz.fastj.systems.behaviors.BehaviorManager;
 import io.github.lucasstarsz.fastj.systems.input.InputManager;
@@ -31,6 +33,7 @@ public abstract class Scene {
     public final DrawableManager drawableManager;
 
     private boolean isInitialized;
+    private RandomSource randomSource;
 
     /**
      * Constructs a scene with the specified name.
@@ -129,6 +132,37 @@ public abstract class Scene {
         isInitialized = initialized;
     }
 
+    /**
+     * Gets the scene's own random source, which the {@link Maths} random generator methods draw from while the scene
+     * loads and updates.
+     *
+     * @return The scene's {@code RandomSource}, or {@code null} if the scene uses the game's random source.
+     */
+    public RandomSource getRandomSource() {
+        return randomSource;
+    }
+
+    /**
+     * Sets the scene's own random source, which the {@link Maths} random generator methods draw from while the scene
+     * loads and updates.
+     *
+     * @param randomSource The scene's {@code RandomSource}, or {@code null} to use the game's random source.
+     */
+    public void setRandomSource(RandomSource randomSource) {
+        this.randomSource = randomSource;
+    }
+
+    /**
+     * Gives the scene its own seeded random source, so that it loads and updates the same way each time it is given the
+     * specified seed -- regardless of the other scenes.
+     *
+     * @param seed The seed for the scene's random source.
+     * @see #setRandomSource(RandomSource)
+     */
+    public void setRandomSeed(long seed) {
+        setRandomSource(RandomSource.seeded(seed));
+    }
+
     /**
      * Gets all taggable entities with the specified tag.
      *
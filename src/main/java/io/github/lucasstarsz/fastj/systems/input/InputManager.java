@@ -266,6 +266,21 @@ public class InputManager {
      * @param current The scene to process events for.
      */
     public void processEvents(Scene current) {
+        processEvents(current, null);
+    }
+
+    /**
+     * Processes all events in the event list, then clears them from the list -- passing each processed event to the
+     * specified recorder, if there is one.
+     * <p>
+     * This method also empties the event backlog into the main event set after all the current events have been
+     * processed and removed.
+     *
+     * @param current  The scene to process events for.
+     * @param recorder The {@code InputRecorder} to record the processed events with, or {@code null} to not record
+     *                 them.
+     */
+    public void processEvents(Scene current, InputRecorder recorder) {
         isProcessingEvents = true;
 
         for (InputEvent event : receivedInputEvents) {
@@ -273,6 +288,12 @@ public class InputManager {
                 Mouse.processEvent(current, (MouseEvent) event);
             } else if (event instanceof KeyEvent) {
                 Keyboard.processEvent(current, (KeyEvent) event);
+            } else {
+                continue;
+            }
+
+            if (recorder != null) {
+                recorder.record(event);
             }
         }
 
@@ -285,6 +306,12 @@ public class InputManager {
         eventBacklog.clear();
     }
 
+    /** Discards all events in the event list and the event backlog, without processing them. */
+    void discardEvents() {
+        receivedInputEvents.clear();
+        eventBacklog.clear();
+    }
+
     /* Reset */
 
     /** Clears the list of keyboard action listeners. */
@@ -0,0 +1,211 @@
+package io.github.lucasstarsz.fastj.systems.input;
+
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class that records the input a game processes, frame by frame, into a compact binary log.
+ * <p>
+ * Each frame of the log holds the input events processed that frame, and the amount of updates run after them. Along
+ * with the seed of the {@link io.github.lucasstarsz.fastj.math.Maths Maths} random generator methods and the target
+ * UPS, this is enough for an {@link InputReplayer} to replay the session identically -- for instance, as a repeatable
+ * benchmark workload:
+ * <pre>{@code
+ * EngineContext game = new EngineContext("Game", new GameManager());
+ * game.setInputRecorder(new InputRecorder(Files.newOutputStream(Path.of("session.fjir")), 42L, game.getTargetUPS()));
+ * game.run();
+ * }</pre>
+ * The log starts with a header of the characters {@code FJIR}, the format version, the seed, and the target UPS. Counts
+ * and coordinates are stored as variable-length integers, so most frames take only a few bytes.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public class InputRecorder implements Closeable {
+
+    /** The characters {@code FJIR}, which start every input log. */
+    static final int Magic = 0x464A4952;
+    /** The version of the input log format. */
+    static final int Version = 1;
+
+    static final int KeyEventType = 0;
+    static final int MouseEventType = 1;
+    static final int MouseWheelEventType = 2;
+
+    private final DataOutputStream out;
+    private final long seed;
+    private final int updatesPerSecond;
+    private final List<InputEvent> frameEvents;
+    private long frameCount;
+
+    /**
+     * Constructs an {@code InputRecorder} which writes its log to the specified stream, starting with the log's header.
+     *
+     * @param out              The stream to write the log to.
+     * @param seed             The seed of the {@code Maths} random generator methods for the recorded session.
+     * @param updatesPerSecond The target UPS of the recorded session.
+     * @throws IOException if the header could not be written.
+     */
+    public InputRecorder(OutputStream out, long seed, int updatesPerSecond) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        this.seed = seed;
+        this.updatesPerSecond = updatesPerSecond;
+        frameEvents = new ArrayList<>();
+
+        this.out.writeInt(Magic);
+        this.out.writeShort(Version);
+        this.out.writeLong(seed);
+        this.out.writeInt(updatesPerSecond);
+    }
+
+    /**
+     * Gets the seed of the {@code Maths} random generator methods for the recorded session.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the target UPS of the recorded session.
+     *
+     * @return The target UPS.
+     */
+    public int getUpdatesPerSecond() {
+        return updatesPerSecond;
+    }
+
+    /**
+     * Gets the amount of frames recorded so far.
+     *
+     * @return The recorded frame count.
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Adds the specified event to the current frame.
+     * <p>
+     * Only keyboard and mouse events are recorded -- other events are ignored.
+     *
+     * @param event The processed input event.
+     */
+    public void record(InputEvent event) {
+        if (event instanceof KeyEvent || event instanceof MouseEvent) {
+            frameEvents.add(event);
+        }
+    }
+
+    /**
+     * Writes the current frame to the log, then starts the next frame.
+     *
+     * @param updates The amount of updates run in the frame, after its events were processed.
+     * @throws IOException if the frame could not be written.
+     */
+    public void endFrame(int updates) throws IOException {
+        writeVarInt(out, updates);
+        writeVarInt(out, frameEvents.size());
+        for (InputEvent event : frameEvents) {
+            writeEvent(event);
+        }
+
+        frameEvents.clear();
+        frameCount++;
+    }
+
+    /**
+     * Flushes the log, then closes its stream.
+     * <p>
+     * Events recorded since the last {@link #endFrame(int)} call are not written.
+     *
+     * @throws IOException if the log could not be flushed or closed.
+     */
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writeEvent(InputEvent event) throws IOException {
+        if (event instanceof KeyEvent) {
+            KeyEvent keyEvent = (KeyEvent) event;
+            out.writeByte(KeyEventType);
+            writeVarInt(out, keyEvent.getID());
+            writeVarInt(out, keyEvent.getModifiersEx());
+            writeVarInt(out, keyEvent.getKeyCode());
+            out.writeChar(keyEvent.getKeyChar());
+            out.writeByte(keyEvent.getKeyLocation());
+            return;
+        }
+
+        MouseEvent mouseEvent = (MouseEvent) event;
+        boolean isWheelEvent = mouseEvent instanceof MouseWheelEvent;
+        out.writeByte(isWheelEvent ? MouseWheelEventType : MouseEventType);
+        writeVarInt(out, mouseEvent.getID());
+        writeVarInt(out, mouseEvent.getModifiersEx());
+        writeSignedVarInt(out, mouseEvent.getX());
+        writeSignedVarInt(out, mouseEvent.getY());
+        out.writeByte(mouseEvent.getButton());
+        writeVarInt(out, mouseEvent.getClickCount());
+
+        if (isWheelEvent) {
+            MouseWheelEvent mouseWheelEvent = (MouseWheelEvent) mouseEvent;
+            out.writeByte(mouseWheelEvent.getScrollType());
+            writeVarInt(out, mouseWheelEvent.getScrollAmount());
+            writeSignedVarInt(out, mouseWheelEvent.getWheelRotation());
+            out.writeDouble(mouseWheelEvent.getPreciseWheelRotation());
+        }
+    }
+
+    /** Writes a non-negative integer in as few bytes as it needs, seven bits at a time. */
+    static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /** Writes an integer in as few bytes as it needs, so that small negative values stay small. */
+    static void writeSignedVarInt(DataOutput out, int value) throws IOException {
+        writeVarInt(out, (value << 1) ^ (value >> 31));
+    }
+
+    /** Reads an integer written by {@link #writeVarInt(DataOutput, int)}, given its first byte. */
+    static int readVarInt(DataInput in, int firstByte) throws IOException {
+        int value = firstByte & 0x7F;
+        int currentByte = firstByte;
+        for (int shift = 7; (currentByte & 0x80) != 0; shift += 7) {
+            if (shift > 28) {
+                throw new IOException("Malformed input log: variable-length integer is too long.");
+            }
+
+            currentByte = in.readUnsignedByte();
+            value |= (currentByte & 0x7F) << shift;
+        }
+        return value;
+    }
+
+    /** Reads an integer written by {@link #writeVarInt(DataOutput, int)}. */
+    static int readVarInt(DataInput in) throws IOException {
+        return readVarInt(in, in.readUnsignedByte());
+    }
+
+    /** Reads an integer written by {@link #writeSignedVarInt(DataOutput, int)}. */
+    static int readSignedVarInt(DataInput in) throws IOException {
+        int value = readVarInt(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,182 @@
+package io.github.lucasstarsz.fastj.systems.input;
+
+import java.awt.Canvas;
+import java.awt.Component;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class that replays an input log written by an {@link InputRecorder}, frame by frame.
+ * <p>
+ * Each call to {@link #replayFrame(InputManager)} hands a frame's events to an {@link InputManager} in place of the
+ * user's input, and gives back the amount of updates to run after processing them. Run with the log's seed and target
+ * UPS, a game then sees exactly the input it saw when the log was recorded:
+ * <pre>{@code
+ * EngineContext game = new EngineContext("Game", new GameManager());
+ * game.setInputReplayer(new InputReplayer(Files.newInputStream(Path.of("session.fjir"))));
+ * game.run();
+ * }</pre>
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public class InputReplayer implements Closeable {
+
+    /** The component the replayed events claim to come from. */
+    private static final Component EventSource = new Canvas();
+
+    private final DataInputStream in;
+    private final long seed;
+    private final int updatesPerSecond;
+    private final List<InputEvent> frameEvents;
+    private long frameCount;
+
+    /**
+     * Constructs an {@code InputReplayer} which reads its log from the specified stream, starting with the log's
+     * header.
+     *
+     * @param in The stream to read the log from.
+     * @throws IOException if the header could not be read, or the stream does not hold an input log of a supported
+     *                     version.
+     */
+    public InputReplayer(InputStream in) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in));
+        frameEvents = new ArrayList<>();
+
+        if (this.in.readInt() != InputRecorder.Magic) {
+            throw new IOException("The stream does not hold an input log.");
+        }
+
+        int version = this.in.readUnsignedShort();
+        if (version != InputRecorder.Version) {
+            throw new IOException("Unsupported input log version: " + version + ".");
+        }
+
+        seed = this.in.readLong();
+        updatesPerSecond = this.in.readInt();
+    }
+
+    /**
+     * Gets the seed of the {@code Maths} random generator methods for the recorded session.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the target UPS of the recorded session.
+     *
+     * @return The target UPS.
+     */
+    public int getUpdatesPerSecond() {
+        return updatesPerSecond;
+    }
+
+    /**
+     * Gets the amount of frames read so far.
+     *
+     * @return The replayed frame count.
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Replaces the events the specified {@code InputManager} has received with the next frame's events, ready for it
+     * to {@link InputManager#processEvents(io.github.lucasstarsz.fastj.systems.control.Scene) process}.
+     *
+     * @param inputManager The {@code InputManager} to replay the frame's events with.
+     * @return The amount of updates to run after processing the frame's events, or {@code -1} if the log has ended.
+     * @throws IOException if the frame could not be read.
+     */
+    public int replayFrame(InputManager inputManager) throws IOException {
+        int updates = readFrame(frameEvents);
+        if (updates == -1) {
+            return -1;
+        }
+
+        inputManager.discardEvents();
+        for (InputEvent event : frameEvents) {
+            inputManager.receivedInputEvent(event);
+        }
+        frameEvents.clear();
+
+        return updates;
+    }
+
+    /**
+     * Reads the next frame, adding its events to the specified list.
+     *
+     * @param events The list to add the frame's events to.
+     * @return The amount of updates run in the frame, or {@code -1} if the log has ended.
+     * @throws IOException if the frame could not be read.
+     */
+    public int readFrame(List<InputEvent> events) throws IOException {
+        int firstByte = in.read();
+        if (firstByte == -1) {
+            return -1;
+        }
+
+        int updates = InputRecorder.readVarInt(in, firstByte);
+        int eventCount = InputRecorder.readVarInt(in);
+        for (int i = 0; i < eventCount; i++) {
+            events.add(readEvent());
+        }
+
+        frameCount++;
+        return updates;
+    }
+
+    /**
+     * Closes the log's stream.
+     *
+     * @throws IOException if the stream could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private InputEvent readEvent() throws IOException {
+        int type = in.readUnsignedByte();
+        int id = InputRecorder.readVarInt(in);
+        int modifiers = InputRecorder.readVarInt(in);
+
+        if (type == InputRecorder.KeyEventType) {
+            int keyCode = InputRecorder.readVarInt(in);
+            char keyChar = in.readChar();
+            int keyLocation = in.readUnsignedByte();
+            return new KeyEvent(EventSource, id, 0L, modifiers, keyCode, keyChar, keyLocation);
+        }
+
+        if (type != InputRecorder.MouseEventType && type != InputRecorder.MouseWheelEventType) {
+            throw new IOException("Malformed input log: unknown event type " + type + ".");
+        }
+
+        int x = InputRecorder.readSignedVarInt(in);
+        int y = InputRecorder.readSignedVarInt(in);
+        int button = in.readUnsignedByte();
+        int clickCount = InputRecorder.readVarInt(in);
+
+        if (type == InputRecorder.MouseEventType) {
+            return new MouseEvent(EventSource, id, 0L, modifiers, x, y, clickCount, false, button);
+        }
+
+        int scrollType = in.readUnsignedByte();
+        int scrollAmount = InputRecorder.readVarInt(in);
+        int wheelRotation = InputRecorder.readSignedVarInt(in);
+        double preciseWheelRotation = in.readDouble();
+        return new MouseWheelEvent(EventSource, id, 0L, modifiers, x, y, 0, 0, clickCount, false, scrollType, scrollAmount, wheelRotation, preciseWheelRotation);
+    }
+}
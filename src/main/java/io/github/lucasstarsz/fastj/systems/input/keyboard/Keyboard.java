@@ -1,6 +1,8 @@
 package io.github.lucasstarsz.fastj.systems.input.keyboard;
 
+import io.github.lucasstarsz.fastj.engine.EngineContext;
 import io.github.lucasstarsz.fastj.engine.FastJEngine;
+import io.github.lucasstarsz.fastj.graphics.Display;
 
 import io.github.lucasstarsz.fastj.systems.control.Scene;
 
@@ -8,83 +10,40 @@ import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.function.BiConsumer;
 
 /**
  * Class that stores key input information from the {@code Display}.
+ * <p>
+ * Each {@link Display} has a keyboard of its own, so every game running in the JVM keeps its own key state. The static
+ * methods act on the keyboard of the {@link EngineContext#current() current context}'s display, and key presses and
+ * releases are only applied on that game's thread, as its input events are processed.
+ * <p>
+ * A key stays recently pressed or released for 25 milliseconds' worth of fixed updates, counted by the game's updates
+ * rather than the wall clock -- so a replayed game sees the same recent keys on the same updates as when it was
+ * recorded.
  *
  * @author Andrew Dey
  * @version 1.0.0
  */
 public class Keyboard implements KeyListener {
 
-    private static final Map<KeyDescription, Key> Keys = new HashMap<>();
-    private static String lastKeyPressed = "";
-    private static ScheduledExecutorService keyChecker;
+    private static final long RecentKeyNanos = TimeUnit.MILLISECONDS.toNanos(25);
 
-    private static final Map<Integer, BiConsumer<Scene, KeyEvent>> keyEventProcessor = Map.of(
-            KeyEvent.KEY_PRESSED, (scene, keyEvent) -> {
-                KeyDescription keyDescription = KeyDescription.get(keyEvent.getKeyCode(), keyEvent.getKeyLocation());
-                Key key = null;
+    /** The keyboard used while there is no game with a display. */
+    private static final Keyboard Unattached = new Keyboard();
 
-                if (Keys.get(keyDescription) == null) {
-                    key = new Key(keyEvent);
-                    Keys.put(key.keyDescription, key);
-                    keyDescription = KeyDescription.get(keyEvent.getKeyCode(), keyEvent.getKeyLocation());
-                }
-
-                if (key == null) {
-                    key = Keys.get(keyDescription);
-                }
-
-                if (!key.currentlyPressed) {
-                    key.setRecentPress(true);
-                    scene.inputManager.fireKeyRecentlyPressed(keyEvent);
-                }
+    private final Map<KeyDescription, Key> keys = new HashMap<>();
+    private String lastKeyPressed = "";
 
-                key.setCurrentPress(true);
-            },
-            KeyEvent.KEY_RELEASED, (scene, keyEvent) -> {
-                KeyDescription keyDescription = KeyDescription.get(keyEvent.getKeyCode(), keyEvent.getKeyLocation());
-                Key key = Keys.get(keyDescription);
-
-                if (key != null) {
-                    key.setCurrentPress(false);
-                    key.setRecentPress(false);
-                    key.setRecentRelease(true);
-                }
-
-                scene.inputManager.fireKeyReleased(keyEvent);
-            },
-            KeyEvent.KEY_TYPED, (scene, keyEvent) -> {
-                lastKeyPressed = KeyEvent.getKeyText(keyEvent.getKeyCode());
-                scene.inputManager.fireKeyTyped(keyEvent);
-            }
-    );
-
-    /** Initializes the keyboard. */
+    /** Initializes the keyboard of the current context, clearing its key input. */
     public static void init() {
-        keyChecker = Executors.newSingleThreadScheduledExecutor();
-        keyChecker.scheduleWithFixedDelay(Keyboard::keyCheck, 1, 1, TimeUnit.MILLISECONDS);
-    }
-
-    /** Updates each key if it was recently pressed. */
-    private static void keyCheck() {
-        for (Key key : Keys.values()) {
-            if (key.recentPress) {
-                key.setRecentPress(!key.pressProgress());
-            } else if (key.recentRelease) {
-                key.setRecentRelease(!key.releaseProgress());
-            }
-        }
+        reset();
     }
 
-    /** Clears all key input from the keyboard. */
+    /** Clears all key input from the keyboard of the current context. */
     public static void reset() {
-        Keys.clear();
+        current().keys.clear();
     }
 
     /**
@@ -100,11 +59,12 @@ public class Keyboard implements KeyListener {
      * @return Boolean value that determines if the specified key was recently pressed.
      */
     public static boolean isKeyRecentlyPressed(int keyCode, KeyLocation keyLocation) {
-        KeyDescription keyDescription = KeyDescription.get(keyCode, keyLocation.location);
+        Keyboard keyboard = current();
+        KeyDescription keyDescription = KeyDescription.get(keyboard.keys, keyCode, keyLocation.location);
         if (keyDescription == null) {
             return false;
         }
-        Key k = Keys.get(keyDescription);
+        Key k = keyboard.keys.get(keyDescription);
 
         boolean recentlyPressed = k.recentPress;
         k.recentPress = false;
@@ -140,11 +100,12 @@ public class Keyboard implements KeyListener {
      * @return Boolean value that determines if the specified key was recently released.
      */
     public static boolean isKeyRecentlyReleased(int keyCode, KeyLocation keyLocation) {
-        KeyDescription keyDescription = KeyDescription.get(keyCode, keyLocation.location);
+        Keyboard keyboard = current();
+        KeyDescription keyDescription = KeyDescription.get(keyboard.keys, keyCode, keyLocation.location);
         if (keyDescription == null) {
             return false;
         }
-        Key key = Keys.get(keyDescription);
+        Key key = keyboard.keys.get(keyDescription);
 
         boolean recentlyReleased = key.recentRelease;
         key.recentRelease = false;
@@ -179,12 +140,13 @@ public class Keyboard implements KeyListener {
      * @return Boolean value that determines if the specified key is pressed.
      */
     public static boolean isKeyDown(int keyCode, KeyLocation keyLocation) {
-        KeyDescription keyDescription = KeyDescription.get(keyCode, keyLocation.location);
+        Keyboard keyboard = current();
+        KeyDescription keyDescription = KeyDescription.get(keyboard.keys, keyCode, keyLocation.location);
         if (keyDescription == null) {
             return false;
         }
 
-        return Keys.get(keyDescription).isKeyDown;
+        return keyboard.keys.get(keyDescription).isKeyDown;
     }
 
     /**
@@ -207,7 +169,7 @@ public class Keyboard implements KeyListener {
      * @return Returns the String value of the last key character pressed.
      */
     public static String getLastKeyPressed() {
-        return lastKeyPressed;
+        return current().lastKeyPressed;
     }
 
     /**
@@ -216,7 +178,7 @@ public class Keyboard implements KeyListener {
      * @return boolean that determines whether there are any keys pressed.
      */
     public static boolean areKeysDown() {
-        for (Key key : Keys.values()) {
+        for (Key key : current().keys.values()) {
             if (key.isKeyDown) {
                 return true;
             }
@@ -224,9 +186,26 @@ public class Keyboard implements KeyListener {
         return false;
     }
 
+    /** Stops the keyboard of the current context, clearing its key input. */
     public static void stop() {
         reset();
-        keyChecker.shutdownNow();
+    }
+
+    /**
+     * Counts down the recently pressed and released keys of the keyboard of the current context, at the end of a fixed
+     * update.
+     * <p>
+     * This is called by the engine after each of the game's fixed updates.
+     */
+    public static void endUpdate() {
+        int recentUpdates = updatesIn(RecentKeyNanos);
+        for (Key key : current().keys.values()) {
+            if (key.recentPress) {
+                key.setRecentPress(!key.pressProgress(recentUpdates));
+            } else if (key.recentRelease) {
+                key.setRecentRelease(!key.releaseProgress(recentUpdates));
+            }
+        }
     }
 
     @Override
@@ -251,7 +230,78 @@ public class Keyboard implements KeyListener {
      * @param event   The key event to process.
      */
     public static void processEvent(Scene scene, KeyEvent event) {
-        keyEventProcessor.get(event.getID()).accept(scene, event);
+        current().process(scene, event);
+    }
+
+    /**
+     * Gets the keyboard of the current context's {@link Display}.
+     *
+     * @return The current keyboard, or the unattached keyboard if there is no game with a display.
+     */
+    private static Keyboard current() {
+        EngineContext context = EngineContext.current();
+        Display display = context != null ? context.getDisplay() : null;
+        return display != null ? display.getKeyboard() : Unattached;
+    }
+
+    /**
+     * Updates the keyboard's state from the specified key event, then fires it to the specified scene.
+     *
+     * @param scene The scene to fire the event to.
+     * @param event The key event to process.
+     */
+    private void process(Scene scene, KeyEvent event) {
+        switch (event.getID()) {
+            case KeyEvent.KEY_PRESSED: {
+                KeyDescription keyDescription = KeyDescription.get(keys, event.getKeyCode(), event.getKeyLocation());
+                Key key;
+
+                if (keyDescription == null) {
+                    key = new Key(event);
+                    keys.put(key.keyDescription, key);
+                } else {
+                    key = keys.get(keyDescription);
+                }
+
+                if (!key.currentlyPressed) {
+                    key.setRecentPress(true);
+                    scene.inputManager.fireKeyRecentlyPressed(event);
+                }
+
+                key.setCurrentPress(true);
+                break;
+            }
+            case KeyEvent.KEY_RELEASED: {
+                KeyDescription keyDescription = KeyDescription.get(keys, event.getKeyCode(), event.getKeyLocation());
+                Key key = keyDescription != null ? keys.get(keyDescription) : null;
+
+                if (key != null) {
+                    key.setCurrentPress(false);
+                    key.setRecentPress(false);
+                    key.setRecentRelease(true);
+                }
+
+                scene.inputManager.fireKeyReleased(event);
+                break;
+            }
+            case KeyEvent.KEY_TYPED: {
+                lastKeyPressed = KeyEvent.getKeyText(event.getKeyCode());
+                scene.inputManager.fireKeyTyped(event);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Gets the amount of fixed updates the current game runs in the specified time, rounded up to at least one.
+     *
+     * @param nanos The time, in nanoseconds.
+     * @return The amount of fixed updates.
+     */
+    private static int updatesIn(long nanos) {
+        EngineContext context = EngineContext.current();
+        int ups = context != null ? context.getTargetUPS() : FastJEngine.DefaultUPS;
+        return Math.max(1, (int) Math.ceil(nanos * (double) ups / 1_000_000_000d));
     }
 
     /** Enum that defines the location of a key. */
@@ -336,16 +386,26 @@ public class Keyboard implements KeyListener {
             keyDescription = new KeyDescription(keyEvent);
         }
 
-        /** Progresses the key's state of being recently pressed. */
-        private boolean pressProgress() {
+        /**
+         * Progresses the key's state of being recently pressed by one fixed update.
+         *
+         * @param recentUpdates The amount of fixed updates a key stays recently pressed for.
+         * @return Whether the key is no longer recently pressed.
+         */
+        private boolean pressProgress(int recentUpdates) {
             pressTimer++;
-            return pressTimer >= 25;
+            return pressTimer >= recentUpdates;
         }
 
-        /** Progresses the key's state of being recently released. */
-        private boolean releaseProgress() {
+        /**
+         * Progresses the key's state of being recently released by one fixed update.
+         *
+         * @param recentUpdates The amount of fixed updates a key stays recently released for.
+         * @return Whether the key is no longer recently released.
+         */
+        private boolean releaseProgress(int recentUpdates) {
             releaseTimer++;
-            return releaseTimer >= 25;
+            return releaseTimer >= recentUpdates;
         }
 
         /**
@@ -414,12 +474,13 @@ public class Keyboard implements KeyListener {
         /**
          * Gets the {@code KeyDescription} with the specified keycode and key location.
          *
+         * @param keys        The keys to look through.
          * @param keyCode     The key code to check for.
          * @param keyLocation The key description to check for.
          * @return The {@code KeyDescription} with the specified key code. If none matches, this returns {@code null}.
          */
-        private static KeyDescription get(int keyCode, int keyLocation) {
-            for (KeyDescription keyDescription : Keys.keySet()) {
+        private static KeyDescription get(Map<KeyDescription, Key> keys, int keyCode, int keyLocation) {
+            for (KeyDescription keyDescription : keys.keySet()) {
                 if (keyDescription.keyCode == keyCode && keyDescription.keyLocation == keyLocation) {
                     return keyDescription;
                 }
@@ -1,7 +1,9 @@
 package io.github.lucasstarsz.fastj.systems.input.mouse;
 
+import io.github.lucasstarsz.fastj.engine.EngineContext;
 import io.github.lucasstarsz.fastj.engine.FastJEngine;
 import io.github.lucasstarsz.fastj.math.Pointf;
+import io.github.lucasstarsz.fastj.math.Scratch;
 import io.github.lucasstarsz.fastj.graphics.Display;
 import io.github.lucasstarsz.fastj.graphics.Drawable;
 
@@ -14,116 +16,40 @@ import java.awt.event.MouseWheelEvent;
 import java.awt.event.MouseWheelListener;
 import java.awt.geom.Path2D;
 import java.awt.geom.PathIterator;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.function.BiConsumer;
 
 /**
  * Mouse class that takes mouse input from the {@code Display}, and uses it to store variables about the mouse's current
  * state.
+ * <p>
+ * Each {@link Display} has a mouse of its own, so every game running in the JVM keeps its own mouse state. The static
+ * methods act on the mouse of the {@link EngineContext#current() current context}'s display, and the state is only
+ * changed on that game's thread, as its input events are processed.
+ * <p>
+ * A {@link MouseAction} stays recent for 50 milliseconds' worth of fixed updates, counted by the game's updates rather
+ * than the wall clock -- so a replayed game sees the same recent actions on the same updates as when it was recorded.
  *
  * @author Andrew Dey
  * @version 1.0.0
  */
 public class Mouse implements MouseListener, MouseMotionListener, MouseWheelListener {
 
-    private static final ScheduledExecutorService MouseExecutor = Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors());
-    private static final Map<Integer, MouseButton> MouseButtons = new HashMap<>();
-    private static int buttonLastPressed = -1;
-    private static int buttonLastReleased = -1;
-    private static int buttonLastClicked = -1;
-    private static int lastScrollDirection = 0;
-    private static boolean currentlyOnScreen;
-    private static Pointf mouseLocation = new Pointf();
-
-    private static final Map<Integer, BiConsumer<Scene, MouseEvent>> MouseEventProcessor = Map.of(
-            MouseEvent.MOUSE_PRESSED, (scene, mouseEvent) -> {
-                if (!MouseAction.PRESS.recentAction) {
-                    createSleeperThread(MouseAction.PRESS);
-                }
-
-                if (!MouseButtons.containsKey(mouseEvent.getButton())) {
-                    MouseButton btn = new MouseButton(mouseEvent);
-                    MouseButtons.put(btn.buttonLocation, btn);
-                }
-
-                buttonLastPressed = mouseEvent.getButton();
-                MouseButtons.get(mouseEvent.getButton()).currentlyPressed = true;
-                scene.inputManager.fireMousePressed(mouseEvent);
-            },
-            MouseEvent.MOUSE_RELEASED, (scene, mouseEvent) -> {
-                if (!MouseAction.RELEASE.recentAction) {
-                    createSleeperThread(MouseAction.RELEASE);
-                }
-
-                if (MouseButtons.containsKey(mouseEvent.getButton())) {
-                    MouseButtons.get(mouseEvent.getButton()).currentlyPressed = false;
-                }
-
-                buttonLastReleased = mouseEvent.getButton();
-                scene.inputManager.fireMouseReleased(mouseEvent);
-            },
-            MouseEvent.MOUSE_CLICKED, (scene, mouseEvent) -> {
-                if (!MouseAction.CLICK.recentAction) {
-                    createSleeperThread(MouseAction.CLICK);
-                }
-
-                buttonLastClicked = mouseEvent.getButton();
-                scene.inputManager.fireMouseClicked(mouseEvent);
-            },
-            MouseEvent.MOUSE_MOVED, (scene, mouseEvent) -> {
-                if (!MouseAction.MOVE.recentAction) {
-                    createSleeperThread(MouseAction.MOVE);
-                }
-
-                mouseLocation = Pointf.divide(
-                        new Pointf(mouseEvent.getX(), mouseEvent.getY()),
-                        FastJEngine.getDisplay().getResolutionScale()
-                );
-
-                scene.inputManager.fireMouseMoved(mouseEvent);
-            },
-            MouseEvent.MOUSE_DRAGGED, (scene, mouseEvent) -> {
-                if (!MouseAction.DRAG.recentAction) {
-                    createSleeperThread(MouseAction.DRAG);
-                }
+    private static final long RecentActionNanos = TimeUnit.MILLISECONDS.toNanos(50);
 
-                mouseLocation = Pointf.divide(
-                        new Pointf(mouseEvent.getX(), mouseEvent.getY()),
-                        FastJEngine.getDisplay().getResolutionScale()
-                );
+    /** The mouse used while there is no game with a display. */
+    private static final Mouse Unattached = new Mouse();
 
-                scene.inputManager.fireMouseDragged(mouseEvent);
-            },
-            MouseEvent.MOUSE_ENTERED, (scene, mouseEvent) -> {
-                if (MouseAction.ENTER.recentAction) {
-                    createSleeperThread(MouseAction.ENTER);
-                }
-
-                currentlyOnScreen = true;
-                scene.inputManager.fireMouseEntered(mouseEvent);
-            },
-            MouseEvent.MOUSE_EXITED, (scene, mouseEvent) -> {
-                if (MouseAction.ENTER.recentAction) {
-                    createSleeperThread(MouseAction.EXIT);
-                }
-
-                currentlyOnScreen = false;
-                scene.inputManager.fireMouseExited(mouseEvent);
-            },
-            MouseEvent.MOUSE_WHEEL, (scene, mouseEvent) -> {
-                if (!MouseAction.WHEEL_SCROLL.recentAction) {
-                    createSleeperThread(MouseAction.WHEEL_SCROLL);
-                }
-
-                MouseWheelEvent mouseWheelEvent = (MouseWheelEvent) mouseEvent;
-                lastScrollDirection = mouseWheelEvent.getWheelRotation();
-                scene.inputManager.fireMouseWheelScrolled(mouseWheelEvent);
-            }
-    );
+    private final Map<Integer, MouseButton> mouseButtons = new HashMap<>();
+    private final int[] recentActionUpdates = new int[MouseAction.values().length];
+    private int buttonLastPressed = -1;
+    private int buttonLastReleased = -1;
+    private int buttonLastClicked = -1;
+    private int lastScrollDirection = 0;
+    private boolean currentlyOnScreen;
+    private final Pointf mouseLocation = new Pointf();
 
     /**
      * Determines whether the specified {@code Drawable} intersects the mouse, if the mouse is currently performing the
@@ -136,10 +62,11 @@ public class Mouse implements MouseListener, MouseMotionListener, MouseWheelList
      * specified {@code MouseAction}.
      */
     public static boolean interactsWith(Drawable button, MouseAction recentMouseAction) {
+        Mouse mouse = current();
         PathIterator buttonPathIterator = button.getCollisionPath().getPathIterator(null);
-        boolean result = Path2D.Float.intersects(buttonPathIterator, mouseLocation.x, mouseLocation.y, 1, 1) && recentMouseAction.recentAction;
+        boolean result = Path2D.Float.intersects(buttonPathIterator, mouse.mouseLocation.x, mouse.mouseLocation.y, 1, 1) && mouse.recentActionUpdates[recentMouseAction.ordinal()] > 0;
 
-        recentMouseAction.recentAction = false;
+        mouse.recentActionUpdates[recentMouseAction.ordinal()] = 0;
 
         return result;
     }
@@ -150,7 +77,7 @@ public class Mouse implements MouseListener, MouseMotionListener, MouseWheelList
      * @return The boolean value that represents whether the mouse is currently on the {@code Display} window.
      */
     public static boolean isOnScreen() {
-        return currentlyOnScreen;
+        return current().currentlyOnScreen;
     }
 
     /**
@@ -176,20 +103,31 @@ public class Mouse implements MouseListener, MouseMotionListener, MouseWheelList
      * @return The boolean value that represents whether the specified button is pressed.
      */
     public static boolean isMouseButtonPressed(int buttonNumber) {
-        if (!MouseButtons.containsKey(buttonNumber)) {
-            return false;
-        }
-
-        return MouseButtons.get(buttonNumber).currentlyPressed;
+        MouseButton button = current().mouseButtons.get(buttonNumber);
+        return button != null && button.currentlyPressed;
     }
 
     /**
      * Gets the location of the mouse on the {@link Display}.
      *
-     * @return The {@code Pointf} that represents the location of the mouse on the {@code Display}.
+     * @return A {@code Pointf} that represents the location of the mouse on the {@code Display}.
      */
     public static Pointf getMouseLocation() {
-        return mouseLocation;
+        return current().mouseLocation.copy();
+    }
+
+    /**
+     * Stores the location of the mouse on the {@link Display} in the specified {@code Pointf}.
+     * <p>
+     * Unlike {@link #getMouseLocation()}, this does not allocate a new {@code Pointf}.
+     *
+     * @param dest The {@code Pointf} to store the location in.
+     * @return The {@code dest} point, for convenience.
+     */
+    public static Pointf getMouseLocation(Pointf dest) {
+        Pointf mouseLocation = current().mouseLocation;
+        dest.set(mouseLocation.x, mouseLocation.y);
+        return dest;
     }
 
     /**
@@ -198,7 +136,7 @@ public class Mouse implements MouseListener, MouseMotionListener, MouseWheelList
      * @return Returns the integer value of the last button pressed.
      */
     public static int getButtonLastPressed() {
-        return buttonLastPressed;
+        return current().buttonLastPressed;
     }
 
     /**
@@ -207,7 +145,7 @@ public class Mouse implements MouseListener, MouseMotionListener, MouseWheelList
      * @return Returns the integer value of the last button released.
      */
     public static int getButtonLastReleased() {
-        return buttonLastReleased;
+        return current().buttonLastReleased;
     }
 
     /**
@@ -216,7 +154,7 @@ public class Mouse implements MouseListener, MouseMotionListener, MouseWheelList
      * @return Returns the integer value of the last button clicked.
      */
     public static int getButtonLastClicked() {
-        return buttonLastClicked;
+        return current().buttonLastClicked;
     }
 
     /**
@@ -225,7 +163,7 @@ public class Mouse implements MouseListener, MouseMotionListener, MouseWheelList
      * @return Returns the integer value of the direction of the last mouse scroll.
      */
     public static int getScrollDirection() {
-        return lastScrollDirection;
+        return current().lastScrollDirection;
     }
 
     /**
@@ -234,34 +172,31 @@ public class Mouse implements MouseListener, MouseMotionListener, MouseWheelList
      * @param e MouseAction enum that determine the type of mouse action that should be force ended.
      */
     public static void endProcess(MouseAction e) {
-        e.recentAction = false;
-    }
-
-    /**
-     * Creates an executor that makes a {@code MouseAction} true for 50 milliseconds, and then false.
-     *
-     * @param e The {@code MouseAction} to be used in the executor.
-     */
-    private static void createSleeperThread(MouseAction e) {
-        e.recentAction = true;
-        MouseExecutor.schedule(() -> e.recentAction = false, 50, TimeUnit.MILLISECONDS);
+        current().recentActionUpdates[e.ordinal()] = 0;
     }
 
-    /** Resets the {@code Mouse}. */
+    /** Resets the {@code Mouse} of the current context. */
     public static void reset() {
-        buttonLastPressed = -1;
-        buttonLastReleased = -1;
-        buttonLastClicked = -1;
-        lastScrollDirection = 0;
-        currentlyOnScreen = false;
-
-        MouseButtons.clear();
-        mouseLocation.reset();
+        current().clear();
     }
 
+    /** Stops the {@code Mouse} of the current context, resetting it. */
     public static void stop() {
         reset();
-        MouseExecutor.shutdownNow();
+    }
+
+    /**
+     * Counts down the recent actions of the {@code Mouse} of the current context, at the end of a fixed update.
+     * <p>
+     * This is called by the engine after each of the game's fixed updates.
+     */
+    public static void endUpdate() {
+        int[] recentActionUpdates = current().recentActionUpdates;
+        for (int i = 0; i < recentActionUpdates.length; i++) {
+            if (recentActionUpdates[i] > 0) {
+                recentActionUpdates[i]--;
+            }
+        }
     }
 
     @Override
@@ -311,7 +246,146 @@ public class Mouse implements MouseListener, MouseMotionListener, MouseWheelList
      * @param event   The mouse event to process.
      */
     public static void processEvent(Scene scene, MouseEvent event) {
-        MouseEventProcessor.get(event.getID()).accept(scene, event);
+        current().process(scene, event);
+    }
+
+    /**
+     * Gets the mouse of the current context's {@link Display}.
+     *
+     * @return The current mouse, or the unattached mouse if there is no game with a display.
+     */
+    private static Mouse current() {
+        EngineContext context = EngineContext.current();
+        Display display = context != null ? context.getDisplay() : null;
+        return display != null ? display.getMouse() : Unattached;
+    }
+
+    /**
+     * Updates the mouse's state from the specified mouse event, then fires it to the specified scene.
+     *
+     * @param scene The scene to fire the event to.
+     * @param event The mouse event to process.
+     */
+    private void process(Scene scene, MouseEvent event) {
+        switch (event.getID()) {
+            case MouseEvent.MOUSE_PRESSED: {
+                startAction(MouseAction.PRESS);
+
+                MouseButton button = mouseButtons.computeIfAbsent(event.getButton(), buttonNumber -> new MouseButton(event));
+                buttonLastPressed = event.getButton();
+                button.currentlyPressed = true;
+                scene.inputManager.fireMousePressed(event);
+                break;
+            }
+            case MouseEvent.MOUSE_RELEASED: {
+                startAction(MouseAction.RELEASE);
+
+                MouseButton button = mouseButtons.get(event.getButton());
+                if (button != null) {
+                    button.currentlyPressed = false;
+                }
+
+                buttonLastReleased = event.getButton();
+                scene.inputManager.fireMouseReleased(event);
+                break;
+            }
+            case MouseEvent.MOUSE_CLICKED: {
+                startAction(MouseAction.CLICK);
+
+                buttonLastClicked = event.getButton();
+                scene.inputManager.fireMouseClicked(event);
+                break;
+            }
+            case MouseEvent.MOUSE_MOVED: {
+                startAction(MouseAction.MOVE);
+
+                updateMouseLocation(event);
+                scene.inputManager.fireMouseMoved(event);
+                break;
+            }
+            case MouseEvent.MOUSE_DRAGGED: {
+                startAction(MouseAction.DRAG);
+
+                updateMouseLocation(event);
+                scene.inputManager.fireMouseDragged(event);
+                break;
+            }
+            case MouseEvent.MOUSE_ENTERED: {
+                startAction(MouseAction.ENTER);
+
+                currentlyOnScreen = true;
+                scene.inputManager.fireMouseEntered(event);
+                break;
+            }
+            case MouseEvent.MOUSE_EXITED: {
+                startAction(MouseAction.EXIT);
+
+                currentlyOnScreen = false;
+                scene.inputManager.fireMouseExited(event);
+                break;
+            }
+            case MouseEvent.MOUSE_WHEEL: {
+                startAction(MouseAction.WHEEL_SCROLL);
+
+                MouseWheelEvent mouseWheelEvent = (MouseWheelEvent) event;
+                lastScrollDirection = mouseWheelEvent.getWheelRotation();
+                scene.inputManager.fireMouseWheelScrolled(mouseWheelEvent);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Updates the mouse's location from the specified mouse event, scaled to the {@link Display}'s internal
+     * resolution.
+     *
+     * @param mouseEvent The mouse event containing the mouse's new location.
+     */
+    private void updateMouseLocation(MouseEvent mouseEvent) {
+        Scratch scratch = Scratch.get();
+        int mark = scratch.mark();
+        try {
+            Pointf resolutionScale = FastJEngine.getDisplay().getResolutionScale(scratch.point());
+            mouseLocation.set(mouseEvent.getX() / resolutionScale.x, mouseEvent.getY() / resolutionScale.y);
+        } finally {
+            scratch.release(mark);
+        }
+    }
+
+    /**
+     * Makes a {@code MouseAction} recent for the fixed updates in the next 50 milliseconds, unless it already is.
+     *
+     * @param e The {@code MouseAction} to make recent.
+     */
+    private void startAction(MouseAction e) {
+        if (recentActionUpdates[e.ordinal()] == 0) {
+            recentActionUpdates[e.ordinal()] = updatesIn(RecentActionNanos);
+        }
+    }
+
+    /**
+     * Gets the amount of fixed updates the current game runs in the specified time, rounded up to at least one.
+     *
+     * @param nanos The time, in nanoseconds.
+     * @return The amount of fixed updates.
+     */
+    private static int updatesIn(long nanos) {
+        EngineContext context = EngineContext.current();
+        int ups = context != null ? context.getTargetUPS() : FastJEngine.DefaultUPS;
+        return Math.max(1, (int) Math.ceil(nanos * (double) ups / 1_000_000_000d));
+    }
+
+    /** Clears the state of the {@code Mouse}. */
+    private void clear() {
+        buttonLastPressed = -1;
+        buttonLastReleased = -1;
+        buttonLastClicked = -1;
+        lastScrollDirection = 0;
+        currentlyOnScreen = false;
+
+        mouseButtons.clear();
+        Arrays.fill(recentActionUpdates, 0);
+        mouseLocation.reset();
     }
 
     /** Private class to store the value of a mouse button, and whether it is currently pressed. */
@@ -19,11 +19,5 @@ public enum MouseAction {
     /** Mouse action where the mouse has moved onto the {@link Display}. */
     ENTER,
     /** Mouse action where the mouse has moved off of the {@link Display}. */
-    EXIT;
-
-    boolean recentAction;
-
-    MouseAction() {
-        recentAction = false;
-    }
+    EXIT
 }
@@ -0,0 +1,71 @@
+package io.github.lucasstarsz.fastj.systems.profiling;
+
+import java.awt.Color;
+
+/**
+ * The phases of a frame timed by the {@link Profiler}.
+ * <p>
+ * The top-level phases -- {@link #INPUT}, {@link #UPDATE}, {@link #RENDER}, and {@link #SYNC} -- follow one another, and
+ * together make up the frame. The other phases are parts of a top-level phase, which is their {@link #getParent()
+ * parent}.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public enum ProfilePhase {
+    /** Processing the input events received since the last frame. */
+    INPUT("Input", null, new Color(0x4E79A7)),
+    /** Running the frame's updates. */
+    UPDATE("Update", null, new Color(0x59A14F)),
+    /** The current scene's {@code update} method, as part of {@link #UPDATE}. */
+    SCENE_UPDATE("Scene update", UPDATE, new Color(0x8CD17D)),
+    /** The game objects' behaviors, as part of {@link #UPDATE}. */
+    BEHAVIORS("Behaviors", UPDATE, new Color(0xB6992D)),
+    /** Rendering the frame and showing it on screen. */
+    RENDER("Render", null, new Color(0xE15759)),
+    /** Checking which drawables are on screen, as part of {@link #RENDER}. */
+    CULLING("Culling", RENDER, new Color(0xFF9D9A)),
+    /** Drawing the drawables on screen, as part of {@link #RENDER}. */
+    DRAW("Draw", RENDER, new Color(0xF28E2B)),
+    /** Showing the drawn frame on screen, as part of {@link #RENDER}. */
+    PRESENT("Present", RENDER, new Color(0xB07AA1)),
+    /** Waiting for the next frame. */
+    SYNC("Sync", null, new Color(0x79706E));
+
+    private final String displayName;
+    private final ProfilePhase parent;
+    private final Color color;
+
+    ProfilePhase(String displayName, ProfilePhase parent, Color color) {
+        this.displayName = displayName;
+        this.parent = parent;
+        this.color = color;
+    }
+
+    /**
+     * Gets the name of the phase, as shown on the profiler overlay.
+     *
+     * @return The phase's display name.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Gets the top-level phase this phase is part of.
+     *
+     * @return The parent phase, or {@code null} if this is a top-level phase.
+     */
+    public ProfilePhase getParent() {
+        return parent;
+    }
+
+    /**
+     * Gets the color the phase is drawn with on the profiler overlay.
+     *
+     * @return The phase's color.
+     */
+    public Color getColor() {
+        return color;
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.lucasstarsz.fastj.systems.profiling;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The timings a {@link Profiler} gathered over a number of frames, averaged per frame.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public final class ProfileReport {
+
+    private final int frameCount;
+    private final long frameNanos;
+    private final long worstFrameNanos;
+    private final long[] phaseNanos;
+    private final List<Entry> behaviors;
+    private final List<Entry> drawables;
+    private final double visibleCount;
+    private final double culledCount;
+
+    ProfileReport(int frameCount, long frameNanos, long worstFrameNanos, long[] phaseNanos, List<Entry> behaviors, List<Entry> drawables, double visibleCount, double culledCount) {
+        this.frameCount = frameCount;
+        this.frameNanos = frameNanos;
+        this.worstFrameNanos = worstFrameNanos;
+        this.phaseNanos = phaseNanos;
+        this.behaviors = Collections.unmodifiableList(behaviors);
+        this.drawables = Collections.unmodifiableList(drawables);
+        this.visibleCount = visibleCount;
+        this.culledCount = culledCount;
+    }
+
+    /**
+     * Gets the amount of frames the report covers.
+     *
+     * @return The report's frame count.
+     */
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Gets the average length of a frame.
+     *
+     * @return The average frame time, in nanoseconds.
+     */
+    public long getFrameNanos() {
+        return frameNanos;
+    }
+
+    /**
+     * Gets the length of the longest frame.
+     *
+     * @return The worst frame time, in nanoseconds.
+     */
+    public long getWorstFrameNanos() {
+        return worstFrameNanos;
+    }
+
+    /**
+     * Gets the average time spent in the specified phase per frame.
+     *
+     * @param phase The phase to get the time of.
+     * @return The average phase time, in nanoseconds.
+     */
+    public long getPhaseNanos(ProfilePhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * Gets the average time spent updating each type of {@code Behavior} per frame, from the most to the least time.
+     *
+     * @return An unmodifiable list of behavior timings.
+     */
+    public List<Entry> getBehaviors() {
+        return behaviors;
+    }
+
+    /**
+     * Gets the average time spent rendering each type of {@code Drawable} per frame, from the most to the least time.
+     * <p>
+     * Game objects with children are counted as the type of the topmost parent, along with all their children.
+     *
+     * @return An unmodifiable list of drawable timings.
+     */
+    public List<Entry> getDrawables() {
+        return drawables;
+    }
+
+    /**
+     * Gets the average amount of drawables found on screen per frame.
+     *
+     * @return The average visible drawable count.
+     */
+    public double getVisibleCount() {
+        return visibleCount;
+    }
+
+    /**
+     * Gets the average amount of drawables found off screen, and so skipped, per frame.
+     *
+     * @return The average culled drawable count.
+     */
+    public double getCulledCount() {
+        return culledCount;
+    }
+
+    /** The time spent on one type of behavior or drawable. */
+    public static final class Entry {
+
+        private final String name;
+        private final long nanos;
+        private final double count;
+
+        Entry(String name, long nanos, double count) {
+            this.name = name;
+            this.nanos = nanos;
+            this.count = count;
+        }
+
+        /**
+         * Gets the name of the type.
+         *
+         * @return The type's name.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the average time spent on the type per frame.
+         *
+         * @return The average time, in nanoseconds.
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * Gets the average amount of times the type was updated or rendered per frame.
+         *
+         * @return The average call count.
+         */
+        public double getCount() {
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            return "Entry{" +
+                    "name='" + name + '\'' +
+                    ", nanos=" + nanos +
+                    ", count=" + count +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package io.github.lucasstarsz.fastj.systems.profiling;
+
+import io.github.lucasstarsz.fastj.engine.CrashMessages;
+import io.github.lucasstarsz.fastj.engine.EngineContext;
+import io.github.lucasstarsz.fastj.engine.FastJEngine;
+
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Opt-in profiler which times each {@link ProfilePhase phase} of the game's frames, the update time of each type of
+ * {@code Behavior}, and the render time of each type of {@code Drawable}.
+ * <p>
+ * Each game has its own profiler, which is disabled until it is {@link #setEnabled(boolean) enabled}. Every
+ * {@link #getReportInterval() few frames}, the timings gathered are averaged into a {@link ProfileReport}, which can be
+ * read through {@link #getReport()} or drawn over the game as an overlay of flame bars and the most expensive types:
+ * <pre>{@code
+ * Profiler profiler = FastJEngine.getProfiler();
+ * profiler.setEnabled(true);
+ * profiler.setShowingOverlay(true);
+ * }</pre>
+ * While no profiler is enabled, the engine skips all timing -- checking {@link #active()} is all profiling costs.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public class Profiler {
+
+    /** The default amount of frames averaged into each report: {@code 30}. */
+    public static final int DefaultReportInterval = 30;
+    /** The default amount of behavior and drawable types listed on the overlay: {@code 5}. */
+    public static final int DefaultTopCount = 5;
+
+    private static final ProfilePhase[] Phases = ProfilePhase.values();
+    private static final AtomicInteger EnabledProfilers = new AtomicInteger();
+
+    private final long[] phaseNanos;
+    private final Map<Class<?>, long[]> behaviorTimes;
+    private final Map<Class<?>, long[]> drawableTimes;
+    private final ProfilerOverlay overlay;
+
+    private volatile boolean isEnabled;
+    private boolean isShowingOverlay;
+    private int reportInterval;
+    private int topCount;
+
+    private int frameCount;
+    private long frameNanos;
+    private long worstFrameNanos;
+    private long visibleCount;
+    private long culledCount;
+    private volatile ProfileReport report;
+
+    /** Constructs a disabled {@code Profiler}. */
+    public Profiler() {
+        phaseNanos = new long[Phases.length];
+        behaviorTimes = new HashMap<>();
+        drawableTimes = new HashMap<>();
+        overlay = new ProfilerOverlay();
+
+        reportInterval = DefaultReportInterval;
+        topCount = DefaultTopCount;
+    }
+
+    /**
+     * Gets the profiler of the current thread's game, if it is enabled.
+     * <p>
+     * Engine code checks this before timing anything, so that profiling costs nothing beyond the check while no
+     * profiler is enabled.
+     *
+     * @return The enabled profiler of the {@link EngineContext#current() current game}, or {@code null} if there is none.
+     */
+    public static Profiler active() {
+        if (EnabledProfilers.get() == 0) {
+            return null;
+        }
+
+        EngineContext context = EngineContext.current();
+        if (context == null) {
+            return null;
+        }
+
+        Profiler profiler = context.getProfiler();
+        return profiler.isEnabled ? profiler : null;
+    }
+
+    /**
+     * Gets whether the profiler is enabled.
+     *
+     * @return Whether the profiler is enabled.
+     */
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Sets whether the profiler is enabled.
+     * <p>
+     * Enabling the profiler starts its timings over.
+     *
+     * @param enable Whether the profiler should be enabled.
+     */
+    public synchronized void setEnabled(boolean enable) {
+        if (enable == isEnabled) {
+            return;
+        }
+
+        if (enable) {
+            clearTimings();
+            EnabledProfilers.incrementAndGet();
+        } else {
+            EnabledProfilers.decrementAndGet();
+        }
+        isEnabled = enable;
+    }
+
+    /**
+     * Gets whether the profiler's latest report is drawn over the game while the profiler is enabled.
+     *
+     * @return Whether the overlay is shown.
+     */
+    public boolean isShowingOverlay() {
+        return isShowingOverlay;
+    }
+
+    /**
+     * Sets whether the profiler's latest report is drawn over the game while the profiler is enabled.
+     *
+     * @param show Whether the overlay should be shown.
+     */
+    public void setShowingOverlay(boolean show) {
+        isShowingOverlay = show;
+    }
+
+    /**
+     * Gets the amount of frames averaged into each report.
+     *
+     * @return The report interval, in frames.
+     */
+    public int getReportInterval() {
+        return reportInterval;
+    }
+
+    /**
+     * Sets the amount of frames averaged into each report.
+     *
+     * @param frames The report interval, in frames.
+     */
+    public void setReportInterval(int frames) {
+        if (frames < 1) {
+            FastJEngine.error(CrashMessages.illegalAction(getClass()), new IllegalArgumentException("The report interval must be at least 1 frame."));
+        }
+
+        reportInterval = frames;
+    }
+
+    /**
+     * Gets the amount of behavior and drawable types listed on the overlay.
+     *
+     * @return The overlay's top type count.
+     */
+    public int getTopCount() {
+        return topCount;
+    }
+
+    /**
+     * Sets the amount of behavior and drawable types listed on the overlay.
+     *
+     * @param count The overlay's top type count.
+     */
+    public void setTopCount(int count) {
+        if (count < 0) {
+            FastJEngine.error(CrashMessages.illegalAction(getClass()), new IllegalArgumentException("The top count must be at least 0."));
+        }
+
+        topCount = count;
+    }
+
+    /**
+     * Gets the latest report of the profiler's timings.
+     *
+     * @return The latest {@code ProfileReport}, or {@code null} if the profiler has not gathered a full report yet.
+     */
+    public ProfileReport getReport() {
+        return report;
+    }
+
+    /**
+     * Adds the time since the specified start to the specified phase.
+     *
+     * @param phase      The phase to add the time to.
+     * @param phaseStart The time the phase started, as given by {@code System.nanoTime()}.
+     * @return The current time, which the next phase starts at.
+     */
+    public long mark(ProfilePhase phase, long phaseStart) {
+        long now = System.nanoTime();
+        phaseNanos[phase.ordinal()] += now - phaseStart;
+        return now;
+    }
+
+    /**
+     * Adds the specified time to the update time of the specified type of behavior.
+     *
+     * @param behaviorType The type of behavior updated.
+     * @param nanos        The time the update took, in nanoseconds.
+     */
+    public void recordBehavior(Class<?> behaviorType, long nanos) {
+        phaseNanos[ProfilePhase.BEHAVIORS.ordinal()] += nanos;
+        addTime(behaviorTimes, behaviorType, nanos);
+    }
+
+    /**
+     * Adds the specified time to the render time of the specified type of drawable.
+     *
+     * @param drawableType The type of drawable rendered.
+     * @param nanos        The time the render took, in nanoseconds.
+     */
+    public void recordDrawable(Class<?> drawableType, long nanos) {
+        phaseNanos[ProfilePhase.DRAW.ordinal()] += nanos;
+        addTime(drawableTimes, drawableType, nanos);
+    }
+
+    /**
+     * Counts a check of whether a drawable is on screen, adding its time to the culling time.
+     *
+     * @param isVisible Whether the drawable was found on screen.
+     * @param nanos     The time the check took, in nanoseconds.
+     */
+    public void recordCulling(boolean isVisible, long nanos) {
+        phaseNanos[ProfilePhase.CULLING.ordinal()] += nanos;
+        if (isVisible) {
+            visibleCount++;
+        } else {
+            culledCount++;
+        }
+    }
+
+    /**
+     * Ends the current frame, producing a new report once enough frames have been gathered.
+     *
+     * @param frameStart The time the frame started, as given by {@code System.nanoTime()}.
+     */
+    public void endFrame(long frameStart) {
+        long frameTime = System.nanoTime() - frameStart;
+        frameNanos += frameTime;
+        worstFrameNanos = Math.max(worstFrameNanos, frameTime);
+
+        if (++frameCount >= reportInterval) {
+            report = createReport();
+            clearTimings();
+        }
+    }
+
+    /**
+     * Draws the latest report over the game, if the overlay is shown and there is a report to draw.
+     *
+     * @param g The {@code Graphics2D} to draw to, in screen space.
+     */
+    public void drawOverlay(Graphics2D g) {
+        ProfileReport latestReport = report;
+        if (isShowingOverlay && latestReport != null) {
+            overlay.draw(g, latestReport, topCount);
+        }
+    }
+
+    private ProfileReport createReport() {
+        long[] averagePhaseNanos = new long[phaseNanos.length];
+        for (int i = 0; i < phaseNanos.length; i++) {
+            averagePhaseNanos[i] = phaseNanos[i] / frameCount;
+        }
+
+        return new ProfileReport(
+                frameCount,
+                frameNanos / frameCount,
+                worstFrameNanos,
+                averagePhaseNanos,
+                entriesOf(behaviorTimes),
+                entriesOf(drawableTimes),
+                (double) visibleCount / frameCount,
+                (double) culledCount / frameCount
+        );
+    }
+
+    private List<ProfileReport.Entry> entriesOf(Map<Class<?>, long[]> times) {
+        List<ProfileReport.Entry> entries = new ArrayList<>(times.size());
+        for (Map.Entry<Class<?>, long[]> time : times.entrySet()) {
+            long[] nanosAndCount = time.getValue();
+            entries.add(new ProfileReport.Entry(nameOf(time.getKey()), nanosAndCount[0] / frameCount, (double) nanosAndCount[1] / frameCount));
+        }
+
+        entries.sort(Comparator.comparingLong(ProfileReport.Entry::getNanos).reversed());
+        return entries;
+    }
+
+    private void clearTimings() {
+        Arrays.fill(phaseNanos, 0L);
+        behaviorTimes.clear();
+        drawableTimes.clear();
+        frameCount = 0;
+        frameNanos = 0L;
+        worstFrameNanos = 0L;
+        visibleCount = 0L;
+        culledCount = 0L;
+    }
+
+    private static void addTime(Map<Class<?>, long[]> times, Class<?> type, long nanos) {
+        long[] nanosAndCount = times.computeIfAbsent(type, t -> new long[2]);
+        nanosAndCount[0] += nanos;
+        nanosAndCount[1]++;
+    }
+
+    /** Gets a short name for the specified type -- its simple name, or for anonymous classes, its name sans package. */
+    private static String nameOf(Class<?> type) {
+        String simpleName = type.getSimpleName();
+        if (!simpleName.isEmpty()) {
+            return simpleName;
+        }
+
+        String name = type.getName();
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,165 @@
+package io.github.lucasstarsz.fastj.systems.profiling;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Draws a {@link ProfileReport} as flame bars of the frame's phases, followed by the behavior and drawable types that
+ * took the most time.
+ * <p>
+ * The report's text is only formatted when the report changes, so drawing the overlay is a handful of rectangles and
+ * strings per frame.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+final class ProfilerOverlay {
+
+    private static final ProfilePhase[] Phases = ProfilePhase.values();
+
+    private static final Font OverlayFont = new Font(Font.MONOSPACED, Font.PLAIN, 11);
+    private static final Color BackgroundColor = new Color(0, 0, 0, 170);
+    private static final Color TextColor = Color.white;
+
+    private static final int Margin = 8;
+    private static final int Padding = 6;
+    private static final int BarWidth = 300;
+    private static final int BarHeight = 10;
+    private static final int LineHeight = 13;
+
+    private final List<String> phaseLines = new ArrayList<>();
+    private final List<Color> phaseColors = new ArrayList<>();
+    private final List<String> topLines = new ArrayList<>();
+
+    private ProfileReport formattedReport;
+    private int formattedTopCount;
+    private String header;
+
+    /**
+     * Draws the specified report.
+     *
+     * @param g        The {@code Graphics2D} to draw to, in screen space.
+     * @param report   The report to draw.
+     * @param topCount The amount of behavior and drawable types to list.
+     */
+    void draw(Graphics2D g, ProfileReport report, int topCount) {
+        if (report != formattedReport || topCount != formattedTopCount) {
+            format(report, topCount);
+        }
+
+        Font oldFont = g.getFont();
+        Color oldColor = g.getColor();
+
+        int lineCount = 1 + phaseLines.size() + topLines.size();
+        int height = Padding * 2 + BarHeight * 2 + Padding + lineCount * LineHeight;
+        g.setColor(BackgroundColor);
+        g.fillRect(Margin, Margin, BarWidth + Padding * 2, height);
+
+        int x = Margin + Padding;
+        int y = Margin + Padding;
+        g.setFont(OverlayFont);
+        g.setColor(TextColor);
+        g.drawString(header, x, y + LineHeight - 3);
+        y += LineHeight;
+
+        drawFlameBars(g, report, x, y);
+        y += BarHeight * 2 + Padding;
+
+        for (int i = 0; i < phaseLines.size(); i++) {
+            g.setColor(phaseColors.get(i));
+            g.fillRect(x, y + 3, 7, 7);
+            g.setColor(TextColor);
+            g.drawString(phaseLines.get(i), x + 11, y + LineHeight - 3);
+            y += LineHeight;
+        }
+
+        for (String line : topLines) {
+            g.drawString(line, x, y + LineHeight - 3);
+            y += LineHeight;
+        }
+
+        g.setColor(oldColor);
+        g.setFont(oldFont);
+    }
+
+    /** Draws the top-level phases on the first row, and the phases they are made of beneath them. */
+    private void drawFlameBars(Graphics2D g, ProfileReport report, int x, int y) {
+        long totalNanos = 0L;
+        for (ProfilePhase phase : Phases) {
+            if (phase.getParent() == null) {
+                totalNanos += report.getPhaseNanos(phase);
+            }
+        }
+        totalNanos = Math.max(Math.max(totalNanos, report.getFrameNanos()), 1L);
+
+        int parentX = x;
+        for (ProfilePhase parent : Phases) {
+            if (parent.getParent() != null) {
+                continue;
+            }
+
+            int parentWidth = (int) (report.getPhaseNanos(parent) * BarWidth / totalNanos);
+            g.setColor(parent.getColor());
+            g.fillRect(parentX, y, parentWidth, BarHeight);
+
+            int childX = parentX;
+            for (ProfilePhase child : Phases) {
+                if (child.getParent() != parent) {
+                    continue;
+                }
+
+                int childWidth = (int) Math.min(report.getPhaseNanos(child) * BarWidth / totalNanos, parentX + parentWidth - childX);
+                g.setColor(child.getColor());
+                g.fillRect(childX, y + BarHeight, childWidth, BarHeight);
+                childX += childWidth;
+            }
+
+            parentX += parentWidth;
+        }
+    }
+
+    private void format(ProfileReport report, int topCount) {
+        formattedReport = report;
+        formattedTopCount = topCount;
+
+        header = String.format("Frame %.2f ms (worst %.2f) | %.0f visible, %.0f culled",
+                millisOf(report.getFrameNanos()), millisOf(report.getWorstFrameNanos()),
+                report.getVisibleCount(), report.getCulledCount());
+
+        phaseLines.clear();
+        phaseColors.clear();
+        for (ProfilePhase phase : Phases) {
+            long nanos = report.getPhaseNanos(phase);
+            if (nanos == 0L) {
+                continue;
+            }
+
+            String indent = phase.getParent() != null ? "  " : "";
+            phaseLines.add(String.format("%-16s %7.2f ms", indent + phase.getDisplayName(), millisOf(nanos)));
+            phaseColors.add(phase.getColor());
+        }
+
+        topLines.clear();
+        addTopLines("Behaviors", report.getBehaviors(), topCount);
+        addTopLines("Drawables", report.getDrawables(), topCount);
+    }
+
+    private void addTopLines(String title, List<ProfileReport.Entry> entries, int topCount) {
+        if (entries.isEmpty() || topCount == 0) {
+            return;
+        }
+
+        topLines.add(title);
+        for (int i = 0; i < Math.min(topCount, entries.size()); i++) {
+            ProfileReport.Entry entry = entries.get(i);
+            topLines.add(String.format("  %-22.22s %6.2f ms x%.0f", entry.getName(), millisOf(entry.getNanos()), entry.getCount()));
+        }
+    }
+
+    private static double millisOf(long nanos) {
+        return nanos / 1_000_000d;
+    }
+}
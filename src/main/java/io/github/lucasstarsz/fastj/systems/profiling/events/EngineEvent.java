@@ -0,0 +1,77 @@
+package io.github.lucasstarsz.fastj.systems.profiling.events;
+
+import io.github.lucasstarsz.fastj.engine.EngineContext;
+import io.github.lucasstarsz.fastj.systems.control.LogicManager;
+import io.github.lucasstarsz.fastj.systems.control.Scene;
+
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Base of the Java Flight Recorder events the engine emits, describing the game the event happened in.
+ * <p>
+ * The engine only fills in an event's fields once the event {@link #shouldCommit() should be committed}, so while no
+ * recording is running, each event costs little more than the check.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public abstract class EngineEvent extends Event {
+
+    /** The name of the game's current scene. */
+    @Label("Scene")
+    public String scene;
+
+    /** The amount of game objects in the current scene. */
+    @Label("Game Objects")
+    public int gameObjects;
+
+    /** The amount of UI elements in the current scene. */
+    @Label("UI Elements")
+    public int uiElements;
+
+    /** The amount of frames the game started so far. */
+    @Label("Frame")
+    public long frame;
+
+    /** The amount of fixed updates the game ran so far. */
+    @Label("Tick")
+    public long tick;
+
+    /**
+     * Fills in the event's description of the game.
+     *
+     * @param currentScene The game's current scene, or {@code null} if there is none.
+     * @param frame        The amount of frames the game started so far.
+     * @param tick         The amount of fixed updates the game ran so far.
+     */
+    public void describe(Scene currentScene, long frame, long tick) {
+        if (currentScene != null) {
+            scene = currentScene.getSceneName();
+            gameObjects = currentScene.drawableManager.getGameObjects().size();
+            uiElements = currentScene.drawableManager.getGUIObjects().size();
+        }
+
+        this.frame = frame;
+        this.tick = tick;
+    }
+
+    /**
+     * Fills in the event's description of the {@link EngineContext#running() game running on the current thread}, if
+     * there is one.
+     * <p>
+     * Events emitted from other threads, such as a model loaded on a loader thread, are left without a description, as
+     * the game's scenes may only be read from its own thread.
+     */
+    public void describeCurrentGame() {
+        EngineContext context = EngineContext.running();
+        if (context == null) {
+            return;
+        }
+
+        LogicManager logicManager = context.getLogicManager();
+        if (logicManager != null) {
+            describe(logicManager.getCurrentScene(), context.getFrameCount(), context.getTickCount());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.lucasstarsz.fastj.systems.profiling.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One fixed update of the game's current scene and its behaviors.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+@Name("fastj.FixedUpdate")
+@Label("Fixed Update")
+@Category({"FastJ", "Engine"})
+@Description("One fixed update of the game's current scene and its behaviors.")
+@StackTrace(false)
+public final class FixedUpdateEvent extends EngineEvent {
+}
@@ -0,0 +1,25 @@
+package io.github.lucasstarsz.fastj.systems.profiling.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A frame of the game, from processing its input to waiting for the next frame.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+@Name("fastj.Frame")
+@Label("Frame")
+@Category({"FastJ", "Engine"})
+@Description("A frame of the game, from processing its input to waiting for the next frame.")
+@StackTrace(false)
+public final class FrameEvent extends EngineEvent {
+
+    /** The amount of fixed updates run during the frame. */
+    @Label("Updates")
+    public int updates;
+}
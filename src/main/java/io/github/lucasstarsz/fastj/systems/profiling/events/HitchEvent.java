@@ -0,0 +1,54 @@
+package io.github.lucasstarsz.fastj.systems.profiling.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A frame which took longer than the game's hitch budget, with the time spent in each of its phases.
+ * <p>
+ * Unlike the other engine events, this event is only committed for slow frames, so it can be left enabled to capture
+ * hitches without recording every frame.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+@Name("fastj.Hitch")
+@Label("Hitch")
+@Category({"FastJ", "Engine"})
+@Description("A frame which took longer than the game's hitch budget, with the time spent in each of its phases.")
+@StackTrace(false)
+public final class HitchEvent extends EngineEvent {
+
+    /** The longest a frame may take before it is a hitch. */
+    @Label("Budget")
+    @Timespan(Timespan.NANOSECONDS)
+    public long budget;
+
+    /** The time spent processing input. */
+    @Label("Input Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long inputTime;
+
+    /** The time spent running fixed updates. */
+    @Label("Update Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long updateTime;
+
+    /** The time spent rendering and showing the frame. */
+    @Label("Render Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long renderTime;
+
+    /** The time spent waiting for the next frame. */
+    @Label("Sync Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long syncTime;
+
+    /** The amount of fixed updates run during the frame. */
+    @Label("Updates")
+    public int updates;
+}
@@ -0,0 +1,21 @@
+package io.github.lucasstarsz.fastj.systems.profiling.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Processing the input events the game received since the last frame.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+@Name("fastj.InputProcessing")
+@Label("Input Processing")
+@Category({"FastJ", "Engine"})
+@Description("Processing the input events the game received since the last frame.")
+@StackTrace(false)
+public final class InputProcessingEvent extends EngineEvent {
+}
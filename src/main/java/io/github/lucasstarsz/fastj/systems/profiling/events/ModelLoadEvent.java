@@ -0,0 +1,27 @@
+package io.github.lucasstarsz.fastj.systems.profiling.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Loading a model from a {@code .psdf} file.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+@Name("fastj.ModelLoad")
+@Label("Model Load")
+@Category({"FastJ", "Resources"})
+@Description("Loading a model from a .psdf file.")
+public final class ModelLoadEvent extends EngineEvent {
+
+    /** The location of the model file. */
+    @Label("File Location")
+    public String fileLocation;
+
+    /** The amount of polygons in the loaded model. */
+    @Label("Polygons")
+    public int polygons;
+}
@@ -0,0 +1,25 @@
+package io.github.lucasstarsz.fastj.systems.profiling.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Showing a rendered frame on screen.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+@Name("fastj.Present")
+@Label("Present")
+@Category({"FastJ", "Engine"})
+@Description("Showing a rendered frame on screen.")
+@StackTrace(false)
+public final class PresentEvent extends EngineEvent {
+
+    /** The amount of times the frame was drawn again because its drawing buffer's contents were lost. */
+    @Label("Redraws")
+    public int redraws;
+}
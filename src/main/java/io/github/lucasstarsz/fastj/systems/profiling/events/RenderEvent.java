@@ -0,0 +1,21 @@
+package io.github.lucasstarsz.fastj.systems.profiling.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Rendering a frame of the game's current scene, including showing it on screen.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+@Name("fastj.Render")
+@Label("Render")
+@Category({"FastJ", "Engine"})
+@Description("Rendering a frame of the game's current scene, including showing it on screen.")
+@StackTrace(false)
+public final class RenderEvent extends EngineEvent {
+}
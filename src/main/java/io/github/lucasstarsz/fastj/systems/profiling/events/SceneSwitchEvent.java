@@ -0,0 +1,29 @@
+package io.github.lucasstarsz.fastj.systems.profiling.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Switching the game to another scene, including loading that scene if necessary.
+ * <p>
+ * The event's {@link #scene} is the scene switched to.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+@Name("fastj.SceneSwitch")
+@Label("Scene Switch")
+@Category({"FastJ", "Engine"})
+@Description("Switching the game to another scene, including loading that scene if necessary.")
+public final class SceneSwitchEvent extends EngineEvent {
+
+    /** The name of the scene switched from. */
+    @Label("Previous Scene")
+    public String previousScene;
+
+    /** Whether the scene switched to was loaded as part of the switch. */
+    @Label("Loaded")
+    public boolean loaded;
+}
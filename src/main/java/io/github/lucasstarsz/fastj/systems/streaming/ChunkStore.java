@@ -0,0 +1,38 @@
+package io.github.lucasstarsz.fastj.systems.streaming;
+
+import io.github.lucasstarsz.fastj.graphics.game.Model2D;
+
+import java.util.List;
+
+/**
+ * Storage for the contents of the chunks of a {@link ChunkedWorld}.
+ * <p>
+ * A {@code ChunkedWorld} calls these methods from its loading thread, never from the game thread. Calls are made one at
+ * a time, in the order the world requests them -- so a chunk that is saved and then loaded again will always load what
+ * was saved.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public interface ChunkStore {
+
+    /**
+     * Loads the contents of the specified chunk.
+     *
+     * @param chunkX The x coordinate of the chunk.
+     * @param chunkY The y coordinate of the chunk.
+     * @return The models in the chunk, or an empty list if the chunk has no contents.
+     * @throws Exception if the chunk's contents could not be loaded.
+     */
+    List<Model2D> loadChunk(int chunkX, int chunkY) throws Exception;
+
+    /**
+     * Saves the contents of the specified chunk, replacing whatever was previously saved for it.
+     *
+     * @param chunkX The x coordinate of the chunk.
+     * @param chunkY The y coordinate of the chunk.
+     * @param models The models in the chunk.
+     * @throws Exception if the chunk's contents could not be saved.
+     */
+    void saveChunk(int chunkX, int chunkY, List<Model2D> models) throws Exception;
+}
@@ -0,0 +1,515 @@
+package io.github.lucasstarsz.fastj.systems.streaming;
+
+import io.github.lucasstarsz.fastj.engine.CrashMessages;
+import io.github.lucasstarsz.fastj.engine.FastJEngine;
+import io.github.lucasstarsz.fastj.graphics.Display;
+import io.github.lucasstarsz.fastj.graphics.game.Model2D;
+import io.github.lucasstarsz.fastj.math.Point;
+import io.github.lucasstarsz.fastj.math.Pointf;
+import io.github.lucasstarsz.fastj.systems.control.Scene;
+
+import java.awt.geom.AffineTransform;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A world split into a grid of square chunks, which are streamed in and out of a {@link Scene} as its camera moves.
+ * <p>
+ * Rather than creating every game object of a level in {@link Scene#load(Display)}, a scene can keep its world in a
+ * {@link ChunkStore}, and call {@link #update(Display)} from its {@link Scene#update(Display) update method}:
+ * <pre>{@code
+ * world = new ChunkedWorld(this, new PsdfChunkStore(Paths.get("levels/overworld")), 512f);
+ * world.setPrefetchRadius(2);
+ * }</pre>
+ * Each update, the chunks covering the camera's view -- plus a {@link #setPrefetchRadius(int) prefetch radius} of
+ * chunks around it -- are requested. Requested chunks are loaded on a background thread, and their models are added to
+ * the scene on the game thread during a later update. Chunks that are no longer requested stay loaded until there are
+ * more loaded chunks than the {@link #setMaxLoadedChunks(int) maximum}, at which point the chunks furthest from the
+ * view are evicted -- their models are removed from the scene and, if any of them changed, saved back to the store.
+ * <p>
+ * Models belong to the chunk they were loaded from, even if they move out of it. The view is found from the camera's
+ * translation, ignoring its rotation.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public class ChunkedWorld {
+
+    private static final String ChunkLoadErrorMessage = CrashMessages.theGameCrashed("a world chunk loading error.");
+    private static final String ChunkSaveErrorMessage = CrashMessages.theGameCrashed("a world chunk saving error.");
+
+    /** The default amount of chunks loaded around the view, in each direction: {@code 1}. */
+    public static final int DefaultPrefetchRadius = 1;
+    /** The default maximum amount of chunks kept loaded: {@code 64}. */
+    public static final int DefaultMaxLoadedChunks = 64;
+
+    private final Scene scene;
+    private final ChunkStore store;
+    private final float chunkSize;
+
+    private final Executor loader;
+    private final ExecutorService ownedLoader;
+
+    private final Map<Long, Chunk> chunks;
+    private final Queue<Chunk> completedLoads;
+    private final Queue<Exception> saveErrors;
+    private final List<Chunk> evictionCandidates;
+
+    private int prefetchRadius;
+    private int maxLoadedChunks;
+
+    private int loadedChunkCount;
+    private int pendingLoadCount;
+    private int frame;
+
+    /**
+     * Constructs a {@code ChunkedWorld} for the specified scene, which loads its chunks on its own background thread.
+     *
+     * @param scene     The scene to add the world's models to.
+     * @param store     The store containing the world's chunks.
+     * @param chunkSize The width and height of each chunk, in world units.
+     */
+    public ChunkedWorld(Scene scene, ChunkStore store, float chunkSize) {
+        this(scene, store, chunkSize, null);
+    }
+
+    /**
+     * Constructs a {@code ChunkedWorld} for the specified scene, which loads its chunks using the specified executor.
+     * <p>
+     * The executor must run its tasks one at a time, in the order they were submitted -- such as a single-threaded
+     * executor, or {@code Runnable::run} to load chunks immediately on the game thread.
+     *
+     * @param scene     The scene to add the world's models to.
+     * @param store     The store containing the world's chunks.
+     * @param chunkSize The width and height of each chunk, in world units.
+     * @param loader    The executor to load and save chunks with, or {@code null} to use the world's own background
+     *                  thread.
+     */
+    public ChunkedWorld(Scene scene, ChunkStore store, float chunkSize, Executor loader) {
+        if (chunkSize <= 0f) {
+            FastJEngine.error(CrashMessages.illegalAction(ChunkedWorld.class), new IllegalArgumentException("The chunk size must be larger than 0, but was " + chunkSize + "."));
+        }
+
+        this.scene = scene;
+        this.store = store;
+        this.chunkSize = chunkSize;
+
+        if (loader == null) {
+            ownedLoader = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "FastJ chunk loader");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.loader = ownedLoader;
+        } else {
+            ownedLoader = null;
+            this.loader = loader;
+        }
+
+        chunks = new HashMap<>();
+        completedLoads = new ConcurrentLinkedQueue<>();
+        saveErrors = new ConcurrentLinkedQueue<>();
+        evictionCandidates = new ArrayList<>();
+
+        prefetchRadius = DefaultPrefetchRadius;
+        maxLoadedChunks = DefaultMaxLoadedChunks;
+    }
+
+    /**
+     * Gets the width and height of each chunk, in world units.
+     *
+     * @return The chunk size.
+     */
+    public float getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Gets the amount of chunks loaded around the view, in each direction.
+     *
+     * @return The prefetch radius.
+     */
+    public int getPrefetchRadius() {
+        return prefetchRadius;
+    }
+
+    /**
+     * Sets the amount of chunks loaded around the view, in each direction.
+     * <p>
+     * Chunks within the prefetch radius are loaded before they come into view, hiding the time taken to load them.
+     *
+     * @param prefetchRadius The new prefetch radius.
+     * @return The {@code ChunkedWorld}, for method chaining.
+     */
+    public ChunkedWorld setPrefetchRadius(int prefetchRadius) {
+        this.prefetchRadius = Math.max(prefetchRadius, 0);
+        return this;
+    }
+
+    /**
+     * Gets the maximum amount of chunks kept loaded.
+     *
+     * @return The maximum amount of loaded chunks.
+     */
+    public int getMaxLoadedChunks() {
+        return maxLoadedChunks;
+    }
+
+    /**
+     * Sets the maximum amount of chunks kept loaded, limiting how much of the world is held in memory.
+     * <p>
+     * Chunks in or around the view are never evicted, so if they alone are more than the maximum, they are all kept
+     * loaded regardless.
+     *
+     * @param maxLoadedChunks The new maximum amount of loaded chunks.
+     * @return The {@code ChunkedWorld}, for method chaining.
+     */
+    public ChunkedWorld setMaxLoadedChunks(int maxLoadedChunks) {
+        this.maxLoadedChunks = Math.max(maxLoadedChunks, 1);
+        return this;
+    }
+
+    /**
+     * Gets the amount of chunks whose models are in the scene.
+     *
+     * @return The amount of loaded chunks.
+     */
+    public int getLoadedChunkCount() {
+        return loadedChunkCount;
+    }
+
+    /**
+     * Gets the amount of chunks that have been requested, but whose models are not in the scene yet.
+     *
+     * @return The amount of pending chunks.
+     */
+    public int getPendingLoadCount() {
+        return pendingLoadCount;
+    }
+
+    /**
+     * Checks whether the models of the specified chunk are in the scene.
+     *
+     * @param chunkX The x coordinate of the chunk.
+     * @param chunkY The y coordinate of the chunk.
+     * @return Whether the chunk is loaded.
+     */
+    public boolean isLoaded(int chunkX, int chunkY) {
+        Chunk chunk = chunks.get(keyOf(chunkX, chunkY));
+        return chunk != null && chunk.models != null;
+    }
+
+    /**
+     * Gets the models of the specified chunk.
+     *
+     * @param chunkX The x coordinate of the chunk.
+     * @param chunkY The y coordinate of the chunk.
+     * @return The chunk's models, or an empty list if the chunk is not loaded.
+     */
+    public List<Model2D> getModels(int chunkX, int chunkY) {
+        Chunk chunk = chunks.get(keyOf(chunkX, chunkY));
+        return (chunk == null || chunk.models == null) ? List.of() : chunk.models;
+    }
+
+    /**
+     * Gets the coordinate of the chunk containing the specified world location, along one axis.
+     *
+     * @param location The world location, along either axis.
+     * @return The chunk coordinate.
+     */
+    public int chunkOf(float location) {
+        return (int) Math.floor(location / chunkSize);
+    }
+
+    /**
+     * Streams chunks in and out of the scene, based on the view of the scene's camera.
+     * <p>
+     * This must be called from the game thread, usually once in each call to the scene's {@code update} method.
+     *
+     * @param display The {@code Display} the scene is shown on.
+     */
+    public void update(Display display) {
+        Pointf cameraTranslation = scene.getCamera().getTranslation();
+        Point viewSize = display.getInternalResolution();
+        update(-cameraTranslation.x, -cameraTranslation.y, viewSize.x, viewSize.y);
+    }
+
+    /**
+     * Streams chunks in and out of the scene, based on the specified view of the world.
+     * <p>
+     * This must be called from the game thread.
+     *
+     * @param viewX      The x location of the view, in world units.
+     * @param viewY      The y location of the view, in world units.
+     * @param viewWidth  The width of the view, in world units.
+     * @param viewHeight The height of the view, in world units.
+     */
+    public void update(float viewX, float viewY, float viewWidth, float viewHeight) {
+        reportSaveErrors();
+        frame++;
+
+        int minX = chunkOf(viewX);
+        int minY = chunkOf(viewY);
+        int maxX = chunkOf(viewX + viewWidth);
+        int maxY = chunkOf(viewY + viewHeight);
+
+        // request the visible chunks before the prefetched ones, so that they are loaded first
+        requestChunks(minX, minY, maxX, maxY);
+        requestChunks(minX - prefetchRadius, minY - prefetchRadius, maxX + prefetchRadius, maxY + prefetchRadius);
+
+        cancelUnrequestedLoads();
+        applyCompletedLoads();
+
+        if (loadedChunkCount > maxLoadedChunks) {
+            evictFurthestChunks((minX + maxX) / 2f, (minY + maxY) / 2f);
+        }
+    }
+
+    /**
+     * Removes every loaded chunk from the scene, saving those that changed, and stops loading chunks.
+     * <p>
+     * If the world uses its own background thread, this waits for the chunks to finish saving.
+     */
+    public void close() {
+        for (Chunk chunk : chunks.values()) {
+            if (chunk.models != null) {
+                evict(chunk);
+            }
+        }
+        chunks.clear();
+        completedLoads.clear();
+        loadedChunkCount = 0;
+        pendingLoadCount = 0;
+
+        if (ownedLoader != null) {
+            ownedLoader.shutdown();
+            try {
+                ownedLoader.awaitTermination(10L, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        reportSaveErrors();
+    }
+
+    /**
+     * Requests every chunk in the specified range, starting loads for those that are not loaded or loading.
+     *
+     * @param minX The smallest x coordinate of the chunks, inclusive.
+     * @param minY The smallest y coordinate of the chunks, inclusive.
+     * @param maxX The largest x coordinate of the chunks, inclusive.
+     * @param maxY The largest y coordinate of the chunks, inclusive.
+     */
+    private void requestChunks(int minX, int minY, int maxX, int maxY) {
+        for (int chunkY = minY; chunkY <= maxY; chunkY++) {
+            for (int chunkX = minX; chunkX <= maxX; chunkX++) {
+                long key = keyOf(chunkX, chunkY);
+                Chunk chunk = chunks.get(key);
+
+                if (chunk == null) {
+                    chunk = new Chunk(chunkX, chunkY);
+                    chunks.put(key, chunk);
+                    startLoad(chunk);
+                }
+                chunk.requestedFrame = frame;
+            }
+        }
+    }
+
+    /**
+     * Loads the specified chunk using the loader.
+     *
+     * @param chunk The chunk to load.
+     */
+    private void startLoad(Chunk chunk) {
+        pendingLoadCount++;
+        loader.execute(() -> {
+            try {
+                chunk.loadedModels = store.loadChunk(chunk.x, chunk.y);
+            } catch (Exception e) {
+                chunk.loadError = e;
+            }
+            completedLoads.add(chunk);
+        });
+    }
+
+    /** Forgets chunks that are still loading but no longer requested, so that their models are never added. */
+    private void cancelUnrequestedLoads() {
+        Iterator<Chunk> chunkIterator = chunks.values().iterator();
+        while (chunkIterator.hasNext()) {
+            Chunk chunk = chunkIterator.next();
+            if (chunk.models == null && chunk.requestedFrame != frame) {
+                chunk.cancelled = true;
+                chunkIterator.remove();
+                pendingLoadCount--;
+            }
+        }
+    }
+
+    /** Adds the models of every chunk that finished loading to the scene. */
+    private void applyCompletedLoads() {
+        Chunk chunk;
+        while ((chunk = completedLoads.poll()) != null) {
+            if (chunk.cancelled) {
+                continue;
+            }
+
+            if (chunk.loadError != null) {
+                FastJEngine.error(ChunkLoadErrorMessage, chunk.loadError);
+                return;
+            }
+
+            chunk.models = chunk.loadedModels;
+            chunk.loadedModels = null;
+            chunk.recordState();
+
+            for (Model2D model : chunk.models) {
+                model.addAsGameObject(scene);
+            }
+
+            pendingLoadCount--;
+            loadedChunkCount++;
+        }
+    }
+
+    /**
+     * Evicts the loaded chunks that are not requested, furthest from the specified chunk first, until there are no more
+     * loaded chunks than the maximum.
+     *
+     * @param centerX The x coordinate of the chunk at the center of the view.
+     * @param centerY The y coordinate of the chunk at the center of the view.
+     */
+    private void evictFurthestChunks(float centerX, float centerY) {
+        for (Chunk chunk : chunks.values()) {
+            if (chunk.models != null && chunk.requestedFrame != frame) {
+                float xDistance = chunk.x - centerX;
+                float yDistance = chunk.y - centerY;
+                chunk.distanceSquared = xDistance * xDistance + yDistance * yDistance;
+                evictionCandidates.add(chunk);
+            }
+        }
+
+        evictionCandidates.sort((first, second) -> Float.compare(second.distanceSquared, first.distanceSquared));
+
+        for (int i = 0; i < evictionCandidates.size() && loadedChunkCount > maxLoadedChunks; i++) {
+            Chunk chunk = evictionCandidates.get(i);
+            evict(chunk);
+            chunks.remove(keyOf(chunk.x, chunk.y));
+        }
+
+        evictionCandidates.clear();
+    }
+
+    /**
+     * Removes the models of the specified chunk from the scene, saving them to the store if any of them changed.
+     * <p>
+     * The models are detached from the scene rather than destroyed, so that they can still be saved afterwards. Models
+     * that were destroyed while the chunk was loaded have already left the scene, and are left out of the saved chunk.
+     *
+     * @param chunk The chunk to evict.
+     */
+    private void evict(Chunk chunk) {
+        List<Model2D> models = new ArrayList<>(chunk.models.size());
+        for (Model2D model : chunk.models) {
+            if (model.isDestroyed()) {
+                continue;
+            }
+
+            scene.drawableManager.removeGameObject(model);
+            scene.removeBehaviorListener(model);
+            scene.removeTaggableEntity(model);
+            models.add(model);
+        }
+
+        if (chunk.hasChanged(models)) {
+            loader.execute(() -> {
+                try {
+                    store.saveChunk(chunk.x, chunk.y, models);
+                } catch (Exception e) {
+                    saveErrors.add(e);
+                }
+            });
+        }
+
+        chunk.models = null;
+        loadedChunkCount--;
+    }
+
+    /** Reports the first error that occurred while saving a chunk, if any. */
+    private void reportSaveErrors() {
+        Exception saveError = saveErrors.poll();
+        if (saveError != null) {
+            saveErrors.clear();
+            FastJEngine.error(ChunkSaveErrorMessage, saveError);
+        }
+    }
+
+    private static long keyOf(int chunkX, int chunkY) {
+        return ((long) chunkX << 32) | (chunkY & 0xFFFFFFFFL);
+    }
+
+    /** A chunk of the world, and the state of its models when they were loaded. */
+    private static class Chunk {
+        final int x;
+        final int y;
+
+        /** The models in the scene, or {@code null} if the chunk is still loading. */
+        List<Model2D> models;
+        int requestedFrame;
+        float distanceSquared;
+
+        // written by the loader, and read once the chunk is taken from the completed loads
+        List<Model2D> loadedModels;
+        Exception loadError;
+        volatile boolean cancelled;
+
+        AffineTransform[] loadedTransforms;
+        int[] loadedVersions;
+
+        Chunk(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        /** Records the transforms and appearance of the chunk's models, to check for changes when it is evicted. */
+        void recordState() {
+            loadedTransforms = new AffineTransform[models.size()];
+            loadedVersions = new int[models.size()];
+
+            for (int i = 0; i < models.size(); i++) {
+                loadedTransforms[i] = new AffineTransform(models.get(i).getWorldTransform());
+                loadedVersions[i] = models.get(i).getAppearanceVersion();
+            }
+        }
+
+        /**
+         * Checks whether any of the chunk's models were removed, moved, or changed appearance since they were loaded.
+         *
+         * @param remainingModels The chunk's models which were not destroyed, in their loaded order.
+         * @return Whether the chunk has changed.
+         */
+        boolean hasChanged(List<Model2D> remainingModels) {
+            if (remainingModels.size() != loadedTransforms.length) {
+                return true;
+            }
+
+            for (int i = 0; i < remainingModels.size(); i++) {
+                Model2D model = remainingModels.get(i);
+                if (!model.getWorldTransform().equals(loadedTransforms[i]) || model.getAppearanceVersion() != loadedVersions[i]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package io.github.lucasstarsz.fastj.systems.streaming;
+
+import io.github.lucasstarsz.fastj.graphics.DrawUtil;
+import io.github.lucasstarsz.fastj.graphics.game.Model2D;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A {@link ChunkStore} that keeps each chunk as a directory of {@code .psdf} model files.
+ * <p>
+ * The chunk at {@code (x, y)} is stored in the directory {@code x_y} inside the store's root directory, holding one
+ * file per model -- {@code 0.psdf}, {@code 1.psdf}, and so on. Chunks without a directory are empty, so a world only
+ * needs files for the chunks that have contents.
+ * <p>
+ * Chunks are saved to a separate directory first, which then replaces the chunk's directory. An interrupted save
+ * leaves the chunk's previous contents in place, rather than a mix of old and new model files.
+ * <p>
+ * Models are saved using {@link DrawUtil#writeToPSDF(Path, Model2D)}, which writes each model as it currently appears
+ * in the world -- a saved model loads back with its transform applied to its points.
+ *
+ * @author Andrew Dey
+ * @version 1.0.0
+ */
+public class PsdfChunkStore implements ChunkStore {
+
+    private static final String ModelExtension = ".psdf";
+    private static final String StagingSuffix = ".saving";
+    private static final String PreviousSuffix = ".previous";
+
+    private final Path rootDirectory;
+    private volatile int detailLevelCount;
+
+    /**
+     * Constructs a {@code PsdfChunkStore} that keeps its chunks in the specified directory.
+     *
+     * @param rootDirectory The directory containing the chunk directories.
+     */
+    public PsdfChunkStore(Path rootDirectory) {
+        this.rootDirectory = rootDirectory;
+        this.detailLevelCount = 1;
+    }
+
+    /**
+     * Gets the amount of detail levels generated for each loaded model.
+     *
+     * @return The amount of detail levels, including the models' original polygons.
+     */
+    public int getDetailLevelCount() {
+        return detailLevelCount;
+    }
+
+    /**
+     * Sets the amount of detail levels generated for each loaded model.
+     * <p>
+     * The detail levels are generated as the chunk loads, off of the game thread. See {@link
+     * Model2D#generateDetailLevels(int)}.
+     *
+     * @param detailLevelCount The amount of detail levels, including the models' original polygons.
+     */
+    public void setDetailLevelCount(int detailLevelCount) {
+        this.detailLevelCount = detailLevelCount;
+    }
+
+    /**
+     * Gets the directory containing the chunk directories.
+     *
+     * @return The store's root directory.
+     */
+    public Path getRootDirectory() {
+        return rootDirectory;
+    }
+
+    /**
+     * Gets the directory the specified chunk is stored in.
+     *
+     * @param chunkX The x coordinate of the chunk.
+     * @param chunkY The y coordinate of the chunk.
+     * @return The chunk's directory.
+     */
+    public Path directoryOf(int chunkX, int chunkY) {
+        return rootDirectory.resolve(chunkX + "_" + chunkY);
+    }
+
+    @Override
+    public List<Model2D> loadChunk(int chunkX, int chunkY) throws IOException {
+        List<Model2D> models = new ArrayList<>();
+
+        Path chunkDirectory = directoryOf(chunkX, chunkY);
+        if (!Files.isDirectory(chunkDirectory)) {
+            // a save interrupted while replacing the chunk's directory leaves its previous contents aside
+            chunkDirectory = siblingOf(chunkDirectory, PreviousSuffix);
+            if (!Files.isDirectory(chunkDirectory)) {
+                return models;
+            }
+        }
+
+        for (Path modelFile : modelFilesOf(chunkDirectory)) {
+            Model2D model = new Model2D(DrawUtil.load2DModel(modelFile.toString()));
+            if (detailLevelCount > 1) {
+                model.generateDetailLevels(detailLevelCount);
+            }
+            models.add(model);
+        }
+        return models;
+    }
+
+    @Override
+    public void saveChunk(int chunkX, int chunkY, List<Model2D> models) throws IOException {
+        Path chunkDirectory = directoryOf(chunkX, chunkY);
+        Path stagingDirectory = siblingOf(chunkDirectory, StagingSuffix);
+        Path previousDirectory = siblingOf(chunkDirectory, PreviousSuffix);
+
+        // write the chunk next to its current contents, so the current contents stay intact if the save fails
+        deleteDirectory(stagingDirectory);
+        Files.createDirectories(stagingDirectory);
+        for (int i = 0; i < models.size(); i++) {
+            DrawUtil.writeToPSDF(stagingDirectory.resolve(i + ModelExtension), models.get(i));
+        }
+
+        // then swap it in -- the previous directory replaces any left over by an earlier interrupted save
+        if (Files.isDirectory(chunkDirectory)) {
+            deleteDirectory(previousDirectory);
+            Files.move(chunkDirectory, previousDirectory, StandardCopyOption.ATOMIC_MOVE);
+        }
+        Files.move(stagingDirectory, chunkDirectory, StandardCopyOption.ATOMIC_MOVE);
+        deleteDirectory(previousDirectory);
+    }
+
+    /**
+     * Gets the directory next to the specified chunk directory, with the specified suffix.
+     *
+     * @param chunkDirectory The chunk directory.
+     * @param suffix         The suffix to add to the chunk directory's name.
+     * @return The sibling directory.
+     */
+    private static Path siblingOf(Path chunkDirectory, String suffix) {
+        return chunkDirectory.resolveSibling(chunkDirectory.getFileName() + suffix);
+    }
+
+    /**
+     * Deletes the specified directory and its files, if it exists.
+     * <p>
+     * Chunk directories only contain files, so the directory is not searched any deeper.
+     *
+     * @param directory The directory to delete.
+     * @throws IOException if the directory or one of its files could not be deleted.
+     */
+    private static void deleteDirectory(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    /**
+     * Gets the model files in the specified chunk directory, in the order of their indices.
+     *
+     * @param chunkDirectory The chunk directory.
+     * @return The chunk's model files.
+     * @throws IOException if the directory could not be read.
+     */
+    private static List<Path> modelFilesOf(Path chunkDirectory) throws IOException {
+        try (Stream<Path> files = Files.list(chunkDirectory)) {
+            return files.filter(file -> indexOf(file) >= 0)
+                    .sorted(Comparator.comparingInt(PsdfChunkStore::indexOf))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Gets the index of the specified model file.
+     *
+     * @param modelFile The model file.
+     * @return The index of the model file, or {@code -1} if it is not a model file.
+     */
+    private static int indexOf(Path modelFile) {
+        String fileName = modelFile.getFileName().toString();
+        if (!fileName.endsWith(ModelExtension)) {
+            return -1;
+        }
+
+        try {
+            return Integer.parseInt(fileName.substring(0, fileName.length() - ModelExtension.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -5,21 +5,25 @@ import io.github.lucasstarsz.fastj.graphics.Drawable;
 import io.github.lucasstarsz.fastj.systems.control.Scene;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * Class to manage tags and taggable entities for all game scenes.
+ * <p>
+ * Scenes from games running in separate {@link io.github.lucasstarsz.fastj.engine.EngineContext}s can use the manager
+ * at the same time -- each scene's list of entities is only used by the game the scene belongs to.
  *
  * @author Andrew Dey
  * @version 1.0.0
  */
 public class TagManager {
 
-    private static final List<String> MasterTagList = new ArrayList<>();
-    private static final Map<Scene, List<Drawable>> EntityLists = new HashMap<>();
+    private static final Set<String> MasterTagList = ConcurrentHashMap.newKeySet();
+    private static final Map<Scene, List<Drawable>> EntityLists = new ConcurrentHashMap<>();
 
     /**
      * Gets the list of taggable entities at the specified {@code Scene}.
@@ -37,7 +41,7 @@ public class TagManager {
      * @param tag The tag to add.
      */
     public static void addTagToMasterList(String tag) {
-        if (!MasterTagList.contains(tag)) MasterTagList.add(tag);
+        MasterTagList.add(tag);
     }
 
     /** Removes all the tags from the master list. */
@@ -87,9 +91,7 @@ public class TagManager {
      * @param scene The scene to add.
      */
     public static void addTaggableEntityList(Scene scene) {
-        if (!EntityLists.containsKey(scene)) {
-            EntityLists.put(scene, new ArrayList<>());
-        }
+        EntityLists.computeIfAbsent(scene, s -> new ArrayList<>());
     }
 
     /**
@@ -2,7 +2,7 @@
  * The FastJ Library in its entirety.
  * <p>
  * FastJ does not use any external dependencies -- it relies entirely on Java 11's {@code java.desktop} module, using
- * AWT and Swing to display output.
+ * AWT and Swing to display output, and on its {@code jdk.jfr} module to emit Java Flight Recorder events.
  * <p>
  * This game library is split into two main parts:
  * <ul>
@@ -15,6 +15,7 @@
  */
 module fastj.library {
     requires transitive java.desktop;
+    requires transitive jdk.jfr;
 
     exports io.github.lucasstarsz.fastj.engine;
     exports io.github.lucasstarsz.fastj.math;
@@ -30,5 +31,8 @@ module fastj.library {
 
     exports io.github.lucasstarsz.fastj.systems.behaviors;
     exports io.github.lucasstarsz.fastj.systems.control;
+    exports io.github.lucasstarsz.fastj.systems.profiling;
+    exports io.github.lucasstarsz.fastj.systems.profiling.events;
     exports io.github.lucasstarsz.fastj.systems.tags;
+    exports io.github.lucasstarsz.fastj.systems.streaming;
 }
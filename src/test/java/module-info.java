@@ -2,8 +2,14 @@ module fastj.library.test {
     requires fastj.library;
     requires org.junit.jupiter.api;
 
+    exports unittest.testcases.engine;
     exports unittest.testcases.math;
 
     exports unittest.testcases.graphics;
     exports unittest.testcases.graphics.game;
+    exports unittest.testcases.graphics.ui;
+
+    exports unittest.testcases.systems.input;
+    exports unittest.testcases.systems.profiling;
+    exports unittest.testcases.systems.streaming;
 }
@@ -0,0 +1,65 @@
+package unittest.mock;
+
+import io.github.lucasstarsz.fastj.engine.FastJEngine;
+import io.github.lucasstarsz.fastj.graphics.Display;
+
+import io.github.lucasstarsz.fastj.systems.control.LogicManager;
+import io.github.lucasstarsz.fastj.systems.control.Scene;
+
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+
+/** Logic manager for a game with a single scene, which closes itself after the specified amount of updates. */
+public class MockSimulationManager extends LogicManager {
+
+    private final int updateLimit;
+    private Consumer<Scene> loadAction = scene -> {
+    };
+    private ObjIntConsumer<Scene> updateAction = (scene, update) -> {
+    };
+    private int updates;
+
+    public MockSimulationManager(int updateLimit) {
+        this.updateLimit = updateLimit;
+    }
+
+    /** Sets the action run when the scene loads. */
+    public MockSimulationManager onLoad(Consumer<Scene> loadAction) {
+        this.loadAction = loadAction;
+        return this;
+    }
+
+    /** Sets the action run on each update of the scene, with the number of the update, starting from 1. */
+    public MockSimulationManager onUpdate(ObjIntConsumer<Scene> updateAction) {
+        this.updateAction = updateAction;
+        return this;
+    }
+
+    public int getUpdates() {
+        return updates;
+    }
+
+    @Override
+    public void setup(Display display) {
+        addScene(new Scene("simulation") {
+            @Override
+            public void load(Display display) {
+                loadAction.accept(this);
+            }
+
+            @Override
+            public void unload(Display display) {
+            }
+
+            @Override
+            public void update(Display display) {
+                updateAction.accept(this, ++updates);
+                if (updates == updateLimit) {
+                    FastJEngine.closeGame();
+                }
+            }
+        });
+        setCurrentScene("simulation");
+        loadCurrentScene();
+    }
+}
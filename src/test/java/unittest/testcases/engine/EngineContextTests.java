@@ -0,0 +1,110 @@
+package unittest.testcases.engine;
+
+import io.github.lucasstarsz.fastj.engine.EngineContext;
+import io.github.lucasstarsz.fastj.engine.FastJEngine;
+import io.github.lucasstarsz.fastj.graphics.Display;
+
+import io.github.lucasstarsz.fastj.systems.control.Scene;
+import io.github.lucasstarsz.fastj.systems.input.keyboard.Keyboard;
+import io.github.lucasstarsz.fastj.systems.input.mouse.Mouse;
+
+import java.awt.Canvas;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import unittest.mock.MockManager;
+import unittest.mock.MockScene;
+import unittest.mock.MockSimulationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EngineContextTests {
+
+    private static final Canvas Source = new Canvas();
+
+    @Test
+    public void checkContexts_runningConcurrently_shouldStayIsolated() throws Exception {
+        int contextCount = 4;
+        List<EngineContext> contexts = new ArrayList<>();
+        List<List<Display>> seenDisplays = new ArrayList<>();
+
+        for (int i = 0; i < contextCount; i++) {
+            List<Display> matchDisplays = new ArrayList<>();
+            MockSimulationManager manager = new MockSimulationManager(1000 * (i + 1))
+                    .onUpdate((scene, update) -> matchDisplays.add(FastJEngine.getDisplay()));
+            EngineContext context = new EngineContext("match " + i, manager);
+            context.configureSimulation(true, 0);
+
+            seenDisplays.add(matchDisplays);
+            contexts.add(context);
+        }
+
+        List<Display> displays = new ArrayList<>();
+        for (EngineContext context : contexts) {
+            displays.add(context.getDisplay());
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(contextCount);
+        try {
+            List<Future<?>> runs = new ArrayList<>();
+            for (EngineContext context : contexts) {
+                runs.add(pool.submit(context::run));
+            }
+            for (Future<?> run : runs) {
+                run.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        for (int i = 0; i < contextCount; i++) {
+            assertFalse(contexts.get(i).isRunning());
+            assertEquals(1000L * (i + 1), contexts.get(i).getSimulatedTicks(), "Each context should run its own updates, and stop when its own game closes.");
+
+            for (Display seenDisplay : seenDisplays.get(i)) {
+                assertSame(displays.get(i), seenDisplay, "Static engine calls made while a context runs should act on that context.");
+            }
+        }
+        assertEquals(0, EngineContext.getRunningCount());
+    }
+
+    @Test
+    public void checkContext_runningAgain_shouldBeRejected() {
+        EngineContext context = new EngineContext("single use", new MockSimulationManager(10));
+        context.configureSimulation(true, 0);
+        context.run();
+
+        assertThrows(IllegalStateException.class, context::run, "A context should only be able to run its game once.");
+    }
+
+    @Test
+    public void checkInputDevices_ofDifferentContexts_shouldKeepSeparateState() {
+        Scene scene = new MockScene();
+        EngineContext first = new EngineContext("first", new MockManager(scene));
+        EngineContext second = new EngineContext("second", new MockManager(scene));
+
+        first.asCurrent(() -> {
+            Keyboard.processEvent(scene, new KeyEvent(Source, KeyEvent.KEY_PRESSED, 0L, 0, KeyEvent.VK_A, 'a', KeyEvent.KEY_LOCATION_STANDARD));
+            Mouse.processEvent(scene, new MouseEvent(Source, MouseEvent.MOUSE_PRESSED, 0L, 0, 10, 10, 1, false, MouseEvent.BUTTON1));
+        });
+
+        first.asCurrent(() -> {
+            assertTrue(Keyboard.isKeyDown(KeyEvent.VK_A), "The context that received the key press should have the key down.");
+            assertTrue(Mouse.isMouseButtonPressed(MouseEvent.BUTTON1), "The context that received the mouse press should have the button pressed.");
+        });
+        second.asCurrent(() -> {
+            assertFalse(Keyboard.isKeyDown(KeyEvent.VK_A), "Another context's key presses should not reach this context's keyboard.");
+            assertFalse(Mouse.isMouseButtonPressed(MouseEvent.BUTTON1), "Another context's mouse presses should not reach this context's mouse.");
+        });
+    }
+}
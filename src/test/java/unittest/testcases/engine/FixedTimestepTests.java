@@ -0,0 +1,80 @@
+package unittest.testcases.engine;
+
+import io.github.lucasstarsz.fastj.engine.CatchUpPolicy;
+import io.github.lucasstarsz.fastj.engine.FixedTimestep;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FixedTimestepTests {
+
+    private static final long OneSecond = TimeUnit.SECONDS.toNanos(1L);
+
+    @Test
+    public void checkAdvance_withUnevenRate_shouldNotDrift() {
+        FixedTimestep timestep = new FixedTimestep(60);
+        long frameTime = OneSecond / 144L;
+
+        long updates = 0L;
+        for (int i = 0; i < 144 * 600; i++) {
+            updates += timestep.advance(frameTime);
+        }
+
+        // 600 seconds, less the nanoseconds lost to dividing a second into 144 frames
+        assertEquals(35_999L, updates, "Integer accumulation should not lose updates over a long run.");
+        assertEquals(timestep.getUpdateCount(), updates);
+    }
+
+    @Test
+    public void checkAdvance_afterLongPause_shouldCapUpdatesAndDropExcess() {
+        FixedTimestep timestep = new FixedTimestep(60);
+
+        assertEquals(FixedTimestep.DefaultMaxUpdatesPerFrame, timestep.advance(OneSecond), "A long pause should only run the maximum updates per frame.");
+        assertEquals(0f, timestep.getAlpha(), "Dropping should discard the time left over.");
+        assertEquals(0, timestep.advance(0L), "Dropped time should not be caught up on later.");
+        assertEquals(OneSecond - 5L * timestep.getInterval(), timestep.getDroppedTime(), 1L);
+    }
+
+    @Test
+    public void checkAdvance_withCarryPolicy_shouldCatchUpOverFollowingFrames() {
+        FixedTimestep timestep = new FixedTimestep(60);
+        timestep.setCatchUpPolicy(CatchUpPolicy.CARRY);
+        timestep.setMaxUpdatesPerFrame(4);
+
+        assertEquals(4, timestep.advance(OneSecond));
+        assertEquals(4f, timestep.getAlpha(), 0.0001f, "Carrying should keep a frame's worth of updates for later.");
+        assertEquals(4, timestep.advance(0L));
+        assertEquals(0, timestep.advance(0L), "The carried time should run out once it has been caught up on.");
+    }
+
+    @Test
+    public void checkAdvance_withSlowDownPolicy_shouldKeepPartialUpdate() {
+        FixedTimestep timestep = new FixedTimestep(100);
+        timestep.setCatchUpPolicy(CatchUpPolicy.SLOW_DOWN);
+        timestep.setMaxUpdatesPerFrame(2);
+
+        assertEquals(0, timestep.advance(TimeUnit.MILLISECONDS.toNanos(5L)));
+        assertEquals(0.5f, timestep.getAlpha(), 0.0001f);
+
+        assertEquals(2, timestep.advance(OneSecond), "Slowing down should only run the maximum updates per frame.");
+        assertEquals(1f, timestep.getAlpha(), 0.0001f, "Slowing down should leave just under one update for the next frame.");
+    }
+
+    @Test
+    public void checkAdvance_withTimeScale_shouldScaleUpdates() {
+        FixedTimestep timestep = new FixedTimestep(60);
+        timestep.setMaxUpdatesPerFrame(1000);
+
+        timestep.setTimeScale(0.5d);
+        assertEquals(30, timestep.advance(OneSecond), "Half speed should run half as many updates.");
+
+        timestep.setTimeScale(2d);
+        assertEquals(120, timestep.advance(OneSecond), "Double speed should run twice as many updates.");
+
+        timestep.setTimeScale(0d);
+        assertEquals(0, timestep.advance(OneSecond), "A time scale of zero should pause updates.");
+    }
+}
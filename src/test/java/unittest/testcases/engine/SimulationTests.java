@@ -0,0 +1,35 @@
+package unittest.testcases.engine;
+
+import io.github.lucasstarsz.fastj.engine.FastJEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import unittest.mock.MockSimulationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class SimulationTests {
+
+    private static final int SimulatedUpdates = 600;
+
+    @Test
+    public void checkSimulation_shouldRunOnVirtualClockWithoutDisplay() {
+        List<Double> updateTimes = new ArrayList<>();
+
+        FastJEngine.init("simulation", new MockSimulationManager(SimulatedUpdates)
+                .onUpdate((scene, update) -> updateTimes.add(FastJEngine.getTime())));
+        FastJEngine.configureSimulation(true, 0);
+        FastJEngine.run();
+
+        assertFalse(FastJEngine.isRunning());
+        assertEquals(SimulatedUpdates, FastJEngine.getSimulatedTicks());
+        assertEquals(SimulatedUpdates, updateTimes.size());
+
+        // the virtual clock moves forward by exactly one update interval per update
+        assertEquals(1d / FastJEngine.DefaultUPS, updateTimes.get(0), 1e-8, "The virtual clock should start at zero, and move forward before each update.");
+        assertEquals(10d, updateTimes.get(SimulatedUpdates - 1), 1e-6, "600 updates at 60 UPS should simulate 10 seconds.");
+    }
+}
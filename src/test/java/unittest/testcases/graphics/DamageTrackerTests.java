@@ -0,0 +1,77 @@
+package unittest.testcases.graphics;
+
+import io.github.lucasstarsz.fastj.graphics.DamageTracker;
+
+import java.awt.Rectangle;
+import java.awt.geom.Rectangle2D;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DamageTrackerTests {
+
+    @Test
+    public void checkAddDamage_shouldSnapOutwardsWithPadding() {
+        DamageTracker damageTracker = new DamageTracker();
+        damageTracker.setArea(800, 600);
+
+        damageTracker.addDamage(10.5f, 20.25f, 5f, 5f);
+
+        assertEquals(1, damageTracker.getRegionCount());
+        assertEquals(new Rectangle(9, 19, 8, 8), damageTracker.getRegion(0), "The region should be snapped to whole pixels, with a pixel of padding.");
+    }
+
+    @Test
+    public void checkAddDamage_withOverlappingRegions_shouldMerge() {
+        DamageTracker damageTracker = new DamageTracker();
+        damageTracker.setArea(800, 600);
+
+        damageTracker.addDamage(10f, 10f, 20f, 20f);
+        damageTracker.addDamage(25f, 25f, 20f, 20f);
+        damageTracker.addDamage(500f, 500f, 10f, 10f);
+
+        assertEquals(2, damageTracker.getRegionCount(), "Overlapping regions should be merged, and separate regions kept apart.");
+        assertTrue(damageTracker.intersects(new Rectangle2D.Float(40f, 40f, 1f, 1f)));
+        assertFalse(damageTracker.intersects(new Rectangle2D.Float(200f, 200f, 10f, 10f)));
+    }
+
+    @Test
+    public void checkAddDamage_pastMaxRegions_shouldMergeClosestRegions() {
+        DamageTracker damageTracker = new DamageTracker(2, 1f);
+        damageTracker.setArea(1000, 1000);
+
+        damageTracker.addDamage(0f, 0f, 10f, 10f);
+        damageTracker.addDamage(900f, 900f, 10f, 10f);
+        damageTracker.addDamage(20f, 0f, 10f, 10f);
+
+        assertEquals(2, damageTracker.getRegionCount(), "The amount of regions should not exceed the maximum.");
+        assertFalse(damageTracker.intersects(new Rectangle2D.Float(400f, 400f, 10f, 10f)), "The far apart regions should not be merged.");
+    }
+
+    @Test
+    public void checkAddDamage_overMostOfTheArea_shouldDamageAll() {
+        DamageTracker damageTracker = new DamageTracker();
+        damageTracker.setArea(100, 100);
+
+        damageTracker.addDamage(0f, 0f, 80f, 80f);
+
+        assertTrue(damageTracker.isFullyDamaged(), "Damaging most of the area should damage the whole area.");
+        assertEquals(new Rectangle(0, 0, 100, 100), damageTracker.getRegion(0));
+    }
+
+    @Test
+    public void checkAddDamage_outsideArea_shouldBeIgnored() {
+        DamageTracker damageTracker = new DamageTracker();
+        damageTracker.setArea(100, 100);
+
+        damageTracker.addDamage(-50f, -50f, 10f, 10f);
+        assertTrue(damageTracker.isEmpty(), "Damage outside the tracked area should be ignored.");
+
+        damageTracker.addDamage(10f, 10f, 1f, 1f);
+        damageTracker.clear();
+        assertTrue(damageTracker.isEmpty(), "Clearing the tracker should remove all damage.");
+    }
+}
@@ -3,6 +3,7 @@ package unittest.testcases.graphics;
 import io.github.lucasstarsz.fastj.math.Pointf;
 import io.github.lucasstarsz.fastj.graphics.DrawUtil;
 import io.github.lucasstarsz.fastj.graphics.game.Model2D;
+import io.github.lucasstarsz.fastj.graphics.game.ModelGeometry;
 import io.github.lucasstarsz.fastj.graphics.game.Polygon2D;
 
 import java.awt.Color;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.TestMethodOrder;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -109,6 +111,18 @@ public class DrawUtilTests {
         assertEquals(expectedHouse, actualHouse, "The actual Model2D should match the expected Model2D.");
     }
 
+    @Test
+    @Order(3)
+    public void checkLoadModelGeometry_shouldOnlyLoadFileOnce() {
+        ModelGeometry firstGeometry = DrawUtil.loadModelGeometry(pathToModel);
+        ModelGeometry secondGeometry = DrawUtil.loadModelGeometry(pathToModel);
+
+        assertSame(firstGeometry, secondGeometry, "Loading the same model file twice should return the same geometry.");
+        assertArrayEquals(expectedHouseArray, firstGeometry.createPolygons(), "The loaded geometry's polygons should match the expected array.");
+
+        DrawUtil.clearModelGeometryCache();
+    }
+
     @Test
     public void checkCreateCollisionOutline_withTwoSquares_shouldMatchExpected() {
         Pointf[] square1Points = DrawUtil.createBox(0f, 0f, 50f);
@@ -374,6 +388,19 @@ public class DrawUtilTests {
         assertEquals(expectedCenterOfSquare, actualCenterOfSquare, "The actual center of the square should match the expected center.");
     }
 
+    @Test
+    public void checkWriteModelToPath_withMissingDirectory_shouldThrowInsteadOfCrashing() throws IOException {
+        Path tempDirectory = Files.createTempDirectory("fastj_psdf");
+        Path modelInMissingDirectory = tempDirectory.resolve("missing").resolve("model.psdf");
+        Model2D model = new Model2D(new Polygon2D[]{new Polygon2D(DrawUtil.createBox(0f, 0f, 10f))});
+
+        try {
+            assertThrows(IOException.class, () -> DrawUtil.writeToPSDF(modelInMissingDirectory, model), "Writing to a path should leave the write error to the caller.");
+        } finally {
+            Files.deleteIfExists(tempDirectory);
+        }
+    }
+
     @Test
     public void checkGetPointsOfPath2DFloat_shouldMatchOriginalPointfArray() {
         float top = 0f;
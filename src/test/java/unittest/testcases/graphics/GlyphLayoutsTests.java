@@ -0,0 +1,90 @@
+package unittest.testcases.graphics;
+
+import io.github.lucasstarsz.fastj.graphics.GlyphLayout;
+import io.github.lucasstarsz.fastj.graphics.GlyphLayouts;
+import io.github.lucasstarsz.fastj.graphics.game.Text2D;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GlyphLayoutsTests {
+
+    @Test
+    public void checkLayoutOf_withSameFontAndText_shouldReuseLayout() {
+        GlyphLayout firstLayout = GlyphLayouts.layoutOf(Text2D.DefaultFont, "Hello, world!");
+        GlyphLayout secondLayout = GlyphLayouts.layoutOf(Text2D.DefaultFont, "Hello, world!");
+
+        assertSame(firstLayout, secondLayout, "Laying out the same text in the same font should reuse the cached layout.");
+    }
+
+    @Test
+    public void checkLayoutOf_withDifferentFont_shouldCreateNewLayout() {
+        Font largerFont = Text2D.DefaultFont.deriveFont(24f);
+
+        GlyphLayout defaultLayout = GlyphLayouts.layoutOf(Text2D.DefaultFont, "Hello, world!");
+        GlyphLayout largerLayout = GlyphLayouts.layoutOf(largerFont, "Hello, world!");
+
+        assertNotSame(defaultLayout, largerLayout, "Laying out text in a different font should create a new layout.");
+        assertTrue(largerLayout.getWidth() > defaultLayout.getWidth(), "Text in a larger font should be wider.");
+        assertTrue(largerLayout.getHeight() > defaultLayout.getHeight(), "Text in a larger font should be taller.");
+    }
+
+    @Test
+    public void checkLayoutOf_withEmptyText_shouldHaveNoWidth() {
+        GlyphLayout layout = GlyphLayouts.layoutOf(Text2D.DefaultFont, "");
+
+        assertEquals(0f, layout.getWidth(), "Empty text should have no width.");
+        assertTrue(layout.getHeight() > 0f, "Empty text should still have a line height.");
+    }
+
+    @Test
+    public void checkLayoutWidth_shouldMatchFontAdvance() {
+        String text = "FastJ 1.2.0";
+        GlyphLayout layout = GlyphLayouts.layoutOf(Text2D.DefaultFont, text);
+        float expectedWidth = (float) Text2D.DefaultFont.getStringBounds(text, GlyphLayouts.DefaultRenderContext).getWidth();
+
+        assertEquals(expectedWidth, layout.getWidth(), 0.01f, "The layout's width should match the font's advance for the text.");
+    }
+
+    @Test
+    public void checkDraw_withTextAntialiasingHint_shouldFollowHint() {
+        GlyphLayout layout = GlyphLayouts.layoutOf(Text2D.DefaultFont.deriveFont(24f), "Antialiasing");
+
+        assertEquals(0, partiallyCoveredPixels(layout, RenderingHints.VALUE_TEXT_ANTIALIAS_OFF), "Text drawn without text antialiasing should have no partially covered pixels.");
+        assertTrue(partiallyCoveredPixels(layout, RenderingHints.VALUE_TEXT_ANTIALIAS_ON) > 0, "Text drawn with text antialiasing should be antialiased, despite being laid out without it.");
+        assertEquals(0, partiallyCoveredPixels(layout, RenderingHints.VALUE_TEXT_ANTIALIAS_OFF), "Drawing antialiased text should not change how the layout is drawn without it.");
+    }
+
+    private static int partiallyCoveredPixels(GlyphLayout layout, Object textAntialiasing) {
+        BufferedImage image = new BufferedImage(200, 40, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, textAntialiasing);
+            g.setColor(Color.black);
+            layout.draw(g, 2f, 30f);
+        } finally {
+            g.dispose();
+        }
+
+        int count = 0;
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                int alpha = image.getRGB(x, y) >>> 24;
+                if (alpha != 0 && alpha != 255) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
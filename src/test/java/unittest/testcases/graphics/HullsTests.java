@@ -0,0 +1,155 @@
+package unittest.testcases.graphics;
+
+import io.github.lucasstarsz.fastj.math.Maths;
+import io.github.lucasstarsz.fastj.math.Pointf;
+import io.github.lucasstarsz.fastj.graphics.DrawUtil;
+import io.github.lucasstarsz.fastj.graphics.HullMode;
+import io.github.lucasstarsz.fastj.graphics.Hulls;
+import io.github.lucasstarsz.fastj.graphics.game.Polygon2D;
+
+import java.awt.geom.Path2D;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HullsTests {
+
+    @Test
+    public void checkConvexHull_withRandomPoints_shouldContainAllPoints() {
+        Pointf[] points = new Pointf[200];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new Pointf(Maths.random(-100f, 100f), Maths.random(-100f, 100f));
+        }
+
+        Path2D.Float hullPath = DrawUtil.createPath(Hulls.convexHull(points));
+
+        for (Pointf point : points) {
+            assertTrue(hullPath.intersects(point.x - 0.01f, point.y - 0.01f, 0.02f, 0.02f), "Every point should be inside the convex hull.");
+        }
+    }
+
+    @Test
+    public void checkConvexHull_withCollinearAndDuplicatePoints_shouldOnlyKeepCorners() {
+        Pointf[] points = {
+                new Pointf(0f, 0f),
+                new Pointf(25f, 0f),
+                new Pointf(50f, 0f),
+                new Pointf(50f, 50f),
+                new Pointf(50f, 50f),
+                new Pointf(0f, 50f),
+                new Pointf(25f, 25f)
+        };
+        Pointf[] expectedHull = {
+                new Pointf(0f, 0f),
+                new Pointf(50f, 0f),
+                new Pointf(50f, 50f),
+                new Pointf(0f, 50f)
+        };
+
+        assertArrayEquals(expectedHull, Hulls.convexHull(points), "The convex hull should only contain the corners of the points.");
+    }
+
+    @Test
+    public void checkUnionOutline_withTwoSquares_shouldFollowConcaveCorners() {
+        Pointf[] square1Points = DrawUtil.createBox(0f, 0f, 50f);
+        Pointf[] square2Points = DrawUtil.createBox(25f, 25f, 50f);
+        Polygon2D[] squareArray = {
+                new Polygon2D(square1Points),
+                new Polygon2D(square2Points)
+        };
+
+        Pointf[] actualOutline = DrawUtil.createCollisionOutline(squareArray, HullMode.UNION_OUTLINE);
+        List<Pointf> actualOutlinePoints = List.of(actualOutline);
+
+        assertEquals(8, actualOutline.length, "The union outline of two overlapping squares should have 8 points.");
+        assertTrue(actualOutlinePoints.contains(new Pointf(50f, 25f)), "The union outline should contain the squares' upper intersection.");
+        assertTrue(actualOutlinePoints.contains(new Pointf(25f, 50f)), "The union outline should contain the squares' lower intersection.");
+    }
+
+    @Test
+    public void checkUnionOutline_withSeparateSquares_shouldCoverEveryPiece() {
+        Polygon2D[] squareArray = {
+                new Polygon2D(DrawUtil.createBox(0f, 0f, 50f)),
+                new Polygon2D(DrawUtil.createBox(100f, 0f, 10f))
+        };
+
+        Path2D.Float outlinePath = DrawUtil.createPath(DrawUtil.createCollisionOutline(squareArray, HullMode.UNION_OUTLINE));
+
+        assertTrue(outlinePath.contains(25f, 25f), "The outline should cover the larger square.");
+        assertTrue(outlinePath.contains(105f, 5f), "The outline should cover the smaller square, even though it is separate from the larger one.");
+    }
+
+    @Test
+    public void checkOutlineOf_withIdenticalPolygons_shouldReturnEqualCopies() {
+        Polygon2D[] firstSquares = {new Polygon2D(DrawUtil.createBox(0f, 0f, 50f)), new Polygon2D(DrawUtil.createBox(25f, 25f, 50f))};
+        Polygon2D[] secondSquares = {new Polygon2D(DrawUtil.createBox(0f, 0f, 50f)), new Polygon2D(DrawUtil.createBox(25f, 25f, 50f))};
+
+        Pointf[] firstOutline = Hulls.outlineOf(firstSquares, HullMode.CONVEX);
+        Pointf[] secondOutline = Hulls.outlineOf(secondSquares, HullMode.CONVEX);
+
+        assertArrayEquals(firstOutline, secondOutline, "Outlines of identical polygons should match.");
+        assertNotSame(firstOutline[0], secondOutline[0], "Cached outlines should not share points between callers.");
+    }
+
+    @Test
+    public void checkHullFile_shouldBeReadWhenLoadingModel() throws IOException {
+        Path tempDirectory = Files.createTempDirectory("fastj_hulls");
+        String pathToModel = tempDirectory.resolve("squares.psdf").toString();
+
+        Polygon2D[] squareArray = {
+                new Polygon2D(DrawUtil.createBox(0f, 0f, 50f)),
+                new Polygon2D(DrawUtil.createBox(25f, 25f, 50f))
+        };
+        Files.writeString(Path.of(pathToModel), "amt 2" + System.lineSeparator()
+                + "c 0 0 0 255" + System.lineSeparator() + "f true" + System.lineSeparator() + "s true" + System.lineSeparator()
+                + "p 0 0" + System.lineSeparator() + "p 50 0" + System.lineSeparator() + "p 50 50" + System.lineSeparator() + "p 0 50 ;" + System.lineSeparator()
+                + System.lineSeparator()
+                + "c 0 0 0 255" + System.lineSeparator() + "f true" + System.lineSeparator() + "s true" + System.lineSeparator()
+                + "p 25 25" + System.lineSeparator() + "p 75 25" + System.lineSeparator() + "p 75 75" + System.lineSeparator() + "p 25 75 ;" + System.lineSeparator());
+
+        try {
+            Pointf[] expectedOutline = Hulls.outlineOf(squareArray, HullMode.UNION_OUTLINE);
+            Hulls.writeHullFile(pathToModel, squareArray, HullMode.UNION_OUTLINE);
+            Hulls.clearCache();
+
+            assertTrue(Files.exists(Hulls.hullFileOf(pathToModel)), "The hull file should be written next to the model file.");
+
+            Polygon2D[] loadedSquares = DrawUtil.load2DModel(pathToModel);
+            assertArrayEquals(expectedOutline, Hulls.outlineOf(loadedSquares, HullMode.UNION_OUTLINE), "The outline read from the hull file should match the written outline.");
+        } finally {
+            Files.deleteIfExists(Hulls.hullFileOf(pathToModel));
+            Files.deleteIfExists(Path.of(pathToModel));
+            Files.deleteIfExists(tempDirectory);
+        }
+    }
+
+    @Test
+    public void checkHullFile_whenCorrupt_shouldBeIgnored() throws IOException {
+        Path tempDirectory = Files.createTempDirectory("fastj_hulls");
+        String pathToModel = tempDirectory.resolve("square.psdf").toString();
+        Files.writeString(Path.of(pathToModel), "amt 1" + System.lineSeparator()
+                + "c 0 0 0 255" + System.lineSeparator() + "f true" + System.lineSeparator() + "s true" + System.lineSeparator()
+                + "p 0 0" + System.lineSeparator() + "p 50 0" + System.lineSeparator() + "p 50 50" + System.lineSeparator() + "p 0 50 ;" + System.lineSeparator());
+        Files.writeString(Hulls.hullFileOf(pathToModel), "mode UNION_OUTLINE" + System.lineSeparator() + "src 8" + System.lineSeparator() + "p 0 zero" + System.lineSeparator());
+
+        try {
+            Pointf[] expectedOutline = Hulls.outlineOf(new Polygon2D[]{new Polygon2D(DrawUtil.createBox(0f, 0f, 50f))}, HullMode.UNION_OUTLINE);
+            Hulls.clearCache();
+            Polygon2D[] loadedSquare = DrawUtil.load2DModel(pathToModel);
+
+            assertArrayEquals(expectedOutline, Hulls.outlineOf(loadedSquare, HullMode.UNION_OUTLINE), "A corrupt hull file should be ignored, and the hull generated again.");
+        } finally {
+            Files.deleteIfExists(Hulls.hullFileOf(pathToModel));
+            Files.deleteIfExists(Path.of(pathToModel));
+            Files.deleteIfExists(tempDirectory);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package unittest.testcases.graphics;
+
+import io.github.lucasstarsz.fastj.math.Pointf;
+import io.github.lucasstarsz.fastj.graphics.PolygonSimplifier;
+import io.github.lucasstarsz.fastj.graphics.game.Polygon2D;
+
+import java.awt.geom.Line2D;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PolygonSimplifierTests {
+
+    private static Pointf[] circle(float centerX, float centerY, float radius, int pointCount) {
+        Pointf[] points = new Pointf[pointCount];
+        for (int i = 0; i < pointCount; i++) {
+            double angle = Math.PI * 2 * i / pointCount;
+            points[i] = new Pointf(centerX + (float) (Math.cos(angle) * radius), centerY + (float) (Math.sin(angle) * radius));
+        }
+        return points;
+    }
+
+    @Test
+    public void checkSimplify_withCircle_shouldStayWithinTolerance() {
+        Pointf[] points = circle(0f, 0f, 100f, 256);
+        float tolerance = 1f;
+
+        Pointf[] simplified = PolygonSimplifier.simplify(points, tolerance);
+        assertTrue(simplified.length < points.length / 4, "A finely detailed circle should lose most of its points, but kept " + simplified.length + ".");
+
+        for (Pointf point : points) {
+            double closestDistance = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < simplified.length; i++) {
+                Pointf a = simplified[i];
+                Pointf b = simplified[(i + 1) % simplified.length];
+                closestDistance = Math.min(closestDistance, Line2D.ptSegDist(a.x, a.y, b.x, b.y, point.x, point.y));
+            }
+            assertTrue(closestDistance <= tolerance + 0.0001, "Each original point should be within the tolerance of the simplified outline.");
+        }
+    }
+
+    @Test
+    public void checkSimplify_withCollinearPoints_shouldKeepCorners() {
+        Pointf[] square = {
+                new Pointf(0f, 0f), new Pointf(5f, 0f), new Pointf(10f, 0f),
+                new Pointf(10f, 5f), new Pointf(10f, 10f),
+                new Pointf(5f, 10f), new Pointf(0f, 10f),
+                new Pointf(0f, 5f)
+        };
+
+        Pointf[] expected = {new Pointf(0f, 0f), new Pointf(10f, 0f), new Pointf(10f, 10f), new Pointf(0f, 10f)};
+        assertArrayEquals(expected, PolygonSimplifier.simplify(square, 0.01f), "Points along straight edges should be removed, leaving the corners.");
+    }
+
+    @Test
+    public void checkSimplifyPolygons_shouldDropSmallPolygonsButKeepLargest() {
+        Polygon2D large = new Polygon2D(circle(0f, 0f, 100f, 64));
+        Polygon2D small = new Polygon2D(circle(50f, 50f, 2f, 16));
+
+        Polygon2D[] simplified = PolygonSimplifier.simplify(new Polygon2D[] {small, large}, 5f);
+        assertEquals(1, simplified.length, "Polygons smaller than the drop threshold should be dropped.");
+        assertEquals(large.getColor(), simplified[0].getColor());
+
+        Polygon2D[] onlySmall = PolygonSimplifier.simplify(new Polygon2D[] {small}, 50f);
+        assertEquals(1, onlySmall.length, "The largest polygon should never be dropped.");
+    }
+}
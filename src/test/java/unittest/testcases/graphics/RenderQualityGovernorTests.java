@@ -0,0 +1,92 @@
+package unittest.testcases.graphics;
+
+import io.github.lucasstarsz.fastj.graphics.RenderQuality;
+import io.github.lucasstarsz.fastj.graphics.RenderQualityGovernor;
+
+import java.awt.RenderingHints;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RenderQualityGovernorTests {
+
+    private static final long SlowFrame = TimeUnit.MILLISECONDS.toNanos(30L);
+    private static final long FastFrame = TimeUnit.MILLISECONDS.toNanos(5L);
+
+    private static void feed(RenderQualityGovernor governor, long frameTime, int frames) {
+        for (int i = 0; i < frames; i++) {
+            governor.update(frameTime);
+        }
+    }
+
+    @Test
+    public void checkUpdate_overBudget_shouldStepDownOneTierAtATime() {
+        RenderQualityGovernor governor = new RenderQualityGovernor(60);
+        List<String> transitions = new ArrayList<>();
+        governor.addOnQualityChange((from, to) -> transitions.add(from + "->" + to));
+
+        feed(governor, SlowFrame, 300);
+
+        assertEquals(RenderQuality.LOW, governor.getQuality(), "The governor should step down to its lowest tier.");
+        assertEquals(List.of("HIGH->MEDIUM", "MEDIUM->LOW"), transitions, "Each step should be passed to the quality change actions, in order.");
+    }
+
+    @Test
+    public void checkUpdate_withSlowPresent_shouldNotStepDown() {
+        RenderQualityGovernor governor = new RenderQualityGovernor(60);
+
+        // a frame which blocks on vertical sync for most of its budget, after drawing quickly
+        for (int i = 0; i < 300; i++) {
+            governor.update(SlowFrame, SlowFrame - FastFrame);
+        }
+
+        assertEquals(RenderQualityGovernor.DefaultMaxQuality, governor.getQuality(), "Time spent presenting frames should not lower the quality.");
+        assertEquals(0, governor.getStepCount());
+    }
+
+    @Test
+    public void checkUpdate_withHeadroom_shouldStepBackUpWithinBounds() {
+        RenderQualityGovernor governor = new RenderQualityGovernor(60);
+        governor.setQualityBounds(RenderQuality.MEDIUM, RenderQuality.ULTRA);
+        feed(governor, SlowFrame, 300);
+        assertEquals(RenderQuality.MEDIUM, governor.getQuality(), "The governor should not step down past its minimum tier.");
+
+        feed(governor, FastFrame, 600);
+        assertEquals(RenderQuality.ULTRA, governor.getQuality(), "The governor should step up to its maximum tier while there is room to spare.");
+    }
+
+    @Test
+    public void checkSetQualityBounds_shouldMoveQualityWithinBounds() {
+        RenderQualityGovernor governor = new RenderQualityGovernor(60);
+        List<RenderQuality> newQualities = new ArrayList<>();
+        governor.addOnQualityChange((from, to) -> newQualities.add(to));
+
+        governor.setQualityBounds(RenderQuality.LOW, RenderQuality.MEDIUM);
+
+        assertEquals(RenderQuality.MEDIUM, governor.getQuality());
+        assertEquals(List.of(RenderQuality.MEDIUM), newQualities, "Moving the quality within the bounds should count as a change.");
+    }
+
+    @Test
+    public void checkRenderQualityApplyTo_shouldReplaceTierHints() {
+        Map<RenderingHints.Key, Object> renderHints = new HashMap<>();
+        renderHints.put(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+
+        RenderQuality.HIGH.applyTo(renderHints);
+        assertEquals(RenderingHints.VALUE_ANTIALIAS_ON, renderHints.get(RenderingHints.KEY_ANTIALIASING));
+        assertTrue(RenderQuality.HIGH.allowsEffects());
+
+        RenderQuality.LOW.applyTo(renderHints);
+        assertEquals(RenderingHints.VALUE_ANTIALIAS_OFF, renderHints.get(RenderingHints.KEY_ANTIALIASING));
+        assertEquals(RenderingHints.VALUE_TEXT_ANTIALIAS_OFF, renderHints.get(RenderingHints.KEY_TEXT_ANTIALIASING));
+        assertFalse(RenderQuality.LOW.allowsEffects(), "The lowest tier should skip optional effects.");
+    }
+}
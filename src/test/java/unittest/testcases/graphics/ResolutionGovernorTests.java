@@ -0,0 +1,93 @@
+package unittest.testcases.graphics;
+
+import io.github.lucasstarsz.fastj.math.Point;
+import io.github.lucasstarsz.fastj.graphics.ResolutionGovernor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResolutionGovernorTests {
+
+    private static final long SlowFrame = TimeUnit.MILLISECONDS.toNanos(30L);
+    private static final long FastFrame = TimeUnit.MILLISECONDS.toNanos(5L);
+    private static final long SteadyFrame = TimeUnit.MILLISECONDS.toNanos(14L);
+
+    private static void feed(ResolutionGovernor governor, long frameTime, int frames) {
+        for (int i = 0; i < frames; i++) {
+            governor.update(frameTime);
+        }
+    }
+
+    @Test
+    public void checkUpdate_overBudget_shouldStepDownToMinScale() {
+        ResolutionGovernor governor = new ResolutionGovernor(60);
+        governor.setScaleBounds(0.6f, 1f);
+
+        feed(governor, SlowFrame, 30);
+        assertEquals(0.9f, governor.getScale(), 0.0001f, "The scale should step down once frames go over budget.");
+
+        feed(governor, SlowFrame, 300);
+        assertEquals(0.6f, governor.getScale(), 0.0001f, "The scale should not step down past its minimum.");
+    }
+
+    @Test
+    public void checkUpdate_withSlowPresent_shouldNotStepDown() {
+        ResolutionGovernor governor = new ResolutionGovernor(60);
+
+        // a frame which blocks on vertical sync for most of its budget, after drawing quickly
+        for (int i = 0; i < 300; i++) {
+            governor.update(SlowFrame, SlowFrame - FastFrame);
+        }
+
+        assertEquals(ResolutionGovernor.DefaultMaxScale, governor.getScale(), "Time spent presenting frames should not lower the scale.");
+        assertEquals(0, governor.getStepCount());
+    }
+
+    @Test
+    public void checkUpdate_withHeadroom_shouldStepBackUpToMaxScale() {
+        ResolutionGovernor governor = new ResolutionGovernor(60);
+        feed(governor, SlowFrame, 300);
+        assertEquals(ResolutionGovernor.DefaultMinScale, governor.getScale(), 0.0001f);
+
+        feed(governor, FastFrame, 600);
+        assertEquals(ResolutionGovernor.DefaultMaxScale, governor.getScale(), 0.0001f, "The scale should step back up while there is room to spare.");
+    }
+
+    @Test
+    public void checkUpdate_betweenThresholds_shouldHoldScale() {
+        ResolutionGovernor governor = new ResolutionGovernor(60);
+        feed(governor, SlowFrame, 30);
+
+        // 14ms is within 75-95% of the 16.6ms budget
+        feed(governor, SteadyFrame, 300);
+        int steps = governor.getStepCount();
+        float scale = governor.getScale();
+
+        feed(governor, SteadyFrame, 600);
+        assertEquals(steps, governor.getStepCount(), "Once the average settles between the thresholds, the scale should stop changing.");
+        assertEquals(scale, governor.getScale(), "Once the average settles between the thresholds, the scale should stop changing.");
+    }
+
+    @Test
+    public void checkUpdate_withSingleSlowFrame_shouldWaitForCooldown() {
+        ResolutionGovernor governor = new ResolutionGovernor(60);
+
+        for (int i = 0; i < ResolutionGovernor.DefaultCooldownFrames - 1; i++) {
+            assertFalse(governor.update(SlowFrame), "The scale should not change before the cooldown has passed.");
+        }
+        assertTrue(governor.update(SlowFrame));
+    }
+
+    @Test
+    public void checkScaleResolution_shouldScaleAndRound() {
+        ResolutionGovernor governor = new ResolutionGovernor(60);
+        governor.setScaleBounds(0.5f, 0.5f);
+
+        assertEquals(new Point(640, 360), governor.scaleResolution(new Point(1280, 720), new Point()), "The render resolution should be the internal resolution, scaled.");
+    }
+}
@@ -0,0 +1,133 @@
+package unittest.testcases.graphics;
+
+import io.github.lucasstarsz.fastj.math.Pointf;
+import io.github.lucasstarsz.fastj.graphics.DrawUtil;
+import io.github.lucasstarsz.fastj.graphics.ScanlineRasterizer;
+import io.github.lucasstarsz.fastj.graphics.game.Polygon2D;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ScanlineRasterizerTests {
+
+    private static final int Width = 120;
+    private static final int Height = 90;
+
+    private static BufferedImage blankImage(int type) {
+        BufferedImage image = new BufferedImage(Width, Height, type);
+        Graphics2D g = image.createGraphics();
+        g.setBackground(Color.white);
+        g.clearRect(0, 0, Width, Height);
+        g.dispose();
+        return image;
+    }
+
+    private static int[] pixelsOf(BufferedImage image) {
+        return image.getRGB(0, 0, Width, Height, null, 0, Width);
+    }
+
+    @Test
+    public void checkFill_shouldMatchJava2D() {
+        Pointf[] star = {
+                new Pointf(60.3f, 4.6f), new Pointf(74.1f, 40.2f), new Pointf(112.7f, 41.9f),
+                new Pointf(81.4f, 62.5f), new Pointf(95.2f, 86.8f), new Pointf(60.5f, 70.1f),
+                new Pointf(22.9f, 85.3f), new Pointf(38.6f, 61.7f), new Pointf(6.2f, 40.4f),
+                new Pointf(46.8f, 39.3f)
+        };
+        Polygon2D polygon = new Polygon2D(star, new Color(40, 90, 200), true, true);
+        AffineTransform transform = AffineTransform.getRotateInstance(0.1, 60.0, 45.0);
+
+        BufferedImage expected = blankImage(BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = expected.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+        g.transform(transform);
+        polygon.render(g);
+        g.dispose();
+
+        BufferedImage actual = blankImage(BufferedImage.TYPE_INT_RGB);
+        boolean handled = ScanlineRasterizer.get().fill(polygon, transform, actual, new Rectangle(0, 0, Width, Height));
+
+        int[] expectedPixels = pixelsOf(expected);
+        int[] actualPixels = pixelsOf(actual);
+        int differentPixels = 0;
+        for (int i = 0; i < expectedPixels.length; i++) {
+            if (expectedPixels[i] != actualPixels[i]) {
+                differentPixels++;
+            }
+        }
+
+        assertTrue(handled, "A filled polygon should be drawn by the rasterizer.");
+        assertTrue(differentPixels <= 4, "The rasterizer should cover the same pixels as Java2D, other than rounding along the edges, but " + differentPixels + " pixels differed.");
+    }
+
+    @Test
+    public void checkFill_withEvenOddRule_shouldLeaveHoles() {
+        Path2D.Float path = new Path2D.Float(Path2D.WIND_EVEN_ODD);
+        path.append(DrawUtil.createPath(DrawUtil.createBox(10f, 10f, 60f)), false);
+        path.append(DrawUtil.createPath(DrawUtil.createBox(30f, 30f, 20f)), false);
+
+        BufferedImage image = blankImage(BufferedImage.TYPE_INT_RGB);
+        ScanlineRasterizer.get().fill(path, new AffineTransform(), Color.black, image, new Rectangle(0, 0, Width, Height));
+
+        assertEquals(Color.black.getRGB(), image.getRGB(20, 20), "The outer box should be filled.");
+        assertEquals(Color.white.getRGB(), image.getRGB(40, 40), "The inner box should be a hole.");
+        assertEquals(Color.white.getRGB(), image.getRGB(100, 80), "Pixels outside the shape should be untouched.");
+    }
+
+    @Test
+    public void checkFill_withTranslucentColor_shouldBlendLikeJava2D() {
+        Color translucentRed = new Color(255, 0, 0, 100);
+        Path2D.Float box = DrawUtil.createPath(DrawUtil.createBox(0f, 0f, 50f));
+
+        for (int type : new int[]{BufferedImage.TYPE_INT_RGB, BufferedImage.TYPE_INT_ARGB, BufferedImage.TYPE_INT_ARGB_PRE}) {
+            BufferedImage expected = blankImage(type);
+            Graphics2D g = expected.createGraphics();
+            g.setColor(translucentRed);
+            g.fill(box);
+            g.dispose();
+
+            BufferedImage actual = blankImage(type);
+            ScanlineRasterizer.get().fill(box, new AffineTransform(), translucentRed, actual, new Rectangle(0, 0, Width, Height));
+
+            Color expectedColor = new Color(expected.getRGB(25, 25), true);
+            Color actualColor = new Color(actual.getRGB(25, 25), true);
+            assertEquals(expectedColor.getRed(), actualColor.getRed(), 1, "The red channel should be blended like Java2D.");
+            assertEquals(expectedColor.getGreen(), actualColor.getGreen(), 1, "The green channel should be blended like Java2D.");
+            assertEquals(expectedColor.getBlue(), actualColor.getBlue(), 1, "The blue channel should be blended like Java2D.");
+            assertEquals(expectedColor.getAlpha(), actualColor.getAlpha(), 1, "The alpha channel should be blended like Java2D.");
+        }
+    }
+
+    @Test
+    public void checkFill_withClip_shouldOnlyDrawInsideClip() {
+        BufferedImage image = blankImage(BufferedImage.TYPE_INT_RGB);
+        Polygon2D polygon = new Polygon2D(DrawUtil.createBox(0f, 0f, 80f));
+
+        ScanlineRasterizer.get().fill(polygon, new AffineTransform(), image, new Rectangle(20, 20, 10, 10));
+
+        assertEquals(Color.black.getRGB(), image.getRGB(25, 25), "Pixels inside the clip should be drawn.");
+        assertEquals(Color.white.getRGB(), image.getRGB(10, 10), "Pixels outside the clip should be untouched.");
+        assertEquals(Color.white.getRGB(), image.getRGB(30, 30), "The clip should not include its right and bottom edges.");
+    }
+
+    @Test
+    public void checkFill_withOutlineOrUnsupportedImage_shouldBeLeftToJava2D() {
+        Polygon2D outline = new Polygon2D(DrawUtil.createBox(0f, 0f, 10f), Color.black, false, true);
+        BufferedImage image = blankImage(BufferedImage.TYPE_INT_RGB);
+
+        assertFalse(ScanlineRasterizer.get().fill(outline, new AffineTransform(), image, new Rectangle(0, 0, Width, Height)), "Outlines should be left to Java2D.");
+        assertFalse(ScanlineRasterizer.supports(new BufferedImage(10, 10, BufferedImage.TYPE_3BYTE_BGR)), "Images without int pixels should not be supported.");
+        assertTrue(ScanlineRasterizer.supports(image));
+    }
+}
@@ -0,0 +1,131 @@
+package unittest.testcases.graphics;
+
+import io.github.lucasstarsz.fastj.graphics.GlyphAdvances;
+import io.github.lucasstarsz.fastj.graphics.GlyphLayouts;
+import io.github.lucasstarsz.fastj.graphics.TextBuffer;
+import io.github.lucasstarsz.fastj.graphics.game.Text2D;
+import io.github.lucasstarsz.fastj.math.Pointf;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TextBufferTests {
+
+    @Test
+    public void checkAppendInt_shouldMatchIntegerToString() {
+        int[] values = {0, 7, -7, 1234567890, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        TextBuffer textBuffer = new TextBuffer();
+
+        for (int value : values) {
+            textBuffer.clear().append(value);
+            assertEquals(Integer.toString(value), textBuffer.toString(), "The appended int should match its decimal form.");
+        }
+    }
+
+    @Test
+    public void checkAppendLong_withMinValue_shouldMatchLongToString() {
+        TextBuffer textBuffer = new TextBuffer().append(Long.MIN_VALUE);
+        assertEquals(Long.toString(Long.MIN_VALUE), textBuffer.toString(), "The appended long should match its decimal form.");
+    }
+
+    @Test
+    public void checkAppendFloat_shouldRoundToDecimalPlaces() {
+        TextBuffer textBuffer = new TextBuffer();
+
+        assertEquals("3.14", textBuffer.clear().append(3.14159f, 2).toString());
+        assertEquals("-0.50", textBuffer.clear().append(-0.5f, 2).toString());
+        assertEquals("0.0", textBuffer.clear().append(-0.01f, 1).toString());
+        assertEquals("60", textBuffer.clear().append(59.6f, 0).toString());
+        assertEquals("NaN", textBuffer.clear().append(Float.NaN, 3).toString());
+    }
+
+    @Test
+    public void checkAppendPadded_shouldPadToMinimumWidth() {
+        TextBuffer textBuffer = new TextBuffer();
+
+        assertEquals("Score: 000042", textBuffer.clear().append("Score: ").appendPadded(42, 6, '0').toString());
+        assertEquals("-0042", textBuffer.clear().appendPadded(-42, 5, '0').toString());
+        assertEquals("  -42", textBuffer.clear().appendPadded(-42, 5, ' ').toString());
+        assertEquals("123456", textBuffer.clear().appendPadded(123456, 3, '0').toString());
+    }
+
+    @Test
+    public void checkModifyingBuffer_shouldIncreaseVersion() {
+        TextBuffer textBuffer = new TextBuffer("abc");
+        int initialVersion = textBuffer.getVersion();
+
+        textBuffer.setCharAt(1, 'x');
+        assertNotEquals(initialVersion, textBuffer.getVersion(), "Modifying the buffer should change its version.");
+        assertTrue(textBuffer.contentEquals("axc"), "The buffer's content should reflect the modification.");
+    }
+
+    @Test
+    public void checkAppend_pastCapacity_shouldGrowBuffer() {
+        TextBuffer textBuffer = new TextBuffer(4);
+        textBuffer.append("Hello, world!");
+
+        assertTrue(textBuffer.getCapacity() >= 13, "The buffer should grow to fit its text.");
+        assertEquals("Hello, world!", textBuffer.toString());
+    }
+
+    @Test
+    public void checkAdvancesOf_shouldReuseTableAndMatchLayoutWidth() {
+        GlyphAdvances advances = GlyphLayouts.advancesOf(Text2D.DefaultFont);
+        assertSame(advances, GlyphLayouts.advancesOf(Text2D.DefaultFont), "Advances for the same font should be shared.");
+
+        float expectedWidth = GlyphLayouts.layoutOf(Text2D.DefaultFont, "0123456789").getWidth();
+        assertEquals(expectedWidth, advances.widthOf("0123456789"), 0.5f, "Summed advances should match the laid out width of unkerned text.");
+    }
+
+    @Test
+    public void checkText2DWithTextBuffer_shouldUpdateBoundsWhenBufferChanges() {
+        TextBuffer textBuffer = new TextBuffer("1");
+        Text2D text2D = new Text2D("", new Pointf(10f, 20f)).setTextBuffer(textBuffer);
+
+        float shortWidth = text2D.getBounds()[1].x - text2D.getBounds()[0].x;
+        textBuffer.clear().append(1000000);
+        float longWidth = text2D.getBounds()[1].x - text2D.getBounds()[0].x;
+
+        assertEquals("1000000", text2D.getText(), "The text should be read from the buffer.");
+        assertEquals(10f, text2D.getBounds()[0].x, "The bounds should start at the text's translation.");
+        assertTrue(longWidth > shortWidth, "The bounds should widen as the buffer's text grows.");
+    }
+
+    @Test
+    public void checkText2DWithMonospacedFont_shouldMeasureByLength() {
+        Font monospacedFont = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+        GlyphAdvances advances = GlyphLayouts.advancesOf(monospacedFont);
+
+        TextBuffer textBuffer = new TextBuffer("0000");
+        Text2D text2D = new Text2D("", new Pointf(), Text2D.DefaultColor, monospacedFont, Text2D.DefaultShow).setTextBuffer(textBuffer);
+
+        textBuffer.clear().appendPadded(42, 4, '0');
+        float expectedWidth = advances.isMonospaced() ? 4 * advances.advanceOf('0') : advances.widthOf("0042");
+        assertEquals(expectedWidth, text2D.getBounds()[1].x, 0.0001f, "The bounds should match the width of the buffer's text.");
+    }
+
+    @Test
+    public void checkText2DWithTextBuffer_rendering_shouldRestoreTheExactTransform() {
+        Text2D text2D = new Text2D("", new Pointf(9.2f, 26.2f)).setTextBuffer(new TextBuffer("42"));
+        BufferedImage target = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        g.translate(31.7, 126.3);
+        g.rotate(0.2);
+        g.scale(0.8, 0.8);
+        AffineTransform expectedTransform = g.getTransform();
+
+        text2D.render(g);
+
+        assertEquals(expectedTransform, g.getTransform(), "Rendering the text should leave the transform exactly as it was.");
+        g.dispose();
+    }
+}
@@ -0,0 +1,87 @@
+package unittest.testcases.graphics;
+
+import io.github.lucasstarsz.fastj.graphics.TextureAtlas;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TextureAtlasTests {
+
+    private static BufferedImage solidImage(int width, int height, Color color) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(color);
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        return image;
+    }
+
+    @Test
+    public void checkPack_shouldPlaceEveryImageInSeparatePaddedRegions() {
+        Map<String, BufferedImage> images = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            images.put("image" + i, solidImage(8 + i * 3, 40 - i, Color.red));
+        }
+
+        TextureAtlas atlas = TextureAtlas.pack(images);
+        Rectangle atlasArea = new Rectangle(0, 0, atlas.getImage().getWidth(), atlas.getImage().getHeight());
+
+        assertEquals(20, atlas.getRegionCount(), "Every image should have a region.");
+        for (int i = 0; i < atlas.getRegionCount(); i++) {
+            Rectangle region = atlas.getRegion(i);
+            assertEquals(images.get("image" + i).getWidth(), region.width, "Each region should be the size of its image.");
+            assertEquals(images.get("image" + i).getHeight(), region.height, "Each region should be the size of its image.");
+            assertTrue(atlasArea.contains(region), "Each region should be inside the atlas image.");
+
+            Rectangle paddedRegion = new Rectangle(region.x - TextureAtlas.DefaultPadding, region.y - TextureAtlas.DefaultPadding, region.width + TextureAtlas.DefaultPadding, region.height + TextureAtlas.DefaultPadding);
+            for (int j = 0; j < i; j++) {
+                assertFalse(paddedRegion.intersects(atlas.getRegion(j)), "Regions should not overlap, or touch each other.");
+            }
+        }
+    }
+
+    @Test
+    public void checkPack_shouldCopyImagesIntoTheirRegions() {
+        Map<String, BufferedImage> images = new LinkedHashMap<>();
+        images.put("red", solidImage(10, 10, Color.red));
+        images.put("blue", solidImage(20, 5, Color.blue));
+
+        TextureAtlas atlas = TextureAtlas.pack(images);
+
+        assertEquals(0, atlas.indexOf("red"), "Regions should be indexed in the order of the map.");
+        assertEquals(1, atlas.indexOf("blue"), "Regions should be indexed in the order of the map.");
+        assertEquals(-1, atlas.indexOf("green"), "Missing regions should have an index of -1.");
+
+        Rectangle blueRegion = atlas.getRegion(atlas.indexOf("blue"));
+        assertEquals(Color.blue.getRGB(), atlas.getImage().getRGB(blueRegion.x + 19, blueRegion.y + 4), "The region should contain its image.");
+        assertEquals(0, atlas.getImage().getRGB(blueRegion.x + 20, blueRegion.y) >>> 24, "The padding around a region should be transparent.");
+    }
+
+    @Test
+    public void checkDrawRegion_toImage_shouldOnlyDrawThatRegion() {
+        Map<String, BufferedImage> images = new LinkedHashMap<>();
+        images.put("red", solidImage(10, 10, Color.red));
+        images.put("blue", solidImage(10, 10, Color.blue));
+        TextureAtlas atlas = TextureAtlas.pack(images);
+
+        BufferedImage target = new BufferedImage(30, 30, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        atlas.drawRegion(g, atlas.indexOf("blue"), 5, 5);
+        g.dispose();
+
+        assertEquals(Color.blue.getRGB(), target.getRGB(5, 5), "The region should be drawn at the specified location.");
+        assertEquals(Color.blue.getRGB(), target.getRGB(14, 14), "The whole region should be drawn.");
+        assertEquals(0, target.getRGB(15, 15) >>> 24, "Nothing outside the region should be drawn.");
+        assertEquals(0, atlas.getRestoreCount(), "Drawing to an image should not need a copy in video memory.");
+    }
+}
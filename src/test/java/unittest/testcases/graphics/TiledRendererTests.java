@@ -0,0 +1,89 @@
+package unittest.testcases.graphics;
+
+import io.github.lucasstarsz.fastj.graphics.DrawUtil;
+import io.github.lucasstarsz.fastj.graphics.TiledRenderer;
+import io.github.lucasstarsz.fastj.graphics.game.Polygon2D;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TiledRendererTests {
+
+    @Test
+    public void checkSetImage_shouldSplitImageIntoTiles() {
+        TiledRenderer tiledRenderer = new TiledRenderer(64);
+        tiledRenderer.setImage(new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB));
+
+        assertEquals(8, tiledRenderer.getTileCount(), "A 200*100 image should be split into 4 by 2 tiles of 64 pixels, with the last ones cut short.");
+    }
+
+    @Test
+    public void checkRender_shouldOnlyAssignObjectsToTilesTheyOverlap() {
+        TiledRenderer tiledRenderer = new TiledRenderer(64);
+        tiledRenderer.setImage(new BufferedImage(128, 128, BufferedImage.TYPE_INT_RGB));
+
+        tiledRenderer.addObject(new Polygon2D(DrawUtil.createBox(10f, 10f, 10f)), 10f, 10f, 20f, 20f);
+        tiledRenderer.addObject(new Polygon2D(DrawUtil.createBox(50f, 10f, 30f)), 50f, 10f, 80f, 40f);
+        tiledRenderer.addObject(new Polygon2D(DrawUtil.createBox(500f, 500f, 10f)), 500f, 500f, 510f, 510f);
+        tiledRenderer.render(new AffineTransform(), Color.white, new LinkedHashMap<>(), false);
+
+        assertEquals(2, tiledRenderer.getTileObjectCount(0), "The top-left tile should draw both objects that overlap it.");
+        assertEquals(1, tiledRenderer.getTileObjectCount(1), "The top-right tile should only draw the object that crosses into it.");
+        assertEquals(0, tiledRenderer.getTileObjectCount(2), "The bottom-left tile should draw nothing.");
+        assertEquals(0, tiledRenderer.getTileObjectCount(3), "Objects off the image should not be drawn.");
+    }
+
+    @Test
+    public void checkRender_inParallel_shouldMatchDrawingOnOneThread() {
+        int width = 300;
+        int height = 200;
+        AffineTransform cameraTransform = AffineTransform.getTranslateInstance(-15.5, 7.25);
+        Map<RenderingHints.Key, Object> renderHints = new LinkedHashMap<>();
+        renderHints.put(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        Polygon2D[] polygons = new Polygon2D[40];
+        for (int i = 0; i < polygons.length; i++) {
+            polygons[i] = new Polygon2D(DrawUtil.createBox(i * 7.3f, (i * 37) % height, 25f + i % 5), new Color(i * 6, 255 - i * 6, 128), i % 3 != 0, true);
+        }
+
+        BufferedImage expected = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = expected.createGraphics();
+        g.setRenderingHints(renderHints);
+        g.setBackground(Color.white);
+        g.clearRect(0, 0, width, height);
+        g.transform(cameraTransform);
+        for (Polygon2D polygon : polygons) {
+            polygon.render(g);
+        }
+        g.dispose();
+
+        TiledRenderer tiledRenderer = new TiledRenderer(32);
+        tiledRenderer.setImage(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB));
+        for (Polygon2D polygon : polygons) {
+            float[] bounds = new float[8];
+            for (int i = 0; i < 4; i++) {
+                bounds[i * 2] = polygon.getBounds()[i].x;
+                bounds[i * 2 + 1] = polygon.getBounds()[i].y;
+            }
+            cameraTransform.transform(bounds, 0, bounds, 0, 4);
+            tiledRenderer.addObject(polygon, bounds[0], bounds[1], bounds[4], bounds[5]);
+        }
+
+        assertTrue(tiledRenderer.render(cameraTransform, Color.white, renderHints, true), "Every polygon should render without failing.");
+
+        int[] expectedPixels = expected.getRGB(0, 0, width, height, null, 0, width);
+        int[] actualPixels = tiledRenderer.getImage().getRGB(0, 0, width, height, null, 0, width);
+        assertArrayEquals(expectedPixels, actualPixels, "Drawing in tiles should give the same image as drawing everything at once.");
+    }
+}
@@ -0,0 +1,159 @@
+package unittest.testcases.graphics.game;
+
+import io.github.lucasstarsz.fastj.math.Maths;
+import io.github.lucasstarsz.fastj.math.Pointf;
+import io.github.lucasstarsz.fastj.graphics.DrawUtil;
+import io.github.lucasstarsz.fastj.graphics.game.GameObject;
+import io.github.lucasstarsz.fastj.graphics.game.InstancedModel2D;
+import io.github.lucasstarsz.fastj.graphics.game.Model2D;
+import io.github.lucasstarsz.fastj.graphics.game.ModelGeometry;
+import io.github.lucasstarsz.fastj.graphics.game.Polygon2D;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InstancedModel2DTests {
+
+    private static Polygon2D[] createSquares() {
+        Pointf[] square1 = DrawUtil.createBox(Pointf.Origin, 50f);
+        Pointf[] square2 = DrawUtil.createBox(Pointf.add(Pointf.Origin, 25f), 50f);
+
+        return new Polygon2D[]{
+                new Polygon2D(square1),
+                new Polygon2D(square2)
+        };
+    }
+
+    @Test
+    public void checkInstancedModel2DCreation_withGeometryParam() {
+        ModelGeometry geometry = new ModelGeometry(createSquares());
+        InstancedModel2D instance = new InstancedModel2D(geometry);
+
+        assertSame(geometry, instance.getGeometry(), "The created instance's geometry should be the geometry it was created with.");
+        assertNull(instance.getTint(), "The created instance should not be tinted.");
+        assertEquals(InstancedModel2D.DefaultShow, instance.shouldRender(), "The created instance's 'show' option should match the default show option.");
+        assertEquals(GameObject.DefaultTranslation, instance.getTranslation(), "The created instance's translation should match the default translation.");
+        assertEquals(GameObject.DefaultRotation, instance.getRotation(), "The created instance's rotation should match the default rotation.");
+        assertEquals(GameObject.DefaultScale, instance.getScale(), "The created instance's scaling should match the default scale.");
+    }
+
+    @Test
+    public void checkInstancedModel2DBounds_shouldMatchEquivalentModel2D() {
+        Polygon2D[] squares = createSquares();
+        ModelGeometry geometry = new ModelGeometry(squares);
+
+        Pointf[] expectedBounds = new Model2D(squares).getBounds();
+        Pointf[] actualBounds = new InstancedModel2D(geometry).getBounds();
+
+        assertArrayEquals(expectedBounds, actualBounds, "The instance's bounds should match the bounds of an equivalent Model2D.");
+    }
+
+    @Test
+    public void checkInstancedModel2DTranslation_shouldMatchEquivalentModel2D() {
+        Pointf randomTranslation = new Pointf(Maths.random(-50f, 50f), Maths.random(-50f, 50f));
+
+        Model2D expectedModel = new Model2D(createSquares());
+        expectedModel.translate(randomTranslation);
+
+        InstancedModel2D instance = new InstancedModel2D(new ModelGeometry(createSquares()));
+        instance.translate(randomTranslation);
+
+        assertEquals(expectedModel.getTranslation(), instance.getTranslation(), "The instance's translation should match the equivalent Model2D's translation.");
+        assertArrayEquals(expectedModel.getBounds(), instance.getBounds(), "The instance's bounds should match the equivalent Model2D's bounds.");
+    }
+
+    @Test
+    public void checkInstancedModel2DRotation_aroundOrigin_shouldMatchEquivalentModel2D() {
+        float randomRotation = Maths.random(-5000f, 5000f);
+
+        Model2D expectedModel = new Model2D(createSquares());
+        expectedModel.rotate(randomRotation, Pointf.Origin);
+
+        InstancedModel2D instance = new InstancedModel2D(new ModelGeometry(createSquares()));
+        instance.rotate(randomRotation, Pointf.Origin);
+
+        assertEquals(expectedModel.getRotation(), instance.getRotation(), "The instance's rotation should match the equivalent Model2D's rotation.");
+        assertArrayEquals(expectedModel.getBounds(), instance.getBounds(), "The instance's bounds should match the equivalent Model2D's bounds.");
+    }
+
+    @Test
+    public void checkInstancedModel2DScaling_aroundOrigin_shouldMatchEquivalentModel2D() {
+        Pointf scaling = new Pointf(2f, 3f);
+
+        Model2D expectedModel = new Model2D(createSquares());
+        expectedModel.scale(scaling, Pointf.Origin);
+
+        InstancedModel2D instance = new InstancedModel2D(new ModelGeometry(createSquares()));
+        instance.scale(scaling, Pointf.Origin);
+
+        assertEquals(expectedModel.getScale(), instance.getScale(), "The instance's scale should match the equivalent Model2D's scale.");
+        assertArrayEquals(expectedModel.getBounds(), instance.getBounds(), "The instance's bounds should match the equivalent Model2D's bounds.");
+    }
+
+    @Test
+    public void checkInstancedModel2DTransformations_shouldNotAffectOtherInstances() {
+        ModelGeometry geometry = new ModelGeometry(createSquares());
+        InstancedModel2D movedInstance = new InstancedModel2D(geometry);
+        InstancedModel2D stillInstance = new InstancedModel2D(geometry);
+        Pointf[] expectedBounds = new InstancedModel2D(geometry).getBounds();
+
+        movedInstance.translate(new Pointf(100f, 100f));
+        movedInstance.rotate(45f);
+        movedInstance.scale(2f);
+
+        assertArrayEquals(expectedBounds, stillInstance.getBounds(), "Transforming one instance should not affect other instances of the same geometry.");
+        assertSame(movedInstance.getGeometry(), stillInstance.getGeometry(), "Both instances should share the same geometry.");
+    }
+
+    @Test
+    public void checkInstancedModel2DCollision_shouldFollowInstanceTransform() {
+        ModelGeometry geometry = new ModelGeometry(createSquares());
+        InstancedModel2D instance = new InstancedModel2D(geometry);
+        InstancedModel2D otherInstance = new InstancedModel2D(geometry);
+
+        assertTrue(instance.collidesWith(otherInstance), "Two overlapping instances should collide.");
+
+        otherInstance.translate(new Pointf(200f, 200f));
+        assertFalse(instance.collidesWith(otherInstance), "Once moved apart, the instances should no longer collide.");
+    }
+
+    @Test
+    public void checkInstancedModel2DTint_shouldBeSettableWithMethodChaining() {
+        Color tint = DrawUtil.randomColor();
+        InstancedModel2D instance = new InstancedModel2D(new ModelGeometry(createSquares())).setTint(tint);
+
+        assertEquals(tint, instance.getTint(), "The instance's tint should match the tint it was set to.");
+    }
+
+    @Test
+    public void checkInstancedModel2DTint_withMoreTintsThanCached_shouldKeepRenderingTintedColors() {
+        ModelGeometry geometry = new ModelGeometry(new Polygon2D[]{new Polygon2D(DrawUtil.createBox(0f, 0f, 10f), Color.white, true, true)});
+        InstancedModel2D instance = new InstancedModel2D(geometry);
+
+        for (int i = 0; i <= ModelGeometry.MaxTintedPalettes + 1; i++) {
+            Color tint = new Color(i, 255 - i, 128);
+            assertEquals(tint.getRGB(), renderedColorOf(instance.setTint(tint)), "The instance should be drawn in its tint.");
+        }
+
+        Color evictedTint = new Color(0, 255, 128);
+        assertEquals(evictedTint.getRGB(), renderedColorOf(instance.setTint(evictedTint)), "A tint whose palette was discarded should be drawn the same way again.");
+    }
+
+    private static int renderedColorOf(InstancedModel2D instance) {
+        BufferedImage target = new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        instance.render(g);
+        g.dispose();
+        return target.getRGB(5, 5);
+    }
+}
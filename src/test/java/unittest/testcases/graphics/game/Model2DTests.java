@@ -7,15 +7,45 @@ import io.github.lucasstarsz.fastj.graphics.game.GameObject;
 import io.github.lucasstarsz.fastj.graphics.game.Model2D;
 import io.github.lucasstarsz.fastj.graphics.game.Polygon2D;
 
+import java.awt.Color;
+import java.awt.Graphics2D;
 import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class Model2DTests {
 
+    private static void assertWorldPointsMatch(Polygon2D[] expectedPolygons, Model2D model2D, String message) {
+        Polygon2D[] actualPolygons = model2D.getPolygons();
+        assertEquals(expectedPolygons.length, actualPolygons.length, message);
+
+        for (int i = 0; i < expectedPolygons.length; i++) {
+            Pointf[] actualWorldPoints = DrawUtil.pointsOfPath(new Path2D.Float(actualPolygons[i].getRenderPath(), model2D.getWorldTransform()));
+            assertArrayEquals(expectedPolygons[i].getPoints(), actualWorldPoints, message);
+        }
+    }
+
+    private static AffineTransform scaleTransform(Pointf scaleMod, Pointf centerpoint) {
+        AffineTransform scaleTransform = AffineTransform.getTranslateInstance(centerpoint.x, centerpoint.y);
+        scaleTransform.scale(1f + scaleMod.x, 1f + scaleMod.y);
+        scaleTransform.translate(-centerpoint.x, -centerpoint.y);
+        return scaleTransform;
+    }
+
+    private static void applyTransform(Polygon2D polygon, AffineTransform transform) {
+        polygon.modifyPoints(DrawUtil.pointsOfPath(new Path2D.Float(polygon.getRenderPath(), transform)), false, false, false);
+    }
+
     @Test
     public void checkModel2DCreation_withPolygon2DArrayParam() {
         Pointf[] square1 = DrawUtil.createBox(Pointf.Origin, 50f);
@@ -167,7 +197,8 @@ public class Model2DTests {
         Model2D model2D = new Model2D(actualPolygons);
         model2D.translate(randomTranslation);
 
-        assertArrayEquals(expectedPolygons, model2D.getPolygons(), "The array of actual translated Polygon2Ds should match the expected Polygon2Ds.");
+        assertArrayEquals(actualPolygons, model2D.getPolygons(), "Translating the model should not modify its local Polygon2Ds.");
+        assertWorldPointsMatch(expectedPolygons, model2D, "The actual translated Polygon2Ds should match the expected Polygon2Ds in world space.");
     }
 
     @Test
@@ -191,7 +222,7 @@ public class Model2DTests {
         Model2D model2D = new Model2D(actualPolygons);
         model2D.rotate(randomRotation, Pointf.Origin);
 
-        assertArrayEquals(expectedPolygons, model2D.getPolygons(), "The array of actual rotated Polygon2Ds should match the expected Polygon2Ds.");
+        assertWorldPointsMatch(expectedPolygons, model2D, "The actual rotated Polygon2Ds should match the expected Polygon2Ds in world space.");
     }
 
     @Test
@@ -216,7 +247,7 @@ public class Model2DTests {
         Model2D model2D = new Model2D(actualPolygons);
         model2D.rotate(randomRotation);
 
-        assertArrayEquals(expectedPolygons, model2D.getPolygons(), "The array of actual rotated Polygon2Ds should match the expected Polygon2Ds.");
+        assertWorldPointsMatch(expectedPolygons, model2D, "The actual rotated Polygon2Ds should match the expected Polygon2Ds in world space.");
     }
 
     @Test
@@ -241,7 +272,7 @@ public class Model2DTests {
         Model2D model2D = new Model2D(actualPolygons);
         model2D.rotate(randomRotation, randomCenter);
 
-        assertArrayEquals(expectedPolygons, model2D.getPolygons(), "The array of actual rotated Polygon2Ds should match the expected Polygon2Ds.");
+        assertWorldPointsMatch(expectedPolygons, model2D, "The actual rotated Polygon2Ds should match the expected Polygon2Ds in world space.");
     }
 
     @Test
@@ -255,7 +286,7 @@ public class Model2DTests {
                 new Polygon2D(square2)
         };
         for (Polygon2D polygon2D : expectedPolygons) {
-            polygon2D.scale(randomScaling, Pointf.Origin);
+            applyTransform(polygon2D, scaleTransform(randomScaling, Pointf.Origin));
         }
 
         Polygon2D[] actualPolygons = {
@@ -265,7 +296,7 @@ public class Model2DTests {
         Model2D model2D = new Model2D(actualPolygons);
         model2D.scale(randomScaling, Pointf.Origin);
 
-        assertArrayEquals(expectedPolygons, model2D.getPolygons(), "The array of actual scaled Polygon2Ds should match the expected Polygon2Ds.");
+        assertWorldPointsMatch(expectedPolygons, model2D, "The actual scaled Polygon2Ds should match the expected Polygon2Ds in world space.");
     }
 
     @Test
@@ -280,7 +311,7 @@ public class Model2DTests {
                 new Polygon2D(square2)
         };
         for (Polygon2D expectedPolygon : expectedPolygons) {
-            expectedPolygon.scale(randomScaling, expectedModelCenter);
+            applyTransform(expectedPolygon, scaleTransform(randomScaling, expectedModelCenter));
         }
 
         Polygon2D[] actualPolygons = {
@@ -290,7 +321,7 @@ public class Model2DTests {
         Model2D model2D = new Model2D(actualPolygons);
         model2D.scale(randomScaling);
 
-        assertArrayEquals(expectedPolygons, model2D.getPolygons(), "The array of actual scaled Polygon2Ds should match the expected Polygon2Ds.");
+        assertWorldPointsMatch(expectedPolygons, model2D, "The actual scaled Polygon2Ds should match the expected Polygon2Ds in world space.");
     }
 
     @Test
@@ -305,7 +336,7 @@ public class Model2DTests {
                 new Polygon2D(square2)
         };
         for (Polygon2D expectedPolygon : expectedPolygons) {
-            expectedPolygon.scale(randomScaling, randomCenter);
+            applyTransform(expectedPolygon, scaleTransform(randomScaling, randomCenter));
         }
 
         Polygon2D[] actualPolygons = {
@@ -315,7 +346,7 @@ public class Model2DTests {
         Model2D model2D = new Model2D(actualPolygons);
         model2D.scale(randomScaling, randomCenter);
 
-        assertArrayEquals(expectedPolygons, model2D.getPolygons(), "The array of actual scaled Polygon2Ds should match the expected Polygon2Ds.");
+        assertWorldPointsMatch(expectedPolygons, model2D, "The actual scaled Polygon2Ds should match the expected Polygon2Ds in world space.");
     }
 
     @Test
@@ -330,7 +361,7 @@ public class Model2DTests {
                 new Polygon2D(square2)
         };
         for (Polygon2D expectedPolygon : expectedPolygons) {
-            expectedPolygon.scale(new Pointf(randomScaling), expectedModelCenter);
+            applyTransform(expectedPolygon, scaleTransform(new Pointf(randomScaling), expectedModelCenter));
         }
 
         Polygon2D[] actualPolygons = {
@@ -340,6 +371,172 @@ public class Model2DTests {
         Model2D model2D = new Model2D(actualPolygons);
         model2D.scale(randomScaling);
 
-        assertArrayEquals(expectedPolygons, model2D.getPolygons(), "The array of actual scaled Polygon2Ds should match the expected Polygon2Ds.");
+        assertWorldPointsMatch(expectedPolygons, model2D, "The actual scaled Polygon2Ds should match the expected Polygon2Ds in world space.");
+    }
+
+    @Test
+    public void checkModel2DBounds_afterTranslation_shouldMatchExpected() {
+        Pointf[] square1 = DrawUtil.createBox(Pointf.Origin, 50f);
+        Pointf[] square2 = DrawUtil.createBox(Pointf.add(Pointf.Origin, 25f), 50f);
+        Pointf randomTranslation = new Pointf(Maths.random(-50f, 50f), Maths.random(-50f, 50f));
+
+        Polygon2D[] polygons = {
+                new Polygon2D(square1),
+                new Polygon2D(square2)
+        };
+        Model2D model2D = new Model2D(polygons);
+        model2D.translate(randomTranslation);
+
+        Pointf[] expectedBounds = {
+                Pointf.add(square1[0], randomTranslation),
+                Pointf.add(new Pointf(square2[1].x, square1[1].y), randomTranslation),
+                Pointf.add(square2[2], randomTranslation),
+                Pointf.add(new Pointf(square1[3].x, square2[3].y), randomTranslation)
+        };
+
+        assertArrayEquals(expectedBounds, model2D.getBounds(), "The translated model's bounds should match the expected bounds.");
+    }
+
+    @Test
+    public void checkModel2DChild_shouldFollowParentTransformations() {
+        Pointf[] square1 = DrawUtil.createBox(Pointf.Origin, 50f);
+        Pointf[] square2 = DrawUtil.createBox(Pointf.add(Pointf.Origin, 25f), 50f);
+        Pointf[] turretSquare = DrawUtil.createBox(Pointf.Origin, 10f);
+        Pointf randomTranslation = new Pointf(Maths.random(-50f, 50f), Maths.random(-50f, 50f));
+        float randomRotation = Maths.random(-5000f, 5000f);
+
+        Model2D model2D = new Model2D(new Polygon2D[]{new Polygon2D(square1), new Polygon2D(square2)});
+        Polygon2D turret = new Polygon2D(turretSquare);
+        model2D.addChild(turret);
+
+        model2D.translate(randomTranslation);
+        model2D.rotate(randomRotation, Pointf.Origin);
+
+        Polygon2D expectedTurret = new Polygon2D(turretSquare);
+        expectedTurret.translate(randomTranslation);
+        expectedTurret.rotate(randomRotation, Pointf.Origin);
+
+        assertEquals(model2D, turret.getParent(), "The turret's parent should be the model it was attached to.");
+        assertArrayEquals(turretSquare, turret.getPoints(), "Transforming the parent should not modify the child's local points.");
+        assertArrayEquals(expectedTurret.getBounds(), turret.getBounds(), "The child's world bounds should follow its parent's transformations.");
+    }
+
+    @Test
+    public void checkModel2DHierarchy_childMovingRelativeToParent_shouldChangeHierarchyBoundsAndVersion() {
+        Model2D model2D = new Model2D(new Polygon2D[]{new Polygon2D(DrawUtil.createBox(0f, 0f, 10f))});
+        Polygon2D turret = new Polygon2D(DrawUtil.createBox(2f, 2f, 5f));
+        model2D.addChild(turret);
+
+        Rectangle2D.Float initialBounds = model2D.getHierarchyBounds(new Rectangle2D.Float());
+        int initialVersion = model2D.getHierarchyVersion();
+        assertEquals(new Rectangle2D.Float(0f, 0f, 10f, 10f), initialBounds, "The hierarchy bounds should cover the model and its child.");
+
+        turret.translate(new Pointf(20f, 0f));
+
+        assertEquals(new Rectangle2D.Float(0f, 0f, 27f, 10f), model2D.getHierarchyBounds(new Rectangle2D.Float()), "The hierarchy bounds should follow the child as it moves away from its parent.");
+        assertArrayEquals(DrawUtil.createBox(0f, 0f, 10f), model2D.getBounds(), "The model's own bounds should not change when only its child moves.");
+
+        turret.setColor(Color.red);
+        assertNotEquals(initialVersion, model2D.getHierarchyVersion(), "Changing a child's appearance should change its parent's hierarchy version.");
+
+        int versionBeforeParentMoves = turret.getAppearanceVersion();
+        model2D.translate(new Pointf(5f, 5f));
+        assertNotEquals(versionBeforeParentMoves, turret.getAppearanceVersion(), "Transforming the parent should change its children's appearance versions.");
+    }
+
+    @Test
+    public void checkModel2DHierarchy_rotatingChildOfTranslatedParent_shouldRotateInPlace() {
+        Model2D model2D = new Model2D(new Polygon2D[]{new Polygon2D(DrawUtil.createBox(0f, 0f, 10f))});
+        Polygon2D child = new Polygon2D(DrawUtil.createBox(0f, 0f, 10f));
+        model2D.addChild(child);
+        model2D.translate(new Pointf(100f, 0f));
+
+        child.rotate(90f);
+        Rectangle2D.Float childBounds = child.getHierarchyBounds(new Rectangle2D.Float());
+
+        assertEquals(100f, childBounds.x, 0.0001f, "A child should rotate about its own center, not the center of its world bounds.");
+        assertEquals(0f, childBounds.y, 0.0001f, "A child should rotate about its own center, not the center of its world bounds.");
+        assertEquals(10f, childBounds.width, 0.0001f);
+        assertEquals(10f, childBounds.height, 0.0001f);
+    }
+
+    @Test
+    public void checkModel2DDetailLevels_shouldPickCoarserLevelsWhenSmallerOnScreen() {
+        Pointf[] circle = new Pointf[256];
+        for (int i = 0; i < circle.length; i++) {
+            double angle = Math.PI * 2 * i / circle.length;
+            circle[i] = new Pointf((float) (Math.cos(angle) * 128f), (float) (Math.sin(angle) * 128f));
+        }
+        Model2D model2D = new Model2D(new Polygon2D[] {new Polygon2D(circle)}).generateDetailLevels(3);
+
+        assertEquals(3, model2D.getDetailLevelCount());
+        assertEquals(circle.length, model2D.getPolygons(0)[0].getPoints().length, "The first detail level should be the original polygons.");
+        assertEquals(1f, model2D.getDetailTolerance(1), 0.0001f, "The first simplified level should have a tolerance of 1/256 of the model's size.");
+        assertEquals(4f, model2D.getDetailTolerance(2), 0.0001f);
+        assertTrue(model2D.getPolygons(2)[0].getPoints().length < model2D.getPolygons(1)[0].getPoints().length, "Coarser levels should have fewer points.");
+
+        assertEquals(0, model2D.getDetailLevelFor(2.0), "Drawn larger than its local size, the model should use its full detail.");
+        assertEquals(1, model2D.getDetailLevelFor(0.5));
+        assertEquals(2, model2D.getDetailLevelFor(0.1), "Drawn far smaller than its local size, the model should use its coarsest level.");
+    }
+
+    @Test
+    public void checkModel2DDetailLevels_renderedFromSeveralThreads_shouldRegenerateAfterAppearanceChanges() {
+        Pointf[] circle = new Pointf[256];
+        for (int i = 0; i < circle.length; i++) {
+            double angle = Math.PI * 2 * i / circle.length;
+            circle[i] = new Pointf((float) (Math.cos(angle) * 128f), (float) (Math.sin(angle) * 128f));
+        }
+        Model2D model2D = new Model2D(new Polygon2D[] {new Polygon2D(circle)}).generateDetailLevels(3);
+        model2D.getPolygons()[0].setColor(Color.red);
+
+        IntStream.range(0, 16).parallel().forEach(i -> {
+            BufferedImage target = new BufferedImage(8, 8, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = target.createGraphics();
+            g.scale(0.01, 0.01);
+            model2D.render(g);
+            g.dispose();
+        });
+
+        assertEquals(Color.red, model2D.getPolygons(2)[0].getColor(), "Rendering should regenerate the detail levels once the original polygons change.");
+        assertEquals(3, model2D.getDetailLevelCount(), "Regenerating the detail levels should keep their amount.");
+    }
+
+    @Test
+    public void checkModel2DCollisionDetailLevel_shouldBuildCollisionPathFromLevel() {
+        Pointf[] circle = new Pointf[256];
+        for (int i = 0; i < circle.length; i++) {
+            double angle = Math.PI * 2 * i / circle.length;
+            circle[i] = new Pointf((float) (Math.cos(angle) * 128f), (float) (Math.sin(angle) * 128f));
+        }
+        Model2D model2D = new Model2D(new Polygon2D[] {new Polygon2D(circle)}).generateDetailLevels(3);
+        int fullPointCount = DrawUtil.pointsOfPath((Path2D.Float) model2D.getCollisionPath()).length;
+
+        model2D.setCollisionDetailLevel(2).translate(new Pointf(10f, 0f));
+        Pointf[] coarsePoints = DrawUtil.pointsOfPath(new Path2D.Float(model2D.getCollisionPath()));
+
+        assertEquals(2, model2D.getCollisionDetailLevel());
+        assertTrue(coarsePoints.length < fullPointCount, "The collision path should be made from the chosen detail level.");
+        assertEquals(138f, model2D.getCollisionPath().getBounds2D().getMaxX(), 0.001f, "The collision path should still follow the model's transform.");
+    }
+
+    @Test
+    public void checkModel2DDetailLevels_afterAppearanceChange_shouldFollowOriginalPolygons() {
+        Pointf[] circle = new Pointf[256];
+        for (int i = 0; i < circle.length; i++) {
+            double angle = Math.PI * 2 * i / circle.length;
+            circle[i] = new Pointf((float) (Math.cos(angle) * 128f), (float) (Math.sin(angle) * 128f));
+        }
+        Model2D model2D = new Model2D(new Polygon2D[] {new Polygon2D(circle)}).generateDetailLevels(3);
+
+        Polygon2D original = model2D.getPolygons()[0];
+        original.setColor(Color.red).setFilled(false);
+
+        for (int level = 1; level < model2D.getDetailLevelCount(); level++) {
+            Polygon2D simplified = model2D.getPolygons(level)[0];
+            assertEquals(Color.red, simplified.getColor(), "Detail levels should follow the color of the original polygons.");
+            assertFalse(simplified.isFilled(), "Detail levels should follow the fill of the original polygons.");
+        }
+        assertTrue(model2D.getPolygons(2)[0].getPoints().length < circle.length, "Detail levels should stay simplified.");
     }
 }
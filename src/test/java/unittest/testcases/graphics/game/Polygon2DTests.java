@@ -8,11 +8,13 @@ import io.github.lucasstarsz.fastj.graphics.game.Polygon2D;
 
 import java.awt.Color;
 import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 public class Polygon2DTests {
 
@@ -373,4 +375,52 @@ public class Polygon2DTests {
         Pointf[] actualScaledPoints = polygon2D.getPoints();
         assertArrayEquals(expectedScaledPoints, actualScaledPoints, "The actual Pointf array, which has been scaled around " + randomScaling + ", should match the expected Pointf array.");
     }
+
+    @Test
+    public void checkPolygon2DAppearanceVersion_shouldChangeWithColorButNotTranslation() {
+        Polygon2D polygon2D = new Polygon2D(DrawUtil.createBox(Pointf.Origin, 5f));
+        int initialVersion = polygon2D.getAppearanceVersion();
+
+        polygon2D.translate(new Pointf(5f, 5f));
+        assertEquals(initialVersion, polygon2D.getAppearanceVersion(), "Translating the polygon should not change its appearance version.");
+
+        polygon2D.setColor(Color.red);
+        assertNotEquals(initialVersion, polygon2D.getAppearanceVersion(), "Changing the polygon's color should change its appearance version.");
+    }
+
+    @Test
+    public void checkPolygon2DAppearanceVersion_withRotationKeepingBounds_shouldChange() {
+        Polygon2D polygon2D = new Polygon2D(DrawUtil.createBox(Pointf.Origin, 10f));
+        Pointf[] initialBounds = polygon2D.getBounds();
+        int initialVersion = polygon2D.getAppearanceVersion();
+
+        polygon2D.rotate(90f, new Pointf(5f, 5f));
+
+        assertArrayEquals(initialBounds, polygon2D.getBounds(), "Rotating a square by 90 degrees about its center should keep its bounds.");
+        assertNotEquals(initialVersion, polygon2D.getAppearanceVersion(), "Rotating the polygon should change its appearance version, even when its bounds stay the same.");
+
+        int rotatedVersion = polygon2D.getAppearanceVersion();
+        polygon2D.scale(new Pointf(0f, 0f), new Pointf(5f, 5f));
+        assertNotEquals(rotatedVersion, polygon2D.getAppearanceVersion(), "Scaling the polygon should change its appearance version.");
+    }
+
+    @Test
+    public void checkPolygon2DHierarchy_transformingParent_shouldMoveChildThroughWorldTransform() {
+        Polygon2D parent = new Polygon2D(DrawUtil.createBox(Pointf.Origin, 10f));
+        Polygon2D child = new Polygon2D(DrawUtil.createBox(new Pointf(20f, 0f), 5f));
+        parent.addChild(child);
+        Pointf[] childPoints = child.getPoints();
+
+        parent.translate(new Pointf(10f, 10f));
+        parent.rotate(90f, new Pointf(15f, 15f));
+        parent.scale(new Pointf(1f, 1f), new Pointf(15f, 15f));
+
+        assertArrayEquals(childPoints, child.getPoints(), "Transforming the parent should not change the points of its children.");
+
+        Rectangle2D.Float childBounds = child.getHierarchyBounds(new Rectangle2D.Float());
+        assertEquals(15f, childBounds.x, 0.001f, "The child should follow its parent through the parent's world transform.");
+        assertEquals(45f, childBounds.y, 0.001f, "The child should follow its parent through the parent's world transform.");
+        assertEquals(10f, childBounds.width, 0.001f, "The child should be scaled along with its parent.");
+        assertEquals(10f, childBounds.height, 0.001f, "The child should be scaled along with its parent.");
+    }
 }
@@ -0,0 +1,89 @@
+package unittest.testcases.graphics.game;
+
+import io.github.lucasstarsz.fastj.math.Pointf;
+import io.github.lucasstarsz.fastj.graphics.DrawUtil;
+import io.github.lucasstarsz.fastj.graphics.TextureAtlas;
+import io.github.lucasstarsz.fastj.graphics.game.Sprite2D;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class Sprite2DTests {
+
+    private static TextureAtlas threeFrameAtlas() {
+        Map<String, BufferedImage> images = new LinkedHashMap<>();
+        images.put("frame0", solidImage(20, 10, Color.red));
+        images.put("frame1", solidImage(20, 10, Color.green));
+        images.put("frame2", solidImage(30, 30, Color.blue));
+        return TextureAtlas.pack(images);
+    }
+
+    private static BufferedImage solidImage(int width, int height, Color color) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(color);
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        return image;
+    }
+
+    @Test
+    public void checkSprite2DBounds_afterTranslationAndScale_shouldMatchTransformedFrame() {
+        Sprite2D sprite = new Sprite2D(threeFrameAtlas(), "frame0");
+        assertArrayEquals(DrawUtil.createBox(0f, 0f, 20f, 10f), sprite.getBounds(), "The sprite's bounds should match its frame's size.");
+
+        sprite.translate(new Pointf(5f, 5f));
+        sprite.scale(new Pointf(1f, 1f), new Pointf(5f, 5f));
+
+        assertArrayEquals(DrawUtil.createBox(5f, 5f, 40f, 20f), sprite.getBounds(), "The sprite's bounds should follow its transform.");
+        assertTrue(sprite.getCollisionPath().contains(44f, 24f), "The sprite's collision path should follow its transform.");
+    }
+
+    @Test
+    public void checkAnimate_whenLooping_shouldWrapAroundToTheFirstFrame() {
+        Sprite2D sprite = new Sprite2D(threeFrameAtlas(), "frame0", "frame1", "frame2").setFrameDuration(0.1f);
+
+        sprite.animate(0.15f);
+        assertEquals(1, sprite.getFrameIndex(), "The sprite should move to the next frame once a frame's time has passed.");
+
+        sprite.animate(0.2f);
+        assertEquals(0, sprite.getFrameIndex(), "A looping sprite should start over after its last frame.");
+    }
+
+    @Test
+    public void checkAnimate_whenNotLooping_shouldStopOnTheLastFrame() {
+        Sprite2D sprite = new Sprite2D(threeFrameAtlas(), "frame0", "frame1", "frame2").setFrameDuration(0.1f).setLooping(false);
+        int initialVersion = sprite.getAppearanceVersion();
+
+        sprite.animate(1f);
+
+        assertEquals(2, sprite.getFrameIndex(), "A non-looping sprite should stop on its last frame.");
+        assertTrue(sprite.isFinished(), "A non-looping sprite on its last frame should be finished.");
+        assertNotEquals(initialVersion, sprite.getAppearanceVersion(), "Changing frames should change the sprite's appearance version.");
+        assertArrayEquals(DrawUtil.createBox(0f, 0f, 30f, 30f), sprite.getBounds(), "The sprite's bounds should match the size of its new frame.");
+    }
+
+    @Test
+    public void checkRender_shouldDrawTheCurrentFrameAtTheSpriteLocation() {
+        Sprite2D sprite = new Sprite2D(threeFrameAtlas(), "frame0", "frame1").setFrameIndex(1);
+        sprite.translate(new Pointf(10f, 10f));
+
+        BufferedImage target = new BufferedImage(50, 50, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        sprite.render(g);
+        g.dispose();
+
+        assertEquals(Color.green.getRGB(), target.getRGB(10, 10), "The current frame should be drawn at the sprite's location.");
+        assertEquals(0, target.getRGB(9, 9) >>> 24, "Nothing should be drawn outside the sprite.");
+    }
+}
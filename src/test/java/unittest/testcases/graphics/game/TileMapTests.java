@@ -0,0 +1,94 @@
+package unittest.testcases.graphics.game;
+
+import io.github.lucasstarsz.fastj.math.Pointf;
+import io.github.lucasstarsz.fastj.graphics.DrawUtil;
+import io.github.lucasstarsz.fastj.graphics.TextureAtlas;
+import io.github.lucasstarsz.fastj.graphics.game.TileMap;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TileMapTests {
+
+    private static final int Grass = 0;
+    private static final int Wall = 1;
+
+    private static TextureAtlas tileset() {
+        Map<String, BufferedImage> images = new LinkedHashMap<>();
+        images.put("grass", solidImage(Color.green));
+        images.put("wall", solidImage(Color.gray));
+        return TextureAtlas.pack(images);
+    }
+
+    private static BufferedImage solidImage(Color color) {
+        BufferedImage image = new BufferedImage(8, 8, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(color);
+        g.fillRect(0, 0, 8, 8);
+        g.dispose();
+        return image;
+    }
+
+    private static void renderTo(TileMap tileMap, BufferedImage target, int clipWidth, int clipHeight) {
+        Graphics2D g = target.createGraphics();
+        g.setClip(0, 0, clipWidth, clipHeight);
+        tileMap.render(g);
+        g.dispose();
+    }
+
+    @Test
+    public void checkGetTileAt_afterTranslationAndScale_shouldFindTheCellAtTheWorldLocation() {
+        TileMap tileMap = new TileMap(tileset(), 10, 10, 8, 8);
+        tileMap.setTile(2, 3, Wall);
+        tileMap.translate(new Pointf(100f, 50f));
+        tileMap.scale(new Pointf(1f, 1f), new Pointf(100f, 50f));
+
+        assertArrayEquals(DrawUtil.createBox(100f, 50f, 160f), tileMap.getBounds(), "The map's bounds should cover every transformed tile.");
+        assertEquals(Wall, tileMap.getTileAt(100f + 2 * 16f + 1f, 50f + 3 * 16f + 1f), "The tile should be found at its transformed location.");
+        assertEquals(TileMap.EmptyTile, tileMap.getTileAt(100f + 2 * 8f + 1f, 50f + 3 * 8f + 1f), "The tile's untransformed location should be empty.");
+        assertEquals(TileMap.EmptyTile, tileMap.getTileAt(0f, 0f), "Locations outside the map should be empty.");
+    }
+
+    @Test
+    public void checkSolidQueries_shouldOnlyMatchSolidTiles() {
+        TileMap tileMap = new TileMap(tileset(), 10, 10, 8, 8)
+                .fill(0, 0, 10, 10, Grass)
+                .fill(4, 0, 1, 10, Wall)
+                .setSolid(Wall, true);
+
+        assertTrue(tileMap.isSolidAt(33f, 40f), "A wall tile should be solid.");
+        assertFalse(tileMap.isSolidAt(31f, 40f), "A grass tile should not be solid.");
+        assertTrue(tileMap.overlapsSolid(new Rectangle2D.Float(20f, 20f, 13.5f, 4f)), "A rectangle reaching into the wall should overlap a solid tile.");
+        assertFalse(tileMap.overlapsSolid(new Rectangle2D.Float(20f, 20f, 12f, 4f)), "A rectangle ending at the wall should not overlap a solid tile.");
+    }
+
+    @Test
+    public void checkRender_shouldOnlyRedrawVisibleChunksWhoseTilesChanged() {
+        TileMap tileMap = new TileMap(tileset(), 64, 64, 8, 8, 4, true).fill(0, 0, 64, 64, Grass);
+        BufferedImage target = new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB);
+
+        renderTo(tileMap, target, 64, 64);
+        assertEquals(4, tileMap.getChunkRenderCount(), "Only the 2 by 2 visible chunks should be drawn.");
+
+        renderTo(tileMap, target, 64, 64);
+        assertEquals(4, tileMap.getChunkRenderCount(), "Unchanged chunks should not be drawn again.");
+
+        tileMap.setTile(5, 1, Wall);
+        tileMap.setTile(40, 40, Wall);
+        renderTo(tileMap, target, 64, 64);
+        assertEquals(5, tileMap.getChunkRenderCount(), "Only the visible chunk whose tile changed should be drawn again.");
+        assertEquals(Color.gray.getRGB(), target.getRGB(5 * 8 + 4, 8 + 4), "The changed tile should be drawn.");
+        assertEquals(Color.green.getRGB(), target.getRGB(4 * 8 + 4, 8 + 4), "Unchanged tiles should still be drawn.");
+    }
+}
@@ -0,0 +1,39 @@
+package unittest.testcases.graphics.ui;
+
+import io.github.lucasstarsz.fastj.graphics.ui.elements.Button;
+
+import java.awt.Color;
+
+import org.junit.jupiter.api.Test;
+import unittest.mock.MockScene;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ButtonTests {
+
+    @Test
+    public void checkNewButton_shouldBeDirty() {
+        Button button = new Button(new MockScene());
+        assertTrue(button.isDirty(), "A new button should be dirty, as it has never been drawn.");
+    }
+
+    @Test
+    public void checkChangingButtonAppearance_shouldMarkDirty() {
+        Button button = new Button(new MockScene());
+
+        button.markClean();
+        assertFalse(button.isDirty(), "Marking the button clean should clear its dirty state.");
+
+        button.setText("Play");
+        assertTrue(button.isDirty(), "Changing the button's text should mark it dirty.");
+
+        button.markClean();
+        button.setPaint(Color.red);
+        assertTrue(button.isDirty(), "Changing the button's paint should mark it dirty.");
+
+        button.markClean();
+        button.setFont(button.getFont().deriveFont(20f));
+        assertTrue(button.isDirty(), "Changing the button's font should mark it dirty.");
+    }
+}
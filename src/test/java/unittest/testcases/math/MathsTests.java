@@ -36,6 +36,27 @@ public class MathsTests {
         }
     }
 
+    @Test
+    public void checkSetRandomSeed_ensureSameSequenceForSameSeed() {
+        float[] firstSequence = new float[16];
+        float[] secondSequence = new float[16];
+
+        Maths.setRandomSeed(42L);
+        for (int i = 0; i < firstSequence.length; i++) {
+            firstSequence[i] = Maths.random(0f, 1f) + Maths.randomInteger(0, 100);
+        }
+
+        Maths.setRandomSeed(42L);
+        for (int i = 0; i < secondSequence.length; i++) {
+            secondSequence[i] = Maths.random(0f, 1f) + Maths.randomInteger(0, 100);
+        }
+        Maths.clearRandomSeed();
+
+        for (int i = 0; i < firstSequence.length; i++) {
+            assertEquals(firstSequence[i], secondSequence[i], "Random values generated with the same seed should match.");
+        }
+    }
+
     @Test
     public void checkGenerateRandomsAtEdges_ensureMatchAtLeastOneEdge() {
         float leftEdge = 3.5f;
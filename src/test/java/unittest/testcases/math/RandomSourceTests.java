@@ -0,0 +1,103 @@
+package unittest.testcases.math;
+
+import io.github.lucasstarsz.fastj.math.Maths;
+import io.github.lucasstarsz.fastj.math.RandomSource;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RandomSourceTests {
+
+    @Test
+    public void checkSeeded_ensureSameSequenceForSameSeed() {
+        RandomSource first = RandomSource.seeded(1234L);
+        RandomSource second = RandomSource.seeded(1234L);
+        RandomSource other = RandomSource.seeded(1235L);
+
+        boolean differsFromOtherSeed = false;
+        for (int i = 0; i < 64; i++) {
+            long value = first.nextLong();
+            assertEquals(value, second.nextLong(), "Sources with the same seed should produce the same values.");
+            differsFromOtherSeed |= value != other.nextLong();
+        }
+        assertTrue(differsFromOtherSeed, "Sources with different seeds should produce different values.");
+    }
+
+    @Test
+    public void checkSplit_ensureDeterministicAndSeparateFromParent() {
+        RandomSource parent = RandomSource.seeded(99L);
+        RandomSource child = parent.split();
+        RandomSource sameParent = RandomSource.seeded(99L);
+        RandomSource sameChild = sameParent.split();
+
+        for (int i = 0; i < 64; i++) {
+            long childValue = child.nextLong();
+            long parentValue = parent.nextLong();
+            assertEquals(childValue, sameChild.nextLong(), "Splitting sources with the same seed should produce the same child values.");
+            assertEquals(parentValue, sameParent.nextLong(), "Splitting sources with the same seed should leave them producing the same values.");
+            assertNotEquals(childValue, parentValue, "A child source should not repeat its parent's values.");
+        }
+    }
+
+    @Test
+    public void checkNestedSplit_ensureNoOverlapBetweenSources() {
+        RandomSource parent = RandomSource.seeded(99L);
+        RandomSource child = parent.split();
+        RandomSource grandchild = child.split();
+        RandomSource secondChild = parent.split();
+
+        List<RandomSource> sources = List.of(parent, child, grandchild, secondChild);
+        Set<Long> values = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            for (RandomSource source : sources) {
+                assertTrue(values.add(source.nextLong()), "Sources split off one another should not produce the same values.");
+            }
+        }
+    }
+
+    @Test
+    public void checkBoundedValues_ensureWithinExpectedRange() {
+        RandomSource random = RandomSource.seeded(7L);
+
+        for (int i = 0; i < 1024; i++) {
+            int bounded = random.nextInt(10);
+            assertTrue(bounded >= 0 && bounded < 10, "Bounded values should be within [0, bound).");
+
+            int ranged = random.nextInt(-5, 5);
+            assertTrue(ranged >= -5 && ranged < 5, "Ranged values should be within [origin, bound).");
+
+            int wideRanged = random.nextInt(Integer.MIN_VALUE + 1, Integer.MAX_VALUE);
+            assertTrue(wideRanged > Integer.MIN_VALUE && wideRanged < Integer.MAX_VALUE, "Ranged values wider than an int should be within [origin, bound).");
+
+            float unitFloat = random.nextFloat();
+            assertTrue(unitFloat >= 0f && unitFloat < 1f, "Float values should be within [0, 1).");
+
+            double unitDouble = random.nextDouble();
+            assertTrue(unitDouble >= 0d && unitDouble < 1d, "Double values should be within [0, 1).");
+        }
+    }
+
+    @Test
+    public void checkUseRandomSource_ensureBoundToThreadDuringAction() {
+        RandomSource engineRandomSource = Maths.getRandomSource();
+        RandomSource threadRandomSource = RandomSource.seeded(5L);
+        RandomSource expected = RandomSource.seeded(5L);
+
+        Maths.useRandomSource(threadRandomSource, () -> {
+            assertSame(threadRandomSource, Maths.getRandomSource(), "The bound source should be used during the action.");
+            assertEquals(expected.nextBoolean(), Maths.randomBoolean(), "Random values should be drawn from the bound source.");
+
+            Maths.useRandomSource(null, () -> assertSame(threadRandomSource, Maths.getRandomSource(), "A null source should keep the current source."));
+        });
+
+        assertSame(engineRandomSource, Maths.getRandomSource(), "The previous source should be used again after the action.");
+    }
+}
@@ -0,0 +1,78 @@
+package unittest.testcases.math;
+
+import io.github.lucasstarsz.fastj.math.Pointf;
+import io.github.lucasstarsz.fastj.math.Scratch;
+
+import java.awt.geom.AffineTransform;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ScratchTests {
+
+    @Test
+    public void checkRelease_shouldReuseValuesTakenSinceMark() {
+        Scratch scratch = Scratch.get();
+
+        int mark = scratch.mark();
+        Pointf firstPoint = scratch.point(1f, 2f);
+        AffineTransform firstTransform = scratch.transform();
+        firstTransform.translate(5.0, 5.0);
+        scratch.release(mark);
+
+        mark = scratch.mark();
+        Pointf secondPoint = scratch.point();
+        AffineTransform secondTransform = scratch.transform();
+        scratch.release(mark);
+
+        assertSame(firstPoint, secondPoint, "Points taken after a release should be reused.");
+        assertSame(firstTransform, secondTransform, "Transforms taken after a release should be reused.");
+        assertEquals(Pointf.Origin, secondPoint, "Reused points should be reset.");
+        assertTrue(secondTransform.isIdentity(), "Reused transforms should be reset to the identity.");
+    }
+
+    @Test
+    public void checkNestedMarks_shouldNotReuseOuterValues() {
+        Scratch scratch = Scratch.get();
+
+        int outerMark = scratch.mark();
+        Pointf outerPoint = scratch.point(3f, 4f);
+
+        int innerMark = scratch.mark();
+        Pointf innerPoint = scratch.point(5f, 6f);
+        scratch.release(innerMark);
+
+        assertNotSame(outerPoint, innerPoint, "Values taken within a nested mark should not reuse values from outside it.");
+        assertEquals(new Pointf(3f, 4f), outerPoint, "Releasing a nested mark should not change values taken before it.");
+
+        scratch.release(outerMark);
+    }
+
+    @Test
+    public void checkRelease_withReleasedMark_shouldThrowException() {
+        Scratch scratch = Scratch.get();
+        int depth = scratch.getMarkDepth();
+
+        int outerMark = scratch.mark();
+        int innerMark = scratch.mark();
+        scratch.release(outerMark);
+
+        assertEquals(depth, scratch.getMarkDepth(), "Releasing an outer mark should release the marks made after it.");
+        assertThrows(IllegalStateException.class, () -> scratch.release(innerMark), "Releasing a mark that was already released should throw an exception.");
+    }
+
+    @Test
+    public void checkGet_fromDifferentThreads_shouldReturnDifferentArenas() throws InterruptedException {
+        Scratch[] otherScratch = new Scratch[1];
+        Thread otherThread = new Thread(() -> otherScratch[0] = Scratch.get());
+        otherThread.start();
+        otherThread.join();
+
+        assertNotSame(Scratch.get(), otherScratch[0], "Each thread should have its own arena.");
+    }
+}
@@ -0,0 +1,98 @@
+package unittest.testcases.math;
+
+import io.github.lucasstarsz.fastj.math.Pointf;
+import io.github.lucasstarsz.fastj.math.TransformKernel;
+import io.github.lucasstarsz.fastj.math.VertexBuffer;
+import io.github.lucasstarsz.fastj.graphics.DrawUtil;
+
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VertexBufferTests {
+
+    @Test
+    public void checkTransformKernel_shouldMatchAffineTransform() {
+        AffineTransform transform = AffineTransform.getRotateInstance(Math.toRadians(30.0), 5.0, 5.0);
+        transform.preConcatenate(AffineTransform.getTranslateInstance(12.0, -4.0));
+
+        float[] xs = {0f, 10f, 10f, 0f};
+        float[] ys = {0f, 0f, 10f, 10f};
+        float[] resultX = new float[4];
+        float[] resultY = new float[4];
+        TransformKernel.transform(xs, ys, resultX, resultY, 0, 4, transform);
+
+        for (int i = 0; i < 4; i++) {
+            float[] expected = {xs[i], ys[i]};
+            transform.transform(expected, 0, expected, 0, 1);
+
+            assertEquals(expected[0], resultX[i], 0.0001f, "The transformed x value should match the AffineTransform's result.");
+            assertEquals(expected[1], resultY[i], 0.0001f, "The transformed y value should match the AffineTransform's result.");
+        }
+    }
+
+    @Test
+    public void checkUpdate_shouldOnlyTransformDirtyShapes() {
+        VertexBuffer vertexBuffer = new VertexBuffer();
+        int first = vertexBuffer.addShape(DrawUtil.createBox(Pointf.Origin, 5f));
+        int second = vertexBuffer.addShape(DrawUtil.createBox(Pointf.Origin, 5f));
+        vertexBuffer.update();
+
+        vertexBuffer.translate(second, 10f, 20f);
+        assertFalse(vertexBuffer.isDirty(first));
+        assertTrue(vertexBuffer.isDirty(second));
+
+        int transformedCount = vertexBuffer.update();
+        assertEquals(4, transformedCount, "Only the vertices of the moved shape should be transformed.");
+        assertEquals(0, vertexBuffer.getDirtyCount());
+
+        assertArrayEquals(new float[]{0f, 0f, 5f, 5f}, vertexBuffer.worldBoundsOf(first, new float[4]));
+        assertArrayEquals(new float[]{10f, 20f, 15f, 25f}, vertexBuffer.worldBoundsOf(second, new float[4]));
+    }
+
+    @Test
+    public void checkToPath_shouldMatchWorldVertices() {
+        VertexBuffer vertexBuffer = new VertexBuffer();
+        Pointf[] box = DrawUtil.createBox(Pointf.Origin, 5f);
+        int shape = vertexBuffer.addShape(box);
+
+        vertexBuffer.setTransform(shape, AffineTransform.getTranslateInstance(3.0, 4.0));
+        vertexBuffer.update();
+
+        Pointf[] expectedPoints = DrawUtil.createBox(new Pointf(3f, 4f), 5f);
+        Pointf[] actualPoints = DrawUtil.pointsOfPath(vertexBuffer.toPath(shape, new Path2D.Float()));
+        assertArrayEquals(expectedPoints, actualPoints, "The shape's path should contain its world vertices.");
+    }
+
+    @Test
+    public void checkUpdate_withManyShapes_shouldMatchSequentialResult() {
+        int shapeCount = TransformKernel.ParallelThreshold / 2;
+        VertexBuffer parallelBuffer = new VertexBuffer();
+        VertexBuffer sequentialBuffer = new VertexBuffer();
+
+        for (int i = 0; i < shapeCount; i++) {
+            Pointf[] box = DrawUtil.createBox(new Pointf(i, -i), 2f);
+            int parallelShape = parallelBuffer.addShape(box);
+            int sequentialShape = sequentialBuffer.addShape(box);
+
+            AffineTransform transform = AffineTransform.getRotateInstance(i * 0.01);
+            parallelBuffer.setTransform(parallelShape, transform);
+            sequentialBuffer.setTransform(sequentialShape, transform);
+        }
+
+        parallelBuffer.update(true);
+        sequentialBuffer.update(false);
+
+        int vertexCount = sequentialBuffer.getVertexCount();
+        float[] parallelX = Arrays.copyOf(parallelBuffer.getWorldX(), vertexCount);
+        float[] sequentialX = Arrays.copyOf(sequentialBuffer.getWorldX(), vertexCount);
+        assertArrayEquals(sequentialX, parallelX, "Splitting the update across threads should not change its result.");
+    }
+}
@@ -0,0 +1,187 @@
+package unittest.testcases.systems.input;
+
+import io.github.lucasstarsz.fastj.engine.EngineContext;
+import io.github.lucasstarsz.fastj.math.Maths;
+import io.github.lucasstarsz.fastj.graphics.Display;
+import io.github.lucasstarsz.fastj.graphics.DrawUtil;
+import io.github.lucasstarsz.fastj.graphics.game.Polygon2D;
+import io.github.lucasstarsz.fastj.systems.control.Scene;
+import io.github.lucasstarsz.fastj.systems.input.InputRecorder;
+import io.github.lucasstarsz.fastj.systems.input.InputReplayer;
+import io.github.lucasstarsz.fastj.systems.input.keyboard.Keyboard;
+import io.github.lucasstarsz.fastj.systems.input.keyboard.KeyboardActionListener;
+import io.github.lucasstarsz.fastj.systems.input.mouse.Mouse;
+import io.github.lucasstarsz.fastj.systems.input.mouse.MouseAction;
+
+import java.awt.Canvas;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import unittest.mock.MockSimulationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InputRecorderTests {
+
+    private static final Canvas Source = new Canvas();
+
+    private static Scene newScene() {
+        return new Scene("input recorder test") {
+            @Override
+            public void load(Display display) {
+            }
+
+            @Override
+            public void unload(Display display) {
+            }
+
+            @Override
+            public void update(Display display) {
+            }
+        };
+    }
+
+    @Test
+    public void checkRecordAndReadFrames_shouldMatchRecordedEventsAndUpdates() throws IOException {
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        try (InputRecorder recorder = new InputRecorder(log, 1234L, 60)) {
+            recorder.record(new KeyEvent(Source, KeyEvent.KEY_PRESSED, 0L, InputEvent.SHIFT_DOWN_MASK, KeyEvent.VK_A, 'A', KeyEvent.KEY_LOCATION_STANDARD));
+            recorder.record(new MouseEvent(Source, MouseEvent.MOUSE_DRAGGED, 0L, 0, -15, 300, 0, false, MouseEvent.BUTTON1));
+            recorder.endFrame(2);
+            recorder.endFrame(0);
+            recorder.record(new MouseWheelEvent(Source, MouseEvent.MOUSE_WHEEL, 0L, 0, 4, 5, 0, false, MouseWheelEvent.WHEEL_UNIT_SCROLL, 3, -2));
+            recorder.endFrame(1);
+        }
+
+        InputReplayer replayer = new InputReplayer(new ByteArrayInputStream(log.toByteArray()));
+        assertEquals(1234L, replayer.getSeed(), "The replayer should read the recorded seed.");
+        assertEquals(60, replayer.getUpdatesPerSecond(), "The replayer should read the recorded UPS.");
+
+        List<InputEvent> events = new ArrayList<>();
+        assertEquals(2, replayer.readFrame(events), "The first frame should hold its recorded update count.");
+        assertEquals(2, events.size(), "The first frame should hold both of its recorded events.");
+
+        KeyEvent keyEvent = (KeyEvent) events.get(0);
+        assertEquals(KeyEvent.KEY_PRESSED, keyEvent.getID());
+        assertEquals(KeyEvent.VK_A, keyEvent.getKeyCode());
+        assertEquals('A', keyEvent.getKeyChar());
+        assertTrue(keyEvent.isShiftDown(), "The key event's modifiers should be replayed.");
+
+        MouseEvent mouseEvent = (MouseEvent) events.get(1);
+        assertEquals(MouseEvent.MOUSE_DRAGGED, mouseEvent.getID());
+        assertEquals(-15, mouseEvent.getX());
+        assertEquals(300, mouseEvent.getY());
+        assertEquals(MouseEvent.BUTTON1, mouseEvent.getButton());
+
+        events.clear();
+        assertEquals(0, replayer.readFrame(events), "The second frame should hold its recorded update count.");
+        assertEquals(0, events.size(), "The second frame should hold no events.");
+
+        assertEquals(1, replayer.readFrame(events), "The third frame should hold its recorded update count.");
+        MouseWheelEvent mouseWheelEvent = (MouseWheelEvent) events.get(0);
+        assertEquals(3, mouseWheelEvent.getScrollAmount());
+        assertEquals(-2, mouseWheelEvent.getWheelRotation());
+
+        assertEquals(-1, replayer.readFrame(events), "The end of the log should be reported.");
+        assertEquals(3L, replayer.getFrameCount());
+    }
+
+    @Test
+    public void checkReplayFrame_shouldProcessRecordedEventsInPlaceOfReceivedEvents() throws IOException {
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        Scene recordedScene = newScene();
+        try (InputRecorder recorder = new InputRecorder(log, 0L, 60)) {
+            recordedScene.inputManager.receivedInputEvent(new KeyEvent(Source, KeyEvent.KEY_RELEASED, 0L, 0, KeyEvent.VK_SPACE, ' ', KeyEvent.KEY_LOCATION_STANDARD));
+            recordedScene.inputManager.processEvents(recordedScene, recorder);
+            recorder.endFrame(1);
+        }
+
+        Scene replayedScene = newScene();
+        List<Integer> releasedKeys = new ArrayList<>();
+        replayedScene.inputManager.addKeyboardActionListener(new KeyboardActionListener() {
+            @Override
+            public void onKeyReleased(KeyEvent keyEvent) {
+                releasedKeys.add(keyEvent.getKeyCode());
+            }
+        });
+        replayedScene.inputManager.receivedInputEvent(new KeyEvent(Source, KeyEvent.KEY_RELEASED, 0L, 0, KeyEvent.VK_ENTER, '\n', KeyEvent.KEY_LOCATION_STANDARD));
+
+        InputReplayer replayer = new InputReplayer(new ByteArrayInputStream(log.toByteArray()));
+        assertEquals(1, replayer.replayFrame(replayedScene.inputManager));
+        replayedScene.inputManager.processEvents(replayedScene);
+
+        assertEquals(List.of(KeyEvent.VK_SPACE), releasedKeys, "Only the recorded events should be processed.");
+    }
+
+    /**
+     * Creates a short game which feeds itself input, and logs its state on every update to the specified list. When
+     * slow, it stalls for longer than a mouse action stays recent, as a slow frame of a player's session would.
+     */
+    private static MockSimulationManager inputLoggingGame(boolean isSlow, List<String> updateStates) {
+        Polygon2D box = new Polygon2D(DrawUtil.createBox(0f, 0f, 20f));
+
+        return new MockSimulationManager(20).onUpdate((scene, update) -> {
+            if (update == 5) {
+                scene.inputManager.receivedInputEvent(new MouseEvent(Source, MouseEvent.MOUSE_MOVED, 0L, 0, 10, 10, 0, false, MouseEvent.NOBUTTON));
+                scene.inputManager.receivedInputEvent(new MouseEvent(Source, MouseEvent.MOUSE_PRESSED, 0L, 0, 10, 10, 1, false, MouseEvent.BUTTON1));
+                scene.inputManager.receivedInputEvent(new KeyEvent(Source, KeyEvent.KEY_PRESSED, 0L, 0, KeyEvent.VK_A, 'a', KeyEvent.KEY_LOCATION_STANDARD));
+            } else if (update == 12) {
+                scene.inputManager.receivedInputEvent(new KeyEvent(Source, KeyEvent.KEY_RELEASED, 0L, 0, KeyEvent.VK_A, 'a', KeyEvent.KEY_LOCATION_STANDARD));
+            }
+
+            if (isSlow && update == 6) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(80L);
+                } catch (InterruptedException ignored) {
+                }
+            }
+
+            boolean checksRecentInput = update >= 7 && update % 2 == 1;
+            updateStates.add(update
+                    + " down=" + Keyboard.isKeyDown(KeyEvent.VK_A)
+                    + " pressed=" + (checksRecentInput && Keyboard.isKeyRecentlyPressed(KeyEvent.VK_A))
+                    + " released=" + (checksRecentInput && Keyboard.isKeyRecentlyReleased(KeyEvent.VK_A))
+                    + " clicked=" + (checksRecentInput && Mouse.interactsWith(box, MouseAction.PRESS))
+                    + " mouse=" + Mouse.getMouseLocation()
+                    + " random=" + Maths.random(0f, 1f));
+        });
+    }
+
+    @Test
+    public void checkRecordThenReplay_shouldReproduceEveryUpdate() throws IOException {
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+
+        List<String> recordedStates = new ArrayList<>();
+        EngineContext recording = new EngineContext("recorded game", inputLoggingGame(true, recordedStates));
+        recording.configureSimulation(true, 0);
+        recording.setInputRecorder(new InputRecorder(log, 42L, recording.getTargetUPS()));
+        recording.run();
+
+        List<String> replayedStates = new ArrayList<>();
+        EngineContext replay = new EngineContext("replayed game", inputLoggingGame(false, replayedStates));
+        replay.configureSimulation(true, 0);
+        replay.setInputReplayer(new InputReplayer(new ByteArrayInputStream(log.toByteArray())));
+        replay.run();
+
+        assertEquals(20, recordedStates.size());
+        assertTrue(recordedStates.get(6).contains("clicked=true"), "The mouse press should stay recent across a slow update: " + recordedStates.get(6));
+        assertEquals(recordedStates, replayedStates, "The replay should see the same input and randomness on every update as the recording.");
+    }
+
+    @Test
+    public void checkConstructReplayer_withoutInputLog_shouldThrowIOException() {
+        byte[] notAnInputLog = "not an input log".getBytes();
+        assertThrows(IOException.class, () -> new InputReplayer(new ByteArrayInputStream(notAnInputLog)), "A stream without an input log should be rejected.");
+    }
+}
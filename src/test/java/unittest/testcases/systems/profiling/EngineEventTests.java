@@ -0,0 +1,103 @@
+package unittest.testcases.systems.profiling;
+
+import io.github.lucasstarsz.fastj.engine.FastJEngine;
+import io.github.lucasstarsz.fastj.graphics.DrawUtil;
+import io.github.lucasstarsz.fastj.graphics.game.Model2D;
+import io.github.lucasstarsz.fastj.graphics.game.Polygon2D;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import unittest.mock.MockSimulationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EngineEventTests {
+
+    private static final int SimulatedUpdates = 20;
+
+    @Test
+    public void checkFlightRecording_duringSimulation_shouldRecordFramesUpdatesAndHitches() throws Exception {
+        FastJEngine.init("recorded simulation", new MockSimulationManager(SimulatedUpdates)
+                .onLoad(scene -> scene.drawableManager.addGameObject(new Polygon2D(DrawUtil.createBox(0f, 0f, 10f)))));
+        FastJEngine.configureSimulation(true, 0);
+        FastJEngine.setHitchBudget(1L);
+
+        Path recordingFile = Files.createTempFile("fastj-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("fastj.Frame");
+            recording.enable("fastj.FixedUpdate");
+            recording.enable("fastj.Hitch");
+            recording.start();
+
+            FastJEngine.run();
+
+            recording.stop();
+            recording.dump(recordingFile);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+            List<RecordedEvent> updates = eventsNamed(events, "fastj.FixedUpdate");
+            List<RecordedEvent> hitches = eventsNamed(events, "fastj.Hitch");
+
+            assertEquals(SimulatedUpdates, updates.size(), "Each fixed update should be recorded.");
+            assertEquals(SimulatedUpdates, eventsNamed(events, "fastj.Frame").size(), "Each simulated frame should be recorded.");
+            assertEquals(SimulatedUpdates, hitches.size(), "Every frame should be a hitch with a budget of 1 nanosecond.");
+
+            RecordedEvent lastUpdate = updates.get(updates.size() - 1);
+            assertEquals("simulation", lastUpdate.getString("scene"), "Events should carry the name of the current scene.");
+            assertEquals(1, lastUpdate.getInt("gameObjects"), "Events should carry the current scene's game object count.");
+            assertEquals((long) SimulatedUpdates, lastUpdate.getLong("tick"), "Fixed update events should carry their tick number.");
+
+            RecordedEvent hitch = hitches.get(0);
+            assertEquals(1L, hitch.getLong("budget"));
+            assertTrue(hitch.getLong("updateTime") > 0L, "Hitches should carry the time spent in each phase of the frame.");
+        } finally {
+            Files.deleteIfExists(recordingFile);
+        }
+    }
+
+    @Test
+    public void checkModelLoadEvent_onLoaderThread_shouldNotDescribeAnyGame() throws Exception {
+        Path modelFile = Files.createTempFile("fastj-event-model", ".psdf");
+        Path recordingFile = Files.createTempFile("fastj-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            DrawUtil.writeToPSDF(modelFile.toString(), new Model2D(new Polygon2D[]{new Polygon2D(DrawUtil.createBox(0f, 0f, 10f))}));
+
+            recording.enable("fastj.ModelLoad");
+            recording.start();
+
+            AtomicReference<Throwable> loaderFailure = new AtomicReference<>();
+            Thread loader = new Thread(() -> DrawUtil.load2DModel(modelFile.toString()));
+            loader.setUncaughtExceptionHandler((thread, exception) -> loaderFailure.set(exception));
+            loader.start();
+            loader.join();
+
+            recording.stop();
+            recording.dump(recordingFile);
+
+            assertNull(loaderFailure.get(), "Loading a model on another thread should not fail.");
+            List<RecordedEvent> loads = eventsNamed(RecordingFile.readAllEvents(recordingFile), "fastj.ModelLoad");
+            assertEquals(1, loads.size(), "The model load should be recorded.");
+            assertEquals(1, loads.get(0).getInt("polygons"));
+            assertNull(loads.get(0).getString("scene"), "A model loaded off the game's thread should not describe a game.");
+        } finally {
+            Files.deleteIfExists(modelFile);
+            Files.deleteIfExists(recordingFile);
+        }
+    }
+
+    private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+}
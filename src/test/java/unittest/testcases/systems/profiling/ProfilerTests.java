@@ -0,0 +1,95 @@
+package unittest.testcases.systems.profiling;
+
+import io.github.lucasstarsz.fastj.engine.FastJEngine;
+import io.github.lucasstarsz.fastj.math.Pointf;
+import io.github.lucasstarsz.fastj.graphics.DrawUtil;
+import io.github.lucasstarsz.fastj.graphics.game.GameObject;
+import io.github.lucasstarsz.fastj.graphics.game.Polygon2D;
+import io.github.lucasstarsz.fastj.systems.behaviors.Behavior;
+import io.github.lucasstarsz.fastj.systems.profiling.ProfilePhase;
+import io.github.lucasstarsz.fastj.systems.profiling.ProfileReport;
+import io.github.lucasstarsz.fastj.systems.profiling.Profiler;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import unittest.mock.MockSimulationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProfilerTests {
+
+    private static final int SimulatedUpdates = 90;
+
+    private static class SpinBehavior implements Behavior {
+        @Override
+        public void init(GameObject obj) {
+        }
+
+        @Override
+        public void update(GameObject obj) {
+            obj.translate(new Pointf(1f, 0f));
+        }
+    }
+
+    @Test
+    public void checkEndFrame_shouldAverageTimingsIntoReport() {
+        Profiler profiler = new Profiler();
+        profiler.setEnabled(true);
+        profiler.setReportInterval(2);
+
+        for (int frame = 0; frame < 2; frame++) {
+            long frameStart = System.nanoTime();
+            profiler.recordBehavior(String.class, 300L);
+            profiler.recordBehavior(Integer.class, 100L);
+            profiler.recordBehavior(Integer.class, 100L);
+            profiler.recordDrawable(Polygon2D.class, 50L);
+            profiler.recordCulling(true, 10L);
+            profiler.recordCulling(false, 10L);
+            profiler.recordCulling(false, 10L);
+
+            assertNull(profiler.getReport(), "No report should be made before the report interval has passed.");
+            profiler.endFrame(frameStart);
+        }
+        profiler.setEnabled(false);
+
+        ProfileReport report = profiler.getReport();
+        assertNotNull(report, "A report should be made once the report interval has passed.");
+        assertEquals(2, report.getFrameCount());
+        assertEquals(500L, report.getPhaseNanos(ProfilePhase.BEHAVIORS), "Behavior time should be averaged per frame.");
+        assertEquals(50L, report.getPhaseNanos(ProfilePhase.DRAW), "Drawable time should be averaged per frame.");
+        assertEquals(30L, report.getPhaseNanos(ProfilePhase.CULLING), "Culling time should be averaged per frame.");
+        assertEquals(1d, report.getVisibleCount());
+        assertEquals(2d, report.getCulledCount());
+
+        List<ProfileReport.Entry> behaviors = report.getBehaviors();
+        assertEquals("String", behaviors.get(0).getName(), "Behavior types should be sorted from the most to the least time.");
+        assertEquals("Integer", behaviors.get(1).getName());
+        assertEquals(200L, behaviors.get(1).getNanos());
+        assertEquals(2d, behaviors.get(1).getCount(), "Each update of a behavior type should be counted.");
+    }
+
+    @Test
+    public void checkProfiler_duringSimulation_shouldAttributeUpdateTimeToBehaviors() {
+        FastJEngine.init("profiled simulation", new MockSimulationManager(SimulatedUpdates)
+                .onLoad(scene -> new Polygon2D(DrawUtil.createBox(0f, 0f, 10f)).addBehavior(new SpinBehavior(), scene)));
+        FastJEngine.configureSimulation(true, 0);
+
+        Profiler profiler = FastJEngine.getProfiler();
+        profiler.setEnabled(true);
+        FastJEngine.run();
+
+        assertFalse(profiler.isEnabled(), "The profiler should be disabled once the game exits.");
+        assertNull(Profiler.active(), "No profiler should be active once the game exits.");
+
+        ProfileReport report = profiler.getReport();
+        assertNotNull(report, "The simulation should run long enough for a report to be made.");
+        assertEquals("SpinBehavior", report.getBehaviors().get(0).getName(), "Behavior updates should be attributed to their type.");
+        assertEquals(1d, report.getBehaviors().get(0).getCount(), "The behavior should be updated once per simulated frame.");
+        assertTrue(report.getPhaseNanos(ProfilePhase.UPDATE) >= report.getPhaseNanos(ProfilePhase.BEHAVIORS), "Behavior time should be part of the update time.");
+    }
+}
@@ -0,0 +1,213 @@
+package unittest.testcases.systems.streaming;
+
+import io.github.lucasstarsz.fastj.math.Pointf;
+import io.github.lucasstarsz.fastj.graphics.Display;
+import io.github.lucasstarsz.fastj.graphics.DrawUtil;
+import io.github.lucasstarsz.fastj.graphics.game.Model2D;
+import io.github.lucasstarsz.fastj.graphics.game.Polygon2D;
+import io.github.lucasstarsz.fastj.systems.control.Scene;
+import io.github.lucasstarsz.fastj.systems.streaming.ChunkStore;
+import io.github.lucasstarsz.fastj.systems.streaming.ChunkedWorld;
+import io.github.lucasstarsz.fastj.systems.streaming.PsdfChunkStore;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ChunkedWorldTests {
+
+    private static final float ChunkSize = 100f;
+
+    private static Scene emptyScene() {
+        return new Scene("chunked world test") {
+            @Override
+            public void load(Display display) {
+            }
+
+            @Override
+            public void unload(Display display) {
+            }
+
+            @Override
+            public void update(Display display) {
+            }
+        };
+    }
+
+    private static Model2D boxModel(float x, float y) {
+        return new Model2D(new Polygon2D[]{new Polygon2D(DrawUtil.createBox(x, y, 10f))});
+    }
+
+    @Test
+    public void checkUpdate_shouldLoadVisibleAndPrefetchedChunks() {
+        Scene scene = emptyScene();
+        MemoryChunkStore store = new MemoryChunkStore();
+        store.putChunk(0, 0, boxModel(10f, 10f));
+        store.putChunk(2, 0, boxModel(210f, 10f));
+        store.putChunk(5, 5, boxModel(510f, 510f));
+
+        ChunkedWorld world = new ChunkedWorld(scene, store, ChunkSize, Runnable::run).setPrefetchRadius(1);
+        world.update(0f, 0f, 150f, 50f);
+
+        assertTrue(world.isLoaded(0, 0), "The chunk in view should be loaded.");
+        assertTrue(world.isLoaded(2, 0), "The chunk within the prefetch radius should be loaded.");
+        assertFalse(world.isLoaded(5, 5), "The chunk outside the prefetch radius should not be loaded.");
+        assertEquals(12, world.getLoadedChunkCount(), "The view and its prefetch radius should cover 4 by 3 chunks.");
+        assertEquals(2, scene.drawableManager.getGameObjects().size(), "The models of the loaded chunks should be added to the scene.");
+    }
+
+    @Test
+    public void checkUpdate_overChunkBudget_shouldEvictFurthestChunksWithoutSavingUnchangedOnes() {
+        Scene scene = emptyScene();
+        MemoryChunkStore store = new MemoryChunkStore();
+        store.putChunk(0, 0, boxModel(10f, 10f));
+        store.putChunk(3, 0, boxModel(310f, 10f));
+
+        ChunkedWorld world = new ChunkedWorld(scene, store, ChunkSize, Runnable::run)
+                .setPrefetchRadius(0)
+                .setMaxLoadedChunks(2);
+
+        for (int chunkX = 0; chunkX <= 3; chunkX++) {
+            world.update(chunkX * ChunkSize + 1f, 1f, 10f, 10f);
+        }
+
+        assertEquals(2, world.getLoadedChunkCount(), "No more chunks than the maximum should stay loaded.");
+        assertTrue(world.isLoaded(3, 0), "The chunk in view should stay loaded.");
+        assertTrue(world.isLoaded(2, 0), "The closest chunk to the view should stay loaded.");
+        assertFalse(world.isLoaded(0, 0), "The furthest chunk from the view should be evicted.");
+        assertEquals(1, scene.drawableManager.getGameObjects().size(), "The models of evicted chunks should be removed from the scene.");
+        assertEquals(0, store.saveCount, "Unchanged chunks should not be saved when evicted.");
+    }
+
+    @Test
+    public void checkUpdate_withChangedChunk_shouldSaveItWhenEvicted() {
+        Scene scene = emptyScene();
+        MemoryChunkStore store = new MemoryChunkStore();
+        store.putChunk(0, 0, boxModel(10f, 10f));
+
+        ChunkedWorld world = new ChunkedWorld(scene, store, ChunkSize, Runnable::run)
+                .setPrefetchRadius(0)
+                .setMaxLoadedChunks(1);
+
+        world.update(1f, 1f, 10f, 10f);
+        world.getModels(0, 0).get(0).translate(new Pointf(5f, 0f));
+        world.update(ChunkSize + 1f, 1f, 10f, 10f);
+
+        assertFalse(world.isLoaded(0, 0), "The chunk out of view should be evicted.");
+        assertEquals(1, store.saveCount, "The changed chunk should be saved when evicted.");
+
+        world.update(1f, 1f, 10f, 10f);
+        assertArrayEquals(DrawUtil.createBox(15f, 10f, 10f), world.getModels(0, 0).get(0).getBounds(), "The chunk should load with the changes it was saved with.");
+    }
+
+    @Test
+    public void checkUpdate_withDestroyedModel_shouldSaveChunkWithoutIt() {
+        Scene scene = emptyScene();
+        MemoryChunkStore store = new MemoryChunkStore();
+        store.putChunk(0, 0, boxModel(10f, 10f), boxModel(50f, 50f));
+
+        ChunkedWorld world = new ChunkedWorld(scene, store, ChunkSize, Runnable::run)
+                .setPrefetchRadius(0)
+                .setMaxLoadedChunks(1);
+
+        world.update(1f, 1f, 10f, 10f);
+        world.getModels(0, 0).get(0).destroy(scene);
+        world.update(ChunkSize + 1f, 1f, 10f, 10f);
+
+        assertFalse(world.isLoaded(0, 0), "The chunk out of view should be evicted.");
+        assertEquals(1, store.saveCount, "The chunk should be saved when one of its models was destroyed.");
+        assertEquals(0, scene.drawableManager.getGameObjects().size(), "The models of evicted chunks should be removed from the scene.");
+
+        world.update(1f, 1f, 10f, 10f);
+        assertEquals(1, world.getModels(0, 0).size(), "The destroyed model should not be saved with the chunk.");
+        assertArrayEquals(DrawUtil.createBox(50f, 50f, 10f), world.getModels(0, 0).get(0).getBounds(), "The remaining model should be saved with the chunk.");
+    }
+
+    @Test
+    public void checkPsdfChunkStore_saveThenLoad_shouldKeepModelsInOrder() throws Exception {
+        Path rootDirectory = Files.createTempDirectory("fastj-chunks");
+        PsdfChunkStore store = new PsdfChunkStore(rootDirectory);
+
+        List<Model2D> savedModels = List.of(boxModel(0f, 0f), boxModel(50f, 25f));
+        savedModels.get(1).translate(new Pointf(-10f, 5f));
+        store.saveChunk(-1, 2, savedModels);
+
+        List<Model2D> loadedModels = store.loadChunk(-1, 2);
+
+        assertEquals(2, loadedModels.size(), "Every saved model should be loaded.");
+        assertArrayEquals(DrawUtil.createBox(0f, 0f, 10f), loadedModels.get(0).getBounds(), "The first model should load first.");
+        assertArrayEquals(DrawUtil.createBox(40f, 30f, 10f), loadedModels.get(1).getBounds(), "Models should load as they appeared in the world when saved.");
+        assertTrue(store.loadChunk(0, 0).isEmpty(), "A chunk that was never saved should be empty.");
+
+        store.saveChunk(-1, 2, List.of(boxModel(0f, 0f)));
+        assertEquals(1, store.loadChunk(-1, 2).size(), "Saving a chunk should replace its previous contents.");
+
+        deleteRecursively(rootDirectory);
+    }
+
+    @Test
+    public void checkPsdfChunkStore_afterInterruptedSave_shouldKeepPreviousContents() throws Exception {
+        Path rootDirectory = Files.createTempDirectory("fastj-chunks");
+        PsdfChunkStore store = new PsdfChunkStore(rootDirectory);
+
+        store.saveChunk(3, 4, List.of(boxModel(0f, 0f), boxModel(20f, 20f)));
+        try (Stream<Path> chunkDirectories = Files.list(rootDirectory)) {
+            assertEquals(1, chunkDirectories.count(), "A finished save should only leave the chunk's directory behind.");
+        }
+
+        // a save interrupted between moving the old contents aside and moving the new contents in
+        Path chunkDirectory = store.directoryOf(3, 4);
+        Files.move(chunkDirectory, chunkDirectory.resolveSibling("3_4.previous"));
+        assertEquals(2, store.loadChunk(3, 4).size(), "An interrupted save should leave the chunk's previous contents loadable.");
+
+        store.saveChunk(3, 4, List.of(boxModel(0f, 0f)));
+        assertEquals(1, store.loadChunk(3, 4).size(), "Saving again should replace the previous contents.");
+        try (Stream<Path> chunkDirectories = Files.list(rootDirectory)) {
+            assertEquals(1, chunkDirectories.count(), "Saving again should clean up after the interrupted save.");
+        }
+
+        deleteRecursively(rootDirectory);
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        List<Path> paths = new ArrayList<>();
+        try (Stream<Path> walk = Files.walk(directory)) {
+            walk.forEach(paths::add);
+        }
+        for (int i = paths.size() - 1; i >= 0; i--) {
+            Files.delete(paths.get(i));
+        }
+    }
+
+    private static class MemoryChunkStore implements ChunkStore {
+        private final Map<String, List<Model2D>> chunks = new HashMap<>();
+        private int saveCount;
+
+        void putChunk(int chunkX, int chunkY, Model2D... models) {
+            chunks.put(chunkX + "_" + chunkY, List.of(models));
+        }
+
+        @Override
+        public List<Model2D> loadChunk(int chunkX, int chunkY) {
+            return chunks.getOrDefault(chunkX + "_" + chunkY, List.of());
+        }
+
+        @Override
+        public void saveChunk(int chunkX, int chunkY, List<Model2D> models) {
+            chunks.put(chunkX + "_" + chunkY, models);
+            saveCount++;
+        }
+    }
+}